@@ -0,0 +1,573 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.sun.javatest;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.sun.javatest.regtest.RegressionTestFinder;
+import com.sun.javatest.util.BackupPolicy;
+
+/**
+ * Micro-benchmarks for the parts of the harness that are run once per
+ * test, or once per test per run: building and searching the result
+ * table, the result cache, reading test descriptions, the exclude list
+ * and keyword filters, writing and reloading .jtr files, and resolving
+ * commands in the environment.
+ *
+ * The benchmarks work on a {@link SyntheticSuite}, so the results can be
+ * reproduced, and compared between versions of the harness, without access
+ * to a real test suite.  Each benchmark is run for a number of warm-up
+ * iterations, whose times are discarded, and then for a number of measured
+ * iterations; the mean time per operation, and its standard deviation over
+ * the measured iterations, are reported.  Run each set of benchmarks to be
+ * compared in a fresh VM, with the same VM options.
+ *
+ * The benchmarks are in package com.sun.javatest so that they can use the
+ * package-private methods that the harness itself uses.
+ */
+public class HarnessBench {
+    public static void main(String[] args) {
+        try {
+            HarnessBench b = new HarnessBench();
+            b.run(args);
+        } catch (BadArgs e) {
+            System.err.println("Error: " + e.getMessage());
+            usage();
+            System.exit(2);
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static void usage() {
+        System.err.println("Usage: java com.sun.javatest.HarnessBench [options] [benchmark...]");
+        System.err.println("Options:");
+        System.err.println("  -tests n        number of tests in the synthetic suite (default 100000)");
+        System.err.println("  -files n        number of test files read by the finder benchmark (default 2000)");
+        System.err.println("  -jtrs n         number of .jtr files written and read (default 1000)");
+        System.err.println("  -seed n         seed for the synthetic suite (default 1)");
+        System.err.println("  -warmup n       warm-up iterations (default 5)");
+        System.err.println("  -iterations n   measured iterations (default 10)");
+        System.err.println("  -scratch dir    directory for files (default a temporary directory)");
+        System.err.println("  -generate dir   just write the synthetic suite to dir, and exit");
+        System.err.println("Benchmarks:");
+        for (String n: NAMES)
+            System.err.println("  " + n);
+    }
+
+    private static final String[] NAMES = {
+        "trt.insert", "trt.lookup", "cache.insertCompress", "finder.read",
+        "exclude.match", "keywords.accepts", "jtr.write", "jtr.reload",
+        "env.resolve"
+    };
+
+    private void run(String[] args) throws Exception {
+        List<String> selected = new ArrayList<String>();
+        File generateDir = null;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals("-tests") && i + 1 < args.length)
+                numTests = parseInt(arg, args[++i]);
+            else if (arg.equals("-files") && i + 1 < args.length)
+                numFiles = parseInt(arg, args[++i]);
+            else if (arg.equals("-jtrs") && i + 1 < args.length)
+                numJTRs = parseInt(arg, args[++i]);
+            else if (arg.equals("-seed") && i + 1 < args.length)
+                seed = parseInt(arg, args[++i]);
+            else if (arg.equals("-warmup") && i + 1 < args.length)
+                warmup = parseInt(arg, args[++i]);
+            else if (arg.equals("-iterations") && i + 1 < args.length)
+                iterations = Math.max(1, parseInt(arg, args[++i]));
+            else if (arg.equals("-scratch") && i + 1 < args.length)
+                scratch = new File(args[++i]);
+            else if (arg.equals("-generate") && i + 1 < args.length)
+                generateDir = new File(args[++i]);
+            else if (Arrays.asList(NAMES).contains(arg))
+                selected.add(arg);
+            else
+                throw new BadArgs("bad argument: " + arg);
+        }
+
+        if (generateDir != null) {
+            new SyntheticSuite(numTests, seed).write(generateDir);
+            return;
+        }
+
+        if (selected.isEmpty())
+            selected.addAll(Arrays.asList(NAMES));
+
+        boolean deleteScratch = false;
+        if (scratch == null) {
+            scratch = File.createTempFile("jtbench", "");
+            scratch.delete();
+            deleteScratch = true;
+        }
+        if (!scratch.mkdirs() && !scratch.isDirectory())
+            throw new IOException("cannot create " + scratch);
+
+        try {
+            suite = new SyntheticSuite(numTests, seed);
+            System.out.println("# " + numTests + " tests, seed " + seed + ", "
+                               + warmup + " warm-up and " + iterations + " measured iterations");
+            System.out.println(String.format(FORMAT, "benchmark", "ops", "ns/op", "+/-"));
+            for (String name: selected)
+                measure(create(name));
+            System.out.println("# sink " + sink);
+        } finally {
+            if (deleteScratch)
+                delete(scratch);
+        }
+    }
+
+    private Benchmark create(String name) {
+        if (name.equals("trt.insert"))
+            return new TableInsert();
+        if (name.equals("trt.lookup"))
+            return new TableLookup();
+        if (name.equals("cache.insertCompress"))
+            return new CacheInsertCompress();
+        if (name.equals("finder.read"))
+            return new FinderRead();
+        if (name.equals("exclude.match"))
+            return new ExcludeMatch();
+        if (name.equals("keywords.accepts"))
+            return new KeywordsAccepts();
+        if (name.equals("jtr.write"))
+            return new JTRWrite();
+        if (name.equals("jtr.reload"))
+            return new JTRReload();
+        if (name.equals("env.resolve"))
+            return new EnvResolve();
+        throw new IllegalArgumentException(name);
+    }
+
+    private void measure(Benchmark b) throws Exception {
+        b.setUp();
+        try {
+            for (int i = 0; i < warmup; i++) {
+                b.prepare();
+                b.run();
+            }
+
+            double[] times = new double[iterations];
+            int ops = 0;
+            for (int i = 0; i < iterations; i++) {
+                b.prepare();
+                long start = System.nanoTime();
+                ops = b.run();
+                long time = System.nanoTime() - start;
+                times[i] = (double) time / Math.max(1, ops);
+            }
+
+            double mean = 0;
+            for (double t: times)
+                mean += t;
+            mean /= times.length;
+            double var = 0;
+            for (double t: times)
+                var += (t - mean) * (t - mean);
+            double dev = (times.length > 1 ? Math.sqrt(var / (times.length - 1)) : 0);
+            System.out.println(String.format(FORMAT, b.name, ops,
+                                             String.format("%.1f", mean),
+                                             String.format("%.1f", dev)));
+        } finally {
+            b.tearDown();
+        }
+    }
+
+    //--------------------------------------------------------------------------
+
+    /**
+     * A benchmark.  run() is called once per iteration, and returns the
+     * number of operations it performed; prepare() is called before each
+     * iteration, and is not timed.
+     */
+    private abstract class Benchmark {
+        Benchmark(String name) {
+            this.name = name;
+        }
+
+        void setUp() throws Exception { }
+        void prepare() throws Exception { }
+        abstract int run() throws Exception;
+        void tearDown() throws Exception { }
+
+        final String name;
+    }
+
+    /** Insert the results of all the tests into an empty table. */
+    private class TableInsert extends Benchmark {
+        TableInsert() {
+            super("trt.insert");
+        }
+
+        @Override
+        void setUp() throws Exception {
+            results = suite.createResults(getWorkDirectory());
+        }
+
+        int run() {
+            TestResultTable trt = new TestResultTable();
+            for (TestResult tr: results)
+                trt.insert(tr);
+            sink += trt.getRoot().getSize();
+            return results.length;
+        }
+
+        TestResult[] results;
+    }
+
+    /** Look up the results of all the tests, by path, in a full table. */
+    private class TableLookup extends Benchmark {
+        TableLookup() {
+            super("trt.lookup");
+        }
+
+        @Override
+        void setUp() throws Exception {
+            trt = new TestResultTable();
+            for (TestResult tr: suite.createResults(getWorkDirectory()))
+                trt.insert(tr);
+            paths = new String[suite.size()];
+            for (int i = 0; i < paths.length; i++)
+                paths[i] = suite.getResultsPath(i);
+        }
+
+        int run() {
+            for (String p: paths) {
+                if (trt.lookup(p) != null)
+                    sink++;
+            }
+            return paths.length;
+        }
+
+        TestResultTable trt;
+        String[] paths;
+    }
+
+    /**
+     * Insert the results of all the tests into an empty result cache, twice,
+     * so that half the entries are obsolete, and then compress the cache.
+     * The time includes that taken by the worker thread to write the cache,
+     * up to when the cache has been closed.
+     */
+    private class CacheInsertCompress extends Benchmark {
+        CacheInsertCompress() {
+            super("cache.insertCompress");
+        }
+
+        @Override
+        void setUp() throws Exception {
+            wd = getWorkDirectory();
+            results = suite.createResults(wd);
+        }
+
+        @Override
+        void prepare() {
+            // start each iteration with an empty cache
+            new File(wd.getJTData(), "ResultCache2.jtw").delete();
+        }
+
+        int run() throws Exception {
+            TestResultCache trc = new TestResultCache(wd, new CacheObserver());
+            for (int pass = 0; pass < 2; pass++) {
+                for (TestResult tr: results)
+                    trc.insert(tr);
+                trc.flush();
+            }
+            while (trc.getWriteBacklog() > 0)
+                Thread.sleep(1);
+            trc.compress();
+            trc.shutdown();
+            sink += wd.getSystemFile("ResultCache2.jtw").length();
+            return 2 * results.length;
+        }
+
+        WorkDirectory wd;
+        TestResult[] results;
+    }
+
+    /** Read the test descriptions in each test file. */
+    private class FinderRead extends Benchmark {
+        FinderRead() {
+            super("finder.read");
+        }
+
+        @Override
+        void setUp() throws Exception {
+            SyntheticSuite s = new SyntheticSuite(Math.min(numFiles, numTests), seed);
+            root = new File(scratch, "suite");
+            s.write(root);
+            files = new File[s.size()];
+            for (int i = 0; i < files.length; i++)
+                files[i] = new File(root, s.getName(i));
+            validKeys = new HashSet<String>(Arrays.asList(SyntheticSuite.KEYS));
+        }
+
+        int run() throws Exception {
+            TestFinder f = new RegressionTestFinder(validKeys, true);
+            f.init(new String[] { }, root, null);
+            for (File file: files) {
+                f.read(file);
+                sink += f.getTests().length;
+            }
+            if (f.getErrorCount() > 0)
+                throw new Exception("finder errors: " + Arrays.asList(f.getErrors()));
+            return files.length;
+        }
+
+        File root;
+        File[] files;
+        Set<String> validKeys;
+    }
+
+    /** Check each test against an exclude list. */
+    private class ExcludeMatch extends Benchmark {
+        ExcludeMatch() {
+            super("exclude.match");
+        }
+
+        @Override
+        void setUp() {
+            tds = suite.createDescriptions(new File(scratch, "suite"));
+            excludeList = suite.createExcludeList();
+        }
+
+        int run() {
+            for (TestDescription td: tds) {
+                if (excludeList.excludesAnyOf(td))
+                    sink++;
+            }
+            return tds.length;
+        }
+
+        TestDescription[] tds;
+        ExcludeList excludeList;
+    }
+
+    /** Check the keywords of each test against a typical filter. */
+    private class KeywordsAccepts extends Benchmark {
+        KeywordsAccepts() {
+            super("keywords.accepts");
+        }
+
+        @Override
+        void setUp() throws Exception {
+            tds = suite.createDescriptions(new File(scratch, "suite"));
+            keywords = Keywords.create(Keywords.EXPR,
+                                       "!manual & !headful & !printer & (othervm | shell)");
+        }
+
+        int run() {
+            for (TestDescription td: tds) {
+                if (keywords.accepts(td))
+                    sink++;
+            }
+            return tds.length;
+        }
+
+        TestDescription[] tds;
+        Keywords keywords;
+    }
+
+    /** Write .jtr files with a few sections of typical size. */
+    private class JTRWrite extends Benchmark {
+        JTRWrite() {
+            super("jtr.write");
+        }
+
+        @Override
+        void setUp() throws Exception {
+            wd = getWorkDirectory();
+            tds = suite.createDescriptions(new File(scratch, "suite"));
+            results = new TestResult[Math.min(numJTRs, tds.length)];
+        }
+
+        @Override
+        void prepare() {
+            // results give up their sections once they have been written
+            for (int i = 0; i < results.length; i++)
+                results[i] = createResult(tds[i], suite.getStatus(i));
+        }
+
+        int run() throws Exception {
+            for (TestResult tr: results)
+                tr.writeResults(wd, BackupPolicy.noBackups());
+            return results.length;
+        }
+
+        WorkDirectory wd;
+        TestDescription[] tds;
+        TestResult[] results;
+    }
+
+    /** Reload .jtr files, including the output of their sections. */
+    private class JTRReload extends Benchmark {
+        JTRReload() {
+            super("jtr.reload");
+        }
+
+        @Override
+        void setUp() throws Exception {
+            WorkDirectory wd = getWorkDirectory();
+            TestDescription[] tds = suite.createDescriptions(new File(scratch, "suite"));
+            files = new File[Math.min(numJTRs, tds.length)];
+            for (int i = 0; i < files.length; i++) {
+                TestResult tr = createResult(tds[i], suite.getStatus(i));
+                tr.writeResults(wd, BackupPolicy.noBackups());
+                files[i] = tr.getFile();
+            }
+        }
+
+        int run() throws Exception {
+            for (File f: files) {
+                TestResult tr = new TestResult(f);
+                TestResult.Section s = tr.getSection(tr.getSectionCount() - 1);
+                sink += s.getOutput("System.out").length();
+            }
+            return files.length;
+        }
+
+        File[] files;
+    }
+
+    /** Resolve typical commands in a typical environment. */
+    private class EnvResolve extends Benchmark {
+        EnvResolve() {
+            super("env.resolve");
+        }
+
+        @Override
+        void setUp() {
+            env = SyntheticSuite.createEnvironment();
+        }
+
+        int run() throws Exception {
+            int n = 0;
+            for (int i = 0; i < 10000; i++) {
+                for (String c: SyntheticSuite.COMMANDS) {
+                    sink += env.resolve(c).length;
+                    n++;
+                }
+            }
+            return n;
+        }
+
+        TestEnvironment env;
+    }
+
+    private static class CacheObserver implements TestResultCache.Observer {
+        public void update(Map tests) { }
+        public void waitingForLock(long timeSoFar) { }
+        public void timeoutWaitingForLock() { }
+        public void acquiredLock() { }
+        public void releasedLock() { }
+        public void buildingCache(boolean reset) { }
+        public void buildingCache(TestResult tr) { }
+        public void builtCache() { }
+        public void error(Throwable t) {
+            t.printStackTrace();
+        }
+    }
+
+    //--------------------------------------------------------------------------
+
+    /**
+     * Create a result like that of a test run by jtreg: a message section,
+     * and sections for the compilation and execution of the test.
+     */
+    private static TestResult createResult(TestDescription td, Status status) {
+        TestResult tr = new TestResult(td);
+        tr.putProperty("environment", "regtest");
+        tr.putProperty("hostname", "localhost");
+        tr.putProperty("javatestVersion", "4.1");
+        String[] names = { "script_messages", "compile", "main" };
+        for (int i = 0; i < names.length; i++) {
+            TestResult.Section s = tr.createSection(names[i]);
+            s.getMessageWriter().println("command: " + names[i] + " " + td.getRootRelativeURL());
+            PrintWriter out = s.createOutput("System.out");
+            for (int line = 0; line < 20; line++)
+                out.println("line " + line + " of the output of " + names[i]);
+            out.close();
+            PrintWriter err = s.createOutput("System.err");
+            err.println("STATUS:" + status);
+            err.close();
+            s.setStatus(i == 0 ? null : status);
+        }
+        tr.setStatus(status);
+        return tr;
+    }
+
+    private WorkDirectory getWorkDirectory() throws Exception {
+        if (workDir == null) {
+            File suiteDir = new File(scratch, "suite");
+            suiteDir.mkdirs();
+            workDir = WorkDirectory.create(new File(scratch, "work"), new TestSuite(suiteDir));
+        }
+        return workDir;
+    }
+
+    private static int parseInt(String opt, String value) throws BadArgs {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new BadArgs("bad value for " + opt + ": " + value);
+        }
+    }
+
+    private static void delete(File f) {
+        File[] children = f.listFiles();
+        if (children != null) {
+            for (File c: children)
+                delete(c);
+        }
+        f.delete();
+    }
+
+    private static class BadArgs extends Exception {
+        BadArgs(String msg) {
+            super(msg);
+        }
+    }
+
+    private int numTests = 100000;
+    private int numFiles = 2000;
+    private int numJTRs = 1000;
+    private int seed = 1;
+    private int warmup = 5;
+    private int iterations = 10;
+    private File scratch;
+    private SyntheticSuite suite;
+    private WorkDirectory workDir;
+    // results that are consumed, so that the work is not optimized away
+    private long sink;
+
+    private static final String FORMAT = "%-24s %8s %12s %10s";
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.sun.javatest;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * A synthetic regression test suite, laid out like the jdk tests: areas,
+ * each with directories of up to 100 tests.  Everything about the suite,
+ * the keywords of the tests, the results and the exclude list, is derived
+ * from a seed, so that the same suite, and the same timings, can be had
+ * again without access to a real test suite or work directory.
+ */
+class SyntheticSuite {
+    SyntheticSuite(int count, long seed) {
+        this.seed = seed;
+        Random r = new Random(seed);
+        names = new String[count];
+        keywords = new String[count];
+        statuses = new Status[count];
+        for (int i = 0; i < count; i++) {
+            int dir = i / TESTS_PER_DIR;
+            names[i] = "area" + (dir / DIRS_PER_AREA) + "/pkg" + (dir % DIRS_PER_AREA)
+                        + "/Test" + i + ".java";
+
+            StringBuffer kw = new StringBuffer();
+            kw.append(r.nextInt(10) < 7 ? "othervm" : r.nextInt(2) == 0 ? "shell" : "");
+            for (int k = 0; k < KEYS.length; k++) {
+                if (r.nextInt(20) == 0)
+                    kw.append(kw.length() == 0 ? "" : " ").append(KEYS[k]);
+            }
+            if (r.nextInt(50) == 0)
+                kw.append(kw.length() == 0 ? "" : " ").append("manual");
+            keywords[i] = kw.toString();
+
+            int s = r.nextInt(100);
+            if (s < 90)
+                statuses[i] = Status.passed("Execution successful");
+            else if (s < 97)
+                statuses[i] = Status.failed("Execution failed: `main' threw exception: "
+                                            + "java.lang.RuntimeException: check "
+                                            + r.nextInt(50) + " failed");
+            else
+                statuses[i] = Status.error("Compilation failed");
+        }
+    }
+
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * Get the root-relative URL of a test.
+     */
+    String getName(int i) {
+        return names[i];
+    }
+
+    /**
+     * Get the work-relative path of the results file of a test.
+     */
+    String getResultsPath(int i) {
+        return TestResult.getWorkRelativePath(names[i]);
+    }
+
+    Status getStatus(int i) {
+        return statuses[i];
+    }
+
+    long getEndTime(int i) {
+        return BASE_TIME + i * 137L;
+    }
+
+    /**
+     * Get descriptions of the tests, as the regression test finder would
+     * create them for the tests written by {@link #write}.
+     */
+    TestDescription[] createDescriptions(File root) {
+        TestDescription[] tds = new TestDescription[names.length];
+        for (int i = 0; i < names.length; i++) {
+            Map params = new HashMap();
+            params.put("title", "Synthetic test " + i);
+            params.put("keywords", keywords[i]);
+            params.put("bug", String.valueOf(BUG_BASE + i));
+            params.put("source", "Test" + i + ".java");
+            params.put("run", "USER_SPECIFIED main/othervm Test" + i + " \u0001");
+            tds[i] = new TestDescription(root, new File(root, names[i]), params);
+        }
+        return tds;
+    }
+
+    /**
+     * Create results for the tests, as the result cache would create them.
+     */
+    TestResult[] createResults(WorkDirectory wd) {
+        TestResult[] trs = new TestResult[names.length];
+        for (int i = 0; i < names.length; i++)
+            trs[i] = new TestResult(names[i], wd, statuses[i], getEndTime(i));
+        return trs;
+    }
+
+    /**
+     * Create an exclude list for about one test in a hundred, with some
+     * of the entries being for individual test cases.
+     */
+    ExcludeList createExcludeList() {
+        Random r = new Random(seed + 1);
+        ExcludeList el = new ExcludeList();
+        try {
+            for (int i = 0; i < names.length; i++) {
+                if (r.nextInt(100) != 0)
+                    continue;
+                String tc = (r.nextInt(4) == 0 ? "case" + r.nextInt(5) : null);
+                el.addEntry(new ExcludeList.Entry(names[i], tc,
+                                                  new String[] { String.valueOf(BUG_BASE + i) },
+                                                  new String[] { "generic-all" },
+                                                  "synthetic exclusion"));
+            }
+        } catch (ExcludeList.Fault e) {
+            throw new Error(e);
+        }
+        return el;
+    }
+
+    /**
+     * Create an environment of the size and shape of one set up for
+     * a jtreg run, with values that refer to other values.
+     */
+    static TestEnvironment createEnvironment() {
+        Map p = new HashMap();
+        p.put("testJavaHome", "/usr/lib/jvm/java-1.7.0");
+        p.put("javaCommand", "$testJavaHome/bin/java");
+        p.put("javacCommand", "$testJavaHome/bin/javac");
+        p.put("heap", "64m");
+        p.put("javaOpts", "-Xmx$heap -XX:+UseSerialGC $extraOpts");
+        p.put("extraOpts", "-Djava.awt.headless=true \"-Dtest.name=a b\"");
+        p.put("testClasses", "/work/classes/area0/pkg0");
+        p.put("testSrc", "/suite/area0/pkg0");
+        p.put("classpath", "${testClasses}$:${testSrc}$:/work/lib");
+        for (int i = 0; i < 200; i++)
+            p.put("filler" + i, "value " + i + " $heap");
+        try {
+            return new TestEnvironment("synthetic", p, "synthetic");
+        } catch (TestEnvironment.Fault e) {
+            throw new Error(e);
+        }
+    }
+
+    /**
+     * Strings to be resolved in the environment created by
+     * {@link #createEnvironment}.
+     */
+    static final String[] COMMANDS = {
+        "$javaCommand $javaOpts -cp $classpath com.sun.javatest.regtest.MainWrapper Test0",
+        "$javacCommand -d $testClasses -sourcepath $testSrc $testSrc/Test0.java",
+        "'literal $text' \"$heap\" ${filler7} $filler199",
+    };
+
+    /**
+     * Write the tests as a regression test suite, with a TEST.ROOT file,
+     * in a directory.
+     */
+    void write(File dir) throws IOException {
+        dir.mkdirs();
+        Writer root = new FileWriter(new File(dir, "TEST.ROOT"));
+        try {
+            root.write("# synthetic test suite, seed " + seed + "\n");
+            root.write("keys=");
+            for (int k = 0; k < KEYS.length; k++)
+                root.write((k == 0 ? "" : " ") + KEYS[k]);
+            root.write("\n");
+        } finally {
+            root.close();
+        }
+
+        for (int i = 0; i < names.length; i++) {
+            File f = new File(dir, names[i]);
+            f.getParentFile().mkdirs();
+            Writer out = new FileWriter(f);
+            try {
+                out.write("/*\n");
+                out.write(" * Synthetic test " + i + ".\n");
+                out.write(" */\n\n");
+                out.write("/*\n");
+                out.write(" * @test\n");
+                out.write(" * @bug " + (BUG_BASE + i) + "\n");
+                out.write(" * @summary Synthetic test " + i + "\n");
+                StringBuffer keys = new StringBuffer();
+                for (String k: keywords[i].split(" ")) {
+                    for (int j = 0; j < KEYS.length; j++) {
+                        if (k.equals(KEYS[j]))
+                            keys.append(" ").append(k);
+                    }
+                }
+                if (keys.length() > 0)
+                    out.write(" * @key" + keys + "\n");
+                String run = (keywords[i].indexOf("shell") >= 0 ? "shell Test" + i + ".sh"
+                              : keywords[i].indexOf("othervm") >= 0 ? "main/othervm Test" + i
+                              : "main Test" + i);
+                if (keywords[i].indexOf("manual") >= 0)
+                    run = run.replaceFirst(" ", "/manual ");
+                out.write(" * @run " + run + "\n");
+                out.write(" */\n\n");
+                out.write("public class Test" + i + " {\n");
+                out.write("    public static void main(String... args) { }\n");
+                out.write("}\n");
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    private final long seed;
+    private final String[] names;
+    private final String[] keywords;
+    private final Status[] statuses;
+
+    static final String[] KEYS = { "headful", "intermittent", "printer", "randomness" };
+
+    private static final int TESTS_PER_DIR = 100;
+    private static final int DIRS_PER_AREA = 50;
+    private static final int BUG_BASE = 7000000;
+    private static final long BASE_TIME = 1700000000000L;
+}
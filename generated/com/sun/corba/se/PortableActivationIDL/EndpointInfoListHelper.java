@@ -28,16 +28,18 @@ abstract public class EndpointInfoListHelper
     return read (a.create_input_stream ());
   }
 
-  private static org.omg.CORBA.TypeCode __typeCode = null;
-  synchronized public static org.omg.CORBA.TypeCode type ()
+  private static volatile org.omg.CORBA.TypeCode __typeCode = null;
+  public static org.omg.CORBA.TypeCode type ()
   {
-    if (__typeCode == null)
+    org.omg.CORBA.TypeCode __tc = __typeCode;
+    if (__tc == null)
     {
-      __typeCode = com.sun.corba.se.PortableActivationIDL.EndPointInfoHelper.type ();
-      __typeCode = org.omg.CORBA.ORB.init ().create_sequence_tc (0, __typeCode);
-      __typeCode = org.omg.CORBA.ORB.init ().create_alias_tc (com.sun.corba.se.PortableActivationIDL.EndpointInfoListHelper.id (), "EndpointInfoList", __typeCode);
+      __tc = com.sun.corba.se.PortableActivationIDL.EndPointInfoHelper.type ();
+      __tc = org.omg.CORBA.ORB.init ().create_sequence_tc (0, __tc);
+      __tc = org.omg.CORBA.ORB.init ().create_alias_tc (com.sun.corba.se.PortableActivationIDL.EndpointInfoListHelper.id (), "EndpointInfoList", __tc);
+      __typeCode = __tc;
     }
-    return __typeCode;
+    return __tc;
   }
 
   public static String id ()
@@ -29,14 +29,16 @@ abstract public class InitialNameServiceHelper
     return read (a.create_input_stream ());
   }
 
-  private static org.omg.CORBA.TypeCode __typeCode = null;
-  synchronized public static org.omg.CORBA.TypeCode type ()
+  private static volatile org.omg.CORBA.TypeCode __typeCode = null;
+  public static org.omg.CORBA.TypeCode type ()
   {
-    if (__typeCode == null)
+    org.omg.CORBA.TypeCode __tc = __typeCode;
+    if (__tc == null)
     {
-      __typeCode = org.omg.CORBA.ORB.init ().create_interface_tc (com.sun.corba.se.PortableActivationIDL.InitialNameServiceHelper.id (), "InitialNameService");
+      __tc = org.omg.CORBA.ORB.init ().create_interface_tc (com.sun.corba.se.PortableActivationIDL.InitialNameServiceHelper.id (), "InitialNameService");
+      __typeCode = __tc;
     }
-    return __typeCode;
+    return __tc;
   }
 
   public static String id ()
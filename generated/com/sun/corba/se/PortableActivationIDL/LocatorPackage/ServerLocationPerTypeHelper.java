@@ -25,9 +25,9 @@ abstract public class ServerLocationPerTypeHelper
     return read (a.create_input_stream ());
   }
 
-  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static volatile org.omg.CORBA.TypeCode __typeCode = null;
   private static boolean __active = false;
-  synchronized public static org.omg.CORBA.TypeCode type ()
+  public static org.omg.CORBA.TypeCode type ()
   {
     if (__typeCode == null)
     {
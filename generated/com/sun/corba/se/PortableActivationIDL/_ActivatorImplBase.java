@@ -17,21 +17,61 @@ public abstract class _ActivatorImplBase extends org.omg.CORBA.portable.ObjectIm
   {
   }
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  // Operation name to case index, by the String hash of the name
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("registerServer", new java.lang.Integer (0));
-    _methods.put ("serverGoingDown", new java.lang.Integer (1));
-    _methods.put ("registerORB", new java.lang.Integer (2));
-    _methods.put ("registerPOA", new java.lang.Integer (3));
-    _methods.put ("poaDestroyed", new java.lang.Integer (4));
-    _methods.put ("activate", new java.lang.Integer (5));
-    _methods.put ("shutdown", new java.lang.Integer (6));
-    _methods.put ("install", new java.lang.Integer (7));
-    _methods.put ("uninstall", new java.lang.Integer (8));
-    _methods.put ("getActiveServers", new java.lang.Integer (9));
-    _methods.put ("getORBNames", new java.lang.Integer (10));
-    _methods.put ("lookupPOATemplate", new java.lang.Integer (11));
+    switch ($method.hashCode ())
+    {
+      case -494894138:
+        if ($method.equals ("registerServer"))
+          return 0;
+        break;
+      case 1623718329:
+        if ($method.equals ("serverGoingDown"))
+          return 1;
+        break;
+      case -2133304004:
+        if ($method.equals ("registerORB"))
+          return 2;
+        break;
+      case -2133303137:
+        if ($method.equals ("registerPOA"))
+          return 3;
+        break;
+      case 1788046839:
+        if ($method.equals ("poaDestroyed"))
+          return 4;
+        break;
+      case -1655974669:
+        if ($method.equals ("activate"))
+          return 5;
+        break;
+      case -169343402:
+        if ($method.equals ("shutdown"))
+          return 6;
+        break;
+      case 1957569947:
+        if ($method.equals ("install"))
+          return 7;
+        break;
+      case -625596190:
+        if ($method.equals ("uninstall"))
+          return 8;
+        break;
+      case -313082892:
+        if ($method.equals ("getActiveServers"))
+          return 9;
+        break;
+      case -313234145:
+        if ($method.equals ("getORBNames"))
+          return 10;
+        break;
+      case -672093438:
+        if ($method.equals ("lookupPOATemplate"))
+          return 11;
+        break;
+    }
+    return -1;
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -39,11 +79,11 @@ public abstract class _ActivatorImplBase extends org.omg.CORBA.portable.ObjectIm
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
 
   /** A new ORB started server registers itself with the Activator
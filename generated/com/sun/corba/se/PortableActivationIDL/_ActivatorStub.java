@@ -10,12 +10,26 @@ package com.sun.corba.se.PortableActivationIDL;
 
 public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements com.sun.corba.se.PortableActivationIDL.Activator
 {
+  final public static java.lang.Class _opsClass = ActivatorOperations.class;
 
 
   /** A new ORB started server registers itself with the Activator
   	*/
   public void registerServer (String serverId, com.sun.corba.se.PortableActivationIDL.ServerProxy serverObj) throws com.sun.corba.se.PortableActivationIDL.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("registerServer", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ActivatorOperations) $so.servant).registerServer (serverId, serverObj);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("registerServer", true);
@@ -44,6 +58,19 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   	*/
   public void serverGoingDown (String serverId)
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("serverGoingDown", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ActivatorOperations) $so.servant).serverGoingDown (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("serverGoingDown", true);
@@ -69,6 +96,23 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   	*/
   public void registerORB (String serverId, String orbId, com.sun.corba.se.PortableActivationIDL.ORBProxy orb, com.sun.corba.se.PortableActivationIDL.EndPointInfo[] endPointInfo) throws com.sun.corba.se.PortableActivationIDL.ServerNotRegistered, com.sun.corba.se.PortableActivationIDL.NoSuchEndPoint, com.sun.corba.se.PortableActivationIDL.ORBAlreadyRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("registerORB", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.PortableActivationIDL.EndpointInfoListHelper.write ($copy, endPointInfo);
+                        endPointInfo = com.sun.corba.se.PortableActivationIDL.EndpointInfoListHelper.read ($copy.create_input_stream ());
+                        ((ActivatorOperations) $so.servant).registerORB (serverId, orbId, orb, endPointInfo);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("registerORB", true);
@@ -103,6 +147,26 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   	*/
   public org.omg.PortableInterceptor.ObjectReferenceTemplate registerPOA (String serverId, String orbId, org.omg.PortableInterceptor.ObjectReferenceTemplate poaTemplate)
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("registerPOA", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.write ($copy, poaTemplate);
+                        poaTemplate = org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.read ($copy.create_input_stream ());
+                        org.omg.PortableInterceptor.ObjectReferenceTemplate $result = ((ActivatorOperations) $so.servant).registerPOA (serverId, orbId, poaTemplate);
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.write ($copy, $result);
+                        $result = org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("registerPOA", true);
@@ -128,6 +192,23 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   	*/
   public void poaDestroyed (String serverId, String orbId, org.omg.PortableInterceptor.ObjectReferenceTemplate poaTemplate)
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("poaDestroyed", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.write ($copy, poaTemplate);
+                        poaTemplate = org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.read ($copy.create_input_stream ());
+                        ((ActivatorOperations) $so.servant).poaDestroyed (serverId, orbId, poaTemplate);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("poaDestroyed", true);
@@ -153,6 +234,19 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   	*/
   public void activate (String serverId) throws com.sun.corba.se.PortableActivationIDL.ServerAlreadyActive, com.sun.corba.se.PortableActivationIDL.ServerNotRegistered, com.sun.corba.se.PortableActivationIDL.ServerHeldDown
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("activate", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ActivatorOperations) $so.servant).activate (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("activate", true);
@@ -182,6 +276,19 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   	*/
   public void shutdown (String serverId) throws com.sun.corba.se.PortableActivationIDL.ServerNotActive, com.sun.corba.se.PortableActivationIDL.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("shutdown", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ActivatorOperations) $so.servant).shutdown (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("shutdown", true);
@@ -210,6 +317,19 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   	*/
   public void install (String serverId) throws com.sun.corba.se.PortableActivationIDL.ServerNotRegistered, com.sun.corba.se.PortableActivationIDL.ServerHeldDown, com.sun.corba.se.PortableActivationIDL.ServerAlreadyInstalled
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("install", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ActivatorOperations) $so.servant).install (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("install", true);
@@ -241,6 +361,19 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   	*/
   public void uninstall (String serverId) throws com.sun.corba.se.PortableActivationIDL.ServerNotRegistered, com.sun.corba.se.PortableActivationIDL.ServerHeldDown, com.sun.corba.se.PortableActivationIDL.ServerAlreadyUninstalled
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("uninstall", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ActivatorOperations) $so.servant).uninstall (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("uninstall", true);
@@ -270,6 +403,23 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   	*/
   public String[] getActiveServers ()
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getActiveServers", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        String $result[] = ((ActivatorOperations) $so.servant).getActiveServers ();
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.PortableActivationIDL.ServerIdsHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.PortableActivationIDL.ServerIdsHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getActiveServers", true);
@@ -292,6 +442,23 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   	*/
   public String[] getORBNames (String serverId) throws com.sun.corba.se.PortableActivationIDL.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getORBNames", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        String $result[] = ((ActivatorOperations) $so.servant).getORBNames (serverId);
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.PortableActivationIDL.ORBidListHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.PortableActivationIDL.ORBidListHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getORBNames", true);
@@ -319,6 +486,26 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   	*/
   public org.omg.PortableInterceptor.ObjectReferenceTemplate lookupPOATemplate (String serverId, String orbId, String[] orbAdapterName)
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("lookupPOATemplate", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.PortableInterceptor.AdapterNameHelper.write ($copy, orbAdapterName);
+                        orbAdapterName = org.omg.PortableInterceptor.AdapterNameHelper.read ($copy.create_input_stream ());
+                        org.omg.PortableInterceptor.ObjectReferenceTemplate $result = ((ActivatorOperations) $so.servant).lookupPOATemplate (serverId, orbId, orbAdapterName);
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.write ($copy, $result);
+                        $result = org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("lookupPOATemplate", true);
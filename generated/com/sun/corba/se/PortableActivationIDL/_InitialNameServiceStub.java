@@ -14,12 +14,26 @@ package com.sun.corba.se.PortableActivationIDL;
     */
 public class _InitialNameServiceStub extends org.omg.CORBA.portable.ObjectImpl implements com.sun.corba.se.PortableActivationIDL.InitialNameService
 {
+  final public static java.lang.Class _opsClass = InitialNameServiceOperations.class;
 
 
   /** bind initial name
   	*/
   public void bind (String name, org.omg.CORBA.Object obj, boolean isPersistant) throws com.sun.corba.se.PortableActivationIDL.InitialNameServicePackage.NameAlreadyBound
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("bind", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((InitialNameServiceOperations) $so.servant).bind (name, obj, isPersistant);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("bind", true);
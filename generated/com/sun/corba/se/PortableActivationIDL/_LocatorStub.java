@@ -10,6 +10,7 @@ package com.sun.corba.se.PortableActivationIDL;
 
 public class _LocatorStub extends org.omg.CORBA.portable.ObjectImpl implements com.sun.corba.se.PortableActivationIDL.Locator
 {
+  final public static java.lang.Class _opsClass = LocatorOperations.class;
 
 
   /** locate server - returns the port with a specific type for all registered
@@ -18,6 +19,23 @@ public class _LocatorStub extends org.omg.CORBA.portable.ObjectImpl implements c
   	*/
   public com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerType locateServer (String serverId, String endPoint) throws com.sun.corba.se.PortableActivationIDL.NoSuchEndPoint, com.sun.corba.se.PortableActivationIDL.ServerNotRegistered, com.sun.corba.se.PortableActivationIDL.ServerHeldDown
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("locateServer", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerType $result = ((LocatorOperations) $so.servant).locateServer (serverId, endPoint);
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerTypeHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerTypeHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("locateServer", true);
@@ -51,6 +69,23 @@ public class _LocatorStub extends org.omg.CORBA.portable.ObjectImpl implements c
   	*/
   public com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerORB locateServerForORB (String serverId, String orbId) throws com.sun.corba.se.PortableActivationIDL.InvalidORBid, com.sun.corba.se.PortableActivationIDL.ServerNotRegistered, com.sun.corba.se.PortableActivationIDL.ServerHeldDown
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("locateServerForORB", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerORB $result = ((LocatorOperations) $so.servant).locateServerForORB (serverId, orbId);
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerORBHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerORBHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("locateServerForORB", true);
@@ -82,6 +117,19 @@ public class _LocatorStub extends org.omg.CORBA.portable.ObjectImpl implements c
   	*/
   public int getEndpoint (String endPointType) throws com.sun.corba.se.PortableActivationIDL.NoSuchEndPoint
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getEndpoint", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        int $result = ((LocatorOperations) $so.servant).getEndpoint (endPointType);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getEndpoint", true);
@@ -109,6 +157,23 @@ public class _LocatorStub extends org.omg.CORBA.portable.ObjectImpl implements c
   	*/
   public int getServerPortForType (com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerORB location, String endPointType) throws com.sun.corba.se.PortableActivationIDL.NoSuchEndPoint
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getServerPortForType", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerORBHelper.write ($copy, location);
+                        location = com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerORBHelper.read ($copy.create_input_stream ());
+                        int $result = ((LocatorOperations) $so.servant).getServerPortForType (location, endPointType);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getServerPortForType", true);
@@ -20,10 +20,17 @@ public abstract class _ORBProxyImplBase extends org.omg.CORBA.portable.ObjectImp
   {
   }
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  // Operation name to case index, by the String hash of the name
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("activate_adapter", new java.lang.Integer (0));
+    switch ($method.hashCode ())
+    {
+      case -752255997:
+        if ($method.equals ("activate_adapter"))
+          return 0;
+        break;
+    }
+    return -1;
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -31,11 +38,11 @@ public abstract class _ORBProxyImplBase extends org.omg.CORBA.portable.ObjectImp
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
 
   /** Method used to cause ORB to activate the named adapter, if possible.
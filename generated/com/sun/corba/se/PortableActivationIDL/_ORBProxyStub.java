@@ -13,6 +13,7 @@ package com.sun.corba.se.PortableActivationIDL;
     */
 public class _ORBProxyStub extends org.omg.CORBA.portable.ObjectImpl implements com.sun.corba.se.PortableActivationIDL.ORBProxy
 {
+  final public static java.lang.Class _opsClass = ORBProxyOperations.class;
 
 
   /** Method used to cause ORB to activate the named adapter, if possible.
@@ -23,6 +24,23 @@ public class _ORBProxyStub extends org.omg.CORBA.portable.ObjectImpl implements
   	*/
   public boolean activate_adapter (String[] name)
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("activate_adapter", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.PortableInterceptor.AdapterNameHelper.write ($copy, name);
+                        name = org.omg.PortableInterceptor.AdapterNameHelper.read ($copy.create_input_stream ());
+                        boolean $result = ((ORBProxyOperations) $so.servant).activate_adapter (name);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("activate_adapter", true);
@@ -17,18 +17,49 @@ public abstract class _RepositoryImplBase extends org.omg.CORBA.portable.ObjectI
   {
   }
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  // Operation name to case index, by the String hash of the name
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("registerServer", new java.lang.Integer (0));
-    _methods.put ("unregisterServer", new java.lang.Integer (1));
-    _methods.put ("getServer", new java.lang.Integer (2));
-    _methods.put ("isInstalled", new java.lang.Integer (3));
-    _methods.put ("install", new java.lang.Integer (4));
-    _methods.put ("uninstall", new java.lang.Integer (5));
-    _methods.put ("listRegisteredServers", new java.lang.Integer (6));
-    _methods.put ("getApplicationNames", new java.lang.Integer (7));
-    _methods.put ("getServerID", new java.lang.Integer (8));
+    switch ($method.hashCode ())
+    {
+      case -494894138:
+        if ($method.equals ("registerServer"))
+          return 0;
+        break;
+      case -1770876257:
+        if ($method.equals ("unregisterServer"))
+          return 1;
+        break;
+      case 790188601:
+        if ($method.equals ("getServer"))
+          return 2;
+        break;
+      case 1207466352:
+        if ($method.equals ("isInstalled"))
+          return 3;
+        break;
+      case 1957569947:
+        if ($method.equals ("install"))
+          return 4;
+        break;
+      case -625596190:
+        if ($method.equals ("uninstall"))
+          return 5;
+        break;
+      case 2088590256:
+        if ($method.equals ("listRegisteredServers"))
+          return 6;
+        break;
+      case -1494475954:
+        if ($method.equals ("getApplicationNames"))
+          return 7;
+        break;
+      case -837963500:
+        if ($method.equals ("getServerID"))
+          return 8;
+        break;
+    }
+    return -1;
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -36,11 +67,11 @@ public abstract class _RepositoryImplBase extends org.omg.CORBA.portable.ObjectI
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
 
   /** register server definition.
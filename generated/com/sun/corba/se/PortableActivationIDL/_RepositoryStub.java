@@ -10,6 +10,7 @@ package com.sun.corba.se.PortableActivationIDL;
 
 public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implements com.sun.corba.se.PortableActivationIDL.Repository
 {
+  final public static java.lang.Class _opsClass = RepositoryOperations.class;
 
 
   /** register server definition.
@@ -18,6 +19,23 @@ public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implement
   	*/
   public String registerServer (com.sun.corba.se.PortableActivationIDL.RepositoryPackage.ServerDef serverDef) throws com.sun.corba.se.PortableActivationIDL.ServerAlreadyRegistered, com.sun.corba.se.PortableActivationIDL.BadServerDefinition
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("registerServer", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.PortableActivationIDL.RepositoryPackage.ServerDefHelper.write ($copy, serverDef);
+                        serverDef = com.sun.corba.se.PortableActivationIDL.RepositoryPackage.ServerDefHelper.read ($copy.create_input_stream ());
+                        String $result = ((RepositoryOperations) $so.servant).registerServer (serverDef);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("registerServer", true);
@@ -46,6 +64,19 @@ public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implement
   	*/
   public void unregisterServer (String serverId) throws com.sun.corba.se.PortableActivationIDL.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("unregisterServer", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((RepositoryOperations) $so.servant).unregisterServer (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("unregisterServer", true);
@@ -71,6 +102,23 @@ public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implement
   	*/
   public com.sun.corba.se.PortableActivationIDL.RepositoryPackage.ServerDef getServer (String serverId) throws com.sun.corba.se.PortableActivationIDL.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getServer", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        com.sun.corba.se.PortableActivationIDL.RepositoryPackage.ServerDef $result = ((RepositoryOperations) $so.servant).getServer (serverId);
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.PortableActivationIDL.RepositoryPackage.ServerDefHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.PortableActivationIDL.RepositoryPackage.ServerDefHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getServer", true);
@@ -97,6 +145,19 @@ public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implement
   	*/
   public boolean isInstalled (String serverId) throws com.sun.corba.se.PortableActivationIDL.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("isInstalled", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        boolean $result = ((RepositoryOperations) $so.servant).isInstalled (serverId);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("isInstalled", true);
@@ -124,6 +185,19 @@ public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implement
   	*/
   public void install (String serverId) throws com.sun.corba.se.PortableActivationIDL.ServerNotRegistered, com.sun.corba.se.PortableActivationIDL.ServerAlreadyInstalled
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("install", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((RepositoryOperations) $so.servant).install (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("install", true);
@@ -152,6 +226,19 @@ public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implement
   	*/
   public void uninstall (String serverId) throws com.sun.corba.se.PortableActivationIDL.ServerNotRegistered, com.sun.corba.se.PortableActivationIDL.ServerAlreadyUninstalled
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("uninstall", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((RepositoryOperations) $so.servant).uninstall (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("uninstall", true);
@@ -179,6 +266,23 @@ public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implement
   	*/
   public String[] listRegisteredServers ()
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("listRegisteredServers", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        String $result[] = ((RepositoryOperations) $so.servant).listRegisteredServers ();
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.PortableActivationIDL.ServerIdsHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.PortableActivationIDL.ServerIdsHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("listRegisteredServers", true);
@@ -202,6 +306,23 @@ public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implement
   	*/
   public String[] getApplicationNames ()
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getApplicationNames", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        String $result[] = ((RepositoryOperations) $so.servant).getApplicationNames ();
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.PortableActivationIDL.RepositoryPackage.AppNamesHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.PortableActivationIDL.RepositoryPackage.AppNamesHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getApplicationNames", true);
@@ -224,6 +345,19 @@ public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implement
   	*/
   public String getServerID (String applicationName) throws com.sun.corba.se.PortableActivationIDL.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getServerID", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        String $result = ((RepositoryOperations) $so.servant).getServerID (applicationName);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getServerID", true);
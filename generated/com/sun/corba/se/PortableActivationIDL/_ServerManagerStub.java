@@ -15,12 +15,26 @@ package com.sun.corba.se.PortableActivationIDL;
     */
 public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implements com.sun.corba.se.PortableActivationIDL.ServerManager
 {
+  final public static java.lang.Class _opsClass = ServerManagerOperations.class;
 
 
   /** A new ORB started server registers itself with the Activator
   	*/
   public void registerServer (String serverId, com.sun.corba.se.PortableActivationIDL.ServerProxy serverObj) throws com.sun.corba.se.PortableActivationIDL.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("registerServer", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ServerManagerOperations) $so.servant).registerServer (serverId, serverObj);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("registerServer", true);
@@ -49,6 +63,19 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   	*/
   public void serverGoingDown (String serverId)
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("serverGoingDown", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ServerManagerOperations) $so.servant).serverGoingDown (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("serverGoingDown", true);
@@ -74,6 +101,23 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   	*/
   public void registerORB (String serverId, String orbId, com.sun.corba.se.PortableActivationIDL.ORBProxy orb, com.sun.corba.se.PortableActivationIDL.EndPointInfo[] endPointInfo) throws com.sun.corba.se.PortableActivationIDL.ServerNotRegistered, com.sun.corba.se.PortableActivationIDL.NoSuchEndPoint, com.sun.corba.se.PortableActivationIDL.ORBAlreadyRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("registerORB", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.PortableActivationIDL.EndpointInfoListHelper.write ($copy, endPointInfo);
+                        endPointInfo = com.sun.corba.se.PortableActivationIDL.EndpointInfoListHelper.read ($copy.create_input_stream ());
+                        ((ServerManagerOperations) $so.servant).registerORB (serverId, orbId, orb, endPointInfo);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("registerORB", true);
@@ -108,6 +152,26 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   	*/
   public org.omg.PortableInterceptor.ObjectReferenceTemplate registerPOA (String serverId, String orbId, org.omg.PortableInterceptor.ObjectReferenceTemplate poaTemplate)
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("registerPOA", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.write ($copy, poaTemplate);
+                        poaTemplate = org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.read ($copy.create_input_stream ());
+                        org.omg.PortableInterceptor.ObjectReferenceTemplate $result = ((ServerManagerOperations) $so.servant).registerPOA (serverId, orbId, poaTemplate);
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.write ($copy, $result);
+                        $result = org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("registerPOA", true);
@@ -133,6 +197,23 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   	*/
   public void poaDestroyed (String serverId, String orbId, org.omg.PortableInterceptor.ObjectReferenceTemplate poaTemplate)
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("poaDestroyed", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.write ($copy, poaTemplate);
+                        poaTemplate = org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.read ($copy.create_input_stream ());
+                        ((ServerManagerOperations) $so.servant).poaDestroyed (serverId, orbId, poaTemplate);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("poaDestroyed", true);
@@ -158,6 +239,19 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   	*/
   public void activate (String serverId) throws com.sun.corba.se.PortableActivationIDL.ServerAlreadyActive, com.sun.corba.se.PortableActivationIDL.ServerNotRegistered, com.sun.corba.se.PortableActivationIDL.ServerHeldDown
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("activate", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ServerManagerOperations) $so.servant).activate (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("activate", true);
@@ -187,6 +281,19 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   	*/
   public void shutdown (String serverId) throws com.sun.corba.se.PortableActivationIDL.ServerNotActive, com.sun.corba.se.PortableActivationIDL.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("shutdown", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ServerManagerOperations) $so.servant).shutdown (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("shutdown", true);
@@ -215,6 +322,19 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   	*/
   public void install (String serverId) throws com.sun.corba.se.PortableActivationIDL.ServerNotRegistered, com.sun.corba.se.PortableActivationIDL.ServerHeldDown, com.sun.corba.se.PortableActivationIDL.ServerAlreadyInstalled
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("install", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ServerManagerOperations) $so.servant).install (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("install", true);
@@ -246,6 +366,19 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   	*/
   public void uninstall (String serverId) throws com.sun.corba.se.PortableActivationIDL.ServerNotRegistered, com.sun.corba.se.PortableActivationIDL.ServerHeldDown, com.sun.corba.se.PortableActivationIDL.ServerAlreadyUninstalled
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("uninstall", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ServerManagerOperations) $so.servant).uninstall (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("uninstall", true);
@@ -275,6 +408,23 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   	*/
   public String[] getActiveServers ()
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getActiveServers", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        String $result[] = ((ServerManagerOperations) $so.servant).getActiveServers ();
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.PortableActivationIDL.ServerIdsHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.PortableActivationIDL.ServerIdsHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getActiveServers", true);
@@ -297,6 +447,23 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   	*/
   public String[] getORBNames (String serverId) throws com.sun.corba.se.PortableActivationIDL.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getORBNames", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        String $result[] = ((ServerManagerOperations) $so.servant).getORBNames (serverId);
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.PortableActivationIDL.ORBidListHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.PortableActivationIDL.ORBidListHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getORBNames", true);
@@ -324,6 +491,26 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   	*/
   public org.omg.PortableInterceptor.ObjectReferenceTemplate lookupPOATemplate (String serverId, String orbId, String[] orbAdapterName)
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("lookupPOATemplate", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.PortableInterceptor.AdapterNameHelper.write ($copy, orbAdapterName);
+                        orbAdapterName = org.omg.PortableInterceptor.AdapterNameHelper.read ($copy.create_input_stream ());
+                        org.omg.PortableInterceptor.ObjectReferenceTemplate $result = ((ServerManagerOperations) $so.servant).lookupPOATemplate (serverId, orbId, orbAdapterName);
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.write ($copy, $result);
+                        $result = org.omg.PortableInterceptor.ObjectReferenceTemplateHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("lookupPOATemplate", true);
@@ -351,6 +538,23 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   	*/
   public com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerType locateServer (String serverId, String endPoint) throws com.sun.corba.se.PortableActivationIDL.NoSuchEndPoint, com.sun.corba.se.PortableActivationIDL.ServerNotRegistered, com.sun.corba.se.PortableActivationIDL.ServerHeldDown
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("locateServer", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerType $result = ((ServerManagerOperations) $so.servant).locateServer (serverId, endPoint);
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerTypeHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerTypeHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("locateServer", true);
@@ -384,6 +588,23 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   	*/
   public com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerORB locateServerForORB (String serverId, String orbId) throws com.sun.corba.se.PortableActivationIDL.InvalidORBid, com.sun.corba.se.PortableActivationIDL.ServerNotRegistered, com.sun.corba.se.PortableActivationIDL.ServerHeldDown
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("locateServerForORB", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerORB $result = ((ServerManagerOperations) $so.servant).locateServerForORB (serverId, orbId);
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerORBHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerORBHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("locateServerForORB", true);
@@ -415,6 +636,19 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   	*/
   public int getEndpoint (String endPointType) throws com.sun.corba.se.PortableActivationIDL.NoSuchEndPoint
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getEndpoint", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        int $result = ((ServerManagerOperations) $so.servant).getEndpoint (endPointType);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getEndpoint", true);
@@ -442,6 +676,23 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   	*/
   public int getServerPortForType (com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerORB location, String endPointType) throws com.sun.corba.se.PortableActivationIDL.NoSuchEndPoint
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getServerPortForType", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerORBHelper.write ($copy, location);
+                        location = com.sun.corba.se.PortableActivationIDL.LocatorPackage.ServerLocationPerORBHelper.read ($copy.create_input_stream ());
+                        int $result = ((ServerManagerOperations) $so.servant).getServerPortForType (location, endPointType);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getServerPortForType", true);
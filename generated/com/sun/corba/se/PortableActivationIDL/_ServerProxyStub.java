@@ -13,12 +13,26 @@ package com.sun.corba.se.PortableActivationIDL;
     */
 public class _ServerProxyStub extends org.omg.CORBA.portable.ObjectImpl implements com.sun.corba.se.PortableActivationIDL.ServerProxy
 {
+  final public static java.lang.Class _opsClass = ServerProxyOperations.class;
 
 
   /** Shutdown this server.  Returns after orb.shutdown() completes.
   	*/
   public void shutdown ()
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("shutdown", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ServerProxyOperations) $so.servant).shutdown ();
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("shutdown", true);
@@ -41,6 +55,19 @@ public class _ServerProxyStub extends org.omg.CORBA.portable.ObjectImpl implemen
   	*/
   public void install ()
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("install", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ServerProxyOperations) $so.servant).install ();
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("install", true);
@@ -63,6 +90,19 @@ public class _ServerProxyStub extends org.omg.CORBA.portable.ObjectImpl implemen
   	*/
   public void uninstall ()
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("uninstall", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ServerProxyOperations) $so.servant).uninstall ();
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("uninstall", true);
@@ -54,6 +54,13 @@ public class IORSystemException extends LogWrapperBase {
         return wrapper ;
     } 
     
+    protected void doLog( Level level, String key, Object[] params, Class wrapperClass,
+        Throwable thr )
+    {
+        if (LogAggregator.admit( logger, level, key ))
+            super.doLog( level, key, params, wrapperClass, thr ) ;
+    }
+    
     ///////////////////////////////////////////////////////////
     // INTERNAL
     ///////////////////////////////////////////////////////////
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.sun.corba.se.impl.logging ;
+
+import java.security.AccessController ;
+import java.security.PrivilegedAction ;
+import java.util.Map ;
+import java.util.Timer ;
+import java.util.TimerTask ;
+import java.util.concurrent.ConcurrentHashMap ;
+import java.util.concurrent.ConcurrentMap ;
+import java.util.logging.Level ;
+import java.util.logging.Logger ;
+
+/**
+ * Rate limits the messages of the log wrappers.  Each message key, such
+ * as <code>ORBUTIL.connectFailure</code>, names one minor code of one
+ * exception class.  The first occurrence of a key is logged; further
+ * occurrences within the interval are only counted.  The count is
+ * logged by the first occurrence after the interval, or by a daemon
+ * timer once the interval has passed, whichever comes first, so a
+ * flood of identical failures produces one message and one count per
+ * interval however many exceptions are raised, and the last batch is
+ * reported even if no further failure arrives.
+ *
+ * The interval, in milliseconds, is taken from the system property
+ * <code>com.sun.corba.se.impl.logging.aggregateInterval</code>; zero,
+ * the default, logs every occurrence.
+ */
+final class LogAggregator {
+
+    private static final long INTERVAL_MILLIS = AccessController.doPrivileged(
+        new PrivilegedAction<Long>() {
+            public Long run() {
+                return Long.getLong(
+                    "com.sun.corba.se.impl.logging.aggregateInterval", 0L ) ;
+            }
+        } ).longValue() ;
+
+    private static final long INTERVAL_NANOS = INTERVAL_MILLIS * 1000000L ;
+
+    private static final ConcurrentMap<String,Counter> counters =
+        new ConcurrentHashMap<String,Counter>() ;
+
+    private static final class Counter {
+        long windowStart ;
+        int suppressed ;
+        // where the count is to be logged; set by the last suppression
+        Logger logger ;
+        Level level ;
+        // set once the flush timer has dropped this counter from the map
+        boolean removed ;
+
+        Counter( long now )
+        {
+            windowStart = now ;
+        }
+    }
+
+    /**
+     * Starts the flush timer when the class is first used, which is when
+     * the first occurrence is suppressed.
+     */
+    private static final class Flusher extends TimerTask {
+        static {
+            AccessController.doPrivileged( new PrivilegedAction<Void>() {
+                public Void run() {
+                    // The timer thread inherits the context class loader
+                    // of this thread, which may be an application's, and
+                    // would keep that loader alive for the life of the VM.
+                    Thread thread = Thread.currentThread() ;
+                    ClassLoader ccl = thread.getContextClassLoader() ;
+                    thread.setContextClassLoader( null ) ;
+                    try {
+                        new Timer( "CORBA log aggregator", true ).schedule(
+                            new Flusher(), INTERVAL_MILLIS, INTERVAL_MILLIS ) ;
+                    } finally {
+                        thread.setContextClassLoader( ccl ) ;
+                    }
+                    return null ;
+                }
+            } ) ;
+        }
+
+        static void start() {}
+
+        public void run()
+        {
+            flush( System.nanoTime() ) ;
+        }
+    }
+
+    private LogAggregator() {}
+
+    /**
+     * Returns true if the message <code>key</code> should be logged now,
+     * first logging how many occurrences were suppressed since it was
+     * last logged.
+     */
+    static boolean admit( Logger logger, Level level, String key )
+    {
+        if (INTERVAL_NANOS <= 0)
+            return true ;
+
+        long now = System.nanoTime() ;
+        int suppressed ;
+        long elapsed ;
+        for (;;) {
+            Counter c = counters.get( key ) ;
+            if (c == null) {
+                c = counters.putIfAbsent( key, new Counter( now ) ) ;
+                if (c == null)
+                    return true ;
+            }
+            synchronized (c) {
+                if (c.removed)
+                    continue ;
+                elapsed = now - c.windowStart ;
+                if (elapsed < INTERVAL_NANOS) {
+                    c.suppressed++ ;
+                    c.logger = logger ;
+                    c.level = level ;
+                    Flusher.start() ;
+                    return false ;
+                }
+                suppressed = c.suppressed ;
+                c.suppressed = 0 ;
+                c.windowStart = now ;
+                break ;
+            }
+        }
+
+        report( logger, level, key, suppressed, elapsed ) ;
+        return true ;
+    }
+
+    /**
+     * Logs the count of every key whose interval has passed, and drops
+     * the keys that had no repeats in it, so that the next occurrence of
+     * those is logged in full.
+     */
+    private static void flush( long now )
+    {
+        for (Map.Entry<String,Counter> e : counters.entrySet()) {
+            Counter c = e.getValue() ;
+            int suppressed ;
+            long elapsed ;
+            Logger logger ;
+            Level level ;
+            synchronized (c) {
+                elapsed = now - c.windowStart ;
+                if (elapsed < INTERVAL_NANOS)
+                    continue ;
+                suppressed = c.suppressed ;
+                logger = c.logger ;
+                level = c.level ;
+                c.suppressed = 0 ;
+                c.windowStart = now ;
+                if (suppressed == 0) {
+                    c.removed = true ;
+                    counters.remove( e.getKey(), c ) ;
+                }
+            }
+            report( logger, level, e.getKey(), suppressed, elapsed ) ;
+        }
+    }
+
+    private static void report( Logger logger, Level level, String key,
+        int suppressed, long elapsed )
+    {
+        if (suppressed > 0)
+            logger.log( level, "{0}: {1} more occurrences in the last {2} ms",
+                new Object[] { key, Integer.valueOf( suppressed ),
+                    Long.valueOf( elapsed / 1000000L ) } ) ;
+    }
+}
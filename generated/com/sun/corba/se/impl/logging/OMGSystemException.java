@@ -70,6 +70,13 @@ public class OMGSystemException extends LogWrapperBase {
         return wrapper ;
     } 
     
+    protected void doLog( Level level, String key, Object[] params, Class wrapperClass,
+        Throwable thr )
+    {
+        if (LogAggregator.admit( logger, level, key ))
+            super.doLog( level, key, params, wrapperClass, thr ) ;
+    }
+    
     ///////////////////////////////////////////////////////////
     // BAD_CONTEXT
     ///////////////////////////////////////////////////////////
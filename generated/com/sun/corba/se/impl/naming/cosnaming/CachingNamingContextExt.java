@@ -0,0 +1,509 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.sun.corba.se.impl.naming.cosnaming;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.omg.CORBA.BAD_PARAM;
+import org.omg.CORBA.LocalObject;
+import org.omg.CosNaming.Binding;
+import org.omg.CosNaming.BindingHolder;
+import org.omg.CosNaming.BindingIterator;
+import org.omg.CosNaming.BindingIteratorHolder;
+import org.omg.CosNaming.BindingListHolder;
+import org.omg.CosNaming.NameComponent;
+import org.omg.CosNaming.NamingContext;
+import org.omg.CosNaming.NamingContextExt;
+import org.omg.CosNaming.NamingContextExtPackage.InvalidAddress;
+import org.omg.CosNaming.NamingContextPackage.AlreadyBound;
+import org.omg.CosNaming.NamingContextPackage.CannotProceed;
+import org.omg.CosNaming.NamingContextPackage.InvalidName;
+import org.omg.CosNaming.NamingContextPackage.NotEmpty;
+import org.omg.CosNaming.NamingContextPackage.NotFound;
+
+/**
+ * A client side <code>NamingContextExt</code> that remembers the object
+ * references resolved through it, so that a client which looks up the
+ * same names over and over pays for one round trip to the name server
+ * per name rather than one per lookup.
+ *
+ * <p>The cache holds at most <code>maxEntries</code> names, evicting the
+ * least recently used, and an entry is dropped <code>ttlMillis</code>
+ * after it was resolved, so that bindings changed by other clients are
+ * eventually seen.  Changes made through this wrapper (bind, rebind,
+ * unbind and so on) invalidate the name and every cached name below it
+ * at once.  Failed lookups are never cached.
+ *
+ * <p>{@link #list} asks the server for at least <code>batchSize</code>
+ * bindings at a time and hands them out from a local iterator, so a
+ * client walking a large context with a small <code>how_many</code>
+ * does not make one call per chunk.  The iterator returned is local to
+ * this process and must not be passed to another ORB.
+ *
+ * <p>This class is thread safe.
+ */
+public class CachingNamingContextExt extends LocalObject
+    implements NamingContextExt
+{
+    private static final long serialVersionUID = 4372536420744393547L;
+
+    /** The number of bindings fetched per call by {@link #list}. */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final NamingContextExt delegate;
+    private final long ttlNanos;
+    private final int batchSize;
+    private final Map<String, CacheEntry> cache;
+
+    /**
+     * Bumped by every invalidation, so that a resolve which raced with
+     * an update does not put back the reference the update replaced.
+     */
+    private long generation;
+
+    private static final class CacheEntry {
+        final org.omg.CORBA.Object obj;
+        final long expires;
+
+        CacheEntry(org.omg.CORBA.Object obj, long expires) {
+            this.obj = obj;
+            this.expires = expires;
+        }
+    }
+
+    /**
+     * Creates a cache of at most <code>maxEntries</code> names in front
+     * of <code>delegate</code>.  Entries expire <code>ttlMillis</code>
+     * after they were resolved; zero or less means never.
+     */
+    public CachingNamingContextExt(NamingContextExt delegate,
+                                   int maxEntries, long ttlMillis) {
+        this(delegate, maxEntries, ttlMillis, DEFAULT_BATCH_SIZE);
+    }
+
+    public CachingNamingContextExt(NamingContextExt delegate,
+                                   final int maxEntries, long ttlMillis,
+                                   int batchSize) {
+        if (delegate == null)
+            throw new NullPointerException("delegate");
+        if (maxEntries <= 0 || batchSize <= 0)
+            throw new IllegalArgumentException();
+        this.delegate = delegate;
+        this.ttlNanos = (ttlMillis > 0) ? ttlMillis * 1000000L : 0;
+        this.batchSize = batchSize;
+        this.cache = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> e) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /** Returns the context this cache is in front of. */
+    public NamingContextExt getDelegate() {
+        return delegate;
+    }
+
+    /** Drops every cached name. */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+            generation++;
+        }
+    }
+
+    //
+    // Lookups
+    //
+
+    public org.omg.CORBA.Object resolve(NameComponent[] n)
+        throws NotFound, CannotProceed, InvalidName
+    {
+        String key = key(n);
+        if (key == null)
+            return delegate.resolve(n);
+        long gen;
+        org.omg.CORBA.Object obj;
+        synchronized (cache) {
+            obj = lookup(key);
+            gen = generation;
+        }
+        if (obj == null) {
+            obj = delegate.resolve(n);
+            store(key, obj, gen);
+        }
+        return obj;
+    }
+
+    public org.omg.CORBA.Object resolve_str(String sn)
+        throws NotFound, CannotProceed, InvalidName
+    {
+        String key = key(parse(sn));
+        if (key == null)
+            return delegate.resolve_str(sn);
+        long gen;
+        org.omg.CORBA.Object obj;
+        synchronized (cache) {
+            obj = lookup(key);
+            gen = generation;
+        }
+        if (obj == null) {
+            obj = delegate.resolve_str(sn);
+            store(key, obj, gen);
+        }
+        return obj;
+    }
+
+    /** Called with the cache locked. */
+    private org.omg.CORBA.Object lookup(String key) {
+        CacheEntry e = cache.get(key);
+        if (e == null)
+            return null;
+        if (ttlNanos != 0 && System.nanoTime() - e.expires >= 0) {
+            cache.remove(key);
+            return null;
+        }
+        return e.obj;
+    }
+
+    private void store(String key, org.omg.CORBA.Object obj, long gen) {
+        if (obj == null)
+            return;
+        synchronized (cache) {
+            if (gen == generation)
+                cache.put(key, new CacheEntry(obj, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    /**
+     * Drops the cached entry for <code>n</code> and for every name that
+     * resolves through it, since rebinding a context changes what the
+     * names below it refer to.
+     */
+    private void invalidate(NameComponent[] n) {
+        String key = key(n);
+        if (key == null) {
+            clear();
+            return;
+        }
+        String prefix = key + "/";
+        synchronized (cache) {
+            generation++;
+            cache.remove(key);
+            Iterator<String> i = cache.keySet().iterator();
+            while (i.hasNext()) {
+                if (i.next().startsWith(prefix))
+                    i.remove();
+            }
+        }
+    }
+
+    //
+    // Updates; all of these invalidate the name both before and after
+    // the call to the server.  The first keeps this client from reading
+    // its own stale entry while the update is in flight; the second
+    // bumps the generation again, so that a resolve which started in
+    // between cannot cache the reference the update replaced.
+    //
+
+    public void bind(NameComponent[] n, org.omg.CORBA.Object obj)
+        throws NotFound, CannotProceed, InvalidName, AlreadyBound
+    {
+        invalidate(n);
+        try {
+            delegate.bind(n, obj);
+        } finally {
+            invalidate(n);
+        }
+    }
+
+    public void bind_context(NameComponent[] n, NamingContext nc)
+        throws NotFound, CannotProceed, InvalidName, AlreadyBound
+    {
+        invalidate(n);
+        try {
+            delegate.bind_context(n, nc);
+        } finally {
+            invalidate(n);
+        }
+    }
+
+    public void rebind(NameComponent[] n, org.omg.CORBA.Object obj)
+        throws NotFound, CannotProceed, InvalidName
+    {
+        invalidate(n);
+        try {
+            delegate.rebind(n, obj);
+        } finally {
+            invalidate(n);
+        }
+    }
+
+    public void rebind_context(NameComponent[] n, NamingContext nc)
+        throws NotFound, CannotProceed, InvalidName
+    {
+        invalidate(n);
+        try {
+            delegate.rebind_context(n, nc);
+        } finally {
+            invalidate(n);
+        }
+    }
+
+    public void unbind(NameComponent[] n)
+        throws NotFound, CannotProceed, InvalidName
+    {
+        invalidate(n);
+        try {
+            delegate.unbind(n);
+        } finally {
+            invalidate(n);
+        }
+    }
+
+    public NamingContext bind_new_context(NameComponent[] n)
+        throws NotFound, AlreadyBound, CannotProceed, InvalidName
+    {
+        invalidate(n);
+        try {
+            return delegate.bind_new_context(n);
+        } finally {
+            invalidate(n);
+        }
+    }
+
+    public void destroy() throws NotEmpty {
+        clear();
+        try {
+            delegate.destroy();
+        } finally {
+            clear();
+        }
+    }
+
+    //
+    // Everything else goes straight to the server.
+    //
+
+    public NamingContext new_context() {
+        return delegate.new_context();
+    }
+
+    public String to_string(NameComponent[] n) throws InvalidName {
+        return delegate.to_string(n);
+    }
+
+    public NameComponent[] to_name(String sn) throws InvalidName {
+        return delegate.to_name(sn);
+    }
+
+    public String to_url(String addr, String sn)
+        throws InvalidAddress, InvalidName
+    {
+        return delegate.to_url(addr, sn);
+    }
+
+    public void list(int how_many, BindingListHolder bl, BindingIteratorHolder bi) {
+        if (how_many < 0)
+            throw new BAD_PARAM("how_many must not be negative");
+        if (how_many >= batchSize) {
+            delegate.list(how_many, bl, bi);
+            return;
+        }
+        BindingListHolder first = new BindingListHolder();
+        BindingIteratorHolder rest = new BindingIteratorHolder();
+        delegate.list(batchSize, first, rest);
+
+        Binding[] all = (first.value != null) ? first.value : new Binding[0];
+        int n = Math.min(how_many, all.length);
+        bl.value = new Binding[n];
+        System.arraycopy(all, 0, bl.value, 0, n);
+        if (n == all.length && rest.value == null) {
+            bi.value = null;
+        } else {
+            bi.value = new BatchingIterator(rest.value, all, n, batchSize);
+        }
+    }
+
+    /**
+     * Serves bindings from a local buffer, refilling it from the server's
+     * iterator <code>batchSize</code> bindings at a time.
+     */
+    static final class BatchingIterator extends LocalObject
+        implements BindingIterator
+    {
+        private static final long serialVersionUID = -2019386104530743186L;
+
+        private BindingIterator remote;
+        private Binding[] buffer;
+        private int pos;
+        private final int batchSize;
+
+        BatchingIterator(BindingIterator remote, Binding[] buffer, int pos,
+                         int batchSize) {
+            this.remote = remote;
+            this.buffer = buffer;
+            this.pos = pos;
+            this.batchSize = batchSize;
+        }
+
+        /** Makes sure the buffer is not empty; false at the end. */
+        private boolean fill() {
+            while (pos == buffer.length) {
+                if (remote == null)
+                    return false;
+                BindingListHolder h = new BindingListHolder();
+                if (!remote.next_n(batchSize, h)
+                        || h.value == null || h.value.length == 0) {
+                    release();
+                    return false;
+                }
+                buffer = h.value;
+                pos = 0;
+            }
+            return true;
+        }
+
+        public synchronized boolean next_one(BindingHolder b) {
+            if (!fill()) {
+                b.value = new Binding(new NameComponent[0],
+                                      org.omg.CosNaming.BindingType.nobject);
+                return false;
+            }
+            b.value = buffer[pos++];
+            return true;
+        }
+
+        public synchronized boolean next_n(int how_many, BindingListHolder bl) {
+            if (how_many <= 0)
+                throw new BAD_PARAM("how_many must be positive");
+            List<Binding> out = new ArrayList<Binding>(
+                Math.min(how_many, batchSize));
+            while (out.size() < how_many && fill()) {
+                int n = Math.min(how_many - out.size(), buffer.length - pos);
+                for (int i = 0; i < n; i++)
+                    out.add(buffer[pos++]);
+            }
+            bl.value = out.toArray(new Binding[out.size()]);
+            return bl.value.length > 0;
+        }
+
+        public synchronized void destroy() {
+            buffer = new Binding[0];
+            pos = 0;
+            release();
+        }
+
+        private void release() {
+            if (remote != null) {
+                try {
+                    remote.destroy();
+                } catch (org.omg.CORBA.SystemException e) {
+                    // the server may already have reaped it
+                }
+                remote = null;
+            }
+        }
+    }
+
+    //
+    // Local stringified-name handling, as in the Interoperable Naming
+    // Service: components are separated by '/', id and kind by '.', and
+    // '\' escapes either.  Both resolve and resolve_str use the same key
+    // so that an update made with one invalidates the other.
+    //
+
+    /**
+     * Returns the cache key for <code>n</code>, or null if the name is
+     * not one this class will cache.
+     */
+    static String key(NameComponent[] n) {
+        if (n == null || n.length == 0)
+            return null;
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < n.length; i++) {
+            if (n[i] == null || n[i].id == null || n[i].kind == null)
+                return null;
+            if (i > 0)
+                sb.append('/');
+            escape(sb, n[i].id);
+            sb.append('.');
+            escape(sb, n[i].kind);
+        }
+        return sb.toString();
+    }
+
+    private static void escape(StringBuilder sb, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '/' || c == '.' || c == '\\')
+                sb.append('\\');
+            sb.append(c);
+        }
+    }
+
+    /**
+     * Parses a stringified name without a call to the server.  Returns
+     * null for anything malformed; the server then reports the error.
+     */
+    static NameComponent[] parse(String sn) {
+        if (sn == null || sn.length() == 0)
+            return null;
+        List<NameComponent> comps = new ArrayList<NameComponent>();
+        StringBuilder id = new StringBuilder();
+        StringBuilder kind = null;
+        for (int i = 0; i < sn.length(); i++) {
+            char c = sn.charAt(i);
+            if (c == '\\') {
+                if (++i == sn.length())
+                    return null;
+                (kind != null ? kind : id).append(sn.charAt(i));
+            } else if (c == '.') {
+                if (kind != null)
+                    return null;
+                kind = new StringBuilder();
+            } else if (c == '/') {
+                if (!component(comps, id, kind))
+                    return null;
+                id = new StringBuilder();
+                kind = null;
+            } else {
+                (kind != null ? kind : id).append(c);
+            }
+        }
+        if (!component(comps, id, kind))
+            return null;
+        return comps.toArray(new NameComponent[comps.size()]);
+    }
+
+    private static boolean component(List<NameComponent> comps,
+                                     StringBuilder id, StringBuilder kind) {
+        // "." alone is the empty id and kind; otherwise the id is required
+        if (id.length() == 0 && (kind == null || kind.length() != 0))
+            return false;
+        comps.add(new NameComponent(id.toString(),
+                                    kind == null ? "" : kind.toString()));
+        return true;
+    }
+}
@@ -10,11 +10,25 @@ package com.sun.corba.se.spi.activation;
 
 public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements com.sun.corba.se.spi.activation.Activator
 {
+  final public static java.lang.Class _opsClass = ActivatorOperations.class;
 
 
   // A new ORB started server registers itself with the Activator
   public void active (int serverId, com.sun.corba.se.spi.activation.Server serverObj) throws com.sun.corba.se.spi.activation.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("active", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ActivatorOperations) $so.servant).active (serverId, serverObj);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("active", true);
@@ -40,6 +54,23 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   // Install a particular kind of endpoint
   public void registerEndpoints (int serverId, String orbId, com.sun.corba.se.spi.activation.EndPointInfo[] endPointInfo) throws com.sun.corba.se.spi.activation.ServerNotRegistered, com.sun.corba.se.spi.activation.NoSuchEndPoint, com.sun.corba.se.spi.activation.ORBAlreadyRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("registerEndpoints", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.spi.activation.EndpointInfoListHelper.write ($copy, endPointInfo);
+                        endPointInfo = com.sun.corba.se.spi.activation.EndpointInfoListHelper.read ($copy.create_input_stream ());
+                        ((ActivatorOperations) $so.servant).registerEndpoints (serverId, orbId, endPointInfo);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("registerEndpoints", true);
@@ -70,6 +101,23 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   // list active servers
   public int[] getActiveServers ()
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getActiveServers", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        int $result[] = ((ActivatorOperations) $so.servant).getActiveServers ();
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.spi.activation.ServerIdsHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.spi.activation.ServerIdsHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getActiveServers", true);
@@ -91,6 +139,19 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   // If the server is not running, start it up.
   public void activate (int serverId) throws com.sun.corba.se.spi.activation.ServerAlreadyActive, com.sun.corba.se.spi.activation.ServerNotRegistered, com.sun.corba.se.spi.activation.ServerHeldDown
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("activate", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ActivatorOperations) $so.servant).activate (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("activate", true);
@@ -119,6 +180,19 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   // If the server is running, shut it down
   public void shutdown (int serverId) throws com.sun.corba.se.spi.activation.ServerNotActive, com.sun.corba.se.spi.activation.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("shutdown", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ActivatorOperations) $so.servant).shutdown (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("shutdown", true);
@@ -145,6 +219,19 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   // currently running, this method will activate it.
   public void install (int serverId) throws com.sun.corba.se.spi.activation.ServerNotRegistered, com.sun.corba.se.spi.activation.ServerHeldDown, com.sun.corba.se.spi.activation.ServerAlreadyInstalled
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("install", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ActivatorOperations) $so.servant).install (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("install", true);
@@ -173,6 +260,23 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   // list all registered ORBs for a server
   public String[] getORBNames (int serverId) throws com.sun.corba.se.spi.activation.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getORBNames", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        String $result[] = ((ActivatorOperations) $so.servant).getORBNames (serverId);
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.spi.activation.ORBidListHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.spi.activation.ORBidListHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getORBNames", true);
@@ -198,6 +302,19 @@ public class _ActivatorStub extends org.omg.CORBA.portable.ObjectImpl implements
   // After this hook completes, the server may still be running.
   public void uninstall (int serverId) throws com.sun.corba.se.spi.activation.ServerNotRegistered, com.sun.corba.se.spi.activation.ServerHeldDown, com.sun.corba.se.spi.activation.ServerAlreadyUninstalled
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("uninstall", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ActivatorOperations) $so.servant).uninstall (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("uninstall", true);
@@ -17,10 +17,17 @@ public abstract class _InitialNameServiceImplBase extends org.omg.CORBA.portable
   {
   }
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  // Operation name to case index, by the String hash of the name
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("bind", new java.lang.Integer (0));
+    switch ($method.hashCode ())
+    {
+      case 3023933:
+        if ($method.equals ("bind"))
+          return 0;
+        break;
+    }
+    return -1;
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -28,11 +35,11 @@ public abstract class _InitialNameServiceImplBase extends org.omg.CORBA.portable
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
 
   // bind initial name
@@ -17,13 +17,29 @@ public abstract class _LocatorImplBase extends org.omg.CORBA.portable.ObjectImpl
   {
   }
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  // Operation name to case index, by the String hash of the name
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("locateServer", new java.lang.Integer (0));
-    _methods.put ("locateServerForORB", new java.lang.Integer (1));
-    _methods.put ("getEndpoint", new java.lang.Integer (2));
-    _methods.put ("getServerPortForType", new java.lang.Integer (3));
+    switch ($method.hashCode ())
+    {
+      case -122362571:
+        if ($method.equals ("locateServer"))
+          return 0;
+        break;
+      case 103013099:
+        if ($method.equals ("locateServerForORB"))
+          return 1;
+        break;
+      case -475964661:
+        if ($method.equals ("getEndpoint"))
+          return 2;
+        break;
+      case -76838935:
+        if ($method.equals ("getServerPortForType"))
+          return 3;
+        break;
+    }
+    return -1;
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -31,11 +47,11 @@ public abstract class _LocatorImplBase extends org.omg.CORBA.portable.ObjectImpl
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
 
   // Starts the server if it is not already running.
@@ -10,11 +10,29 @@ package com.sun.corba.se.spi.activation;
 
 public class _LocatorStub extends org.omg.CORBA.portable.ObjectImpl implements com.sun.corba.se.spi.activation.Locator
 {
+  final public static java.lang.Class _opsClass = LocatorOperations.class;
 
 
   // Starts the server if it is not already running.
   public com.sun.corba.se.spi.activation.LocatorPackage.ServerLocation locateServer (int serverId, String endPoint) throws com.sun.corba.se.spi.activation.NoSuchEndPoint, com.sun.corba.se.spi.activation.ServerNotRegistered, com.sun.corba.se.spi.activation.ServerHeldDown
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("locateServer", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        com.sun.corba.se.spi.activation.LocatorPackage.ServerLocation $result = ((LocatorOperations) $so.servant).locateServer (serverId, endPoint);
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("locateServer", true);
@@ -45,6 +63,23 @@ public class _LocatorStub extends org.omg.CORBA.portable.ObjectImpl implements c
   // Starts the server if it is not already running.
   public com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationPerORB locateServerForORB (int serverId, String orbId) throws com.sun.corba.se.spi.activation.InvalidORBid, com.sun.corba.se.spi.activation.ServerNotRegistered, com.sun.corba.se.spi.activation.ServerHeldDown
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("locateServerForORB", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationPerORB $result = ((LocatorOperations) $so.servant).locateServerForORB (serverId, orbId);
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationPerORBHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationPerORBHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("locateServerForORB", true);
@@ -75,6 +110,19 @@ public class _LocatorStub extends org.omg.CORBA.portable.ObjectImpl implements c
   // get the port for the endpoint of the locator
   public int getEndpoint (String endPointType) throws com.sun.corba.se.spi.activation.NoSuchEndPoint
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getEndpoint", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        int $result = ((LocatorOperations) $so.servant).getEndpoint (endPointType);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getEndpoint", true);
@@ -100,6 +148,23 @@ public class _LocatorStub extends org.omg.CORBA.portable.ObjectImpl implements c
   // to pick a particular port type.
   public int getServerPortForType (com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationPerORB location, String endPointType) throws com.sun.corba.se.spi.activation.NoSuchEndPoint
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getServerPortForType", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationPerORBHelper.write ($copy, location);
+                        location = com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationPerORBHelper.read ($copy.create_input_stream ());
+                        int $result = ((LocatorOperations) $so.servant).getServerPortForType (location, endPointType);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getServerPortForType", true);
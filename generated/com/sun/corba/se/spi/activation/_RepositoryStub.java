@@ -10,11 +10,29 @@ package com.sun.corba.se.spi.activation;
 
 public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implements com.sun.corba.se.spi.activation.Repository
 {
+  final public static java.lang.Class _opsClass = RepositoryOperations.class;
 
 
   // always uninstalled.
   public int registerServer (com.sun.corba.se.spi.activation.RepositoryPackage.ServerDef serverDef) throws com.sun.corba.se.spi.activation.ServerAlreadyRegistered, com.sun.corba.se.spi.activation.BadServerDefinition
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("registerServer", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.spi.activation.RepositoryPackage.ServerDefHelper.write ($copy, serverDef);
+                        serverDef = com.sun.corba.se.spi.activation.RepositoryPackage.ServerDefHelper.read ($copy.create_input_stream ());
+                        int $result = ((RepositoryOperations) $so.servant).registerServer (serverDef);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("registerServer", true);
@@ -42,6 +60,19 @@ public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implement
   // unregister server definition
   public void unregisterServer (int serverId) throws com.sun.corba.se.spi.activation.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("unregisterServer", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((RepositoryOperations) $so.servant).unregisterServer (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("unregisterServer", true);
@@ -66,6 +97,23 @@ public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implement
   // get server definition
   public com.sun.corba.se.spi.activation.RepositoryPackage.ServerDef getServer (int serverId) throws com.sun.corba.se.spi.activation.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getServer", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        com.sun.corba.se.spi.activation.RepositoryPackage.ServerDef $result = ((RepositoryOperations) $so.servant).getServer (serverId);
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.spi.activation.RepositoryPackage.ServerDefHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.spi.activation.RepositoryPackage.ServerDefHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getServer", true);
@@ -91,6 +139,19 @@ public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implement
   // Return whether the server has been installed
   public boolean isInstalled (int serverId) throws com.sun.corba.se.spi.activation.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("isInstalled", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        boolean $result = ((RepositoryOperations) $so.servant).isInstalled (serverId);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("isInstalled", true);
@@ -116,6 +177,19 @@ public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implement
   // if the server is currently marked as installed.
   public void install (int serverId) throws com.sun.corba.se.spi.activation.ServerNotRegistered, com.sun.corba.se.spi.activation.ServerAlreadyInstalled
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("install", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((RepositoryOperations) $so.servant).install (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("install", true);
@@ -142,6 +216,19 @@ public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implement
   // if the server is currently marked as uninstalled.
   public void uninstall (int serverId) throws com.sun.corba.se.spi.activation.ServerNotRegistered, com.sun.corba.se.spi.activation.ServerAlreadyUninstalled
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("uninstall", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((RepositoryOperations) $so.servant).uninstall (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("uninstall", true);
@@ -168,6 +255,23 @@ public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implement
   // list registered servers
   public int[] listRegisteredServers ()
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("listRegisteredServers", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        int $result[] = ((RepositoryOperations) $so.servant).listRegisteredServers ();
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.spi.activation.ServerIdsHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.spi.activation.ServerIdsHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("listRegisteredServers", true);
@@ -189,6 +293,23 @@ public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implement
   // servers.
   public String[] getApplicationNames ()
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getApplicationNames", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        String $result[] = ((RepositoryOperations) $so.servant).getApplicationNames ();
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.spi.activation.RepositoryPackage.StringSeqHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.spi.activation.RepositoryPackage.StringSeqHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getApplicationNames", true);
@@ -210,6 +331,19 @@ public class _RepositoryStub extends org.omg.CORBA.portable.ObjectImpl implement
   // Find the ServerID associated with the given application name.
   public int getServerID (String applicationName) throws com.sun.corba.se.spi.activation.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getServerID", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        int $result = ((RepositoryOperations) $so.servant).getServerID (applicationName);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getServerID", true);
@@ -20,12 +20,25 @@ public abstract class _ServerImplBase extends org.omg.CORBA.portable.ObjectImpl
   {
   }
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  // Operation name to case index, by the String hash of the name
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("shutdown", new java.lang.Integer (0));
-    _methods.put ("install", new java.lang.Integer (1));
-    _methods.put ("uninstall", new java.lang.Integer (2));
+    switch ($method.hashCode ())
+    {
+      case -169343402:
+        if ($method.equals ("shutdown"))
+          return 0;
+        break;
+      case 1957569947:
+        if ($method.equals ("install"))
+          return 1;
+        break;
+      case -625596190:
+        if ($method.equals ("uninstall"))
+          return 2;
+        break;
+    }
+    return -1;
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -33,11 +46,11 @@ public abstract class _ServerImplBase extends org.omg.CORBA.portable.ObjectImpl
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
 
   /** Shutdown this server.  Returns after orb.shutdown() completes.
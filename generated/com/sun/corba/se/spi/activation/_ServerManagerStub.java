@@ -10,11 +10,25 @@ package com.sun.corba.se.spi.activation;
 
 public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implements com.sun.corba.se.spi.activation.ServerManager
 {
+  final public static java.lang.Class _opsClass = ServerManagerOperations.class;
 
 
   // A new ORB started server registers itself with the Activator
   public void active (int serverId, com.sun.corba.se.spi.activation.Server serverObj) throws com.sun.corba.se.spi.activation.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("active", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ServerManagerOperations) $so.servant).active (serverId, serverObj);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("active", true);
@@ -40,6 +54,23 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   // Install a particular kind of endpoint
   public void registerEndpoints (int serverId, String orbId, com.sun.corba.se.spi.activation.EndPointInfo[] endPointInfo) throws com.sun.corba.se.spi.activation.ServerNotRegistered, com.sun.corba.se.spi.activation.NoSuchEndPoint, com.sun.corba.se.spi.activation.ORBAlreadyRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("registerEndpoints", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.spi.activation.EndpointInfoListHelper.write ($copy, endPointInfo);
+                        endPointInfo = com.sun.corba.se.spi.activation.EndpointInfoListHelper.read ($copy.create_input_stream ());
+                        ((ServerManagerOperations) $so.servant).registerEndpoints (serverId, orbId, endPointInfo);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("registerEndpoints", true);
@@ -70,6 +101,23 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   // list active servers
   public int[] getActiveServers ()
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getActiveServers", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        int $result[] = ((ServerManagerOperations) $so.servant).getActiveServers ();
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.spi.activation.ServerIdsHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.spi.activation.ServerIdsHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getActiveServers", true);
@@ -91,6 +139,19 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   // If the server is not running, start it up.
   public void activate (int serverId) throws com.sun.corba.se.spi.activation.ServerAlreadyActive, com.sun.corba.se.spi.activation.ServerNotRegistered, com.sun.corba.se.spi.activation.ServerHeldDown
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("activate", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ServerManagerOperations) $so.servant).activate (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("activate", true);
@@ -119,6 +180,19 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   // If the server is running, shut it down
   public void shutdown (int serverId) throws com.sun.corba.se.spi.activation.ServerNotActive, com.sun.corba.se.spi.activation.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("shutdown", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ServerManagerOperations) $so.servant).shutdown (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("shutdown", true);
@@ -145,6 +219,19 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   // currently running, this method will activate it.
   public void install (int serverId) throws com.sun.corba.se.spi.activation.ServerNotRegistered, com.sun.corba.se.spi.activation.ServerHeldDown, com.sun.corba.se.spi.activation.ServerAlreadyInstalled
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("install", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ServerManagerOperations) $so.servant).install (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("install", true);
@@ -173,6 +260,23 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   // list all registered ORBs for a server
   public String[] getORBNames (int serverId) throws com.sun.corba.se.spi.activation.ServerNotRegistered
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getORBNames", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        String $result[] = ((ServerManagerOperations) $so.servant).getORBNames (serverId);
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.spi.activation.ORBidListHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.spi.activation.ORBidListHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getORBNames", true);
@@ -198,6 +302,19 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   // After this hook completes, the server may still be running.
   public void uninstall (int serverId) throws com.sun.corba.se.spi.activation.ServerNotRegistered, com.sun.corba.se.spi.activation.ServerHeldDown, com.sun.corba.se.spi.activation.ServerAlreadyUninstalled
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("uninstall", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((ServerManagerOperations) $so.servant).uninstall (serverId);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("uninstall", true);
@@ -226,6 +343,23 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   // Starts the server if it is not already running.
   public com.sun.corba.se.spi.activation.LocatorPackage.ServerLocation locateServer (int serverId, String endPoint) throws com.sun.corba.se.spi.activation.NoSuchEndPoint, com.sun.corba.se.spi.activation.ServerNotRegistered, com.sun.corba.se.spi.activation.ServerHeldDown
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("locateServer", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        com.sun.corba.se.spi.activation.LocatorPackage.ServerLocation $result = ((ServerManagerOperations) $so.servant).locateServer (serverId, endPoint);
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("locateServer", true);
@@ -256,6 +390,23 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   // Starts the server if it is not already running.
   public com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationPerORB locateServerForORB (int serverId, String orbId) throws com.sun.corba.se.spi.activation.InvalidORBid, com.sun.corba.se.spi.activation.ServerNotRegistered, com.sun.corba.se.spi.activation.ServerHeldDown
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("locateServerForORB", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationPerORB $result = ((ServerManagerOperations) $so.servant).locateServerForORB (serverId, orbId);
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationPerORBHelper.write ($copy, $result);
+                        $result = com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationPerORBHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("locateServerForORB", true);
@@ -286,6 +437,19 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   // get the port for the endpoint of the locator
   public int getEndpoint (String endPointType) throws com.sun.corba.se.spi.activation.NoSuchEndPoint
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getEndpoint", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        int $result = ((ServerManagerOperations) $so.servant).getEndpoint (endPointType);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getEndpoint", true);
@@ -311,6 +475,23 @@ public class _ServerManagerStub extends org.omg.CORBA.portable.ObjectImpl implem
   // to pick a particular port type.
   public int getServerPortForType (com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationPerORB location, String endPointType) throws com.sun.corba.se.spi.activation.NoSuchEndPoint
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("getServerPortForType", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationPerORBHelper.write ($copy, location);
+                        location = com.sun.corba.se.spi.activation.LocatorPackage.ServerLocationPerORBHelper.read ($copy.create_input_stream ());
+                        int $result = ((ServerManagerOperations) $so.servant).getServerPortForType (location, endPointType);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("getServerPortForType", true);
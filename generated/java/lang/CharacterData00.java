@@ -69,23 +69,32 @@ class CharacterData00 extends CharacterData {
 
     int getProperties(int ch) {
         char offset = (char)ch;
-        int props = A[Y[X[offset>>5]|((offset>>1)&0xF)]|(offset&0x1)];
+        int props = PROPS[BLOCKS[offset>>8]|(offset&0xFF)];
         return props;
     }
 
+    // X, Y and A flattened by CharacterDataTable when the class is initialized
+    static final char[] BLOCKS;
+    static final int[] PROPS;
+
+    // Bitsets of the BMP for the most frequently tested identifier classes
+    static final long[] JAVA_IDENTIFIER_START;
+    static final long[] JAVA_IDENTIFIER_PART;
+    static final long[] WHITESPACE;
+
     int getType(int ch) {
         int props = getProperties(ch);
         return (props & 0x1F);
     }
 
     boolean isJavaIdentifierStart(int ch) {
-        int props = getProperties(ch);
-        return ((props & 0x00007000) >= 0x00005000);
+        char offset = (char)ch;
+        return ((JAVA_IDENTIFIER_START[offset>>6] & (1L << offset)) != 0);
     }
 
     boolean isJavaIdentifierPart(int ch) {
-        int props = getProperties(ch);
-        return ((props & 0x00003000) != 0);
+        char offset = (char)ch;
+        return ((JAVA_IDENTIFIER_PART[offset>>6] & (1L << offset)) != 0);
     }
 
     boolean isUnicodeIdentifierStart(int ch) {
@@ -326,8 +335,8 @@ class CharacterData00 extends CharacterData {
     }
 
     boolean isWhitespace(int ch) {
-        int props = getProperties(ch);
-        return ((props & 0x00007000) == 0x00004000);
+        char offset = (char)ch;
+        return ((WHITESPACE[offset>>6] & (1L << offset)) != 0);
     }
 
     byte getDirectionality(int ch) {
@@ -1104,5 +1113,12 @@ class CharacterData00 extends CharacterData {
             }
         }
 
+        CharacterDataTable table = CharacterDataTable.flatten(X, Y, A, 0);
+        BLOCKS = table.blocks;
+        PROPS = table.props;
+        long[][] bits = table.identifierBits(0xE0, 0xEE, 0x10);
+        JAVA_IDENTIFIER_START = bits[0];
+        JAVA_IDENTIFIER_PART = bits[1];
+        WHITESPACE = bits[2];
     }        
 }
@@ -68,10 +68,14 @@ class CharacterData01 extends CharacterData {
 
     int getProperties(int ch) {
         char offset = (char)ch;
-        int props = A[Y[(X[offset>>5]<<4)|((offset>>1)&0xF)]|(offset&0x1)];
+        int props = PROPS[BLOCKS[offset>>8]|(offset&0xFF)];
         return props;
     }
 
+    // X, Y and A flattened by CharacterDataTable when the class is initialized
+    static final char[] BLOCKS;
+    static final int[] PROPS;
+
     int getType(int ch) {
         int props = getProperties(ch);
         return (props & 0x1F);
@@ -447,5 +451,8 @@ class CharacterData01 extends CharacterData {
             }
         }
 
+        CharacterDataTable table = CharacterDataTable.flatten(X, Y, A, 4);
+        BLOCKS = table.blocks;
+        PROPS = table.props;
     }        
 }
@@ -66,11 +66,15 @@ class CharacterData0E extends CharacterData {
      */
 
     int getProperties(int ch) {
-		char offset = (char)ch;
-        int props = A[Y[X[offset>>5]|((offset>>1)&0xF)]|(offset&0x1)];
+        char offset = (char)ch;
+        int props = PROPS[BLOCKS[offset>>8]|(offset&0xFF)];
         return props;
     }
 
+    // X, Y and A flattened by CharacterDataTable when the class is initialized
+    static final char[] BLOCKS;
+    static final int[] PROPS;
+
     int getType(int ch) {
         int props = getProperties(ch);
         return (props & 0x1F);
@@ -355,5 +359,8 @@ class CharacterData0E extends CharacterData {
             }
         }
 
+        CharacterDataTable table = CharacterDataTable.flatten(X, Y, A, 0);
+        BLOCKS = table.blocks;
+        PROPS = table.props;
     }        
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package java.lang;
+
+/**
+ * A flattened, two-stage form of the X/Y/A property tables produced by
+ * GenerateCharacter for one 64K plane.
+ *
+ * The high byte of a character selects a 256-entry block through
+ * {@code blocks}; the low byte then indexes that block in {@code props},
+ * which holds the 32-bit properties themselves.  Identical blocks are
+ * stored once, so a plane costs 512 bytes of index plus 1K per distinct
+ * block, and a lookup is two dependent loads:
+ *
+ * <pre>
+ *     props[blocks[ch >> 8] | (ch &amp; 0xFF)]
+ * </pre>
+ */
+final class CharacterDataTable {
+
+    /** Offset into {@link #props} of the block for each high byte. */
+    final char[] blocks;
+
+    /** The properties, one 256-entry block after another. */
+    final int[] props;
+
+    private CharacterDataTable(char[] blocks, int[] props) {
+        this.blocks = blocks;
+        this.props = props;
+    }
+
+    /**
+     * Flattens the three-stage tables of a CharacterData class.  The
+     * generated lookup is
+     * {@code A[Y[(X[ch>>5]<<yShift)|((ch>>1)&0xF)]|(ch&0x1)]}.
+     */
+    static CharacterDataTable flatten(char[] X, char[] Y, int[] A, int yShift) {
+        char[] blocks = new char[256];
+        int[] props = new int[256 * 16];
+        int[] block = new int[256];
+        // Open-addressed table of block number + 1, keyed by block hash;
+        // there are at most 256 blocks, so it never fills up.
+        int[] slots = new int[512];
+        int count = 0;
+        for (int hi = 0; hi < 256; hi++) {
+            int hash = 1;
+            for (int lo = 0; lo < 256; lo++) {
+                char ch = (char)((hi << 8) | lo);
+                block[lo] = A[Y[(X[ch>>5]<<yShift)|((ch>>1)&0xF)]|(ch&0x1)];
+                hash = 31 * hash + block[lo];
+            }
+            int i = (hash ^ (hash >>> 16)) & (slots.length - 1);
+            int b;
+            while ((b = slots[i] - 1) >= 0 && !sameBlock(props, b << 8, block))
+                i = (i + 1) & (slots.length - 1);
+            if (b < 0) {
+                b = count++;
+                if ((b << 8) == props.length) {
+                    int[] p = new int[props.length * 2];
+                    System.arraycopy(props, 0, p, 0, props.length);
+                    props = p;
+                }
+                System.arraycopy(block, 0, props, b << 8, 256);
+                slots[i] = b + 1;
+            }
+            blocks[hi] = (char)(b << 8);
+        }
+        if ((count << 8) != props.length) {
+            int[] p = new int[count << 8];
+            System.arraycopy(props, 0, p, 0, p.length);
+            props = p;
+        }
+        return new CharacterDataTable(blocks, props);
+    }
+
+    private static boolean sameBlock(int[] props, int offset, int[] block) {
+        for (int i = 0; i < 256; i++) {
+            if (props[offset + i] != block[i])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns, for each element of {@code classes}, a 64K-bit set of the
+     * characters whose identifier class (bits 12-14 of the properties)
+     * is one of that element, where bit <i>k</i> stands for class
+     * <i>k</i>.  Testing a character is then a single load:
+     *
+     * <pre>
+     *     (bits[ch >> 6] &amp; (1L &lt;&lt; ch)) != 0
+     * </pre>
+     *
+     * The sets are built once per distinct block and then copied for
+     * every high byte that shares it, so the cost follows the size of
+     * {@link #props} rather than the 64K characters of the plane.
+     */
+    long[][] identifierBits(int... classes) {
+        int count = props.length >> 8;
+        long[][] words = new long[classes.length][count << 2];
+        for (int b = 0; b < count; b++) {
+            for (int lo = 0; lo < 256; lo++) {
+                int bit = 1 << ((props[(b << 8) | lo] & 0x00007000) >> 12);
+                for (int k = 0; k < classes.length; k++) {
+                    if ((classes[k] & bit) != 0)
+                        words[k][(b << 2) | (lo >> 6)] |= 1L << lo;
+                }
+            }
+        }
+        long[][] bits = new long[classes.length][1024];
+        for (int k = 0; k < classes.length; k++) {
+            for (int hi = 0; hi < 256; hi++)
+                System.arraycopy(words[k], blocks[hi] >> 6, bits[k], hi << 2, 4);
+        }
+        return bits;
+    }
+}
@@ -23,12 +23,25 @@ public abstract class BindingIteratorPOA extends org.omg.PortableServer.Servant
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  // Operation name to case index, by the String hash of the name
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("next_one", new java.lang.Integer (0));
-    _methods.put ("next_n", new java.lang.Integer (1));
-    _methods.put ("destroy", new java.lang.Integer (2));
+    switch ($method.hashCode ())
+    {
+      case 1424733978:
+        if ($method.equals ("next_one"))
+          return 0;
+        break;
+      case -1048795614:
+        if ($method.equals ("next_n"))
+          return 1;
+        break;
+      case 1557372922:
+        if ($method.equals ("destroy"))
+          return 2;
+        break;
+    }
+    return -1;
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -36,11 +49,11 @@ public abstract class BindingIteratorPOA extends org.omg.PortableServer.Servant
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
 
   /**
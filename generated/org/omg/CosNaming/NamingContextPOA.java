@@ -24,19 +24,53 @@ public abstract class NamingContextPOA extends org.omg.PortableServer.Servant
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
+  // Operation name to case index, by the String hash of the name
+  private static int _methodIndex (String $method)
   {
-    _methods.put ("bind", new java.lang.Integer (0));
-    _methods.put ("bind_context", new java.lang.Integer (1));
-    _methods.put ("rebind", new java.lang.Integer (2));
-    _methods.put ("rebind_context", new java.lang.Integer (3));
-    _methods.put ("resolve", new java.lang.Integer (4));
-    _methods.put ("unbind", new java.lang.Integer (5));
-    _methods.put ("list", new java.lang.Integer (6));
-    _methods.put ("new_context", new java.lang.Integer (7));
-    _methods.put ("bind_new_context", new java.lang.Integer (8));
-    _methods.put ("destroy", new java.lang.Integer (9));
+    switch ($method.hashCode ())
+    {
+      case 3023933:
+        if ($method.equals ("bind"))
+          return 0;
+        break;
+      case -1419807827:
+        if ($method.equals ("bind_context"))
+          return 1;
+        break;
+      case -934944528:
+        if ($method.equals ("rebind"))
+          return 2;
+        break;
+      case 1507118432:
+        if ($method.equals ("rebind_context"))
+          return 3;
+        break;
+      case 1097368044:
+        if ($method.equals ("resolve"))
+          return 4;
+        break;
+      case -840745386:
+        if ($method.equals ("unbind"))
+          return 5;
+        break;
+      case 3322014:
+        if ($method.equals ("list"))
+          return 6;
+        break;
+      case 206890512:
+        if ($method.equals ("new_context"))
+          return 7;
+        break;
+      case 1418851598:
+        if ($method.equals ("bind_new_context"))
+          return 8;
+        break;
+      case 1557372922:
+        if ($method.equals ("destroy"))
+          return 9;
+        break;
+    }
+    return -1;
   }
 
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
@@ -44,11 +78,11 @@ public abstract class NamingContextPOA extends org.omg.PortableServer.Servant
                                 org.omg.CORBA.portable.ResponseHandler $rh)
   {
     org.omg.CORBA.portable.OutputStream out = null;
-    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
-    if (__method == null)
+    int __method = _methodIndex ($method);
+    if (__method < 0)
       throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
 
-    switch (__method.intValue ())
+    switch (__method)
     {
 
   /**
@@ -19,6 +19,7 @@ package org.omg.CosNaming;
    */
 public class _BindingIteratorStub extends org.omg.CORBA.portable.ObjectImpl implements org.omg.CosNaming.BindingIterator
 {
+  final public static java.lang.Class _opsClass = BindingIteratorOperations.class;
 
 
   /**
@@ -29,6 +30,23 @@ public class _BindingIteratorStub extends org.omg.CORBA.portable.ObjectImpl impl
        */
   public boolean next_one (org.omg.CosNaming.BindingHolder b)
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("next_one", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        boolean $result = ((BindingIteratorOperations) $so.servant).next_one (b);
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.BindingHelper.write ($copy, b.value);
+                        b.value = org.omg.CosNaming.BindingHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("next_one", true);
@@ -57,6 +75,23 @@ public class _BindingIteratorStub extends org.omg.CORBA.portable.ObjectImpl impl
        */
   public boolean next_n (int how_many, org.omg.CosNaming.BindingListHolder bl)
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("next_n", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        boolean $result = ((BindingIteratorOperations) $so.servant).next_n (how_many, bl);
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.BindingListHelper.write ($copy, bl.value);
+                        bl.value = org.omg.CosNaming.BindingListHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("next_n", true);
@@ -82,6 +117,19 @@ public class _BindingIteratorStub extends org.omg.CORBA.portable.ObjectImpl impl
        */
   public void destroy ()
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("destroy", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((BindingIteratorOperations) $so.servant).destroy ();
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("destroy", true);
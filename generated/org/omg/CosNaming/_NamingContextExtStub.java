@@ -24,6 +24,7 @@ package org.omg.CosNaming;
  */
 public class _NamingContextExtStub extends org.omg.CORBA.portable.ObjectImpl implements org.omg.CosNaming.NamingContextExt
 {
+  final public static java.lang.Class _opsClass = NamingContextExtOperations.class;
 
 
   /**
@@ -38,6 +39,23 @@ public class _NamingContextExtStub extends org.omg.CORBA.portable.ObjectImpl imp
    */
   public String to_string (org.omg.CosNaming.NameComponent[] n) throws org.omg.CosNaming.NamingContextPackage.InvalidName
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("to_string", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.NameHelper.write ($copy, n);
+                        n = org.omg.CosNaming.NameHelper.read ($copy.create_input_stream ());
+                        String $result = ((NamingContextExtOperations) $so.servant).to_string (n);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("to_string", true);
@@ -72,6 +90,23 @@ public class _NamingContextExtStub extends org.omg.CORBA.portable.ObjectImpl imp
    */
   public org.omg.CosNaming.NameComponent[] to_name (String sn) throws org.omg.CosNaming.NamingContextPackage.InvalidName
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("to_name", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        org.omg.CosNaming.NameComponent $result[] = ((NamingContextExtOperations) $so.servant).to_name (sn);
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.NameHelper.write ($copy, $result);
+                        $result = org.omg.CosNaming.NameHelper.read ($copy.create_input_stream ());
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("to_name", true);
@@ -110,6 +145,19 @@ public class _NamingContextExtStub extends org.omg.CORBA.portable.ObjectImpl imp
    */
   public String to_url (String addr, String sn) throws org.omg.CosNaming.NamingContextExtPackage.InvalidAddress, org.omg.CosNaming.NamingContextPackage.InvalidName
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("to_url", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        String $result = ((NamingContextExtOperations) $so.servant).to_url (addr, sn);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("to_url", true);
@@ -151,6 +199,19 @@ public class _NamingContextExtStub extends org.omg.CORBA.portable.ObjectImpl imp
    */
   public org.omg.CORBA.Object resolve_str (String sn) throws org.omg.CosNaming.NamingContextPackage.NotFound, org.omg.CosNaming.NamingContextPackage.CannotProceed, org.omg.CosNaming.NamingContextPackage.InvalidName
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("resolve_str", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.Object $result = ((NamingContextExtOperations) $so.servant).resolve_str (sn);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("resolve_str", true);
@@ -202,6 +263,23 @@ public class _NamingContextExtStub extends org.omg.CORBA.portable.ObjectImpl imp
    */
   public void bind (org.omg.CosNaming.NameComponent[] n, org.omg.CORBA.Object obj) throws org.omg.CosNaming.NamingContextPackage.NotFound, org.omg.CosNaming.NamingContextPackage.CannotProceed, org.omg.CosNaming.NamingContextPackage.InvalidName, org.omg.CosNaming.NamingContextPackage.AlreadyBound
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("bind", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.NameHelper.write ($copy, n);
+                        n = org.omg.CosNaming.NameHelper.read ($copy.create_input_stream ());
+                        ((NamingContextExtOperations) $so.servant).bind (n, obj);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("bind", true);
@@ -252,6 +330,23 @@ public class _NamingContextExtStub extends org.omg.CORBA.portable.ObjectImpl imp
    */
   public void bind_context (org.omg.CosNaming.NameComponent[] n, org.omg.CosNaming.NamingContext nc) throws org.omg.CosNaming.NamingContextPackage.NotFound, org.omg.CosNaming.NamingContextPackage.CannotProceed, org.omg.CosNaming.NamingContextPackage.InvalidName, org.omg.CosNaming.NamingContextPackage.AlreadyBound
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("bind_context", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.NameHelper.write ($copy, n);
+                        n = org.omg.CosNaming.NameHelper.read ($copy.create_input_stream ());
+                        ((NamingContextExtOperations) $so.servant).bind_context (n, nc);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("bind_context", true);
@@ -300,6 +395,23 @@ public class _NamingContextExtStub extends org.omg.CORBA.portable.ObjectImpl imp
    */
   public void rebind (org.omg.CosNaming.NameComponent[] n, org.omg.CORBA.Object obj) throws org.omg.CosNaming.NamingContextPackage.NotFound, org.omg.CosNaming.NamingContextPackage.CannotProceed, org.omg.CosNaming.NamingContextPackage.InvalidName
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("rebind", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.NameHelper.write ($copy, n);
+                        n = org.omg.CosNaming.NameHelper.read ($copy.create_input_stream ());
+                        ((NamingContextExtOperations) $so.servant).rebind (n, obj);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("rebind", true);
@@ -346,6 +458,23 @@ public class _NamingContextExtStub extends org.omg.CORBA.portable.ObjectImpl imp
    */
   public void rebind_context (org.omg.CosNaming.NameComponent[] n, org.omg.CosNaming.NamingContext nc) throws org.omg.CosNaming.NamingContextPackage.NotFound, org.omg.CosNaming.NamingContextPackage.CannotProceed, org.omg.CosNaming.NamingContextPackage.InvalidName
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("rebind_context", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.NameHelper.write ($copy, n);
+                        n = org.omg.CosNaming.NameHelper.read ($copy.create_input_stream ());
+                        ((NamingContextExtOperations) $so.servant).rebind_context (n, nc);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("rebind_context", true);
@@ -392,6 +521,23 @@ public class _NamingContextExtStub extends org.omg.CORBA.portable.ObjectImpl imp
    */
   public org.omg.CORBA.Object resolve (org.omg.CosNaming.NameComponent[] n) throws org.omg.CosNaming.NamingContextPackage.NotFound, org.omg.CosNaming.NamingContextPackage.CannotProceed, org.omg.CosNaming.NamingContextPackage.InvalidName
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("resolve", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.NameHelper.write ($copy, n);
+                        n = org.omg.CosNaming.NameHelper.read ($copy.create_input_stream ());
+                        org.omg.CORBA.Object $result = ((NamingContextExtOperations) $so.servant).resolve (n);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("resolve", true);
@@ -433,6 +579,23 @@ public class _NamingContextExtStub extends org.omg.CORBA.portable.ObjectImpl imp
    */
   public void unbind (org.omg.CosNaming.NameComponent[] n) throws org.omg.CosNaming.NamingContextPackage.NotFound, org.omg.CosNaming.NamingContextPackage.CannotProceed, org.omg.CosNaming.NamingContextPackage.InvalidName
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("unbind", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.NameHelper.write ($copy, n);
+                        n = org.omg.CosNaming.NameHelper.read ($copy.create_input_stream ());
+                        ((NamingContextExtOperations) $so.servant).unbind (n);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("unbind", true);
@@ -480,6 +643,23 @@ public class _NamingContextExtStub extends org.omg.CORBA.portable.ObjectImpl imp
    */
   public void list (int how_many, org.omg.CosNaming.BindingListHolder bl, org.omg.CosNaming.BindingIteratorHolder bi)
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("list", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        ((NamingContextExtOperations) $so.servant).list (how_many, bl, bi);
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.BindingListHelper.write ($copy, bl.value);
+                        bl.value = org.omg.CosNaming.BindingListHelper.read ($copy.create_input_stream ());
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("list", true);
@@ -507,6 +687,19 @@ public class _NamingContextExtStub extends org.omg.CORBA.portable.ObjectImpl imp
    */
   public org.omg.CosNaming.NamingContext new_context ()
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("new_context", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CosNaming.NamingContext $result = ((NamingContextExtOperations) $so.servant).new_context ();
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("new_context", true);
@@ -547,6 +740,23 @@ public class _NamingContextExtStub extends org.omg.CORBA.portable.ObjectImpl imp
    */
   public org.omg.CosNaming.NamingContext bind_new_context (org.omg.CosNaming.NameComponent[] n) throws org.omg.CosNaming.NamingContextPackage.NotFound, org.omg.CosNaming.NamingContextPackage.AlreadyBound, org.omg.CosNaming.NamingContextPackage.CannotProceed, org.omg.CosNaming.NamingContextPackage.InvalidName
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("bind_new_context", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.NameHelper.write ($copy, n);
+                        n = org.omg.CosNaming.NameHelper.read ($copy.create_input_stream ());
+                        org.omg.CosNaming.NamingContext $result = ((NamingContextExtOperations) $so.servant).bind_new_context (n);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("bind_new_context", true);
@@ -583,6 +793,19 @@ public class _NamingContextExtStub extends org.omg.CORBA.portable.ObjectImpl imp
    */
   public void destroy () throws org.omg.CosNaming.NamingContextPackage.NotEmpty
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("destroy", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((NamingContextExtOperations) $so.servant).destroy ();
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("destroy", true);
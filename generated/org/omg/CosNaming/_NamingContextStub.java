@@ -20,6 +20,7 @@ package org.omg.CosNaming;
  */
 public class _NamingContextStub extends org.omg.CORBA.portable.ObjectImpl implements org.omg.CosNaming.NamingContext
 {
+  final public static java.lang.Class _opsClass = NamingContextOperations.class;
 
 
   /**
@@ -47,6 +48,23 @@ public class _NamingContextStub extends org.omg.CORBA.portable.ObjectImpl implem
    */
   public void bind (org.omg.CosNaming.NameComponent[] n, org.omg.CORBA.Object obj) throws org.omg.CosNaming.NamingContextPackage.NotFound, org.omg.CosNaming.NamingContextPackage.CannotProceed, org.omg.CosNaming.NamingContextPackage.InvalidName, org.omg.CosNaming.NamingContextPackage.AlreadyBound
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("bind", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.NameHelper.write ($copy, n);
+                        n = org.omg.CosNaming.NameHelper.read ($copy.create_input_stream ());
+                        ((NamingContextOperations) $so.servant).bind (n, obj);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("bind", true);
@@ -97,6 +115,23 @@ public class _NamingContextStub extends org.omg.CORBA.portable.ObjectImpl implem
    */
   public void bind_context (org.omg.CosNaming.NameComponent[] n, org.omg.CosNaming.NamingContext nc) throws org.omg.CosNaming.NamingContextPackage.NotFound, org.omg.CosNaming.NamingContextPackage.CannotProceed, org.omg.CosNaming.NamingContextPackage.InvalidName, org.omg.CosNaming.NamingContextPackage.AlreadyBound
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("bind_context", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.NameHelper.write ($copy, n);
+                        n = org.omg.CosNaming.NameHelper.read ($copy.create_input_stream ());
+                        ((NamingContextOperations) $so.servant).bind_context (n, nc);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("bind_context", true);
@@ -145,6 +180,23 @@ public class _NamingContextStub extends org.omg.CORBA.portable.ObjectImpl implem
    */
   public void rebind (org.omg.CosNaming.NameComponent[] n, org.omg.CORBA.Object obj) throws org.omg.CosNaming.NamingContextPackage.NotFound, org.omg.CosNaming.NamingContextPackage.CannotProceed, org.omg.CosNaming.NamingContextPackage.InvalidName
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("rebind", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.NameHelper.write ($copy, n);
+                        n = org.omg.CosNaming.NameHelper.read ($copy.create_input_stream ());
+                        ((NamingContextOperations) $so.servant).rebind (n, obj);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("rebind", true);
@@ -191,6 +243,23 @@ public class _NamingContextStub extends org.omg.CORBA.portable.ObjectImpl implem
    */
   public void rebind_context (org.omg.CosNaming.NameComponent[] n, org.omg.CosNaming.NamingContext nc) throws org.omg.CosNaming.NamingContextPackage.NotFound, org.omg.CosNaming.NamingContextPackage.CannotProceed, org.omg.CosNaming.NamingContextPackage.InvalidName
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("rebind_context", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.NameHelper.write ($copy, n);
+                        n = org.omg.CosNaming.NameHelper.read ($copy.create_input_stream ());
+                        ((NamingContextOperations) $so.servant).rebind_context (n, nc);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("rebind_context", true);
@@ -237,6 +306,23 @@ public class _NamingContextStub extends org.omg.CORBA.portable.ObjectImpl implem
    */
   public org.omg.CORBA.Object resolve (org.omg.CosNaming.NameComponent[] n) throws org.omg.CosNaming.NamingContextPackage.NotFound, org.omg.CosNaming.NamingContextPackage.CannotProceed, org.omg.CosNaming.NamingContextPackage.InvalidName
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("resolve", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.NameHelper.write ($copy, n);
+                        n = org.omg.CosNaming.NameHelper.read ($copy.create_input_stream ());
+                        org.omg.CORBA.Object $result = ((NamingContextOperations) $so.servant).resolve (n);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("resolve", true);
@@ -278,6 +364,23 @@ public class _NamingContextStub extends org.omg.CORBA.portable.ObjectImpl implem
    */
   public void unbind (org.omg.CosNaming.NameComponent[] n) throws org.omg.CosNaming.NamingContextPackage.NotFound, org.omg.CosNaming.NamingContextPackage.CannotProceed, org.omg.CosNaming.NamingContextPackage.InvalidName
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("unbind", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.NameHelper.write ($copy, n);
+                        n = org.omg.CosNaming.NameHelper.read ($copy.create_input_stream ());
+                        ((NamingContextOperations) $so.servant).unbind (n);
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("unbind", true);
@@ -325,6 +428,23 @@ public class _NamingContextStub extends org.omg.CORBA.portable.ObjectImpl implem
    */
   public void list (int how_many, org.omg.CosNaming.BindingListHolder bl, org.omg.CosNaming.BindingIteratorHolder bi)
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("list", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        ((NamingContextOperations) $so.servant).list (how_many, bl, bi);
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.BindingListHelper.write ($copy, bl.value);
+                        bl.value = org.omg.CosNaming.BindingListHelper.read ($copy.create_input_stream ());
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("list", true);
@@ -352,6 +472,19 @@ public class _NamingContextStub extends org.omg.CORBA.portable.ObjectImpl implem
    */
   public org.omg.CosNaming.NamingContext new_context ()
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("new_context", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CosNaming.NamingContext $result = ((NamingContextOperations) $so.servant).new_context ();
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("new_context", true);
@@ -392,6 +525,23 @@ public class _NamingContextStub extends org.omg.CORBA.portable.ObjectImpl implem
    */
   public org.omg.CosNaming.NamingContext bind_new_context (org.omg.CosNaming.NameComponent[] n) throws org.omg.CosNaming.NamingContextPackage.NotFound, org.omg.CosNaming.NamingContextPackage.AlreadyBound, org.omg.CosNaming.NamingContextPackage.CannotProceed, org.omg.CosNaming.NamingContextPackage.InvalidName
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("bind_new_context", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        org.omg.CORBA.portable.OutputStream $copy;
+                        $copy = _orb ().create_output_stream ();
+                        org.omg.CosNaming.NameHelper.write ($copy, n);
+                        n = org.omg.CosNaming.NameHelper.read ($copy.create_input_stream ());
+                        org.omg.CosNaming.NamingContext $result = ((NamingContextOperations) $so.servant).bind_new_context (n);
+                        return $result;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("bind_new_context", true);
@@ -428,6 +578,19 @@ public class _NamingContextStub extends org.omg.CORBA.portable.ObjectImpl implem
    */
   public void destroy () throws org.omg.CosNaming.NamingContextPackage.NotEmpty
   {
+            if (_is_local ())
+            {
+                org.omg.CORBA.portable.ServantObject $so = _servant_preinvoke ("destroy", _opsClass);
+                if ($so != null)
+                {
+                    try {
+                        ((NamingContextOperations) $so.servant).destroy ();
+                        return;
+                    } finally {
+                        _servant_postinvoke ($so);
+                    }
+                }
+            }
             org.omg.CORBA.portable.InputStream $in = null;
             try {
                 org.omg.CORBA.portable.OutputStream $out = _request ("destroy", true);
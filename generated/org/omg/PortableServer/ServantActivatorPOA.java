@@ -19,13 +19,6 @@ public abstract class ServantActivatorPOA extends org.omg.PortableServer.Servant
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
-  {
-    _methods.put ("incarnate", new java.lang.Integer (0));
-    _methods.put ("etherealize", new java.lang.Integer (1));
-  }
-
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
                                 org.omg.CORBA.portable.InputStream in,
                                 org.omg.CORBA.portable.ResponseHandler $rh)
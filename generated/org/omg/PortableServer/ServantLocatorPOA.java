@@ -33,13 +33,6 @@ public abstract class ServantLocatorPOA extends org.omg.PortableServer.Servant
 
   // Constructors
 
-  private static java.util.Hashtable _methods = new java.util.Hashtable ();
-  static
-  {
-    _methods.put ("preinvoke", new java.lang.Integer (0));
-    _methods.put ("postinvoke", new java.lang.Integer (1));
-  }
-
   public org.omg.CORBA.portable.OutputStream _invoke (String $method,
                                 org.omg.CORBA.portable.InputStream in,
                                 org.omg.CORBA.portable.ResponseHandler $rh)
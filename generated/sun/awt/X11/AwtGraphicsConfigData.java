@@ -15,6 +15,15 @@ public class AwtGraphicsConfigData extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	AwtGraphicsConfigData(long addr) {
 		log.finest("Creating");
@@ -37,38 +46,39 @@ public class AwtGraphicsConfigData extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_awt_depth() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_awt_depth(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_awt_cmap() { log.finest("");return (Native.getLong(pData+4)); }
-	public void set_awt_cmap(long v) { log.finest(""); Native.putLong(pData+4, v); }
-	public XVisualInfo get_awt_visInfo() { log.finest("");return new XVisualInfo(pData + 8); }
-	public int get_awt_num_colors() { log.finest("");return (Native.getInt(pData+48)); }
-	public void set_awt_num_colors(int v) { log.finest(""); Native.putInt(pData+48, v); }
-	public awtImageData get_awtImage(int index) { log.finest(""); return (Native.getLong(pData+52) != 0)?(new awtImageData(Native.getLong(pData+52)+index*304)):(null); }
-	public long get_awtImage() { log.finest("");return Native.getLong(pData+52); }
-	public void set_awtImage(long v) { log.finest(""); Native.putLong(pData + 52, v); }
-	public long get_AwtColorMatch(int index) { log.finest(""); return Native.getLong(pData+56)+index*Native.getLongSize(); }
-	public long get_AwtColorMatch() { log.finest("");return Native.getLong(pData+56); }
-	public void set_AwtColorMatch(long v) { log.finest(""); Native.putLong(pData + 56, v); }
-	public long get_monoImage(int index) { log.finest(""); return Native.getLong(pData+60)+index*Native.getLongSize(); }
-	public long get_monoImage() { log.finest("");return Native.getLong(pData+60); }
-	public void set_monoImage(long v) { log.finest(""); Native.putLong(pData + 60, v); }
-	public long get_monoPixmap() { log.finest("");return (Native.getLong(pData+64)); }
-	public void set_monoPixmap(long v) { log.finest(""); Native.putLong(pData+64, v); }
-	public int get_monoPixmapWidth() { log.finest("");return (Native.getInt(pData+68)); }
-	public void set_monoPixmapWidth(int v) { log.finest(""); Native.putInt(pData+68, v); }
-	public int get_monoPixmapHeight() { log.finest("");return (Native.getInt(pData+72)); }
-	public void set_monoPixmapHeight(int v) { log.finest(""); Native.putInt(pData+72, v); }
-	public long get_monoPixmapGC() { log.finest("");return (Native.getLong(pData+76)); }
-	public void set_monoPixmapGC(long v) { log.finest(""); Native.putLong(pData+76, v); }
-	public int get_pixelStride() { log.finest("");return (Native.getInt(pData+80)); }
-	public void set_pixelStride(int v) { log.finest(""); Native.putInt(pData+80, v); }
-	public ColorData get_color_data(int index) { log.finest(""); return (Native.getLong(pData+84) != 0)?(new ColorData(Native.getLong(pData+84)+index*44)):(null); }
-	public long get_color_data() { log.finest("");return Native.getLong(pData+84); }
-	public void set_color_data(long v) { log.finest(""); Native.putLong(pData + 84, v); }
-	public long get_glxInfo(int index) { log.finest(""); return Native.getLong(pData+88)+index*Native.getLongSize(); }
-	public long get_glxInfo() { log.finest("");return Native.getLong(pData+88); }
-	public void set_glxInfo(long v) { log.finest(""); Native.putLong(pData + 88, v); }
+	public int get_awt_depth() { return (Native.getInt(pData+0)); }
+	public void set_awt_depth(int v) { Native.putInt(pData+0, v); }
+	public long get_awt_cmap() { return (Native.getLong(pData+4)); }
+	public void set_awt_cmap(long v) { Native.putLong(pData+4, v); }
+	private XVisualInfo awt_visInfo_view;
+	public XVisualInfo get_awt_visInfo() { if (awt_visInfo_view == null) awt_visInfo_view = new XVisualInfo(pData + 8); else if (awt_visInfo_view.pData != pData + 8) awt_visInfo_view.setPData(pData + 8); return awt_visInfo_view; }
+	public int get_awt_num_colors() { return (Native.getInt(pData+48)); }
+	public void set_awt_num_colors(int v) { Native.putInt(pData+48, v); }
+	public awtImageData get_awtImage(int index) { return (Native.getLong(pData+52) != 0)?(new awtImageData(Native.getLong(pData+52)+index*304)):(null); }
+	public long get_awtImage() { return Native.getLong(pData+52); }
+	public void set_awtImage(long v) { Native.putLong(pData + 52, v); }
+	public long get_AwtColorMatch(int index) { return Native.getLong(pData+56)+index*Native.getLongSize(); }
+	public long get_AwtColorMatch() { return Native.getLong(pData+56); }
+	public void set_AwtColorMatch(long v) { Native.putLong(pData + 56, v); }
+	public long get_monoImage(int index) { return Native.getLong(pData+60)+index*Native.getLongSize(); }
+	public long get_monoImage() { return Native.getLong(pData+60); }
+	public void set_monoImage(long v) { Native.putLong(pData + 60, v); }
+	public long get_monoPixmap() { return (Native.getLong(pData+64)); }
+	public void set_monoPixmap(long v) { Native.putLong(pData+64, v); }
+	public int get_monoPixmapWidth() { return (Native.getInt(pData+68)); }
+	public void set_monoPixmapWidth(int v) { Native.putInt(pData+68, v); }
+	public int get_monoPixmapHeight() { return (Native.getInt(pData+72)); }
+	public void set_monoPixmapHeight(int v) { Native.putInt(pData+72, v); }
+	public long get_monoPixmapGC() { return (Native.getLong(pData+76)); }
+	public void set_monoPixmapGC(long v) { Native.putLong(pData+76, v); }
+	public int get_pixelStride() { return (Native.getInt(pData+80)); }
+	public void set_pixelStride(int v) { Native.putInt(pData+80, v); }
+	public ColorData get_color_data(int index) { return (Native.getLong(pData+84) != 0)?(new ColorData(Native.getLong(pData+84)+index*44)):(null); }
+	public long get_color_data() { return Native.getLong(pData+84); }
+	public void set_color_data(long v) { Native.putLong(pData + 84, v); }
+	public long get_glxInfo(int index) { return Native.getLong(pData+88)+index*Native.getLongSize(); }
+	public long get_glxInfo() { return Native.getLong(pData+88); }
+	public void set_glxInfo(long v) { Native.putLong(pData + 88, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class AwtScreenData extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	AwtScreenData(long addr) {
 		log.finest("Creating");
@@ -37,20 +46,20 @@ public class AwtScreenData extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_numConfigs() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_numConfigs(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_root() { log.finest("");return (Native.getLong(pData+4)); }
-	public void set_root(long v) { log.finest(""); Native.putLong(pData+4, v); }
-	public long get_whitepixel() { log.finest("");return (Native.getLong(pData+8)); }
-	public void set_whitepixel(long v) { log.finest(""); Native.putLong(pData+8, v); }
-	public long get_blackpixel() { log.finest("");return (Native.getLong(pData+12)); }
-	public void set_blackpixel(long v) { log.finest(""); Native.putLong(pData+12, v); }
-	public AwtGraphicsConfigData get_defaultConfig(int index) { log.finest(""); return (Native.getLong(pData+16) != 0)?(new AwtGraphicsConfigData(Native.getLong(pData+16)+index*92)):(null); }
-	public long get_defaultConfig() { log.finest("");return Native.getLong(pData+16); }
-	public void set_defaultConfig(long v) { log.finest(""); Native.putLong(pData + 16, v); }
-	public long get_configs(int index) { log.finest(""); return Native.getLong(pData+20)+index*Native.getLongSize(); }
-	public long get_configs() { log.finest("");return Native.getLong(pData+20); }
-	public void set_configs(long v) { log.finest(""); Native.putLong(pData + 20, v); }
+	public int get_numConfigs() { return (Native.getInt(pData+0)); }
+	public void set_numConfigs(int v) { Native.putInt(pData+0, v); }
+	public long get_root() { return (Native.getLong(pData+4)); }
+	public void set_root(long v) { Native.putLong(pData+4, v); }
+	public long get_whitepixel() { return (Native.getLong(pData+8)); }
+	public void set_whitepixel(long v) { Native.putLong(pData+8, v); }
+	public long get_blackpixel() { return (Native.getLong(pData+12)); }
+	public void set_blackpixel(long v) { Native.putLong(pData+12, v); }
+	public AwtGraphicsConfigData get_defaultConfig(int index) { return (Native.getLong(pData+16) != 0)?(new AwtGraphicsConfigData(Native.getLong(pData+16)+index*92)):(null); }
+	public long get_defaultConfig() { return Native.getLong(pData+16); }
+	public void set_defaultConfig(long v) { Native.putLong(pData + 16, v); }
+	public long get_configs(int index) { return Native.getLong(pData+20)+index*Native.getLongSize(); }
+	public long get_configs() { return Native.getLong(pData+20); }
+	public void set_configs(long v) { Native.putLong(pData + 20, v); }
 
 
 	String getName() {
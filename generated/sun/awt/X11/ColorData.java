@@ -15,6 +15,15 @@ public class ColorData extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	ColorData(long addr) {
 		log.finest("Creating");
@@ -37,37 +46,37 @@ public class ColorData extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public ColorEntry get_awt_Colors(int index) { log.finest(""); return (Native.getLong(pData+0) != 0)?(new ColorEntry(Native.getLong(pData+0)+index*4)):(null); }
-	public long get_awt_Colors() { log.finest("");return Native.getLong(pData+0); }
-	public void set_awt_Colors(long v) { log.finest(""); Native.putLong(pData + 0, v); }
-	public int get_awt_numICMcolors() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_awt_numICMcolors(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public int get_awt_icmLUT(int index) { log.finest(""); return Native.getInt(Native.getLong(pData+8)+index*4); }
-	public long get_awt_icmLUT() { log.finest("");return Native.getLong(pData+8); }
-	public void set_awt_icmLUT(long v) { log.finest(""); Native.putLong(pData + 8, v); }
-	public byte get_awt_icmLUT2Colors(int index) { log.finest(""); return Native.getByte(Native.getLong(pData+12)+index*1); }
-	public long get_awt_icmLUT2Colors() { log.finest("");return Native.getLong(pData+12); }
-	public void set_awt_icmLUT2Colors(long v) { log.finest(""); Native.putLong(pData + 12, v); }
-	public byte get_img_grays(int index) { log.finest(""); return Native.getByte(Native.getLong(pData+16)+index*1); }
-	public long get_img_grays() { log.finest("");return Native.getLong(pData+16); }
-	public void set_img_grays(long v) { log.finest(""); Native.putLong(pData + 16, v); }
-	public byte get_img_clr_tbl(int index) { log.finest(""); return Native.getByte(Native.getLong(pData+20)+index*1); }
-	public long get_img_clr_tbl() { log.finest("");return Native.getLong(pData+20); }
-	public void set_img_clr_tbl(long v) { log.finest(""); Native.putLong(pData + 20, v); }
-	public byte get_img_oda_red(int index) { log.finest(""); return Native.getByte(Native.getLong(pData+24)+index*1); }
-	public long get_img_oda_red() { log.finest("");return Native.getLong(pData+24); }
-	public void set_img_oda_red(long v) { log.finest(""); Native.putLong(pData + 24, v); }
-	public byte get_img_oda_green(int index) { log.finest(""); return Native.getByte(Native.getLong(pData+28)+index*1); }
-	public long get_img_oda_green() { log.finest("");return Native.getLong(pData+28); }
-	public void set_img_oda_green(long v) { log.finest(""); Native.putLong(pData + 28, v); }
-	public byte get_img_oda_blue(int index) { log.finest(""); return Native.getByte(Native.getLong(pData+32)+index*1); }
-	public long get_img_oda_blue() { log.finest("");return Native.getLong(pData+32); }
-	public void set_img_oda_blue(long v) { log.finest(""); Native.putLong(pData + 32, v); }
-	public int get_pGrayInverseLutData(int index) { log.finest(""); return Native.getInt(Native.getLong(pData+36)+index*4); }
-	public long get_pGrayInverseLutData() { log.finest("");return Native.getLong(pData+36); }
-	public void set_pGrayInverseLutData(long v) { log.finest(""); Native.putLong(pData + 36, v); }
-	public int get_screendata() { log.finest("");return (Native.getInt(pData+40)); }
-	public void set_screendata(int v) { log.finest(""); Native.putInt(pData+40, v); }
+	public ColorEntry get_awt_Colors(int index) { return (Native.getLong(pData+0) != 0)?(new ColorEntry(Native.getLong(pData+0)+index*4)):(null); }
+	public long get_awt_Colors() { return Native.getLong(pData+0); }
+	public void set_awt_Colors(long v) { Native.putLong(pData + 0, v); }
+	public int get_awt_numICMcolors() { return (Native.getInt(pData+4)); }
+	public void set_awt_numICMcolors(int v) { Native.putInt(pData+4, v); }
+	public int get_awt_icmLUT(int index) { return Native.getInt(Native.getLong(pData+8)+index*4); }
+	public long get_awt_icmLUT() { return Native.getLong(pData+8); }
+	public void set_awt_icmLUT(long v) { Native.putLong(pData + 8, v); }
+	public byte get_awt_icmLUT2Colors(int index) { return Native.getByte(Native.getLong(pData+12)+index*1); }
+	public long get_awt_icmLUT2Colors() { return Native.getLong(pData+12); }
+	public void set_awt_icmLUT2Colors(long v) { Native.putLong(pData + 12, v); }
+	public byte get_img_grays(int index) { return Native.getByte(Native.getLong(pData+16)+index*1); }
+	public long get_img_grays() { return Native.getLong(pData+16); }
+	public void set_img_grays(long v) { Native.putLong(pData + 16, v); }
+	public byte get_img_clr_tbl(int index) { return Native.getByte(Native.getLong(pData+20)+index*1); }
+	public long get_img_clr_tbl() { return Native.getLong(pData+20); }
+	public void set_img_clr_tbl(long v) { Native.putLong(pData + 20, v); }
+	public byte get_img_oda_red(int index) { return Native.getByte(Native.getLong(pData+24)+index*1); }
+	public long get_img_oda_red() { return Native.getLong(pData+24); }
+	public void set_img_oda_red(long v) { Native.putLong(pData + 24, v); }
+	public byte get_img_oda_green(int index) { return Native.getByte(Native.getLong(pData+28)+index*1); }
+	public long get_img_oda_green() { return Native.getLong(pData+28); }
+	public void set_img_oda_green(long v) { Native.putLong(pData + 28, v); }
+	public byte get_img_oda_blue(int index) { return Native.getByte(Native.getLong(pData+32)+index*1); }
+	public long get_img_oda_blue() { return Native.getLong(pData+32); }
+	public void set_img_oda_blue(long v) { Native.putLong(pData + 32, v); }
+	public int get_pGrayInverseLutData(int index) { return Native.getInt(Native.getLong(pData+36)+index*4); }
+	public long get_pGrayInverseLutData() { return Native.getLong(pData+36); }
+	public void set_pGrayInverseLutData(long v) { Native.putLong(pData + 36, v); }
+	public int get_screendata() { return (Native.getInt(pData+40)); }
+	public void set_screendata(int v) { Native.putInt(pData+40, v); }
 
 
 	String getName() {
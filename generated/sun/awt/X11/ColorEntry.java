@@ -15,6 +15,15 @@ public class ColorEntry extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	ColorEntry(long addr) {
 		log.finest("Creating");
@@ -37,14 +46,14 @@ public class ColorEntry extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public byte get_r() { log.finest("");return (Native.getByte(pData+0)); }
-	public void set_r(byte v) { log.finest(""); Native.putByte(pData+0, v); }
-	public byte get_g() { log.finest("");return (Native.getByte(pData+1)); }
-	public void set_g(byte v) { log.finest(""); Native.putByte(pData+1, v); }
-	public byte get_b() { log.finest("");return (Native.getByte(pData+2)); }
-	public void set_b(byte v) { log.finest(""); Native.putByte(pData+2, v); }
-	public byte get_flags() { log.finest("");return (Native.getByte(pData+3)); }
-	public void set_flags(byte v) { log.finest(""); Native.putByte(pData+3, v); }
+	public byte get_r() { return (Native.getByte(pData+0)); }
+	public void set_r(byte v) { Native.putByte(pData+0, v); }
+	public byte get_g() { return (Native.getByte(pData+1)); }
+	public void set_g(byte v) { Native.putByte(pData+1, v); }
+	public byte get_b() { return (Native.getByte(pData+2)); }
+	public void set_b(byte v) { Native.putByte(pData+2, v); }
+	public byte get_flags() { return (Native.getByte(pData+3)); }
+	public void set_flags(byte v) { Native.putByte(pData+3, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class Depth extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	Depth(long addr) {
 		log.finest("Creating");
@@ -37,13 +46,13 @@ public class Depth extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_depth() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_depth(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public int get_nvisuals() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_nvisuals(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public Visual get_visuals(int index) { log.finest(""); return (Native.getLong(pData+8) != 0)?(new Visual(Native.getLong(pData+8)+index*32)):(null); }
-	public long get_visuals() { log.finest("");return Native.getLong(pData+8); }
-	public void set_visuals(long v) { log.finest(""); Native.putLong(pData + 8, v); }
+	public int get_depth() { return (Native.getInt(pData+0)); }
+	public void set_depth(int v) { Native.putInt(pData+0, v); }
+	public int get_nvisuals() { return (Native.getInt(pData+4)); }
+	public void set_nvisuals(int v) { Native.putInt(pData+4, v); }
+	public Visual get_visuals(int index) { return (Native.getLong(pData+8) != 0)?(new Visual(Native.getLong(pData+8)+index*32)):(null); }
+	public long get_visuals() { return Native.getLong(pData+8); }
+	public void set_visuals(long v) { Native.putLong(pData + 8, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class PropMwmHints extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	PropMwmHints(long addr) {
 		log.finest("Creating");
@@ -37,16 +46,16 @@ public class PropMwmHints extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public long get_flags() { log.finest("");return (Native.getLong(pData+0)); }
-	public void set_flags(long v) { log.finest(""); Native.putLong(pData+0, v); }
-	public long get_functions() { log.finest("");return (Native.getLong(pData+4)); }
-	public void set_functions(long v) { log.finest(""); Native.putLong(pData+4, v); }
-	public long get_decorations() { log.finest("");return (Native.getLong(pData+8)); }
-	public void set_decorations(long v) { log.finest(""); Native.putLong(pData+8, v); }
-	public long get_inputMode() { log.finest("");return (Native.getLong(pData+12)); }
-	public void set_inputMode(long v) { log.finest(""); Native.putLong(pData+12, v); }
-	public long get_status() { log.finest("");return (Native.getLong(pData+16)); }
-	public void set_status(long v) { log.finest(""); Native.putLong(pData+16, v); }
+	public long get_flags() { return (Native.getLong(pData+0)); }
+	public void set_flags(long v) { Native.putLong(pData+0, v); }
+	public long get_functions() { return (Native.getLong(pData+4)); }
+	public void set_functions(long v) { Native.putLong(pData+4, v); }
+	public long get_decorations() { return (Native.getLong(pData+8)); }
+	public void set_decorations(long v) { Native.putLong(pData+8, v); }
+	public long get_inputMode() { return (Native.getLong(pData+12)); }
+	public void set_inputMode(long v) { Native.putLong(pData+12, v); }
+	public long get_status() { return (Native.getLong(pData+16)); }
+	public void set_status(long v) { Native.putLong(pData+16, v); }
 
 
 	String getName() {
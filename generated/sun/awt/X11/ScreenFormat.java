@@ -15,6 +15,15 @@ public class ScreenFormat extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	ScreenFormat(long addr) {
 		log.finest("Creating");
@@ -37,15 +46,15 @@ public class ScreenFormat extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public XExtData get_ext_data(int index) { log.finest(""); return (Native.getLong(pData+0) != 0)?(new XExtData(Native.getLong(pData+0)+index*16)):(null); }
-	public long get_ext_data() { log.finest("");return Native.getLong(pData+0); }
-	public void set_ext_data(long v) { log.finest(""); Native.putLong(pData + 0, v); }
-	public int get_depth() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_depth(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public int get_bits_per_pixel() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_bits_per_pixel(int v) { log.finest(""); Native.putInt(pData+8, v); }
-	public int get_scanline_pad() { log.finest("");return (Native.getInt(pData+12)); }
-	public void set_scanline_pad(int v) { log.finest(""); Native.putInt(pData+12, v); }
+	public XExtData get_ext_data(int index) { return (Native.getLong(pData+0) != 0)?(new XExtData(Native.getLong(pData+0)+index*16)):(null); }
+	public long get_ext_data() { return Native.getLong(pData+0); }
+	public void set_ext_data(long v) { Native.putLong(pData + 0, v); }
+	public int get_depth() { return (Native.getInt(pData+4)); }
+	public void set_depth(int v) { Native.putInt(pData+4, v); }
+	public int get_bits_per_pixel() { return (Native.getInt(pData+8)); }
+	public void set_bits_per_pixel(int v) { Native.putInt(pData+8, v); }
+	public int get_scanline_pad() { return (Native.getInt(pData+12)); }
+	public void set_scanline_pad(int v) { Native.putInt(pData+12, v); }
 
 
 	String getName() {
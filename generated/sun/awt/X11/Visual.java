@@ -15,6 +15,15 @@ public class Visual extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	Visual(long addr) {
 		log.finest("Creating");
@@ -37,23 +46,23 @@ public class Visual extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public XExtData get_ext_data(int index) { log.finest(""); return (Native.getLong(pData+0) != 0)?(new XExtData(Native.getLong(pData+0)+index*16)):(null); }
-	public long get_ext_data() { log.finest("");return Native.getLong(pData+0); }
-	public void set_ext_data(long v) { log.finest(""); Native.putLong(pData + 0, v); }
-	public long get_visualid() { log.finest("");return (Native.getLong(pData+4)); }
-	public void set_visualid(long v) { log.finest(""); Native.putLong(pData+4, v); }
-	public int get_class() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_class(int v) { log.finest(""); Native.putInt(pData+8, v); }
-	public long get_red_mask() { log.finest("");return (Native.getLong(pData+12)); }
-	public void set_red_mask(long v) { log.finest(""); Native.putLong(pData+12, v); }
-	public long get_green_mask() { log.finest("");return (Native.getLong(pData+16)); }
-	public void set_green_mask(long v) { log.finest(""); Native.putLong(pData+16, v); }
-	public long get_blue_mask() { log.finest("");return (Native.getLong(pData+20)); }
-	public void set_blue_mask(long v) { log.finest(""); Native.putLong(pData+20, v); }
-	public int get_bits_per_rgb() { log.finest("");return (Native.getInt(pData+24)); }
-	public void set_bits_per_rgb(int v) { log.finest(""); Native.putInt(pData+24, v); }
-	public int get_map_entries() { log.finest("");return (Native.getInt(pData+28)); }
-	public void set_map_entries(int v) { log.finest(""); Native.putInt(pData+28, v); }
+	public XExtData get_ext_data(int index) { return (Native.getLong(pData+0) != 0)?(new XExtData(Native.getLong(pData+0)+index*16)):(null); }
+	public long get_ext_data() { return Native.getLong(pData+0); }
+	public void set_ext_data(long v) { Native.putLong(pData + 0, v); }
+	public long get_visualid() { return (Native.getLong(pData+4)); }
+	public void set_visualid(long v) { Native.putLong(pData+4, v); }
+	public int get_class() { return (Native.getInt(pData+8)); }
+	public void set_class(int v) { Native.putInt(pData+8, v); }
+	public long get_red_mask() { return (Native.getLong(pData+12)); }
+	public void set_red_mask(long v) { Native.putLong(pData+12, v); }
+	public long get_green_mask() { return (Native.getLong(pData+16)); }
+	public void set_green_mask(long v) { Native.putLong(pData+16, v); }
+	public long get_blue_mask() { return (Native.getLong(pData+20)); }
+	public void set_blue_mask(long v) { Native.putLong(pData+20, v); }
+	public int get_bits_per_rgb() { return (Native.getInt(pData+24)); }
+	public void set_bits_per_rgb(int v) { Native.putInt(pData+24, v); }
+	public int get_map_entries() { return (Native.getInt(pData+28)); }
+	public void set_map_entries(int v) { Native.putInt(pData+28, v); }
 
 
 	String getName() {
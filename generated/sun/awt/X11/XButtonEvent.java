@@ -15,6 +15,15 @@ public class XButtonEvent extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XButtonEvent(long addr) {
 		log.finest("Creating");
@@ -37,36 +46,36 @@ public class XButtonEvent extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_type() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_type(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_serial() { log.finest("");return (Native.getLong(pData+4)); }
-	public void set_serial(long v) { log.finest(""); Native.putLong(pData+4, v); }
-	public boolean get_send_event() { log.finest("");return (Native.getBool(pData+8)); }
-	public void set_send_event(boolean v) { log.finest(""); Native.putBool(pData+8, v); }
-	public long get_display() { log.finest("");return (Native.getLong(pData+12)); }
-	public void set_display(long v) { log.finest(""); Native.putLong(pData+12, v); }
-	public long get_window() { log.finest("");return (Native.getLong(pData+16)); }
-	public void set_window(long v) { log.finest(""); Native.putLong(pData+16, v); }
-	public long get_root() { log.finest("");return (Native.getLong(pData+20)); }
-	public void set_root(long v) { log.finest(""); Native.putLong(pData+20, v); }
-	public long get_subwindow() { log.finest("");return (Native.getLong(pData+24)); }
-	public void set_subwindow(long v) { log.finest(""); Native.putLong(pData+24, v); }
-	public long get_time() { log.finest("");return (Native.getULong(pData+28)); }
-	public void set_time(long v) { log.finest(""); Native.putULong(pData+28, v); }
-	public int get_x() { log.finest("");return (Native.getInt(pData+32)); }
-	public void set_x(int v) { log.finest(""); Native.putInt(pData+32, v); }
-	public int get_y() { log.finest("");return (Native.getInt(pData+36)); }
-	public void set_y(int v) { log.finest(""); Native.putInt(pData+36, v); }
-	public int get_x_root() { log.finest("");return (Native.getInt(pData+40)); }
-	public void set_x_root(int v) { log.finest(""); Native.putInt(pData+40, v); }
-	public int get_y_root() { log.finest("");return (Native.getInt(pData+44)); }
-	public void set_y_root(int v) { log.finest(""); Native.putInt(pData+44, v); }
-	public int get_state() { log.finest("");return (Native.getInt(pData+48)); }
-	public void set_state(int v) { log.finest(""); Native.putInt(pData+48, v); }
-	public int get_button() { log.finest("");return (Native.getInt(pData+52)); }
-	public void set_button(int v) { log.finest(""); Native.putInt(pData+52, v); }
-	public boolean get_same_screen() { log.finest("");return (Native.getBool(pData+56)); }
-	public void set_same_screen(boolean v) { log.finest(""); Native.putBool(pData+56, v); }
+	public int get_type() { return (Native.getInt(pData+0)); }
+	public void set_type(int v) { Native.putInt(pData+0, v); }
+	public long get_serial() { return (Native.getLong(pData+4)); }
+	public void set_serial(long v) { Native.putLong(pData+4, v); }
+	public boolean get_send_event() { return (Native.getBool(pData+8)); }
+	public void set_send_event(boolean v) { Native.putBool(pData+8, v); }
+	public long get_display() { return (Native.getLong(pData+12)); }
+	public void set_display(long v) { Native.putLong(pData+12, v); }
+	public long get_window() { return (Native.getLong(pData+16)); }
+	public void set_window(long v) { Native.putLong(pData+16, v); }
+	public long get_root() { return (Native.getLong(pData+20)); }
+	public void set_root(long v) { Native.putLong(pData+20, v); }
+	public long get_subwindow() { return (Native.getLong(pData+24)); }
+	public void set_subwindow(long v) { Native.putLong(pData+24, v); }
+	public long get_time() { return (Native.getULong(pData+28)); }
+	public void set_time(long v) { Native.putULong(pData+28, v); }
+	public int get_x() { return (Native.getInt(pData+32)); }
+	public void set_x(int v) { Native.putInt(pData+32, v); }
+	public int get_y() { return (Native.getInt(pData+36)); }
+	public void set_y(int v) { Native.putInt(pData+36, v); }
+	public int get_x_root() { return (Native.getInt(pData+40)); }
+	public void set_x_root(int v) { Native.putInt(pData+40, v); }
+	public int get_y_root() { return (Native.getInt(pData+44)); }
+	public void set_y_root(int v) { Native.putInt(pData+44, v); }
+	public int get_state() { return (Native.getInt(pData+48)); }
+	public void set_state(int v) { Native.putInt(pData+48, v); }
+	public int get_button() { return (Native.getInt(pData+52)); }
+	public void set_button(int v) { Native.putInt(pData+52, v); }
+	public boolean get_same_screen() { return (Native.getBool(pData+56)); }
+	public void set_same_screen(boolean v) { Native.putBool(pData+56, v); }
 
 
 	String getName() {
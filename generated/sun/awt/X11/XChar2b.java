@@ -15,6 +15,15 @@ public class XChar2b extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XChar2b(long addr) {
 		log.finest("Creating");
@@ -37,10 +46,10 @@ public class XChar2b extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public byte get_byte1() { log.finest("");return (Native.getByte(pData+0)); }
-	public void set_byte1(byte v) { log.finest(""); Native.putByte(pData+0, v); }
-	public byte get_byte2() { log.finest("");return (Native.getByte(pData+1)); }
-	public void set_byte2(byte v) { log.finest(""); Native.putByte(pData+1, v); }
+	public byte get_byte1() { return (Native.getByte(pData+0)); }
+	public void set_byte1(byte v) { Native.putByte(pData+0, v); }
+	public byte get_byte2() { return (Native.getByte(pData+1)); }
+	public void set_byte2(byte v) { Native.putByte(pData+1, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XCharStruct extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XCharStruct(long addr) {
 		log.finest("Creating");
@@ -37,18 +46,18 @@ public class XCharStruct extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public short get_lbearing() { log.finest("");return (Native.getShort(pData+0)); }
-	public void set_lbearing(short v) { log.finest(""); Native.putShort(pData+0, v); }
-	public short get_rbearing() { log.finest("");return (Native.getShort(pData+2)); }
-	public void set_rbearing(short v) { log.finest(""); Native.putShort(pData+2, v); }
-	public short get_width() { log.finest("");return (Native.getShort(pData+4)); }
-	public void set_width(short v) { log.finest(""); Native.putShort(pData+4, v); }
-	public short get_ascent() { log.finest("");return (Native.getShort(pData+6)); }
-	public void set_ascent(short v) { log.finest(""); Native.putShort(pData+6, v); }
-	public short get_descent() { log.finest("");return (Native.getShort(pData+8)); }
-	public void set_descent(short v) { log.finest(""); Native.putShort(pData+8, v); }
-	public short get_attributes() { log.finest("");return (Native.getShort(pData+10)); }
-	public void set_attributes(short v) { log.finest(""); Native.putShort(pData+10, v); }
+	public short get_lbearing() { return (Native.getShort(pData+0)); }
+	public void set_lbearing(short v) { Native.putShort(pData+0, v); }
+	public short get_rbearing() { return (Native.getShort(pData+2)); }
+	public void set_rbearing(short v) { Native.putShort(pData+2, v); }
+	public short get_width() { return (Native.getShort(pData+4)); }
+	public void set_width(short v) { Native.putShort(pData+4, v); }
+	public short get_ascent() { return (Native.getShort(pData+6)); }
+	public void set_ascent(short v) { Native.putShort(pData+6, v); }
+	public short get_descent() { return (Native.getShort(pData+8)); }
+	public void set_descent(short v) { Native.putShort(pData+8, v); }
+	public short get_attributes() { return (Native.getShort(pData+10)); }
+	public void set_attributes(short v) { Native.putShort(pData+10, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XClassHint extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XClassHint(long addr) {
 		log.finest("Creating");
@@ -37,12 +46,12 @@ public class XClassHint extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public long get_res_name(int index) { log.finest(""); return Native.getLong(pData+0)+index*Native.getLongSize(); }
-	public long get_res_name() { log.finest("");return Native.getLong(pData+0); }
-	public void set_res_name(long v) { log.finest(""); Native.putLong(pData + 0, v); }
-	public long get_res_class(int index) { log.finest(""); return Native.getLong(pData+4)+index*Native.getLongSize(); }
-	public long get_res_class() { log.finest("");return Native.getLong(pData+4); }
-	public void set_res_class(long v) { log.finest(""); Native.putLong(pData + 4, v); }
+	public long get_res_name(int index) { return Native.getLong(pData+0)+index*Native.getLongSize(); }
+	public long get_res_name() { return Native.getLong(pData+0); }
+	public void set_res_name(long v) { Native.putLong(pData + 0, v); }
+	public long get_res_class(int index) { return Native.getLong(pData+4)+index*Native.getLongSize(); }
+	public long get_res_class() { return Native.getLong(pData+4); }
+	public void set_res_class(long v) { Native.putLong(pData + 4, v); }
 
 
 	String getName() {
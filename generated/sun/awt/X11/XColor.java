@@ -15,6 +15,15 @@ public class XColor extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XColor(long addr) {
 		log.finest("Creating");
@@ -37,18 +46,18 @@ public class XColor extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public long get_pixel() { log.finest("");return (Native.getLong(pData+0)); }
-	public void set_pixel(long v) { log.finest(""); Native.putLong(pData+0, v); }
-	public short get_red() { log.finest("");return (Native.getShort(pData+4)); }
-	public void set_red(short v) { log.finest(""); Native.putShort(pData+4, v); }
-	public short get_green() { log.finest("");return (Native.getShort(pData+6)); }
-	public void set_green(short v) { log.finest(""); Native.putShort(pData+6, v); }
-	public short get_blue() { log.finest("");return (Native.getShort(pData+8)); }
-	public void set_blue(short v) { log.finest(""); Native.putShort(pData+8, v); }
-	public byte get_flags() { log.finest("");return (Native.getByte(pData+10)); }
-	public void set_flags(byte v) { log.finest(""); Native.putByte(pData+10, v); }
-	public byte get_pad() { log.finest("");return (Native.getByte(pData+11)); }
-	public void set_pad(byte v) { log.finest(""); Native.putByte(pData+11, v); }
+	public long get_pixel() { return (Native.getLong(pData+0)); }
+	public void set_pixel(long v) { Native.putLong(pData+0, v); }
+	public short get_red() { return (Native.getShort(pData+4)); }
+	public void set_red(short v) { Native.putShort(pData+4, v); }
+	public short get_green() { return (Native.getShort(pData+6)); }
+	public void set_green(short v) { Native.putShort(pData+6, v); }
+	public short get_blue() { return (Native.getShort(pData+8)); }
+	public void set_blue(short v) { Native.putShort(pData+8, v); }
+	public byte get_flags() { return (Native.getByte(pData+10)); }
+	public void set_flags(byte v) { Native.putByte(pData+10, v); }
+	public byte get_pad() { return (Native.getByte(pData+11)); }
+	public void set_pad(byte v) { Native.putByte(pData+11, v); }
 
 
 	String getName() {
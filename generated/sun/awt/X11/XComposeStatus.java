@@ -15,6 +15,15 @@ public class XComposeStatus extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XComposeStatus(long addr) {
 		log.finest("Creating");
@@ -37,11 +46,11 @@ public class XComposeStatus extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public long get_compose_ptr(int index) { log.finest(""); return Native.getLong(pData+0)+index*Native.getLongSize(); }
-	public long get_compose_ptr() { log.finest("");return Native.getLong(pData+0); }
-	public void set_compose_ptr(long v) { log.finest(""); Native.putLong(pData + 0, v); }
-	public int get_chars_matched() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_chars_matched(int v) { log.finest(""); Native.putInt(pData+4, v); }
+	public long get_compose_ptr(int index) { return Native.getLong(pData+0)+index*Native.getLongSize(); }
+	public long get_compose_ptr() { return Native.getLong(pData+0); }
+	public void set_compose_ptr(long v) { Native.putLong(pData + 0, v); }
+	public int get_chars_matched() { return (Native.getInt(pData+4)); }
+	public void set_chars_matched(int v) { Native.putInt(pData+4, v); }
 
 
 	String getName() {
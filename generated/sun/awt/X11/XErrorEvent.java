@@ -15,6 +15,15 @@ public class XErrorEvent extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XErrorEvent(long addr) {
 		log.finest("Creating");
@@ -37,20 +46,20 @@ public class XErrorEvent extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_type() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_type(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_display() { log.finest("");return (Native.getLong(pData+4)); }
-	public void set_display(long v) { log.finest(""); Native.putLong(pData+4, v); }
-	public long get_resourceid() { log.finest("");return (Native.getLong(pData+8)); }
-	public void set_resourceid(long v) { log.finest(""); Native.putLong(pData+8, v); }
-	public long get_serial() { log.finest("");return (Native.getLong(pData+12)); }
-	public void set_serial(long v) { log.finest(""); Native.putLong(pData+12, v); }
-	public byte get_error_code() { log.finest("");return (Native.getByte(pData+16)); }
-	public void set_error_code(byte v) { log.finest(""); Native.putByte(pData+16, v); }
-	public byte get_request_code() { log.finest("");return (Native.getByte(pData+17)); }
-	public void set_request_code(byte v) { log.finest(""); Native.putByte(pData+17, v); }
-	public byte get_minor_code() { log.finest("");return (Native.getByte(pData+18)); }
-	public void set_minor_code(byte v) { log.finest(""); Native.putByte(pData+18, v); }
+	public int get_type() { return (Native.getInt(pData+0)); }
+	public void set_type(int v) { Native.putInt(pData+0, v); }
+	public long get_display() { return (Native.getLong(pData+4)); }
+	public void set_display(long v) { Native.putLong(pData+4, v); }
+	public long get_resourceid() { return (Native.getLong(pData+8)); }
+	public void set_resourceid(long v) { Native.putLong(pData+8, v); }
+	public long get_serial() { return (Native.getLong(pData+12)); }
+	public void set_serial(long v) { Native.putLong(pData+12, v); }
+	public byte get_error_code() { return (Native.getByte(pData+16)); }
+	public void set_error_code(byte v) { Native.putByte(pData+16, v); }
+	public byte get_request_code() { return (Native.getByte(pData+17)); }
+	public void set_request_code(byte v) { Native.putByte(pData+17, v); }
+	public byte get_minor_code() { return (Native.getByte(pData+18)); }
+	public void set_minor_code(byte v) { Native.putByte(pData+18, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XEvent extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XEvent(long addr) {
 		log.finest("Creating");
@@ -37,42 +46,73 @@ public class XEvent extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_type() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_type(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public XAnyEvent get_xany() { log.finest("");return new XAnyEvent(pData + 0); }
-	public XKeyEvent get_xkey() { log.finest("");return new XKeyEvent(pData + 0); }
-	public XButtonEvent get_xbutton() { log.finest("");return new XButtonEvent(pData + 0); }
-	public XMotionEvent get_xmotion() { log.finest("");return new XMotionEvent(pData + 0); }
-	public XCrossingEvent get_xcrossing() { log.finest("");return new XCrossingEvent(pData + 0); }
-	public XFocusChangeEvent get_xfocus() { log.finest("");return new XFocusChangeEvent(pData + 0); }
-	public XExposeEvent get_xexpose() { log.finest("");return new XExposeEvent(pData + 0); }
-	public XGraphicsExposeEvent get_xgraphicsexpose() { log.finest("");return new XGraphicsExposeEvent(pData + 0); }
-	public XNoExposeEvent get_xnoexpose() { log.finest("");return new XNoExposeEvent(pData + 0); }
-	public XVisibilityEvent get_xvisibility() { log.finest("");return new XVisibilityEvent(pData + 0); }
-	public XCreateWindowEvent get_xcreatewindow() { log.finest("");return new XCreateWindowEvent(pData + 0); }
-	public XDestroyWindowEvent get_xdestroywindow() { log.finest("");return new XDestroyWindowEvent(pData + 0); }
-	public XUnmapEvent get_xunmap() { log.finest("");return new XUnmapEvent(pData + 0); }
-	public XMapEvent get_xmap() { log.finest("");return new XMapEvent(pData + 0); }
-	public XMapRequestEvent get_xmaprequest() { log.finest("");return new XMapRequestEvent(pData + 0); }
-	public XReparentEvent get_xreparent() { log.finest("");return new XReparentEvent(pData + 0); }
-	public XConfigureEvent get_xconfigure() { log.finest("");return new XConfigureEvent(pData + 0); }
-	public XGravityEvent get_xgravity() { log.finest("");return new XGravityEvent(pData + 0); }
-	public XResizeRequestEvent get_xresizerequest() { log.finest("");return new XResizeRequestEvent(pData + 0); }
-	public XConfigureRequestEvent get_xconfigurerequest() { log.finest("");return new XConfigureRequestEvent(pData + 0); }
-	public XCirculateEvent get_xcirculate() { log.finest("");return new XCirculateEvent(pData + 0); }
-	public XCirculateRequestEvent get_xcirculaterequest() { log.finest("");return new XCirculateRequestEvent(pData + 0); }
-	public XPropertyEvent get_xproperty() { log.finest("");return new XPropertyEvent(pData + 0); }
-	public XSelectionClearEvent get_xselectionclear() { log.finest("");return new XSelectionClearEvent(pData + 0); }
-	public XSelectionRequestEvent get_xselectionrequest() { log.finest("");return new XSelectionRequestEvent(pData + 0); }
-	public XSelectionEvent get_xselection() { log.finest("");return new XSelectionEvent(pData + 0); }
-	public XColormapEvent get_xcolormap() { log.finest("");return new XColormapEvent(pData + 0); }
-	public XClientMessageEvent get_xclient() { log.finest("");return new XClientMessageEvent(pData + 0); }
-	public XMappingEvent get_xmapping() { log.finest("");return new XMappingEvent(pData + 0); }
-	public XErrorEvent get_xerror() { log.finest("");return new XErrorEvent(pData + 0); }
-	public XKeymapEvent get_xkeymap() { log.finest("");return new XKeymapEvent(pData + 0); }
-	public long get_pad(int index) { log.finest("");return Native.getLong(pData + 0+index*Native.getLongSize()); }
-	public void set_pad(int index, long v) { log.finest(""); Native.putLong(pData+0 + index*Native.getLongSize(), v); }
-	public long get_pad() { log.finest("");return pData+0; }
+	public int get_type() { return (Native.getInt(pData+0)); }
+	public void set_type(int v) { Native.putInt(pData+0, v); }
+	private XAnyEvent xany_view;
+	public XAnyEvent get_xany() { if (xany_view == null) xany_view = new XAnyEvent(pData + 0); else if (xany_view.pData != pData + 0) xany_view.setPData(pData + 0); return xany_view; }
+	private XKeyEvent xkey_view;
+	public XKeyEvent get_xkey() { if (xkey_view == null) xkey_view = new XKeyEvent(pData + 0); else if (xkey_view.pData != pData + 0) xkey_view.setPData(pData + 0); return xkey_view; }
+	private XButtonEvent xbutton_view;
+	public XButtonEvent get_xbutton() { if (xbutton_view == null) xbutton_view = new XButtonEvent(pData + 0); else if (xbutton_view.pData != pData + 0) xbutton_view.setPData(pData + 0); return xbutton_view; }
+	private XMotionEvent xmotion_view;
+	public XMotionEvent get_xmotion() { if (xmotion_view == null) xmotion_view = new XMotionEvent(pData + 0); else if (xmotion_view.pData != pData + 0) xmotion_view.setPData(pData + 0); return xmotion_view; }
+	private XCrossingEvent xcrossing_view;
+	public XCrossingEvent get_xcrossing() { if (xcrossing_view == null) xcrossing_view = new XCrossingEvent(pData + 0); else if (xcrossing_view.pData != pData + 0) xcrossing_view.setPData(pData + 0); return xcrossing_view; }
+	private XFocusChangeEvent xfocus_view;
+	public XFocusChangeEvent get_xfocus() { if (xfocus_view == null) xfocus_view = new XFocusChangeEvent(pData + 0); else if (xfocus_view.pData != pData + 0) xfocus_view.setPData(pData + 0); return xfocus_view; }
+	private XExposeEvent xexpose_view;
+	public XExposeEvent get_xexpose() { if (xexpose_view == null) xexpose_view = new XExposeEvent(pData + 0); else if (xexpose_view.pData != pData + 0) xexpose_view.setPData(pData + 0); return xexpose_view; }
+	private XGraphicsExposeEvent xgraphicsexpose_view;
+	public XGraphicsExposeEvent get_xgraphicsexpose() { if (xgraphicsexpose_view == null) xgraphicsexpose_view = new XGraphicsExposeEvent(pData + 0); else if (xgraphicsexpose_view.pData != pData + 0) xgraphicsexpose_view.setPData(pData + 0); return xgraphicsexpose_view; }
+	private XNoExposeEvent xnoexpose_view;
+	public XNoExposeEvent get_xnoexpose() { if (xnoexpose_view == null) xnoexpose_view = new XNoExposeEvent(pData + 0); else if (xnoexpose_view.pData != pData + 0) xnoexpose_view.setPData(pData + 0); return xnoexpose_view; }
+	private XVisibilityEvent xvisibility_view;
+	public XVisibilityEvent get_xvisibility() { if (xvisibility_view == null) xvisibility_view = new XVisibilityEvent(pData + 0); else if (xvisibility_view.pData != pData + 0) xvisibility_view.setPData(pData + 0); return xvisibility_view; }
+	private XCreateWindowEvent xcreatewindow_view;
+	public XCreateWindowEvent get_xcreatewindow() { if (xcreatewindow_view == null) xcreatewindow_view = new XCreateWindowEvent(pData + 0); else if (xcreatewindow_view.pData != pData + 0) xcreatewindow_view.setPData(pData + 0); return xcreatewindow_view; }
+	private XDestroyWindowEvent xdestroywindow_view;
+	public XDestroyWindowEvent get_xdestroywindow() { if (xdestroywindow_view == null) xdestroywindow_view = new XDestroyWindowEvent(pData + 0); else if (xdestroywindow_view.pData != pData + 0) xdestroywindow_view.setPData(pData + 0); return xdestroywindow_view; }
+	private XUnmapEvent xunmap_view;
+	public XUnmapEvent get_xunmap() { if (xunmap_view == null) xunmap_view = new XUnmapEvent(pData + 0); else if (xunmap_view.pData != pData + 0) xunmap_view.setPData(pData + 0); return xunmap_view; }
+	private XMapEvent xmap_view;
+	public XMapEvent get_xmap() { if (xmap_view == null) xmap_view = new XMapEvent(pData + 0); else if (xmap_view.pData != pData + 0) xmap_view.setPData(pData + 0); return xmap_view; }
+	private XMapRequestEvent xmaprequest_view;
+	public XMapRequestEvent get_xmaprequest() { if (xmaprequest_view == null) xmaprequest_view = new XMapRequestEvent(pData + 0); else if (xmaprequest_view.pData != pData + 0) xmaprequest_view.setPData(pData + 0); return xmaprequest_view; }
+	private XReparentEvent xreparent_view;
+	public XReparentEvent get_xreparent() { if (xreparent_view == null) xreparent_view = new XReparentEvent(pData + 0); else if (xreparent_view.pData != pData + 0) xreparent_view.setPData(pData + 0); return xreparent_view; }
+	private XConfigureEvent xconfigure_view;
+	public XConfigureEvent get_xconfigure() { if (xconfigure_view == null) xconfigure_view = new XConfigureEvent(pData + 0); else if (xconfigure_view.pData != pData + 0) xconfigure_view.setPData(pData + 0); return xconfigure_view; }
+	private XGravityEvent xgravity_view;
+	public XGravityEvent get_xgravity() { if (xgravity_view == null) xgravity_view = new XGravityEvent(pData + 0); else if (xgravity_view.pData != pData + 0) xgravity_view.setPData(pData + 0); return xgravity_view; }
+	private XResizeRequestEvent xresizerequest_view;
+	public XResizeRequestEvent get_xresizerequest() { if (xresizerequest_view == null) xresizerequest_view = new XResizeRequestEvent(pData + 0); else if (xresizerequest_view.pData != pData + 0) xresizerequest_view.setPData(pData + 0); return xresizerequest_view; }
+	private XConfigureRequestEvent xconfigurerequest_view;
+	public XConfigureRequestEvent get_xconfigurerequest() { if (xconfigurerequest_view == null) xconfigurerequest_view = new XConfigureRequestEvent(pData + 0); else if (xconfigurerequest_view.pData != pData + 0) xconfigurerequest_view.setPData(pData + 0); return xconfigurerequest_view; }
+	private XCirculateEvent xcirculate_view;
+	public XCirculateEvent get_xcirculate() { if (xcirculate_view == null) xcirculate_view = new XCirculateEvent(pData + 0); else if (xcirculate_view.pData != pData + 0) xcirculate_view.setPData(pData + 0); return xcirculate_view; }
+	private XCirculateRequestEvent xcirculaterequest_view;
+	public XCirculateRequestEvent get_xcirculaterequest() { if (xcirculaterequest_view == null) xcirculaterequest_view = new XCirculateRequestEvent(pData + 0); else if (xcirculaterequest_view.pData != pData + 0) xcirculaterequest_view.setPData(pData + 0); return xcirculaterequest_view; }
+	private XPropertyEvent xproperty_view;
+	public XPropertyEvent get_xproperty() { if (xproperty_view == null) xproperty_view = new XPropertyEvent(pData + 0); else if (xproperty_view.pData != pData + 0) xproperty_view.setPData(pData + 0); return xproperty_view; }
+	private XSelectionClearEvent xselectionclear_view;
+	public XSelectionClearEvent get_xselectionclear() { if (xselectionclear_view == null) xselectionclear_view = new XSelectionClearEvent(pData + 0); else if (xselectionclear_view.pData != pData + 0) xselectionclear_view.setPData(pData + 0); return xselectionclear_view; }
+	private XSelectionRequestEvent xselectionrequest_view;
+	public XSelectionRequestEvent get_xselectionrequest() { if (xselectionrequest_view == null) xselectionrequest_view = new XSelectionRequestEvent(pData + 0); else if (xselectionrequest_view.pData != pData + 0) xselectionrequest_view.setPData(pData + 0); return xselectionrequest_view; }
+	private XSelectionEvent xselection_view;
+	public XSelectionEvent get_xselection() { if (xselection_view == null) xselection_view = new XSelectionEvent(pData + 0); else if (xselection_view.pData != pData + 0) xselection_view.setPData(pData + 0); return xselection_view; }
+	private XColormapEvent xcolormap_view;
+	public XColormapEvent get_xcolormap() { if (xcolormap_view == null) xcolormap_view = new XColormapEvent(pData + 0); else if (xcolormap_view.pData != pData + 0) xcolormap_view.setPData(pData + 0); return xcolormap_view; }
+	private XClientMessageEvent xclient_view;
+	public XClientMessageEvent get_xclient() { if (xclient_view == null) xclient_view = new XClientMessageEvent(pData + 0); else if (xclient_view.pData != pData + 0) xclient_view.setPData(pData + 0); return xclient_view; }
+	private XMappingEvent xmapping_view;
+	public XMappingEvent get_xmapping() { if (xmapping_view == null) xmapping_view = new XMappingEvent(pData + 0); else if (xmapping_view.pData != pData + 0) xmapping_view.setPData(pData + 0); return xmapping_view; }
+	private XErrorEvent xerror_view;
+	public XErrorEvent get_xerror() { if (xerror_view == null) xerror_view = new XErrorEvent(pData + 0); else if (xerror_view.pData != pData + 0) xerror_view.setPData(pData + 0); return xerror_view; }
+	private XKeymapEvent xkeymap_view;
+	public XKeymapEvent get_xkeymap() { if (xkeymap_view == null) xkeymap_view = new XKeymapEvent(pData + 0); else if (xkeymap_view.pData != pData + 0) xkeymap_view.setPData(pData + 0); return xkeymap_view; }
+	public long get_pad(int index) { return Native.getLong(pData + 0+index*Native.getLongSize()); }
+	public void set_pad(int index, long v) { Native.putLong(pData+0 + index*Native.getLongSize(), v); }
+	public long get_pad() { return pData+0; }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XExtCodes extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XExtCodes(long addr) {
 		log.finest("Creating");
@@ -37,14 +46,14 @@ public class XExtCodes extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_extension() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_extension(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public int get_major_opcode() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_major_opcode(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public int get_first_event() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_first_event(int v) { log.finest(""); Native.putInt(pData+8, v); }
-	public int get_first_error() { log.finest("");return (Native.getInt(pData+12)); }
-	public void set_first_error(int v) { log.finest(""); Native.putInt(pData+12, v); }
+	public int get_extension() { return (Native.getInt(pData+0)); }
+	public void set_extension(int v) { Native.putInt(pData+0, v); }
+	public int get_major_opcode() { return (Native.getInt(pData+4)); }
+	public void set_major_opcode(int v) { Native.putInt(pData+4, v); }
+	public int get_first_event() { return (Native.getInt(pData+8)); }
+	public void set_first_event(int v) { Native.putInt(pData+8, v); }
+	public int get_first_error() { return (Native.getInt(pData+12)); }
+	public void set_first_error(int v) { Native.putInt(pData+12, v); }
 
 
 	String getName() {
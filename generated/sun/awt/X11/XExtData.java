@@ -15,6 +15,15 @@ public class XExtData extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XExtData(long addr) {
 		log.finest("Creating");
@@ -37,17 +46,17 @@ public class XExtData extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_number() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_number(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public XExtData get_next(int index) { log.finest(""); return (Native.getLong(pData+4) != 0)?(new XExtData(Native.getLong(pData+4)+index*16)):(null); }
-	public long get_next() { log.finest("");return Native.getLong(pData+4); }
-	public void set_next(long v) { log.finest(""); Native.putLong(pData + 4, v); }
-	public long get_free_private(int index) { log.finest(""); return Native.getLong(pData+8)+index*Native.getLongSize(); }
-	public long get_free_private() { log.finest("");return Native.getLong(pData+8); }
-	public void set_free_private(long v) { log.finest(""); Native.putLong(pData + 8, v); }
-	public long get_private_data(int index) { log.finest(""); return Native.getLong(pData+12)+index*Native.getLongSize(); }
-	public long get_private_data() { log.finest("");return Native.getLong(pData+12); }
-	public void set_private_data(long v) { log.finest(""); Native.putLong(pData + 12, v); }
+	public int get_number() { return (Native.getInt(pData+0)); }
+	public void set_number(int v) { Native.putInt(pData+0, v); }
+	public XExtData get_next(int index) { return (Native.getLong(pData+4) != 0)?(new XExtData(Native.getLong(pData+4)+index*16)):(null); }
+	public long get_next() { return Native.getLong(pData+4); }
+	public void set_next(long v) { Native.putLong(pData + 4, v); }
+	public long get_free_private(int index) { return Native.getLong(pData+8)+index*Native.getLongSize(); }
+	public long get_free_private() { return Native.getLong(pData+8); }
+	public void set_free_private(long v) { Native.putLong(pData + 8, v); }
+	public long get_private_data(int index) { return Native.getLong(pData+12)+index*Native.getLongSize(); }
+	public long get_private_data() { return Native.getLong(pData+12); }
+	public void set_private_data(long v) { Native.putLong(pData + 12, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XFontProp extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XFontProp(long addr) {
 		log.finest("Creating");
@@ -37,10 +46,10 @@ public class XFontProp extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public long get_name() { log.finest("");return (Native.getLong(pData+0)); }
-	public void set_name(long v) { log.finest(""); Native.putLong(pData+0, v); }
-	public long get_card32() { log.finest("");return (Native.getLong(pData+4)); }
-	public void set_card32(long v) { log.finest(""); Native.putLong(pData+4, v); }
+	public long get_name() { return (Native.getLong(pData+0)); }
+	public void set_name(long v) { Native.putLong(pData+0, v); }
+	public long get_card32() { return (Native.getLong(pData+4)); }
+	public void set_card32(long v) { Native.putLong(pData+4, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XFontSetExtents extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XFontSetExtents(long addr) {
 		log.finest("Creating");
@@ -37,8 +46,10 @@ public class XFontSetExtents extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public XRectangle get_max_ink_extent() { log.finest("");return new XRectangle(pData + 0); }
-	public XRectangle get_max_logical_extent() { log.finest("");return new XRectangle(pData + 8); }
+	private XRectangle max_ink_extent_view;
+	public XRectangle get_max_ink_extent() { if (max_ink_extent_view == null) max_ink_extent_view = new XRectangle(pData + 0); else if (max_ink_extent_view.pData != pData + 0) max_ink_extent_view.setPData(pData + 0); return max_ink_extent_view; }
+	private XRectangle max_logical_extent_view;
+	public XRectangle get_max_logical_extent() { if (max_logical_extent_view == null) max_logical_extent_view = new XRectangle(pData + 8); else if (max_logical_extent_view.pData != pData + 8) max_logical_extent_view.setPData(pData + 8); return max_logical_extent_view; }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XFontStruct extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XFontStruct(long addr) {
 		log.finest("Creating");
@@ -37,37 +46,39 @@ public class XFontStruct extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public XExtData get_ext_data(int index) { log.finest(""); return (Native.getLong(pData+0) != 0)?(new XExtData(Native.getLong(pData+0)+index*16)):(null); }
-	public long get_ext_data() { log.finest("");return Native.getLong(pData+0); }
-	public void set_ext_data(long v) { log.finest(""); Native.putLong(pData + 0, v); }
-	public long get_fid() { log.finest("");return (Native.getLong(pData+4)); }
-	public void set_fid(long v) { log.finest(""); Native.putLong(pData+4, v); }
-	public int get_direction() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_direction(int v) { log.finest(""); Native.putInt(pData+8, v); }
-	public int get_min_char_or_byte2() { log.finest("");return (Native.getInt(pData+12)); }
-	public void set_min_char_or_byte2(int v) { log.finest(""); Native.putInt(pData+12, v); }
-	public int get_max_char_or_byte2() { log.finest("");return (Native.getInt(pData+16)); }
-	public void set_max_char_or_byte2(int v) { log.finest(""); Native.putInt(pData+16, v); }
-	public int get_min_byte1() { log.finest("");return (Native.getInt(pData+20)); }
-	public void set_min_byte1(int v) { log.finest(""); Native.putInt(pData+20, v); }
-	public int get_max_byte1() { log.finest("");return (Native.getInt(pData+24)); }
-	public void set_max_byte1(int v) { log.finest(""); Native.putInt(pData+24, v); }
-	public boolean get_all_chars_exist() { log.finest("");return (Native.getBool(pData+28)); }
-	public void set_all_chars_exist(boolean v) { log.finest(""); Native.putBool(pData+28, v); }
-	public int get_n_properties() { log.finest("");return (Native.getInt(pData+36)); }
-	public void set_n_properties(int v) { log.finest(""); Native.putInt(pData+36, v); }
-	public XFontProp get_properties(int index) { log.finest(""); return (Native.getLong(pData+40) != 0)?(new XFontProp(Native.getLong(pData+40)+index*8)):(null); }
-	public long get_properties() { log.finest("");return Native.getLong(pData+40); }
-	public void set_properties(long v) { log.finest(""); Native.putLong(pData + 40, v); }
-	public XCharStruct get_min_bounds() { log.finest("");return new XCharStruct(pData + 44); }
-	public XCharStruct get_max_bounds() { log.finest("");return new XCharStruct(pData + 56); }
-	public XCharStruct get_per_char(int index) { log.finest(""); return (Native.getLong(pData+68) != 0)?(new XCharStruct(Native.getLong(pData+68)+index*12)):(null); }
-	public long get_per_char() { log.finest("");return Native.getLong(pData+68); }
-	public void set_per_char(long v) { log.finest(""); Native.putLong(pData + 68, v); }
-	public int get_ascent() { log.finest("");return (Native.getInt(pData+72)); }
-	public void set_ascent(int v) { log.finest(""); Native.putInt(pData+72, v); }
-	public int get_descent() { log.finest("");return (Native.getInt(pData+76)); }
-	public void set_descent(int v) { log.finest(""); Native.putInt(pData+76, v); }
+	public XExtData get_ext_data(int index) { return (Native.getLong(pData+0) != 0)?(new XExtData(Native.getLong(pData+0)+index*16)):(null); }
+	public long get_ext_data() { return Native.getLong(pData+0); }
+	public void set_ext_data(long v) { Native.putLong(pData + 0, v); }
+	public long get_fid() { return (Native.getLong(pData+4)); }
+	public void set_fid(long v) { Native.putLong(pData+4, v); }
+	public int get_direction() { return (Native.getInt(pData+8)); }
+	public void set_direction(int v) { Native.putInt(pData+8, v); }
+	public int get_min_char_or_byte2() { return (Native.getInt(pData+12)); }
+	public void set_min_char_or_byte2(int v) { Native.putInt(pData+12, v); }
+	public int get_max_char_or_byte2() { return (Native.getInt(pData+16)); }
+	public void set_max_char_or_byte2(int v) { Native.putInt(pData+16, v); }
+	public int get_min_byte1() { return (Native.getInt(pData+20)); }
+	public void set_min_byte1(int v) { Native.putInt(pData+20, v); }
+	public int get_max_byte1() { return (Native.getInt(pData+24)); }
+	public void set_max_byte1(int v) { Native.putInt(pData+24, v); }
+	public boolean get_all_chars_exist() { return (Native.getBool(pData+28)); }
+	public void set_all_chars_exist(boolean v) { Native.putBool(pData+28, v); }
+	public int get_n_properties() { return (Native.getInt(pData+36)); }
+	public void set_n_properties(int v) { Native.putInt(pData+36, v); }
+	public XFontProp get_properties(int index) { return (Native.getLong(pData+40) != 0)?(new XFontProp(Native.getLong(pData+40)+index*8)):(null); }
+	public long get_properties() { return Native.getLong(pData+40); }
+	public void set_properties(long v) { Native.putLong(pData + 40, v); }
+	private XCharStruct min_bounds_view;
+	public XCharStruct get_min_bounds() { if (min_bounds_view == null) min_bounds_view = new XCharStruct(pData + 44); else if (min_bounds_view.pData != pData + 44) min_bounds_view.setPData(pData + 44); return min_bounds_view; }
+	private XCharStruct max_bounds_view;
+	public XCharStruct get_max_bounds() { if (max_bounds_view == null) max_bounds_view = new XCharStruct(pData + 56); else if (max_bounds_view.pData != pData + 56) max_bounds_view.setPData(pData + 56); return max_bounds_view; }
+	public XCharStruct get_per_char(int index) { return (Native.getLong(pData+68) != 0)?(new XCharStruct(Native.getLong(pData+68)+index*12)):(null); }
+	public long get_per_char() { return Native.getLong(pData+68); }
+	public void set_per_char(long v) { Native.putLong(pData + 68, v); }
+	public int get_ascent() { return (Native.getInt(pData+72)); }
+	public void set_ascent(int v) { Native.putInt(pData+72, v); }
+	public int get_descent() { return (Native.getInt(pData+76)); }
+	public void set_descent(int v) { Native.putInt(pData+76, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XGCValues extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XGCValues(long addr) {
 		log.finest("Creating");
@@ -37,52 +46,52 @@ public class XGCValues extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_function() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_function(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_plane_mask() { log.finest("");return (Native.getLong(pData+4)); }
-	public void set_plane_mask(long v) { log.finest(""); Native.putLong(pData+4, v); }
-	public long get_foreground() { log.finest("");return (Native.getLong(pData+8)); }
-	public void set_foreground(long v) { log.finest(""); Native.putLong(pData+8, v); }
-	public long get_background() { log.finest("");return (Native.getLong(pData+12)); }
-	public void set_background(long v) { log.finest(""); Native.putLong(pData+12, v); }
-	public int get_line_width() { log.finest("");return (Native.getInt(pData+16)); }
-	public void set_line_width(int v) { log.finest(""); Native.putInt(pData+16, v); }
-	public int get_line_style() { log.finest("");return (Native.getInt(pData+20)); }
-	public void set_line_style(int v) { log.finest(""); Native.putInt(pData+20, v); }
-	public int get_cap_style() { log.finest("");return (Native.getInt(pData+24)); }
-	public void set_cap_style(int v) { log.finest(""); Native.putInt(pData+24, v); }
-	public int get_join_style() { log.finest("");return (Native.getInt(pData+28)); }
-	public void set_join_style(int v) { log.finest(""); Native.putInt(pData+28, v); }
-	public int get_fill_style() { log.finest("");return (Native.getInt(pData+32)); }
-	public void set_fill_style(int v) { log.finest(""); Native.putInt(pData+32, v); }
-	public int get_fill_rule() { log.finest("");return (Native.getInt(pData+36)); }
-	public void set_fill_rule(int v) { log.finest(""); Native.putInt(pData+36, v); }
-	public int get_arc_mode() { log.finest("");return (Native.getInt(pData+40)); }
-	public void set_arc_mode(int v) { log.finest(""); Native.putInt(pData+40, v); }
-	public long get_tile() { log.finest("");return (Native.getLong(pData+44)); }
-	public void set_tile(long v) { log.finest(""); Native.putLong(pData+44, v); }
-	public long get_stipple() { log.finest("");return (Native.getLong(pData+48)); }
-	public void set_stipple(long v) { log.finest(""); Native.putLong(pData+48, v); }
-	public int get_ts_x_origin() { log.finest("");return (Native.getInt(pData+52)); }
-	public void set_ts_x_origin(int v) { log.finest(""); Native.putInt(pData+52, v); }
-	public int get_ts_y_origin() { log.finest("");return (Native.getInt(pData+56)); }
-	public void set_ts_y_origin(int v) { log.finest(""); Native.putInt(pData+56, v); }
-	public long get_font() { log.finest("");return (Native.getLong(pData+60)); }
-	public void set_font(long v) { log.finest(""); Native.putLong(pData+60, v); }
-	public int get_subwindow_mode() { log.finest("");return (Native.getInt(pData+64)); }
-	public void set_subwindow_mode(int v) { log.finest(""); Native.putInt(pData+64, v); }
-	public boolean get_graphics_exposures() { log.finest("");return (Native.getBool(pData+68)); }
-	public void set_graphics_exposures(boolean v) { log.finest(""); Native.putBool(pData+68, v); }
-	public int get_clip_x_origin() { log.finest("");return (Native.getInt(pData+72)); }
-	public void set_clip_x_origin(int v) { log.finest(""); Native.putInt(pData+72, v); }
-	public int get_clip_y_origin() { log.finest("");return (Native.getInt(pData+76)); }
-	public void set_clip_y_origin(int v) { log.finest(""); Native.putInt(pData+76, v); }
-	public long get_clip_mask() { log.finest("");return (Native.getLong(pData+80)); }
-	public void set_clip_mask(long v) { log.finest(""); Native.putLong(pData+80, v); }
-	public int get_dash_offset() { log.finest("");return (Native.getInt(pData+84)); }
-	public void set_dash_offset(int v) { log.finest(""); Native.putInt(pData+84, v); }
-	public byte get_dashes() { log.finest("");return (Native.getByte(pData+88)); }
-	public void set_dashes(byte v) { log.finest(""); Native.putByte(pData+88, v); }
+	public int get_function() { return (Native.getInt(pData+0)); }
+	public void set_function(int v) { Native.putInt(pData+0, v); }
+	public long get_plane_mask() { return (Native.getLong(pData+4)); }
+	public void set_plane_mask(long v) { Native.putLong(pData+4, v); }
+	public long get_foreground() { return (Native.getLong(pData+8)); }
+	public void set_foreground(long v) { Native.putLong(pData+8, v); }
+	public long get_background() { return (Native.getLong(pData+12)); }
+	public void set_background(long v) { Native.putLong(pData+12, v); }
+	public int get_line_width() { return (Native.getInt(pData+16)); }
+	public void set_line_width(int v) { Native.putInt(pData+16, v); }
+	public int get_line_style() { return (Native.getInt(pData+20)); }
+	public void set_line_style(int v) { Native.putInt(pData+20, v); }
+	public int get_cap_style() { return (Native.getInt(pData+24)); }
+	public void set_cap_style(int v) { Native.putInt(pData+24, v); }
+	public int get_join_style() { return (Native.getInt(pData+28)); }
+	public void set_join_style(int v) { Native.putInt(pData+28, v); }
+	public int get_fill_style() { return (Native.getInt(pData+32)); }
+	public void set_fill_style(int v) { Native.putInt(pData+32, v); }
+	public int get_fill_rule() { return (Native.getInt(pData+36)); }
+	public void set_fill_rule(int v) { Native.putInt(pData+36, v); }
+	public int get_arc_mode() { return (Native.getInt(pData+40)); }
+	public void set_arc_mode(int v) { Native.putInt(pData+40, v); }
+	public long get_tile() { return (Native.getLong(pData+44)); }
+	public void set_tile(long v) { Native.putLong(pData+44, v); }
+	public long get_stipple() { return (Native.getLong(pData+48)); }
+	public void set_stipple(long v) { Native.putLong(pData+48, v); }
+	public int get_ts_x_origin() { return (Native.getInt(pData+52)); }
+	public void set_ts_x_origin(int v) { Native.putInt(pData+52, v); }
+	public int get_ts_y_origin() { return (Native.getInt(pData+56)); }
+	public void set_ts_y_origin(int v) { Native.putInt(pData+56, v); }
+	public long get_font() { return (Native.getLong(pData+60)); }
+	public void set_font(long v) { Native.putLong(pData+60, v); }
+	public int get_subwindow_mode() { return (Native.getInt(pData+64)); }
+	public void set_subwindow_mode(int v) { Native.putInt(pData+64, v); }
+	public boolean get_graphics_exposures() { return (Native.getBool(pData+68)); }
+	public void set_graphics_exposures(boolean v) { Native.putBool(pData+68, v); }
+	public int get_clip_x_origin() { return (Native.getInt(pData+72)); }
+	public void set_clip_x_origin(int v) { Native.putInt(pData+72, v); }
+	public int get_clip_y_origin() { return (Native.getInt(pData+76)); }
+	public void set_clip_y_origin(int v) { Native.putInt(pData+76, v); }
+	public long get_clip_mask() { return (Native.getLong(pData+80)); }
+	public void set_clip_mask(long v) { Native.putLong(pData+80, v); }
+	public int get_dash_offset() { return (Native.getInt(pData+84)); }
+	public void set_dash_offset(int v) { Native.putInt(pData+84, v); }
+	public byte get_dashes() { return (Native.getByte(pData+88)); }
+	public void set_dashes(byte v) { Native.putByte(pData+88, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XGraphicsExposeEvent extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XGraphicsExposeEvent(long addr) {
 		log.finest("Creating");
@@ -37,30 +46,30 @@ public class XGraphicsExposeEvent extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_type() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_type(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_serial() { log.finest("");return (Native.getLong(pData+4)); }
-	public void set_serial(long v) { log.finest(""); Native.putLong(pData+4, v); }
-	public boolean get_send_event() { log.finest("");return (Native.getBool(pData+8)); }
-	public void set_send_event(boolean v) { log.finest(""); Native.putBool(pData+8, v); }
-	public long get_display() { log.finest("");return (Native.getLong(pData+12)); }
-	public void set_display(long v) { log.finest(""); Native.putLong(pData+12, v); }
-	public long get_drawable() { log.finest("");return (Native.getLong(pData+16)); }
-	public void set_drawable(long v) { log.finest(""); Native.putLong(pData+16, v); }
-	public int get_x() { log.finest("");return (Native.getInt(pData+20)); }
-	public void set_x(int v) { log.finest(""); Native.putInt(pData+20, v); }
-	public int get_y() { log.finest("");return (Native.getInt(pData+24)); }
-	public void set_y(int v) { log.finest(""); Native.putInt(pData+24, v); }
-	public int get_width() { log.finest("");return (Native.getInt(pData+28)); }
-	public void set_width(int v) { log.finest(""); Native.putInt(pData+28, v); }
-	public int get_height() { log.finest("");return (Native.getInt(pData+32)); }
-	public void set_height(int v) { log.finest(""); Native.putInt(pData+32, v); }
-	public int get_count() { log.finest("");return (Native.getInt(pData+36)); }
-	public void set_count(int v) { log.finest(""); Native.putInt(pData+36, v); }
-	public int get_major_code() { log.finest("");return (Native.getInt(pData+40)); }
-	public void set_major_code(int v) { log.finest(""); Native.putInt(pData+40, v); }
-	public int get_minor_code() { log.finest("");return (Native.getInt(pData+44)); }
-	public void set_minor_code(int v) { log.finest(""); Native.putInt(pData+44, v); }
+	public int get_type() { return (Native.getInt(pData+0)); }
+	public void set_type(int v) { Native.putInt(pData+0, v); }
+	public long get_serial() { return (Native.getLong(pData+4)); }
+	public void set_serial(long v) { Native.putLong(pData+4, v); }
+	public boolean get_send_event() { return (Native.getBool(pData+8)); }
+	public void set_send_event(boolean v) { Native.putBool(pData+8, v); }
+	public long get_display() { return (Native.getLong(pData+12)); }
+	public void set_display(long v) { Native.putLong(pData+12, v); }
+	public long get_drawable() { return (Native.getLong(pData+16)); }
+	public void set_drawable(long v) { Native.putLong(pData+16, v); }
+	public int get_x() { return (Native.getInt(pData+20)); }
+	public void set_x(int v) { Native.putInt(pData+20, v); }
+	public int get_y() { return (Native.getInt(pData+24)); }
+	public void set_y(int v) { Native.putInt(pData+24, v); }
+	public int get_width() { return (Native.getInt(pData+28)); }
+	public void set_width(int v) { Native.putInt(pData+28, v); }
+	public int get_height() { return (Native.getInt(pData+32)); }
+	public void set_height(int v) { Native.putInt(pData+32, v); }
+	public int get_count() { return (Native.getInt(pData+36)); }
+	public void set_count(int v) { Native.putInt(pData+36, v); }
+	public int get_major_code() { return (Native.getInt(pData+40)); }
+	public void set_major_code(int v) { Native.putInt(pData+40, v); }
+	public int get_minor_code() { return (Native.getInt(pData+44)); }
+	public void set_minor_code(int v) { Native.putInt(pData+44, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XHostAddress extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XHostAddress(long addr) {
 		log.finest("Creating");
@@ -37,13 +46,13 @@ public class XHostAddress extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_family() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_family(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public int get_length() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_length(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public long get_address(int index) { log.finest(""); return Native.getLong(pData+8)+index*Native.getLongSize(); }
-	public long get_address() { log.finest("");return Native.getLong(pData+8); }
-	public void set_address(long v) { log.finest(""); Native.putLong(pData + 8, v); }
+	public int get_family() { return (Native.getInt(pData+0)); }
+	public void set_family(int v) { Native.putInt(pData+0, v); }
+	public int get_length() { return (Native.getInt(pData+4)); }
+	public void set_length(int v) { Native.putInt(pData+4, v); }
+	public long get_address(int index) { return Native.getLong(pData+8)+index*Native.getLongSize(); }
+	public long get_address() { return Native.getLong(pData+8); }
+	public void set_address(long v) { Native.putLong(pData + 8, v); }
 
 
 	String getName() {
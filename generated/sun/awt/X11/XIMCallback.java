@@ -15,6 +15,15 @@ public class XIMCallback extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XIMCallback(long addr) {
 		log.finest("Creating");
@@ -37,12 +46,12 @@ public class XIMCallback extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public long get_client_data(int index) { log.finest(""); return Native.getLong(pData+0)+index*Native.getLongSize(); }
-	public long get_client_data() { log.finest("");return Native.getLong(pData+0); }
-	public void set_client_data(long v) { log.finest(""); Native.putLong(pData + 0, v); }
-	public long get_callback(int index) { log.finest(""); return Native.getLong(pData+4)+index*Native.getLongSize(); }
-	public long get_callback() { log.finest("");return Native.getLong(pData+4); }
-	public void set_callback(long v) { log.finest(""); Native.putLong(pData + 4, v); }
+	public long get_client_data(int index) { return Native.getLong(pData+0)+index*Native.getLongSize(); }
+	public long get_client_data() { return Native.getLong(pData+0); }
+	public void set_client_data(long v) { Native.putLong(pData + 0, v); }
+	public long get_callback(int index) { return Native.getLong(pData+4)+index*Native.getLongSize(); }
+	public long get_callback() { return Native.getLong(pData+4); }
+	public void set_callback(long v) { Native.putLong(pData + 4, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XIMHotKeyTrigger extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XIMHotKeyTrigger(long addr) {
 		log.finest("Creating");
@@ -37,12 +46,12 @@ public class XIMHotKeyTrigger extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public long get_keysym() { log.finest("");return (Native.getLong(pData+0)); }
-	public void set_keysym(long v) { log.finest(""); Native.putLong(pData+0, v); }
-	public int get_modifier() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_modifier(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public int get_modifier_mask() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_modifier_mask(int v) { log.finest(""); Native.putInt(pData+8, v); }
+	public long get_keysym() { return (Native.getLong(pData+0)); }
+	public void set_keysym(long v) { Native.putLong(pData+0, v); }
+	public int get_modifier() { return (Native.getInt(pData+4)); }
+	public void set_modifier(int v) { Native.putInt(pData+4, v); }
+	public int get_modifier_mask() { return (Native.getInt(pData+8)); }
+	public void set_modifier_mask(int v) { Native.putInt(pData+8, v); }
 
 
 	String getName() {
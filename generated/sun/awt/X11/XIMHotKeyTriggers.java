@@ -15,6 +15,15 @@ public class XIMHotKeyTriggers extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XIMHotKeyTriggers(long addr) {
 		log.finest("Creating");
@@ -37,11 +46,11 @@ public class XIMHotKeyTriggers extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_num_hot_key() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_num_hot_key(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public XIMHotKeyTrigger get_key(int index) { log.finest(""); return (Native.getLong(pData+4) != 0)?(new XIMHotKeyTrigger(Native.getLong(pData+4)+index*12)):(null); }
-	public long get_key() { log.finest("");return Native.getLong(pData+4); }
-	public void set_key(long v) { log.finest(""); Native.putLong(pData + 4, v); }
+	public int get_num_hot_key() { return (Native.getInt(pData+0)); }
+	public void set_num_hot_key(int v) { Native.putInt(pData+0, v); }
+	public XIMHotKeyTrigger get_key(int index) { return (Native.getLong(pData+4) != 0)?(new XIMHotKeyTrigger(Native.getLong(pData+4)+index*12)):(null); }
+	public long get_key() { return Native.getLong(pData+4); }
+	public void set_key(long v) { Native.putLong(pData + 4, v); }
 
 
 	String getName() {
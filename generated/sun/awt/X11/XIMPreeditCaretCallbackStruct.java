@@ -15,6 +15,15 @@ public class XIMPreeditCaretCallbackStruct extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XIMPreeditCaretCallbackStruct(long addr) {
 		log.finest("Creating");
@@ -37,12 +46,12 @@ public class XIMPreeditCaretCallbackStruct extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_position() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_position(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public int get_direction() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_direction(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public int get_style() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_style(int v) { log.finest(""); Native.putInt(pData+8, v); }
+	public int get_position() { return (Native.getInt(pData+0)); }
+	public void set_position(int v) { Native.putInt(pData+0, v); }
+	public int get_direction() { return (Native.getInt(pData+4)); }
+	public void set_direction(int v) { Native.putInt(pData+4, v); }
+	public int get_style() { return (Native.getInt(pData+8)); }
+	public void set_style(int v) { Native.putInt(pData+8, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XIMPreeditDrawCallbackStruct extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XIMPreeditDrawCallbackStruct(long addr) {
 		log.finest("Creating");
@@ -37,15 +46,15 @@ public class XIMPreeditDrawCallbackStruct extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_caret() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_caret(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public int get_chg_first() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_chg_first(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public int get_chg_length() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_chg_length(int v) { log.finest(""); Native.putInt(pData+8, v); }
-	public XIMText get_text(int index) { log.finest(""); return (Native.getLong(pData+12) != 0)?(new XIMText(Native.getLong(pData+12)+index*16)):(null); }
-	public long get_text() { log.finest("");return Native.getLong(pData+12); }
-	public void set_text(long v) { log.finest(""); Native.putLong(pData + 12, v); }
+	public int get_caret() { return (Native.getInt(pData+0)); }
+	public void set_caret(int v) { Native.putInt(pData+0, v); }
+	public int get_chg_first() { return (Native.getInt(pData+4)); }
+	public void set_chg_first(int v) { Native.putInt(pData+4, v); }
+	public int get_chg_length() { return (Native.getInt(pData+8)); }
+	public void set_chg_length(int v) { Native.putInt(pData+8, v); }
+	public XIMText get_text(int index) { return (Native.getLong(pData+12) != 0)?(new XIMText(Native.getLong(pData+12)+index*16)):(null); }
+	public long get_text() { return Native.getLong(pData+12); }
+	public void set_text(long v) { Native.putLong(pData + 12, v); }
 
 
 	String getName() {
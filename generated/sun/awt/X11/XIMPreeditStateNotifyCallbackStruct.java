@@ -15,6 +15,15 @@ public class XIMPreeditStateNotifyCallbackStruct extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XIMPreeditStateNotifyCallbackStruct(long addr) {
 		log.finest("Creating");
@@ -37,8 +46,8 @@ public class XIMPreeditStateNotifyCallbackStruct extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public long get_state() { log.finest("");return (Native.getLong(pData+0)); }
-	public void set_state(long v) { log.finest(""); Native.putLong(pData+0, v); }
+	public long get_state() { return (Native.getLong(pData+0)); }
+	public void set_state(long v) { Native.putLong(pData+0, v); }
 
 
 	String getName() {
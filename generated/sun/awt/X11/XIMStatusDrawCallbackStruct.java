@@ -15,6 +15,15 @@ public class XIMStatusDrawCallbackStruct extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XIMStatusDrawCallbackStruct(long addr) {
 		log.finest("Creating");
@@ -37,10 +46,10 @@ public class XIMStatusDrawCallbackStruct extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_type() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_type(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_data() { log.finest("");return (Native.getLong(pData+4)); }
-	public void set_data(long v) { log.finest(""); Native.putLong(pData+4, v); }
+	public int get_type() { return (Native.getInt(pData+0)); }
+	public void set_type(int v) { Native.putInt(pData+0, v); }
+	public long get_data() { return (Native.getLong(pData+4)); }
+	public void set_data(long v) { Native.putLong(pData+4, v); }
 
 
 	String getName() {
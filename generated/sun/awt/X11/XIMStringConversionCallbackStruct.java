@@ -15,6 +15,15 @@ public class XIMStringConversionCallbackStruct extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XIMStringConversionCallbackStruct(long addr) {
 		log.finest("Creating");
@@ -37,17 +46,17 @@ public class XIMStringConversionCallbackStruct extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public short get_position() { log.finest("");return (Native.getShort(pData+0)); }
-	public void set_position(short v) { log.finest(""); Native.putShort(pData+0, v); }
-	public int get_direction() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_direction(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public short get_operation() { log.finest("");return (Native.getShort(pData+8)); }
-	public void set_operation(short v) { log.finest(""); Native.putShort(pData+8, v); }
-	public short get_factor() { log.finest("");return (Native.getShort(pData+10)); }
-	public void set_factor(short v) { log.finest(""); Native.putShort(pData+10, v); }
-	public XIMStringConversionText get_text(int index) { log.finest(""); return (Native.getLong(pData+12) != 0)?(new XIMStringConversionText(Native.getLong(pData+12)+index*16)):(null); }
-	public long get_text() { log.finest("");return Native.getLong(pData+12); }
-	public void set_text(long v) { log.finest(""); Native.putLong(pData + 12, v); }
+	public short get_position() { return (Native.getShort(pData+0)); }
+	public void set_position(short v) { Native.putShort(pData+0, v); }
+	public int get_direction() { return (Native.getInt(pData+4)); }
+	public void set_direction(int v) { Native.putInt(pData+4, v); }
+	public short get_operation() { return (Native.getShort(pData+8)); }
+	public void set_operation(short v) { Native.putShort(pData+8, v); }
+	public short get_factor() { return (Native.getShort(pData+10)); }
+	public void set_factor(short v) { Native.putShort(pData+10, v); }
+	public XIMStringConversionText get_text(int index) { return (Native.getLong(pData+12) != 0)?(new XIMStringConversionText(Native.getLong(pData+12)+index*16)):(null); }
+	public long get_text() { return Native.getLong(pData+12); }
+	public void set_text(long v) { Native.putLong(pData + 12, v); }
 
 
 	String getName() {
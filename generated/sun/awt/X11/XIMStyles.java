@@ -15,6 +15,15 @@ public class XIMStyles extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XIMStyles(long addr) {
 		log.finest("Creating");
@@ -37,11 +46,11 @@ public class XIMStyles extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public short get_count_styles() { log.finest("");return (Native.getShort(pData+0)); }
-	public void set_count_styles(short v) { log.finest(""); Native.putShort(pData+0, v); }
-	public long get_supported_styles(int index) { log.finest(""); return Native.getLong(Native.getLong(pData+4)+index*Native.getLongSize()); }
-	public long get_supported_styles() { log.finest("");return Native.getLong(pData+4); }
-	public void set_supported_styles(long v) { log.finest(""); Native.putLong(pData + 4, v); }
+	public short get_count_styles() { return (Native.getShort(pData+0)); }
+	public void set_count_styles(short v) { Native.putShort(pData+0, v); }
+	public long get_supported_styles(int index) { return Native.getLong(Native.getLong(pData+4)+index*Native.getLongSize()); }
+	public long get_supported_styles() { return Native.getLong(pData+4); }
+	public void set_supported_styles(long v) { Native.putLong(pData + 4, v); }
 
 
 	String getName() {
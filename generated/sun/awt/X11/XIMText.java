@@ -15,6 +15,15 @@ public class XIMText extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XIMText(long addr) {
 		log.finest("Creating");
@@ -37,16 +46,16 @@ public class XIMText extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public short get_length() { log.finest("");return (Native.getShort(pData+0)); }
-	public void set_length(short v) { log.finest(""); Native.putShort(pData+0, v); }
-	public long get_feedback(int index) { log.finest(""); return Native.getLong(pData+4)+index*Native.getLongSize(); }
-	public long get_feedback() { log.finest("");return Native.getLong(pData+4); }
-	public void set_feedback(long v) { log.finest(""); Native.putLong(pData + 4, v); }
-	public boolean get_encoding_is_wchar() { log.finest("");return (Native.getBool(pData+8)); }
-	public void set_encoding_is_wchar(boolean v) { log.finest(""); Native.putBool(pData+8, v); }
-	public long get_string(int index) { log.finest(""); return Native.getLong(pData+12)+index*Native.getLongSize(); }
-	public long get_string() { log.finest("");return Native.getLong(pData+12); }
-	public void set_string(long v) { log.finest(""); Native.putLong(pData + 12, v); }
+	public short get_length() { return (Native.getShort(pData+0)); }
+	public void set_length(short v) { Native.putShort(pData+0, v); }
+	public long get_feedback(int index) { return Native.getLong(pData+4)+index*Native.getLongSize(); }
+	public long get_feedback() { return Native.getLong(pData+4); }
+	public void set_feedback(long v) { Native.putLong(pData + 4, v); }
+	public boolean get_encoding_is_wchar() { return (Native.getBool(pData+8)); }
+	public void set_encoding_is_wchar(boolean v) { Native.putBool(pData+8, v); }
+	public long get_string(int index) { return Native.getLong(pData+12)+index*Native.getLongSize(); }
+	public long get_string() { return Native.getLong(pData+12); }
+	public void set_string(long v) { Native.putLong(pData + 12, v); }
 
 
 	String getName() {
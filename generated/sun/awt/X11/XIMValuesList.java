@@ -15,6 +15,15 @@ public class XIMValuesList extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XIMValuesList(long addr) {
 		log.finest("Creating");
@@ -37,11 +46,11 @@ public class XIMValuesList extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public short get_count_values() { log.finest("");return (Native.getShort(pData+0)); }
-	public void set_count_values(short v) { log.finest(""); Native.putShort(pData+0, v); }
-	public long get_supported_values(int index) { log.finest(""); return Native.getLong(pData+4)+index*Native.getLongSize(); }
-	public long get_supported_values() { log.finest("");return Native.getLong(pData+4); }
-	public void set_supported_values(long v) { log.finest(""); Native.putLong(pData + 4, v); }
+	public short get_count_values() { return (Native.getShort(pData+0)); }
+	public void set_count_values(short v) { Native.putShort(pData+0, v); }
+	public long get_supported_values(int index) { return Native.getLong(pData+4)+index*Native.getLongSize(); }
+	public long get_supported_values() { return Native.getLong(pData+4); }
+	public void set_supported_values(long v) { Native.putLong(pData + 4, v); }
 
 
 	String getName() {
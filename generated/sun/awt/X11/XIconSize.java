@@ -15,6 +15,15 @@ public class XIconSize extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XIconSize(long addr) {
 		log.finest("Creating");
@@ -37,18 +46,18 @@ public class XIconSize extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_min_width() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_min_width(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public int get_min_height() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_min_height(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public int get_max_width() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_max_width(int v) { log.finest(""); Native.putInt(pData+8, v); }
-	public int get_max_height() { log.finest("");return (Native.getInt(pData+12)); }
-	public void set_max_height(int v) { log.finest(""); Native.putInt(pData+12, v); }
-	public int get_width_inc() { log.finest("");return (Native.getInt(pData+16)); }
-	public void set_width_inc(int v) { log.finest(""); Native.putInt(pData+16, v); }
-	public int get_height_inc() { log.finest("");return (Native.getInt(pData+20)); }
-	public void set_height_inc(int v) { log.finest(""); Native.putInt(pData+20, v); }
+	public int get_min_width() { return (Native.getInt(pData+0)); }
+	public void set_min_width(int v) { Native.putInt(pData+0, v); }
+	public int get_min_height() { return (Native.getInt(pData+4)); }
+	public void set_min_height(int v) { Native.putInt(pData+4, v); }
+	public int get_max_width() { return (Native.getInt(pData+8)); }
+	public void set_max_width(int v) { Native.putInt(pData+8, v); }
+	public int get_max_height() { return (Native.getInt(pData+12)); }
+	public void set_max_height(int v) { Native.putInt(pData+12, v); }
+	public int get_width_inc() { return (Native.getInt(pData+16)); }
+	public void set_width_inc(int v) { Native.putInt(pData+16, v); }
+	public int get_height_inc() { return (Native.getInt(pData+20)); }
+	public void set_height_inc(int v) { Native.putInt(pData+20, v); }
 
 
 	String getName() {
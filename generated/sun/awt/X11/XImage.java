@@ -15,6 +15,15 @@ public class XImage extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XImage(long addr) {
 		log.finest("Creating");
@@ -37,58 +46,58 @@ public class XImage extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_width() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_width(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public int get_height() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_height(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public int get_xoffset() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_xoffset(int v) { log.finest(""); Native.putInt(pData+8, v); }
-	public int get_format() { log.finest("");return (Native.getInt(pData+12)); }
-	public void set_format(int v) { log.finest(""); Native.putInt(pData+12, v); }
-	public byte get_data(int index) { log.finest(""); return Native.getByte(Native.getLong(pData+16)+index*1); }
-	public long get_data() { log.finest("");return Native.getLong(pData+16); }
-	public void set_data(long v) { log.finest(""); Native.putLong(pData + 16, v); }
-	public int get_byte_order() { log.finest("");return (Native.getInt(pData+20)); }
-	public void set_byte_order(int v) { log.finest(""); Native.putInt(pData+20, v); }
-	public int get_bitmap_unit() { log.finest("");return (Native.getInt(pData+24)); }
-	public void set_bitmap_unit(int v) { log.finest(""); Native.putInt(pData+24, v); }
-	public int get_bitmap_bit_order() { log.finest("");return (Native.getInt(pData+28)); }
-	public void set_bitmap_bit_order(int v) { log.finest(""); Native.putInt(pData+28, v); }
-	public int get_bitmap_pad() { log.finest("");return (Native.getInt(pData+32)); }
-	public void set_bitmap_pad(int v) { log.finest(""); Native.putInt(pData+32, v); }
-	public int get_depth() { log.finest("");return (Native.getInt(pData+36)); }
-	public void set_depth(int v) { log.finest(""); Native.putInt(pData+36, v); }
-	public int get_bytes_per_line() { log.finest("");return (Native.getInt(pData+40)); }
-	public void set_bytes_per_line(int v) { log.finest(""); Native.putInt(pData+40, v); }
-	public int get_bits_per_pixel() { log.finest("");return (Native.getInt(pData+44)); }
-	public void set_bits_per_pixel(int v) { log.finest(""); Native.putInt(pData+44, v); }
-	public long get_red_mask() { log.finest("");return (Native.getLong(pData+48)); }
-	public void set_red_mask(long v) { log.finest(""); Native.putLong(pData+48, v); }
-	public long get_green_mask() { log.finest("");return (Native.getLong(pData+52)); }
-	public void set_green_mask(long v) { log.finest(""); Native.putLong(pData+52, v); }
-	public long get_blue_mask() { log.finest("");return (Native.getLong(pData+56)); }
-	public void set_blue_mask(long v) { log.finest(""); Native.putLong(pData+56, v); }
-	public long get_obdata(int index) { log.finest(""); return Native.getLong(pData+60)+index*Native.getLongSize(); }
-	public long get_obdata() { log.finest("");return Native.getLong(pData+60); }
-	public void set_obdata(long v) { log.finest(""); Native.putLong(pData + 60, v); }
-	public long get_f_create_image(int index) { log.finest(""); return Native.getLong(pData+64)+index*Native.getLongSize(); }
-	public long get_f_create_image() { log.finest("");return Native.getLong(pData+64); }
-	public void set_f_create_image(long v) { log.finest(""); Native.putLong(pData + 64, v); }
-	public long get_f_destroy_image(int index) { log.finest(""); return Native.getLong(pData+68)+index*Native.getLongSize(); }
-	public long get_f_destroy_image() { log.finest("");return Native.getLong(pData+68); }
-	public void set_f_destroy_image(long v) { log.finest(""); Native.putLong(pData + 68, v); }
-	public long get_f_get_pixel(int index) { log.finest(""); return Native.getLong(pData+72)+index*Native.getLongSize(); }
-	public long get_f_get_pixel() { log.finest("");return Native.getLong(pData+72); }
-	public void set_f_get_pixel(long v) { log.finest(""); Native.putLong(pData + 72, v); }
-	public long get_f_put_pixel(int index) { log.finest(""); return Native.getLong(pData+76)+index*Native.getLongSize(); }
-	public long get_f_put_pixel() { log.finest("");return Native.getLong(pData+76); }
-	public void set_f_put_pixel(long v) { log.finest(""); Native.putLong(pData + 76, v); }
-	public long get_f_sub_image(int index) { log.finest(""); return Native.getLong(pData+80)+index*Native.getLongSize(); }
-	public long get_f_sub_image() { log.finest("");return Native.getLong(pData+80); }
-	public void set_f_sub_image(long v) { log.finest(""); Native.putLong(pData + 80, v); }
-	public long get_f_add_pixel(int index) { log.finest(""); return Native.getLong(pData+84)+index*Native.getLongSize(); }
-	public long get_f_add_pixel() { log.finest("");return Native.getLong(pData+84); }
-	public void set_f_add_pixel(long v) { log.finest(""); Native.putLong(pData + 84, v); }
+	public int get_width() { return (Native.getInt(pData+0)); }
+	public void set_width(int v) { Native.putInt(pData+0, v); }
+	public int get_height() { return (Native.getInt(pData+4)); }
+	public void set_height(int v) { Native.putInt(pData+4, v); }
+	public int get_xoffset() { return (Native.getInt(pData+8)); }
+	public void set_xoffset(int v) { Native.putInt(pData+8, v); }
+	public int get_format() { return (Native.getInt(pData+12)); }
+	public void set_format(int v) { Native.putInt(pData+12, v); }
+	public byte get_data(int index) { return Native.getByte(Native.getLong(pData+16)+index*1); }
+	public long get_data() { return Native.getLong(pData+16); }
+	public void set_data(long v) { Native.putLong(pData + 16, v); }
+	public int get_byte_order() { return (Native.getInt(pData+20)); }
+	public void set_byte_order(int v) { Native.putInt(pData+20, v); }
+	public int get_bitmap_unit() { return (Native.getInt(pData+24)); }
+	public void set_bitmap_unit(int v) { Native.putInt(pData+24, v); }
+	public int get_bitmap_bit_order() { return (Native.getInt(pData+28)); }
+	public void set_bitmap_bit_order(int v) { Native.putInt(pData+28, v); }
+	public int get_bitmap_pad() { return (Native.getInt(pData+32)); }
+	public void set_bitmap_pad(int v) { Native.putInt(pData+32, v); }
+	public int get_depth() { return (Native.getInt(pData+36)); }
+	public void set_depth(int v) { Native.putInt(pData+36, v); }
+	public int get_bytes_per_line() { return (Native.getInt(pData+40)); }
+	public void set_bytes_per_line(int v) { Native.putInt(pData+40, v); }
+	public int get_bits_per_pixel() { return (Native.getInt(pData+44)); }
+	public void set_bits_per_pixel(int v) { Native.putInt(pData+44, v); }
+	public long get_red_mask() { return (Native.getLong(pData+48)); }
+	public void set_red_mask(long v) { Native.putLong(pData+48, v); }
+	public long get_green_mask() { return (Native.getLong(pData+52)); }
+	public void set_green_mask(long v) { Native.putLong(pData+52, v); }
+	public long get_blue_mask() { return (Native.getLong(pData+56)); }
+	public void set_blue_mask(long v) { Native.putLong(pData+56, v); }
+	public long get_obdata(int index) { return Native.getLong(pData+60)+index*Native.getLongSize(); }
+	public long get_obdata() { return Native.getLong(pData+60); }
+	public void set_obdata(long v) { Native.putLong(pData + 60, v); }
+	public long get_f_create_image(int index) { return Native.getLong(pData+64)+index*Native.getLongSize(); }
+	public long get_f_create_image() { return Native.getLong(pData+64); }
+	public void set_f_create_image(long v) { Native.putLong(pData + 64, v); }
+	public long get_f_destroy_image(int index) { return Native.getLong(pData+68)+index*Native.getLongSize(); }
+	public long get_f_destroy_image() { return Native.getLong(pData+68); }
+	public void set_f_destroy_image(long v) { Native.putLong(pData + 68, v); }
+	public long get_f_get_pixel(int index) { return Native.getLong(pData+72)+index*Native.getLongSize(); }
+	public long get_f_get_pixel() { return Native.getLong(pData+72); }
+	public void set_f_get_pixel(long v) { Native.putLong(pData + 72, v); }
+	public long get_f_put_pixel(int index) { return Native.getLong(pData+76)+index*Native.getLongSize(); }
+	public long get_f_put_pixel() { return Native.getLong(pData+76); }
+	public void set_f_put_pixel(long v) { Native.putLong(pData + 76, v); }
+	public long get_f_sub_image(int index) { return Native.getLong(pData+80)+index*Native.getLongSize(); }
+	public long get_f_sub_image() { return Native.getLong(pData+80); }
+	public void set_f_sub_image(long v) { Native.putLong(pData + 80, v); }
+	public long get_f_add_pixel(int index) { return Native.getLong(pData+84)+index*Native.getLongSize(); }
+	public long get_f_add_pixel() { return Native.getLong(pData+84); }
+	public void set_f_add_pixel(long v) { Native.putLong(pData + 84, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XKeyboardControl extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XKeyboardControl(long addr) {
 		log.finest("Creating");
@@ -37,22 +46,22 @@ public class XKeyboardControl extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_key_click_percent() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_key_click_percent(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public int get_bell_percent() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_bell_percent(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public int get_bell_pitch() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_bell_pitch(int v) { log.finest(""); Native.putInt(pData+8, v); }
-	public int get_bell_duration() { log.finest("");return (Native.getInt(pData+12)); }
-	public void set_bell_duration(int v) { log.finest(""); Native.putInt(pData+12, v); }
-	public int get_led() { log.finest("");return (Native.getInt(pData+16)); }
-	public void set_led(int v) { log.finest(""); Native.putInt(pData+16, v); }
-	public int get_led_mode() { log.finest("");return (Native.getInt(pData+20)); }
-	public void set_led_mode(int v) { log.finest(""); Native.putInt(pData+20, v); }
-	public int get_key() { log.finest("");return (Native.getInt(pData+24)); }
-	public void set_key(int v) { log.finest(""); Native.putInt(pData+24, v); }
-	public int get_auto_repeat_mode() { log.finest("");return (Native.getInt(pData+28)); }
-	public void set_auto_repeat_mode(int v) { log.finest(""); Native.putInt(pData+28, v); }
+	public int get_key_click_percent() { return (Native.getInt(pData+0)); }
+	public void set_key_click_percent(int v) { Native.putInt(pData+0, v); }
+	public int get_bell_percent() { return (Native.getInt(pData+4)); }
+	public void set_bell_percent(int v) { Native.putInt(pData+4, v); }
+	public int get_bell_pitch() { return (Native.getInt(pData+8)); }
+	public void set_bell_pitch(int v) { Native.putInt(pData+8, v); }
+	public int get_bell_duration() { return (Native.getInt(pData+12)); }
+	public void set_bell_duration(int v) { Native.putInt(pData+12, v); }
+	public int get_led() { return (Native.getInt(pData+16)); }
+	public void set_led(int v) { Native.putInt(pData+16, v); }
+	public int get_led_mode() { return (Native.getInt(pData+20)); }
+	public void set_led_mode(int v) { Native.putInt(pData+20, v); }
+	public int get_key() { return (Native.getInt(pData+24)); }
+	public void set_key(int v) { Native.putInt(pData+24, v); }
+	public int get_auto_repeat_mode() { return (Native.getInt(pData+28)); }
+	public void set_auto_repeat_mode(int v) { Native.putInt(pData+28, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XKeyboardState extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XKeyboardState(long addr) {
 		log.finest("Creating");
@@ -37,21 +46,21 @@ public class XKeyboardState extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_key_click_percent() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_key_click_percent(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public int get_bell_percent() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_bell_percent(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public int get_bell_pitch() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_bell_pitch(int v) { log.finest(""); Native.putInt(pData+8, v); }
-	public int get_bell_duration() { log.finest("");return (Native.getInt(pData+12)); }
-	public void set_bell_duration(int v) { log.finest(""); Native.putInt(pData+12, v); }
-	public long get_led_mask() { log.finest("");return (Native.getLong(pData+16)); }
-	public void set_led_mask(long v) { log.finest(""); Native.putLong(pData+16, v); }
-	public int get_global_auto_repeat() { log.finest("");return (Native.getInt(pData+20)); }
-	public void set_global_auto_repeat(int v) { log.finest(""); Native.putInt(pData+20, v); }
-	public byte get_auto_repeats(int index) { log.finest("");return Native.getByte(pData + 24+index*1); }
-	public void set_auto_repeats(int index, byte v) { log.finest(""); Native.putByte(pData+24 + index*1, v); }
-	public long get_auto_repeats() { log.finest("");return pData+24; }
+	public int get_key_click_percent() { return (Native.getInt(pData+0)); }
+	public void set_key_click_percent(int v) { Native.putInt(pData+0, v); }
+	public int get_bell_percent() { return (Native.getInt(pData+4)); }
+	public void set_bell_percent(int v) { Native.putInt(pData+4, v); }
+	public int get_bell_pitch() { return (Native.getInt(pData+8)); }
+	public void set_bell_pitch(int v) { Native.putInt(pData+8, v); }
+	public int get_bell_duration() { return (Native.getInt(pData+12)); }
+	public void set_bell_duration(int v) { Native.putInt(pData+12, v); }
+	public long get_led_mask() { return (Native.getLong(pData+16)); }
+	public void set_led_mask(long v) { Native.putLong(pData+16, v); }
+	public int get_global_auto_repeat() { return (Native.getInt(pData+20)); }
+	public void set_global_auto_repeat(int v) { Native.putInt(pData+20, v); }
+	public byte get_auto_repeats(int index) { return Native.getByte(pData + 24+index*1); }
+	public void set_auto_repeats(int index, byte v) { Native.putByte(pData+24 + index*1, v); }
+	public long get_auto_repeats() { return pData+24; }
 
 
 	String getName() {
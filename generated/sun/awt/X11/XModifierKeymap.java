@@ -15,6 +15,15 @@ public class XModifierKeymap extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XModifierKeymap(long addr) {
 		log.finest("Creating");
@@ -37,11 +46,11 @@ public class XModifierKeymap extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_max_keypermod() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_max_keypermod(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_modifiermap(int index) { log.finest(""); return Native.getLong(pData+4)+index*Native.getLongSize(); }
-	public long get_modifiermap() { log.finest("");return Native.getLong(pData+4); }
-	public void set_modifiermap(long v) { log.finest(""); Native.putLong(pData + 4, v); }
+	public int get_max_keypermod() { return (Native.getInt(pData+0)); }
+	public void set_max_keypermod(int v) { Native.putInt(pData+0, v); }
+	public long get_modifiermap(int index) { return Native.getLong(pData+4)+index*Native.getLongSize(); }
+	public long get_modifiermap() { return Native.getLong(pData+4); }
+	public void set_modifiermap(long v) { Native.putLong(pData + 4, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XOMCharSetList extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XOMCharSetList(long addr) {
 		log.finest("Creating");
@@ -37,11 +46,11 @@ public class XOMCharSetList extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_charset_count() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_charset_count(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_charset_list(int index) { log.finest(""); return Native.getLong(pData+4)+index*Native.getLongSize(); }
-	public long get_charset_list() { log.finest("");return Native.getLong(pData+4); }
-	public void set_charset_list(long v) { log.finest(""); Native.putLong(pData + 4, v); }
+	public int get_charset_count() { return (Native.getInt(pData+0)); }
+	public void set_charset_count(int v) { Native.putInt(pData+0, v); }
+	public long get_charset_list(int index) { return Native.getLong(pData+4)+index*Native.getLongSize(); }
+	public long get_charset_list() { return Native.getLong(pData+4); }
+	public void set_charset_list(long v) { Native.putLong(pData + 4, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XOMFontInfo extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XOMFontInfo(long addr) {
 		log.finest("Creating");
@@ -37,14 +46,14 @@ public class XOMFontInfo extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_num_font() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_num_font(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_font_struct_list(int index) { log.finest(""); return Native.getLong(pData+4)+index*Native.getLongSize(); }
-	public long get_font_struct_list() { log.finest("");return Native.getLong(pData+4); }
-	public void set_font_struct_list(long v) { log.finest(""); Native.putLong(pData + 4, v); }
-	public long get_font_name_list(int index) { log.finest(""); return Native.getLong(pData+8)+index*Native.getLongSize(); }
-	public long get_font_name_list() { log.finest("");return Native.getLong(pData+8); }
-	public void set_font_name_list(long v) { log.finest(""); Native.putLong(pData + 8, v); }
+	public int get_num_font() { return (Native.getInt(pData+0)); }
+	public void set_num_font(int v) { Native.putInt(pData+0, v); }
+	public long get_font_struct_list(int index) { return Native.getLong(pData+4)+index*Native.getLongSize(); }
+	public long get_font_struct_list() { return Native.getLong(pData+4); }
+	public void set_font_struct_list(long v) { Native.putLong(pData + 4, v); }
+	public long get_font_name_list(int index) { return Native.getLong(pData+8)+index*Native.getLongSize(); }
+	public long get_font_name_list() { return Native.getLong(pData+8); }
+	public void set_font_name_list(long v) { Native.putLong(pData + 8, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XOMOrientation extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XOMOrientation(long addr) {
 		log.finest("Creating");
@@ -37,11 +46,11 @@ public class XOMOrientation extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_num_orientation() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_num_orientation(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public int get_orientation(int index) { log.finest(""); return Native.getInt(Native.getLong(pData+4)+index*4); }
-	public long get_orientation() { log.finest("");return Native.getLong(pData+4); }
-	public void set_orientation(long v) { log.finest(""); Native.putLong(pData + 4, v); }
+	public int get_num_orientation() { return (Native.getInt(pData+0)); }
+	public void set_num_orientation(int v) { Native.putInt(pData+0, v); }
+	public int get_orientation(int index) { return Native.getInt(Native.getLong(pData+4)+index*4); }
+	public long get_orientation() { return Native.getLong(pData+4); }
+	public void set_orientation(long v) { Native.putLong(pData + 4, v); }
 
 
 	String getName() {
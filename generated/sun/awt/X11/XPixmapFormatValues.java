@@ -15,6 +15,15 @@ public class XPixmapFormatValues extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XPixmapFormatValues(long addr) {
 		log.finest("Creating");
@@ -37,12 +46,12 @@ public class XPixmapFormatValues extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_depth() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_depth(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public int get_bits_per_pixel() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_bits_per_pixel(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public int get_scanline_pad() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_scanline_pad(int v) { log.finest(""); Native.putInt(pData+8, v); }
+	public int get_depth() { return (Native.getInt(pData+0)); }
+	public void set_depth(int v) { Native.putInt(pData+0, v); }
+	public int get_bits_per_pixel() { return (Native.getInt(pData+4)); }
+	public void set_bits_per_pixel(int v) { Native.putInt(pData+4, v); }
+	public int get_scanline_pad() { return (Native.getInt(pData+8)); }
+	public void set_scanline_pad(int v) { Native.putInt(pData+8, v); }
 
 
 	String getName() {
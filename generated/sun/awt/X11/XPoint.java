@@ -15,6 +15,15 @@ public class XPoint extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XPoint(long addr) {
 		log.finest("Creating");
@@ -37,10 +46,10 @@ public class XPoint extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public short get_x() { log.finest("");return (Native.getShort(pData+0)); }
-	public void set_x(short v) { log.finest(""); Native.putShort(pData+0, v); }
-	public short get_y() { log.finest("");return (Native.getShort(pData+2)); }
-	public void set_y(short v) { log.finest(""); Native.putShort(pData+2, v); }
+	public short get_x() { return (Native.getShort(pData+0)); }
+	public void set_x(short v) { Native.putShort(pData+0, v); }
+	public short get_y() { return (Native.getShort(pData+2)); }
+	public void set_y(short v) { Native.putShort(pData+2, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XRectangle extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XRectangle(long addr) {
 		log.finest("Creating");
@@ -37,14 +46,14 @@ public class XRectangle extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public short get_x() { log.finest("");return (Native.getShort(pData+0)); }
-	public void set_x(short v) { log.finest(""); Native.putShort(pData+0, v); }
-	public short get_y() { log.finest("");return (Native.getShort(pData+2)); }
-	public void set_y(short v) { log.finest(""); Native.putShort(pData+2, v); }
-	public short get_width() { log.finest("");return (Native.getShort(pData+4)); }
-	public void set_width(short v) { log.finest(""); Native.putShort(pData+4, v); }
-	public short get_height() { log.finest("");return (Native.getShort(pData+6)); }
-	public void set_height(short v) { log.finest(""); Native.putShort(pData+6, v); }
+	public short get_x() { return (Native.getShort(pData+0)); }
+	public void set_x(short v) { Native.putShort(pData+0, v); }
+	public short get_y() { return (Native.getShort(pData+2)); }
+	public void set_y(short v) { Native.putShort(pData+2, v); }
+	public short get_width() { return (Native.getShort(pData+4)); }
+	public void set_width(short v) { Native.putShort(pData+4, v); }
+	public short get_height() { return (Native.getShort(pData+6)); }
+	public void set_height(short v) { Native.putShort(pData+6, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XReparentEvent extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XReparentEvent(long addr) {
 		log.finest("Creating");
@@ -37,26 +46,26 @@ public class XReparentEvent extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_type() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_type(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_serial() { log.finest("");return (Native.getLong(pData+4)); }
-	public void set_serial(long v) { log.finest(""); Native.putLong(pData+4, v); }
-	public boolean get_send_event() { log.finest("");return (Native.getBool(pData+8)); }
-	public void set_send_event(boolean v) { log.finest(""); Native.putBool(pData+8, v); }
-	public long get_display() { log.finest("");return (Native.getLong(pData+12)); }
-	public void set_display(long v) { log.finest(""); Native.putLong(pData+12, v); }
-	public long get_event() { log.finest("");return (Native.getLong(pData+16)); }
-	public void set_event(long v) { log.finest(""); Native.putLong(pData+16, v); }
-	public long get_window() { log.finest("");return (Native.getLong(pData+20)); }
-	public void set_window(long v) { log.finest(""); Native.putLong(pData+20, v); }
-	public long get_parent() { log.finest("");return (Native.getLong(pData+24)); }
-	public void set_parent(long v) { log.finest(""); Native.putLong(pData+24, v); }
-	public int get_x() { log.finest("");return (Native.getInt(pData+28)); }
-	public void set_x(int v) { log.finest(""); Native.putInt(pData+28, v); }
-	public int get_y() { log.finest("");return (Native.getInt(pData+32)); }
-	public void set_y(int v) { log.finest(""); Native.putInt(pData+32, v); }
-	public boolean get_override_redirect() { log.finest("");return (Native.getBool(pData+36)); }
-	public void set_override_redirect(boolean v) { log.finest(""); Native.putBool(pData+36, v); }
+	public int get_type() { return (Native.getInt(pData+0)); }
+	public void set_type(int v) { Native.putInt(pData+0, v); }
+	public long get_serial() { return (Native.getLong(pData+4)); }
+	public void set_serial(long v) { Native.putLong(pData+4, v); }
+	public boolean get_send_event() { return (Native.getBool(pData+8)); }
+	public void set_send_event(boolean v) { Native.putBool(pData+8, v); }
+	public long get_display() { return (Native.getLong(pData+12)); }
+	public void set_display(long v) { Native.putLong(pData+12, v); }
+	public long get_event() { return (Native.getLong(pData+16)); }
+	public void set_event(long v) { Native.putLong(pData+16, v); }
+	public long get_window() { return (Native.getLong(pData+20)); }
+	public void set_window(long v) { Native.putLong(pData+20, v); }
+	public long get_parent() { return (Native.getLong(pData+24)); }
+	public void set_parent(long v) { Native.putLong(pData+24, v); }
+	public int get_x() { return (Native.getInt(pData+28)); }
+	public void set_x(int v) { Native.putInt(pData+28, v); }
+	public int get_y() { return (Native.getInt(pData+32)); }
+	public void set_y(int v) { Native.putInt(pData+32, v); }
+	public boolean get_override_redirect() { return (Native.getBool(pData+36)); }
+	public void set_override_redirect(boolean v) { Native.putBool(pData+36, v); }
 
 
 	String getName() {
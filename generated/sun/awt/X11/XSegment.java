@@ -15,6 +15,15 @@ public class XSegment extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XSegment(long addr) {
 		log.finest("Creating");
@@ -37,14 +46,14 @@ public class XSegment extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public short get_x1() { log.finest("");return (Native.getShort(pData+0)); }
-	public void set_x1(short v) { log.finest(""); Native.putShort(pData+0, v); }
-	public short get_y1() { log.finest("");return (Native.getShort(pData+2)); }
-	public void set_y1(short v) { log.finest(""); Native.putShort(pData+2, v); }
-	public short get_x2() { log.finest("");return (Native.getShort(pData+4)); }
-	public void set_x2(short v) { log.finest(""); Native.putShort(pData+4, v); }
-	public short get_y2() { log.finest("");return (Native.getShort(pData+6)); }
-	public void set_y2(short v) { log.finest(""); Native.putShort(pData+6, v); }
+	public short get_x1() { return (Native.getShort(pData+0)); }
+	public void set_x1(short v) { Native.putShort(pData+0, v); }
+	public short get_y1() { return (Native.getShort(pData+2)); }
+	public void set_y1(short v) { Native.putShort(pData+2, v); }
+	public short get_x2() { return (Native.getShort(pData+4)); }
+	public void set_x2(short v) { Native.putShort(pData+4, v); }
+	public short get_y2() { return (Native.getShort(pData+6)); }
+	public void set_y2(short v) { Native.putShort(pData+6, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XSelectionRequestEvent extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XSelectionRequestEvent(long addr) {
 		log.finest("Creating");
@@ -37,26 +46,26 @@ public class XSelectionRequestEvent extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_type() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_type(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_serial() { log.finest("");return (Native.getLong(pData+4)); }
-	public void set_serial(long v) { log.finest(""); Native.putLong(pData+4, v); }
-	public boolean get_send_event() { log.finest("");return (Native.getBool(pData+8)); }
-	public void set_send_event(boolean v) { log.finest(""); Native.putBool(pData+8, v); }
-	public long get_display() { log.finest("");return (Native.getLong(pData+12)); }
-	public void set_display(long v) { log.finest(""); Native.putLong(pData+12, v); }
-	public long get_owner() { log.finest("");return (Native.getLong(pData+16)); }
-	public void set_owner(long v) { log.finest(""); Native.putLong(pData+16, v); }
-	public long get_requestor() { log.finest("");return (Native.getLong(pData+20)); }
-	public void set_requestor(long v) { log.finest(""); Native.putLong(pData+20, v); }
-	public long get_selection() { log.finest("");return (Native.getLong(pData+24)); }
-	public void set_selection(long v) { log.finest(""); Native.putLong(pData+24, v); }
-	public long get_target() { log.finest("");return (Native.getLong(pData+28)); }
-	public void set_target(long v) { log.finest(""); Native.putLong(pData+28, v); }
-	public long get_property() { log.finest("");return (Native.getLong(pData+32)); }
-	public void set_property(long v) { log.finest(""); Native.putLong(pData+32, v); }
-	public long get_time() { log.finest("");return (Native.getULong(pData+36)); }
-	public void set_time(long v) { log.finest(""); Native.putULong(pData+36, v); }
+	public int get_type() { return (Native.getInt(pData+0)); }
+	public void set_type(int v) { Native.putInt(pData+0, v); }
+	public long get_serial() { return (Native.getLong(pData+4)); }
+	public void set_serial(long v) { Native.putLong(pData+4, v); }
+	public boolean get_send_event() { return (Native.getBool(pData+8)); }
+	public void set_send_event(boolean v) { Native.putBool(pData+8, v); }
+	public long get_display() { return (Native.getLong(pData+12)); }
+	public void set_display(long v) { Native.putLong(pData+12, v); }
+	public long get_owner() { return (Native.getLong(pData+16)); }
+	public void set_owner(long v) { Native.putLong(pData+16, v); }
+	public long get_requestor() { return (Native.getLong(pData+20)); }
+	public void set_requestor(long v) { Native.putLong(pData+20, v); }
+	public long get_selection() { return (Native.getLong(pData+24)); }
+	public void set_selection(long v) { Native.putLong(pData+24, v); }
+	public long get_target() { return (Native.getLong(pData+28)); }
+	public void set_target(long v) { Native.putLong(pData+28, v); }
+	public long get_property() { return (Native.getLong(pData+32)); }
+	public void set_property(long v) { Native.putLong(pData+32, v); }
+	public long get_time() { return (Native.getULong(pData+36)); }
+	public void set_time(long v) { Native.putULong(pData+36, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XSetWindowAttributes extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XSetWindowAttributes(long addr) {
 		log.finest("Creating");
@@ -37,36 +46,36 @@ public class XSetWindowAttributes extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public long get_background_pixmap() { log.finest("");return (Native.getLong(pData+0)); }
-	public void set_background_pixmap(long v) { log.finest(""); Native.putLong(pData+0, v); }
-	public long get_background_pixel() { log.finest("");return (Native.getLong(pData+4)); }
-	public void set_background_pixel(long v) { log.finest(""); Native.putLong(pData+4, v); }
-	public long get_border_pixmap() { log.finest("");return (Native.getLong(pData+8)); }
-	public void set_border_pixmap(long v) { log.finest(""); Native.putLong(pData+8, v); }
-	public long get_border_pixel() { log.finest("");return (Native.getLong(pData+12)); }
-	public void set_border_pixel(long v) { log.finest(""); Native.putLong(pData+12, v); }
-	public int get_bit_gravity() { log.finest("");return (Native.getInt(pData+16)); }
-	public void set_bit_gravity(int v) { log.finest(""); Native.putInt(pData+16, v); }
-	public int get_win_gravity() { log.finest("");return (Native.getInt(pData+20)); }
-	public void set_win_gravity(int v) { log.finest(""); Native.putInt(pData+20, v); }
-	public int get_backing_store() { log.finest("");return (Native.getInt(pData+24)); }
-	public void set_backing_store(int v) { log.finest(""); Native.putInt(pData+24, v); }
-	public long get_backing_planes() { log.finest("");return (Native.getLong(pData+28)); }
-	public void set_backing_planes(long v) { log.finest(""); Native.putLong(pData+28, v); }
-	public long get_backing_pixel() { log.finest("");return (Native.getLong(pData+32)); }
-	public void set_backing_pixel(long v) { log.finest(""); Native.putLong(pData+32, v); }
-	public boolean get_save_under() { log.finest("");return (Native.getBool(pData+36)); }
-	public void set_save_under(boolean v) { log.finest(""); Native.putBool(pData+36, v); }
-	public long get_event_mask() { log.finest("");return (Native.getLong(pData+40)); }
-	public void set_event_mask(long v) { log.finest(""); Native.putLong(pData+40, v); }
-	public long get_do_not_propagate_mask() { log.finest("");return (Native.getLong(pData+44)); }
-	public void set_do_not_propagate_mask(long v) { log.finest(""); Native.putLong(pData+44, v); }
-	public boolean get_override_redirect() { log.finest("");return (Native.getBool(pData+48)); }
-	public void set_override_redirect(boolean v) { log.finest(""); Native.putBool(pData+48, v); }
-	public long get_colormap() { log.finest("");return (Native.getLong(pData+52)); }
-	public void set_colormap(long v) { log.finest(""); Native.putLong(pData+52, v); }
-	public long get_cursor() { log.finest("");return (Native.getLong(pData+56)); }
-	public void set_cursor(long v) { log.finest(""); Native.putLong(pData+56, v); }
+	public long get_background_pixmap() { return (Native.getLong(pData+0)); }
+	public void set_background_pixmap(long v) { Native.putLong(pData+0, v); }
+	public long get_background_pixel() { return (Native.getLong(pData+4)); }
+	public void set_background_pixel(long v) { Native.putLong(pData+4, v); }
+	public long get_border_pixmap() { return (Native.getLong(pData+8)); }
+	public void set_border_pixmap(long v) { Native.putLong(pData+8, v); }
+	public long get_border_pixel() { return (Native.getLong(pData+12)); }
+	public void set_border_pixel(long v) { Native.putLong(pData+12, v); }
+	public int get_bit_gravity() { return (Native.getInt(pData+16)); }
+	public void set_bit_gravity(int v) { Native.putInt(pData+16, v); }
+	public int get_win_gravity() { return (Native.getInt(pData+20)); }
+	public void set_win_gravity(int v) { Native.putInt(pData+20, v); }
+	public int get_backing_store() { return (Native.getInt(pData+24)); }
+	public void set_backing_store(int v) { Native.putInt(pData+24, v); }
+	public long get_backing_planes() { return (Native.getLong(pData+28)); }
+	public void set_backing_planes(long v) { Native.putLong(pData+28, v); }
+	public long get_backing_pixel() { return (Native.getLong(pData+32)); }
+	public void set_backing_pixel(long v) { Native.putLong(pData+32, v); }
+	public boolean get_save_under() { return (Native.getBool(pData+36)); }
+	public void set_save_under(boolean v) { Native.putBool(pData+36, v); }
+	public long get_event_mask() { return (Native.getLong(pData+40)); }
+	public void set_event_mask(long v) { Native.putLong(pData+40, v); }
+	public long get_do_not_propagate_mask() { return (Native.getLong(pData+44)); }
+	public void set_do_not_propagate_mask(long v) { Native.putLong(pData+44, v); }
+	public boolean get_override_redirect() { return (Native.getBool(pData+48)); }
+	public void set_override_redirect(boolean v) { Native.putBool(pData+48, v); }
+	public long get_colormap() { return (Native.getLong(pData+52)); }
+	public void set_colormap(long v) { Native.putLong(pData+52, v); }
+	public long get_cursor() { return (Native.getLong(pData+56)); }
+	public void set_cursor(long v) { Native.putLong(pData+56, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XSizeHints extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XSizeHints(long addr) {
 		log.finest("Creating");
@@ -37,42 +46,42 @@ public class XSizeHints extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public long get_flags() { log.finest("");return (Native.getLong(pData+0)); }
-	public void set_flags(long v) { log.finest(""); Native.putLong(pData+0, v); }
-	public int get_x() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_x(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public int get_y() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_y(int v) { log.finest(""); Native.putInt(pData+8, v); }
-	public int get_width() { log.finest("");return (Native.getInt(pData+12)); }
-	public void set_width(int v) { log.finest(""); Native.putInt(pData+12, v); }
-	public int get_height() { log.finest("");return (Native.getInt(pData+16)); }
-	public void set_height(int v) { log.finest(""); Native.putInt(pData+16, v); }
-	public int get_min_width() { log.finest("");return (Native.getInt(pData+20)); }
-	public void set_min_width(int v) { log.finest(""); Native.putInt(pData+20, v); }
-	public int get_min_height() { log.finest("");return (Native.getInt(pData+24)); }
-	public void set_min_height(int v) { log.finest(""); Native.putInt(pData+24, v); }
-	public int get_max_width() { log.finest("");return (Native.getInt(pData+28)); }
-	public void set_max_width(int v) { log.finest(""); Native.putInt(pData+28, v); }
-	public int get_max_height() { log.finest("");return (Native.getInt(pData+32)); }
-	public void set_max_height(int v) { log.finest(""); Native.putInt(pData+32, v); }
-	public int get_width_inc() { log.finest("");return (Native.getInt(pData+36)); }
-	public void set_width_inc(int v) { log.finest(""); Native.putInt(pData+36, v); }
-	public int get_height_inc() { log.finest("");return (Native.getInt(pData+40)); }
-	public void set_height_inc(int v) { log.finest(""); Native.putInt(pData+40, v); }
-	public int get_min_aspect_x() { log.finest("");return (Native.getInt(pData+44)); }
-	public void set_min_aspect_x(int v) { log.finest(""); Native.putInt(pData+44, v); }
-	public int get_min_aspect_y() { log.finest("");return (Native.getInt(pData+48)); }
-	public void set_min_aspect_y(int v) { log.finest(""); Native.putInt(pData+48, v); }
-	public int get_max_aspect_x() { log.finest("");return (Native.getInt(pData+52)); }
-	public void set_max_aspect_x(int v) { log.finest(""); Native.putInt(pData+52, v); }
-	public int get_max_aspect_y() { log.finest("");return (Native.getInt(pData+56)); }
-	public void set_max_aspect_y(int v) { log.finest(""); Native.putInt(pData+56, v); }
-	public int get_base_width() { log.finest("");return (Native.getInt(pData+60)); }
-	public void set_base_width(int v) { log.finest(""); Native.putInt(pData+60, v); }
-	public int get_base_height() { log.finest("");return (Native.getInt(pData+64)); }
-	public void set_base_height(int v) { log.finest(""); Native.putInt(pData+64, v); }
-	public int get_win_gravity() { log.finest("");return (Native.getInt(pData+68)); }
-	public void set_win_gravity(int v) { log.finest(""); Native.putInt(pData+68, v); }
+	public long get_flags() { return (Native.getLong(pData+0)); }
+	public void set_flags(long v) { Native.putLong(pData+0, v); }
+	public int get_x() { return (Native.getInt(pData+4)); }
+	public void set_x(int v) { Native.putInt(pData+4, v); }
+	public int get_y() { return (Native.getInt(pData+8)); }
+	public void set_y(int v) { Native.putInt(pData+8, v); }
+	public int get_width() { return (Native.getInt(pData+12)); }
+	public void set_width(int v) { Native.putInt(pData+12, v); }
+	public int get_height() { return (Native.getInt(pData+16)); }
+	public void set_height(int v) { Native.putInt(pData+16, v); }
+	public int get_min_width() { return (Native.getInt(pData+20)); }
+	public void set_min_width(int v) { Native.putInt(pData+20, v); }
+	public int get_min_height() { return (Native.getInt(pData+24)); }
+	public void set_min_height(int v) { Native.putInt(pData+24, v); }
+	public int get_max_width() { return (Native.getInt(pData+28)); }
+	public void set_max_width(int v) { Native.putInt(pData+28, v); }
+	public int get_max_height() { return (Native.getInt(pData+32)); }
+	public void set_max_height(int v) { Native.putInt(pData+32, v); }
+	public int get_width_inc() { return (Native.getInt(pData+36)); }
+	public void set_width_inc(int v) { Native.putInt(pData+36, v); }
+	public int get_height_inc() { return (Native.getInt(pData+40)); }
+	public void set_height_inc(int v) { Native.putInt(pData+40, v); }
+	public int get_min_aspect_x() { return (Native.getInt(pData+44)); }
+	public void set_min_aspect_x(int v) { Native.putInt(pData+44, v); }
+	public int get_min_aspect_y() { return (Native.getInt(pData+48)); }
+	public void set_min_aspect_y(int v) { Native.putInt(pData+48, v); }
+	public int get_max_aspect_x() { return (Native.getInt(pData+52)); }
+	public void set_max_aspect_x(int v) { Native.putInt(pData+52, v); }
+	public int get_max_aspect_y() { return (Native.getInt(pData+56)); }
+	public void set_max_aspect_y(int v) { Native.putInt(pData+56, v); }
+	public int get_base_width() { return (Native.getInt(pData+60)); }
+	public void set_base_width(int v) { Native.putInt(pData+60, v); }
+	public int get_base_height() { return (Native.getInt(pData+64)); }
+	public void set_base_height(int v) { Native.putInt(pData+64, v); }
+	public int get_win_gravity() { return (Native.getInt(pData+68)); }
+	public void set_win_gravity(int v) { Native.putInt(pData+68, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XStandardColormap extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XStandardColormap(long addr) {
 		log.finest("Creating");
@@ -37,26 +46,26 @@ public class XStandardColormap extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public long get_colormap() { log.finest("");return (Native.getLong(pData+0)); }
-	public void set_colormap(long v) { log.finest(""); Native.putLong(pData+0, v); }
-	public long get_red_max() { log.finest("");return (Native.getLong(pData+4)); }
-	public void set_red_max(long v) { log.finest(""); Native.putLong(pData+4, v); }
-	public long get_red_mult() { log.finest("");return (Native.getLong(pData+8)); }
-	public void set_red_mult(long v) { log.finest(""); Native.putLong(pData+8, v); }
-	public long get_green_max() { log.finest("");return (Native.getLong(pData+12)); }
-	public void set_green_max(long v) { log.finest(""); Native.putLong(pData+12, v); }
-	public long get_green_mult() { log.finest("");return (Native.getLong(pData+16)); }
-	public void set_green_mult(long v) { log.finest(""); Native.putLong(pData+16, v); }
-	public long get_blue_max() { log.finest("");return (Native.getLong(pData+20)); }
-	public void set_blue_max(long v) { log.finest(""); Native.putLong(pData+20, v); }
-	public long get_blue_mult() { log.finest("");return (Native.getLong(pData+24)); }
-	public void set_blue_mult(long v) { log.finest(""); Native.putLong(pData+24, v); }
-	public long get_base_pixel() { log.finest("");return (Native.getLong(pData+28)); }
-	public void set_base_pixel(long v) { log.finest(""); Native.putLong(pData+28, v); }
-	public long get_visualid() { log.finest("");return (Native.getLong(pData+32)); }
-	public void set_visualid(long v) { log.finest(""); Native.putLong(pData+32, v); }
-	public long get_killid() { log.finest("");return (Native.getLong(pData+36)); }
-	public void set_killid(long v) { log.finest(""); Native.putLong(pData+36, v); }
+	public long get_colormap() { return (Native.getLong(pData+0)); }
+	public void set_colormap(long v) { Native.putLong(pData+0, v); }
+	public long get_red_max() { return (Native.getLong(pData+4)); }
+	public void set_red_max(long v) { Native.putLong(pData+4, v); }
+	public long get_red_mult() { return (Native.getLong(pData+8)); }
+	public void set_red_mult(long v) { Native.putLong(pData+8, v); }
+	public long get_green_max() { return (Native.getLong(pData+12)); }
+	public void set_green_max(long v) { Native.putLong(pData+12, v); }
+	public long get_green_mult() { return (Native.getLong(pData+16)); }
+	public void set_green_mult(long v) { Native.putLong(pData+16, v); }
+	public long get_blue_max() { return (Native.getLong(pData+20)); }
+	public void set_blue_max(long v) { Native.putLong(pData+20, v); }
+	public long get_blue_mult() { return (Native.getLong(pData+24)); }
+	public void set_blue_mult(long v) { Native.putLong(pData+24, v); }
+	public long get_base_pixel() { return (Native.getLong(pData+28)); }
+	public void set_base_pixel(long v) { Native.putLong(pData+28, v); }
+	public long get_visualid() { return (Native.getLong(pData+32)); }
+	public void set_visualid(long v) { Native.putLong(pData+32, v); }
+	public long get_killid() { return (Native.getLong(pData+36)); }
+	public void set_killid(long v) { Native.putLong(pData+36, v); }
 
 
 	String getName() {
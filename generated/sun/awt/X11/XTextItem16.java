@@ -15,6 +15,15 @@ public class XTextItem16 extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XTextItem16(long addr) {
 		log.finest("Creating");
@@ -37,15 +46,15 @@ public class XTextItem16 extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public XChar2b get_chars(int index) { log.finest(""); return (Native.getLong(pData+0) != 0)?(new XChar2b(Native.getLong(pData+0)+index*2)):(null); }
-	public long get_chars() { log.finest("");return Native.getLong(pData+0); }
-	public void set_chars(long v) { log.finest(""); Native.putLong(pData + 0, v); }
-	public int get_nchars() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_nchars(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public int get_delta() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_delta(int v) { log.finest(""); Native.putInt(pData+8, v); }
-	public long get_font() { log.finest("");return (Native.getLong(pData+12)); }
-	public void set_font(long v) { log.finest(""); Native.putLong(pData+12, v); }
+	public XChar2b get_chars(int index) { return (Native.getLong(pData+0) != 0)?(new XChar2b(Native.getLong(pData+0)+index*2)):(null); }
+	public long get_chars() { return Native.getLong(pData+0); }
+	public void set_chars(long v) { Native.putLong(pData + 0, v); }
+	public int get_nchars() { return (Native.getInt(pData+4)); }
+	public void set_nchars(int v) { Native.putInt(pData+4, v); }
+	public int get_delta() { return (Native.getInt(pData+8)); }
+	public void set_delta(int v) { Native.putInt(pData+8, v); }
+	public long get_font() { return (Native.getLong(pData+12)); }
+	public void set_font(long v) { Native.putLong(pData+12, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XTextProperty extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XTextProperty(long addr) {
 		log.finest("Creating");
@@ -37,15 +46,15 @@ public class XTextProperty extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public byte get_value(int index) { log.finest(""); return Native.getByte(Native.getLong(pData+0)+index*1); }
-	public long get_value() { log.finest("");return Native.getLong(pData+0); }
-	public void set_value(long v) { log.finest(""); Native.putLong(pData + 0, v); }
-	public long get_encoding() { log.finest("");return (Native.getLong(pData+4)); }
-	public void set_encoding(long v) { log.finest(""); Native.putLong(pData+4, v); }
-	public int get_format() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_format(int v) { log.finest(""); Native.putInt(pData+8, v); }
-	public long get_nitems() { log.finest("");return (Native.getLong(pData+12)); }
-	public void set_nitems(long v) { log.finest(""); Native.putLong(pData+12, v); }
+	public byte get_value(int index) { return Native.getByte(Native.getLong(pData+0)+index*1); }
+	public long get_value() { return Native.getLong(pData+0); }
+	public void set_value(long v) { Native.putLong(pData + 0, v); }
+	public long get_encoding() { return (Native.getLong(pData+4)); }
+	public void set_encoding(long v) { Native.putLong(pData+4, v); }
+	public int get_format() { return (Native.getInt(pData+8)); }
+	public void set_format(int v) { Native.putInt(pData+8, v); }
+	public long get_nitems() { return (Native.getLong(pData+12)); }
+	public void set_nitems(long v) { Native.putLong(pData+12, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XTimeCoord extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XTimeCoord(long addr) {
 		log.finest("Creating");
@@ -37,12 +46,12 @@ public class XTimeCoord extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public long get_time() { log.finest("");return (Native.getULong(pData+0)); }
-	public void set_time(long v) { log.finest(""); Native.putULong(pData+0, v); }
-	public short get_x() { log.finest("");return (Native.getShort(pData+4)); }
-	public void set_x(short v) { log.finest(""); Native.putShort(pData+4, v); }
-	public short get_y() { log.finest("");return (Native.getShort(pData+6)); }
-	public void set_y(short v) { log.finest(""); Native.putShort(pData+6, v); }
+	public long get_time() { return (Native.getULong(pData+0)); }
+	public void set_time(long v) { Native.putULong(pData+0, v); }
+	public short get_x() { return (Native.getShort(pData+4)); }
+	public void set_x(short v) { Native.putShort(pData+4, v); }
+	public short get_y() { return (Native.getShort(pData+6)); }
+	public void set_y(short v) { Native.putShort(pData+6, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XVisualInfo extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XVisualInfo(long addr) {
 		log.finest("Creating");
@@ -37,27 +46,27 @@ public class XVisualInfo extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public long get_visual(int index) { log.finest(""); return Native.getLong(pData+0)+index*Native.getLongSize(); }
-	public long get_visual() { log.finest("");return Native.getLong(pData+0); }
-	public void set_visual(long v) { log.finest(""); Native.putLong(pData + 0, v); }
-	public long get_visualid() { log.finest("");return (Native.getLong(pData+4)); }
-	public void set_visualid(long v) { log.finest(""); Native.putLong(pData+4, v); }
-	public int get_screen() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_screen(int v) { log.finest(""); Native.putInt(pData+8, v); }
-	public int get_depth() { log.finest("");return (Native.getInt(pData+12)); }
-	public void set_depth(int v) { log.finest(""); Native.putInt(pData+12, v); }
-	public int get_class() { log.finest("");return (Native.getInt(pData+16)); }
-	public void set_class(int v) { log.finest(""); Native.putInt(pData+16, v); }
-	public long get_red_mask() { log.finest("");return (Native.getLong(pData+20)); }
-	public void set_red_mask(long v) { log.finest(""); Native.putLong(pData+20, v); }
-	public long get_green_mask() { log.finest("");return (Native.getLong(pData+24)); }
-	public void set_green_mask(long v) { log.finest(""); Native.putLong(pData+24, v); }
-	public long get_blue_mask() { log.finest("");return (Native.getLong(pData+28)); }
-	public void set_blue_mask(long v) { log.finest(""); Native.putLong(pData+28, v); }
-	public int get_colormap_size() { log.finest("");return (Native.getInt(pData+32)); }
-	public void set_colormap_size(int v) { log.finest(""); Native.putInt(pData+32, v); }
-	public int get_bits_per_rgb() { log.finest("");return (Native.getInt(pData+36)); }
-	public void set_bits_per_rgb(int v) { log.finest(""); Native.putInt(pData+36, v); }
+	public long get_visual(int index) { return Native.getLong(pData+0)+index*Native.getLongSize(); }
+	public long get_visual() { return Native.getLong(pData+0); }
+	public void set_visual(long v) { Native.putLong(pData + 0, v); }
+	public long get_visualid() { return (Native.getLong(pData+4)); }
+	public void set_visualid(long v) { Native.putLong(pData+4, v); }
+	public int get_screen() { return (Native.getInt(pData+8)); }
+	public void set_screen(int v) { Native.putInt(pData+8, v); }
+	public int get_depth() { return (Native.getInt(pData+12)); }
+	public void set_depth(int v) { Native.putInt(pData+12, v); }
+	public int get_class() { return (Native.getInt(pData+16)); }
+	public void set_class(int v) { Native.putInt(pData+16, v); }
+	public long get_red_mask() { return (Native.getLong(pData+20)); }
+	public void set_red_mask(long v) { Native.putLong(pData+20, v); }
+	public long get_green_mask() { return (Native.getLong(pData+24)); }
+	public void set_green_mask(long v) { Native.putLong(pData+24, v); }
+	public long get_blue_mask() { return (Native.getLong(pData+28)); }
+	public void set_blue_mask(long v) { Native.putLong(pData+28, v); }
+	public int get_colormap_size() { return (Native.getInt(pData+32)); }
+	public void set_colormap_size(int v) { Native.putInt(pData+32, v); }
+	public int get_bits_per_rgb() { return (Native.getInt(pData+36)); }
+	public void set_bits_per_rgb(int v) { Native.putInt(pData+36, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XWMHints extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XWMHints(long addr) {
 		log.finest("Creating");
@@ -37,25 +46,25 @@ public class XWMHints extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public long get_flags() { log.finest("");return (Native.getLong(pData+0)); }
-	public void set_flags(long v) { log.finest(""); Native.putLong(pData+0, v); }
-	public int get_initial_state() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_initial_state(int v) { log.finest(""); Native.putInt(pData+8, v); }
-	public long get_icon_pixmap(int index) { log.finest(""); return Native.getLong(pData+12)+index*Native.getLongSize(); }
-	public long get_icon_pixmap() { log.finest("");return Native.getLong(pData+12); }
-	public void set_icon_pixmap(long v) { log.finest(""); Native.putLong(pData + 12, v); }
-	public long get_icon_window() { log.finest("");return (Native.getLong(pData+16)); }
-	public void set_icon_window(long v) { log.finest(""); Native.putLong(pData+16, v); }
-	public int get_icon_x() { log.finest("");return (Native.getInt(pData+20)); }
-	public void set_icon_x(int v) { log.finest(""); Native.putInt(pData+20, v); }
-	public int get_icon_y() { log.finest("");return (Native.getInt(pData+24)); }
-	public void set_icon_y(int v) { log.finest(""); Native.putInt(pData+24, v); }
-	public long get_icon_mask() { log.finest("");return (Native.getLong(pData+28)); }
-	public void set_icon_mask(long v) { log.finest(""); Native.putLong(pData+28, v); }
-	public boolean get_input() { log.finest("");return (Native.getBool(pData+4)); }
-	public void set_input(boolean v) { log.finest(""); Native.putBool(pData+4, v); }
-	public long get_window_group() { log.finest("");return (Native.getLong(pData+32)); }
-	public void set_window_group(long v) { log.finest(""); Native.putLong(pData+32, v); }
+	public long get_flags() { return (Native.getLong(pData+0)); }
+	public void set_flags(long v) { Native.putLong(pData+0, v); }
+	public int get_initial_state() { return (Native.getInt(pData+8)); }
+	public void set_initial_state(int v) { Native.putInt(pData+8, v); }
+	public long get_icon_pixmap(int index) { return Native.getLong(pData+12)+index*Native.getLongSize(); }
+	public long get_icon_pixmap() { return Native.getLong(pData+12); }
+	public void set_icon_pixmap(long v) { Native.putLong(pData + 12, v); }
+	public long get_icon_window() { return (Native.getLong(pData+16)); }
+	public void set_icon_window(long v) { Native.putLong(pData+16, v); }
+	public int get_icon_x() { return (Native.getInt(pData+20)); }
+	public void set_icon_x(int v) { Native.putInt(pData+20, v); }
+	public int get_icon_y() { return (Native.getInt(pData+24)); }
+	public void set_icon_y(int v) { Native.putInt(pData+24, v); }
+	public long get_icon_mask() { return (Native.getLong(pData+28)); }
+	public void set_icon_mask(long v) { Native.putLong(pData+28, v); }
+	public boolean get_input() { return (Native.getBool(pData+4)); }
+	public void set_input(boolean v) { Native.putBool(pData+4, v); }
+	public long get_window_group() { return (Native.getLong(pData+32)); }
+	public void set_window_group(long v) { Native.putLong(pData+32, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XWindowAttributes extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XWindowAttributes(long addr) {
 		log.finest("Creating");
@@ -37,54 +46,54 @@ public class XWindowAttributes extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_x() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_x(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public int get_y() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_y(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public int get_width() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_width(int v) { log.finest(""); Native.putInt(pData+8, v); }
-	public int get_height() { log.finest("");return (Native.getInt(pData+12)); }
-	public void set_height(int v) { log.finest(""); Native.putInt(pData+12, v); }
-	public int get_border_width() { log.finest("");return (Native.getInt(pData+16)); }
-	public void set_border_width(int v) { log.finest(""); Native.putInt(pData+16, v); }
-	public int get_depth() { log.finest("");return (Native.getInt(pData+20)); }
-	public void set_depth(int v) { log.finest(""); Native.putInt(pData+20, v); }
-	public Visual get_visual(int index) { log.finest(""); return (Native.getLong(pData+24) != 0)?(new Visual(Native.getLong(pData+24)+index*32)):(null); }
-	public long get_visual() { log.finest("");return Native.getLong(pData+24); }
-	public void set_visual(long v) { log.finest(""); Native.putLong(pData + 24, v); }
-	public long get_root() { log.finest("");return (Native.getLong(pData+28)); }
-	public void set_root(long v) { log.finest(""); Native.putLong(pData+28, v); }
-	public int get_class() { log.finest("");return (Native.getInt(pData+32)); }
-	public void set_class(int v) { log.finest(""); Native.putInt(pData+32, v); }
-	public int get_bit_gravity() { log.finest("");return (Native.getInt(pData+36)); }
-	public void set_bit_gravity(int v) { log.finest(""); Native.putInt(pData+36, v); }
-	public int get_win_gravity() { log.finest("");return (Native.getInt(pData+40)); }
-	public void set_win_gravity(int v) { log.finest(""); Native.putInt(pData+40, v); }
-	public int get_backing_store() { log.finest("");return (Native.getInt(pData+44)); }
-	public void set_backing_store(int v) { log.finest(""); Native.putInt(pData+44, v); }
-	public long get_backing_planes() { log.finest("");return (Native.getLong(pData+48)); }
-	public void set_backing_planes(long v) { log.finest(""); Native.putLong(pData+48, v); }
-	public long get_backing_pixel() { log.finest("");return (Native.getLong(pData+52)); }
-	public void set_backing_pixel(long v) { log.finest(""); Native.putLong(pData+52, v); }
-	public boolean get_save_under() { log.finest("");return (Native.getBool(pData+56)); }
-	public void set_save_under(boolean v) { log.finest(""); Native.putBool(pData+56, v); }
-	public long get_colormap() { log.finest("");return (Native.getLong(pData+60)); }
-	public void set_colormap(long v) { log.finest(""); Native.putLong(pData+60, v); }
-	public boolean get_map_installed() { log.finest("");return (Native.getBool(pData+64)); }
-	public void set_map_installed(boolean v) { log.finest(""); Native.putBool(pData+64, v); }
-	public int get_map_state() { log.finest("");return (Native.getInt(pData+68)); }
-	public void set_map_state(int v) { log.finest(""); Native.putInt(pData+68, v); }
-	public long get_all_event_masks() { log.finest("");return (Native.getLong(pData+72)); }
-	public void set_all_event_masks(long v) { log.finest(""); Native.putLong(pData+72, v); }
-	public long get_your_event_mask() { log.finest("");return (Native.getLong(pData+76)); }
-	public void set_your_event_mask(long v) { log.finest(""); Native.putLong(pData+76, v); }
-	public long get_do_not_propagate_mask() { log.finest("");return (Native.getLong(pData+80)); }
-	public void set_do_not_propagate_mask(long v) { log.finest(""); Native.putLong(pData+80, v); }
-	public boolean get_override_redirect() { log.finest("");return (Native.getBool(pData+84)); }
-	public void set_override_redirect(boolean v) { log.finest(""); Native.putBool(pData+84, v); }
-	public Screen get_screen(int index) { log.finest(""); return (Native.getLong(pData+88) != 0)?(new Screen(Native.getLong(pData+88)+index*80)):(null); }
-	public long get_screen() { log.finest("");return Native.getLong(pData+88); }
-	public void set_screen(long v) { log.finest(""); Native.putLong(pData + 88, v); }
+	public int get_x() { return (Native.getInt(pData+0)); }
+	public void set_x(int v) { Native.putInt(pData+0, v); }
+	public int get_y() { return (Native.getInt(pData+4)); }
+	public void set_y(int v) { Native.putInt(pData+4, v); }
+	public int get_width() { return (Native.getInt(pData+8)); }
+	public void set_width(int v) { Native.putInt(pData+8, v); }
+	public int get_height() { return (Native.getInt(pData+12)); }
+	public void set_height(int v) { Native.putInt(pData+12, v); }
+	public int get_border_width() { return (Native.getInt(pData+16)); }
+	public void set_border_width(int v) { Native.putInt(pData+16, v); }
+	public int get_depth() { return (Native.getInt(pData+20)); }
+	public void set_depth(int v) { Native.putInt(pData+20, v); }
+	public Visual get_visual(int index) { return (Native.getLong(pData+24) != 0)?(new Visual(Native.getLong(pData+24)+index*32)):(null); }
+	public long get_visual() { return Native.getLong(pData+24); }
+	public void set_visual(long v) { Native.putLong(pData + 24, v); }
+	public long get_root() { return (Native.getLong(pData+28)); }
+	public void set_root(long v) { Native.putLong(pData+28, v); }
+	public int get_class() { return (Native.getInt(pData+32)); }
+	public void set_class(int v) { Native.putInt(pData+32, v); }
+	public int get_bit_gravity() { return (Native.getInt(pData+36)); }
+	public void set_bit_gravity(int v) { Native.putInt(pData+36, v); }
+	public int get_win_gravity() { return (Native.getInt(pData+40)); }
+	public void set_win_gravity(int v) { Native.putInt(pData+40, v); }
+	public int get_backing_store() { return (Native.getInt(pData+44)); }
+	public void set_backing_store(int v) { Native.putInt(pData+44, v); }
+	public long get_backing_planes() { return (Native.getLong(pData+48)); }
+	public void set_backing_planes(long v) { Native.putLong(pData+48, v); }
+	public long get_backing_pixel() { return (Native.getLong(pData+52)); }
+	public void set_backing_pixel(long v) { Native.putLong(pData+52, v); }
+	public boolean get_save_under() { return (Native.getBool(pData+56)); }
+	public void set_save_under(boolean v) { Native.putBool(pData+56, v); }
+	public long get_colormap() { return (Native.getLong(pData+60)); }
+	public void set_colormap(long v) { Native.putLong(pData+60, v); }
+	public boolean get_map_installed() { return (Native.getBool(pData+64)); }
+	public void set_map_installed(boolean v) { Native.putBool(pData+64, v); }
+	public int get_map_state() { return (Native.getInt(pData+68)); }
+	public void set_map_state(int v) { Native.putInt(pData+68, v); }
+	public long get_all_event_masks() { return (Native.getLong(pData+72)); }
+	public void set_all_event_masks(long v) { Native.putLong(pData+72, v); }
+	public long get_your_event_mask() { return (Native.getLong(pData+76)); }
+	public void set_your_event_mask(long v) { Native.putLong(pData+76, v); }
+	public long get_do_not_propagate_mask() { return (Native.getLong(pData+80)); }
+	public void set_do_not_propagate_mask(long v) { Native.putLong(pData+80, v); }
+	public boolean get_override_redirect() { return (Native.getBool(pData+84)); }
+	public void set_override_redirect(boolean v) { Native.putBool(pData+84, v); }
+	public Screen get_screen(int index) { return (Native.getLong(pData+88) != 0)?(new Screen(Native.getLong(pData+88)+index*80)):(null); }
+	public long get_screen() { return Native.getLong(pData+88); }
+	public void set_screen(long v) { Native.putLong(pData + 88, v); }
 
 
 	String getName() {
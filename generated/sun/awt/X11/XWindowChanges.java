@@ -15,6 +15,15 @@ public class XWindowChanges extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XWindowChanges(long addr) {
 		log.finest("Creating");
@@ -37,20 +46,20 @@ public class XWindowChanges extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_x() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_x(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public int get_y() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_y(int v) { log.finest(""); Native.putInt(pData+4, v); }
-	public int get_width() { log.finest("");return (Native.getInt(pData+8)); }
-	public void set_width(int v) { log.finest(""); Native.putInt(pData+8, v); }
-	public int get_height() { log.finest("");return (Native.getInt(pData+12)); }
-	public void set_height(int v) { log.finest(""); Native.putInt(pData+12, v); }
-	public int get_border_width() { log.finest("");return (Native.getInt(pData+16)); }
-	public void set_border_width(int v) { log.finest(""); Native.putInt(pData+16, v); }
-	public long get_sibling() { log.finest("");return (Native.getLong(pData+20)); }
-	public void set_sibling(long v) { log.finest(""); Native.putLong(pData+20, v); }
-	public int get_stack_mode() { log.finest("");return (Native.getInt(pData+24)); }
-	public void set_stack_mode(int v) { log.finest(""); Native.putInt(pData+24, v); }
+	public int get_x() { return (Native.getInt(pData+0)); }
+	public void set_x(int v) { Native.putInt(pData+0, v); }
+	public int get_y() { return (Native.getInt(pData+4)); }
+	public void set_y(int v) { Native.putInt(pData+4, v); }
+	public int get_width() { return (Native.getInt(pData+8)); }
+	public void set_width(int v) { Native.putInt(pData+8, v); }
+	public int get_height() { return (Native.getInt(pData+12)); }
+	public void set_height(int v) { Native.putInt(pData+12, v); }
+	public int get_border_width() { return (Native.getInt(pData+16)); }
+	public void set_border_width(int v) { Native.putInt(pData+16, v); }
+	public long get_sibling() { return (Native.getLong(pData+20)); }
+	public void set_sibling(long v) { Native.putLong(pData+20, v); }
+	public int get_stack_mode() { return (Native.getInt(pData+24)); }
+	public void set_stack_mode(int v) { Native.putInt(pData+24, v); }
 
 
 	String getName() {
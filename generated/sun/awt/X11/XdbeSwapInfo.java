@@ -15,6 +15,15 @@ public class XdbeSwapInfo extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	XdbeSwapInfo(long addr) {
 		log.finest("Creating");
@@ -37,10 +46,10 @@ public class XdbeSwapInfo extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public long get_swap_window() { log.finest("");return (Native.getLong(pData+0)); }
-	public void set_swap_window(long v) { log.finest(""); Native.putLong(pData+0, v); }
-	public int get_swap_action() { log.finest("");return (Native.getInt(pData+4)); }
-	public void set_swap_action(int v) { log.finest(""); Native.putInt(pData+4, v); }
+	public long get_swap_window() { return (Native.getLong(pData+0)); }
+	public void set_swap_window(long v) { Native.putLong(pData+0, v); }
+	public int get_swap_action() { return (Native.getInt(pData+4)); }
+	public void set_swap_action(int v) { Native.putInt(pData+4, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XkbActionMessageEvent extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	public XkbActionMessageEvent(long addr) {
 		log.finest("Creating");
@@ -37,33 +46,33 @@ public class XkbActionMessageEvent extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_type() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_type(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_serial() { log.finest("");return (Native.getULong(pData+8)); }
-	public void set_serial(long v) { log.finest(""); Native.putULong(pData+8, v); }
-	public boolean get_send_event() { log.finest("");return (Native.getBool(pData+16)); }
-	public void set_send_event(boolean v) { log.finest(""); Native.putBool(pData+16, v); }
-	public long get_display() { log.finest("");return (Native.getLong(pData+24)); }
-	public void set_display(long v) { log.finest(""); Native.putLong(pData+24, v); }
-	public long get_time() { log.finest("");return (Native.getULong(pData+32)); }
-	public void set_time(long v) { log.finest(""); Native.putULong(pData+32, v); }
-	public int get_xkb_type() { log.finest("");return (Native.getInt(pData+40)); }
-	public void set_xkb_type(int v) { log.finest(""); Native.putInt(pData+40, v); }
-	public int get_device() { log.finest("");return (Native.getInt(pData+44)); }
-	public void set_device(int v) { log.finest(""); Native.putInt(pData+44, v); }
-	public int get_keycode() { log.finest("");return (Native.getInt(pData+48)); }
-	public void set_keycode(int v) { log.finest(""); Native.putInt(pData+48, v); }
-	public boolean get_press() { log.finest("");return (Native.getBool(pData+52)); }
-	public void set_press(boolean v) { log.finest(""); Native.putBool(pData+52, v); }
-	public boolean get_key_event_follows() { log.finest("");return (Native.getBool(pData+56)); }
-	public void set_key_event_follows(boolean v) { log.finest(""); Native.putBool(pData+56, v); }
-	public int get_group() { log.finest("");return (Native.getInt(pData+60)); }
-	public void set_group(int v) { log.finest(""); Native.putInt(pData+60, v); }
-	public int get_mods() { log.finest("");return (Native.getInt(pData+64)); }
-	public void set_mods(int v) { log.finest(""); Native.putInt(pData+64, v); }
-	public byte get_message(int index) { log.finest("");return Native.getByte(pData + 68+index*1); }
-	public void set_message(int index, byte v) { log.finest(""); Native.putByte(pData+68 + index*1, v); }
-	public long get_message() { log.finest("");return pData+68; }
+	public int get_type() { return (Native.getInt(pData+0)); }
+	public void set_type(int v) { Native.putInt(pData+0, v); }
+	public long get_serial() { return (Native.getULong(pData+8)); }
+	public void set_serial(long v) { Native.putULong(pData+8, v); }
+	public boolean get_send_event() { return (Native.getBool(pData+16)); }
+	public void set_send_event(boolean v) { Native.putBool(pData+16, v); }
+	public long get_display() { return (Native.getLong(pData+24)); }
+	public void set_display(long v) { Native.putLong(pData+24, v); }
+	public long get_time() { return (Native.getULong(pData+32)); }
+	public void set_time(long v) { Native.putULong(pData+32, v); }
+	public int get_xkb_type() { return (Native.getInt(pData+40)); }
+	public void set_xkb_type(int v) { Native.putInt(pData+40, v); }
+	public int get_device() { return (Native.getInt(pData+44)); }
+	public void set_device(int v) { Native.putInt(pData+44, v); }
+	public int get_keycode() { return (Native.getInt(pData+48)); }
+	public void set_keycode(int v) { Native.putInt(pData+48, v); }
+	public boolean get_press() { return (Native.getBool(pData+52)); }
+	public void set_press(boolean v) { Native.putBool(pData+52, v); }
+	public boolean get_key_event_follows() { return (Native.getBool(pData+56)); }
+	public void set_key_event_follows(boolean v) { Native.putBool(pData+56, v); }
+	public int get_group() { return (Native.getInt(pData+60)); }
+	public void set_group(int v) { Native.putInt(pData+60, v); }
+	public int get_mods() { return (Native.getInt(pData+64)); }
+	public void set_mods(int v) { Native.putInt(pData+64, v); }
+	public byte get_message(int index) { return Native.getByte(pData + 68+index*1); }
+	public void set_message(int index, byte v) { Native.putByte(pData+68 + index*1, v); }
+	public long get_message() { return pData+68; }
 
 
 	String getName() {
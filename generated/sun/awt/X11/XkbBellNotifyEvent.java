@@ -15,6 +15,15 @@ public class XkbBellNotifyEvent extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	public XkbBellNotifyEvent(long addr) {
 		log.finest("Creating");
@@ -37,36 +46,36 @@ public class XkbBellNotifyEvent extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_type() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_type(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_serial() { log.finest("");return (Native.getULong(pData+8)); }
-	public void set_serial(long v) { log.finest(""); Native.putULong(pData+8, v); }
-	public boolean get_send_event() { log.finest("");return (Native.getBool(pData+16)); }
-	public void set_send_event(boolean v) { log.finest(""); Native.putBool(pData+16, v); }
-	public long get_display() { log.finest("");return (Native.getLong(pData+24)); }
-	public void set_display(long v) { log.finest(""); Native.putLong(pData+24, v); }
-	public long get_time() { log.finest("");return (Native.getULong(pData+32)); }
-	public void set_time(long v) { log.finest(""); Native.putULong(pData+32, v); }
-	public int get_xkb_type() { log.finest("");return (Native.getInt(pData+40)); }
-	public void set_xkb_type(int v) { log.finest(""); Native.putInt(pData+40, v); }
-	public int get_device() { log.finest("");return (Native.getInt(pData+44)); }
-	public void set_device(int v) { log.finest(""); Native.putInt(pData+44, v); }
-	public int get_percent() { log.finest("");return (Native.getInt(pData+48)); }
-	public void set_percent(int v) { log.finest(""); Native.putInt(pData+48, v); }
-	public int get_pitch() { log.finest("");return (Native.getInt(pData+52)); }
-	public void set_pitch(int v) { log.finest(""); Native.putInt(pData+52, v); }
-	public int get_duration() { log.finest("");return (Native.getInt(pData+56)); }
-	public void set_duration(int v) { log.finest(""); Native.putInt(pData+56, v); }
-	public int get_bell_class() { log.finest("");return (Native.getInt(pData+60)); }
-	public void set_bell_class(int v) { log.finest(""); Native.putInt(pData+60, v); }
-	public int get_bell_id() { log.finest("");return (Native.getInt(pData+64)); }
-	public void set_bell_id(int v) { log.finest(""); Native.putInt(pData+64, v); }
-	public long get_name() { log.finest("");return (Native.getLong(pData+72)); }
-	public void set_name(long v) { log.finest(""); Native.putLong(pData+72, v); }
-	public long get_window() { log.finest("");return (Native.getLong(pData+80)); }
-	public void set_window(long v) { log.finest(""); Native.putLong(pData+80, v); }
-	public boolean get_event_only() { log.finest("");return (Native.getBool(pData+88)); }
-	public void set_event_only(boolean v) { log.finest(""); Native.putBool(pData+88, v); }
+	public int get_type() { return (Native.getInt(pData+0)); }
+	public void set_type(int v) { Native.putInt(pData+0, v); }
+	public long get_serial() { return (Native.getULong(pData+8)); }
+	public void set_serial(long v) { Native.putULong(pData+8, v); }
+	public boolean get_send_event() { return (Native.getBool(pData+16)); }
+	public void set_send_event(boolean v) { Native.putBool(pData+16, v); }
+	public long get_display() { return (Native.getLong(pData+24)); }
+	public void set_display(long v) { Native.putLong(pData+24, v); }
+	public long get_time() { return (Native.getULong(pData+32)); }
+	public void set_time(long v) { Native.putULong(pData+32, v); }
+	public int get_xkb_type() { return (Native.getInt(pData+40)); }
+	public void set_xkb_type(int v) { Native.putInt(pData+40, v); }
+	public int get_device() { return (Native.getInt(pData+44)); }
+	public void set_device(int v) { Native.putInt(pData+44, v); }
+	public int get_percent() { return (Native.getInt(pData+48)); }
+	public void set_percent(int v) { Native.putInt(pData+48, v); }
+	public int get_pitch() { return (Native.getInt(pData+52)); }
+	public void set_pitch(int v) { Native.putInt(pData+52, v); }
+	public int get_duration() { return (Native.getInt(pData+56)); }
+	public void set_duration(int v) { Native.putInt(pData+56, v); }
+	public int get_bell_class() { return (Native.getInt(pData+60)); }
+	public void set_bell_class(int v) { Native.putInt(pData+60, v); }
+	public int get_bell_id() { return (Native.getInt(pData+64)); }
+	public void set_bell_id(int v) { Native.putInt(pData+64, v); }
+	public long get_name() { return (Native.getLong(pData+72)); }
+	public void set_name(long v) { Native.putLong(pData+72, v); }
+	public long get_window() { return (Native.getLong(pData+80)); }
+	public void set_window(long v) { Native.putLong(pData+80, v); }
+	public boolean get_event_only() { return (Native.getBool(pData+88)); }
+	public void set_event_only(boolean v) { Native.putBool(pData+88, v); }
 
 
 	String getName() {
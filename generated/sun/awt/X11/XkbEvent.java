@@ -15,6 +15,15 @@ public class XkbEvent extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	public XkbEvent(long addr) {
 		log.finest("Creating");
@@ -37,21 +46,34 @@ public class XkbEvent extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_type() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_type(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public XkbAnyEvent get_any() { log.finest("");return new XkbAnyEvent(pData + 0); }
-	public XkbNewKeyboardNotifyEvent get_new_kbd() { log.finest("");return new XkbNewKeyboardNotifyEvent(pData + 0); }
-	public XkbMapNotifyEvent get_map() { log.finest("");return new XkbMapNotifyEvent(pData + 0); }
-	public XkbStateNotifyEvent get_state() { log.finest("");return new XkbStateNotifyEvent(pData + 0); }
-	public XkbControlsNotifyEvent get_ctrls() { log.finest("");return new XkbControlsNotifyEvent(pData + 0); }
-	public XkbIndicatorNotifyEvent get_indicators() { log.finest("");return new XkbIndicatorNotifyEvent(pData + 0); }
-	public XkbNamesNotifyEvent get_names() { log.finest("");return new XkbNamesNotifyEvent(pData + 0); }
-	public XkbCompatMapNotifyEvent get_compat() { log.finest("");return new XkbCompatMapNotifyEvent(pData + 0); }
-	public XkbBellNotifyEvent get_bell() { log.finest("");return new XkbBellNotifyEvent(pData + 0); }
-	public XkbActionMessageEvent get_message() { log.finest("");return new XkbActionMessageEvent(pData + 0); }
-	public XkbAccessXNotifyEvent get_accessx() { log.finest("");return new XkbAccessXNotifyEvent(pData + 0); }
-	public XkbExtensionDeviceNotifyEvent get_device() { log.finest("");return new XkbExtensionDeviceNotifyEvent(pData + 0); }
-	public XEvent get_core() { log.finest("");return new XEvent(pData + 0); }
+	public int get_type() { return (Native.getInt(pData+0)); }
+	public void set_type(int v) { Native.putInt(pData+0, v); }
+	private XkbAnyEvent any_view;
+	public XkbAnyEvent get_any() { if (any_view == null) any_view = new XkbAnyEvent(pData + 0); else if (any_view.pData != pData + 0) any_view.setPData(pData + 0); return any_view; }
+	private XkbNewKeyboardNotifyEvent new_kbd_view;
+	public XkbNewKeyboardNotifyEvent get_new_kbd() { if (new_kbd_view == null) new_kbd_view = new XkbNewKeyboardNotifyEvent(pData + 0); else if (new_kbd_view.pData != pData + 0) new_kbd_view.setPData(pData + 0); return new_kbd_view; }
+	private XkbMapNotifyEvent map_view;
+	public XkbMapNotifyEvent get_map() { if (map_view == null) map_view = new XkbMapNotifyEvent(pData + 0); else if (map_view.pData != pData + 0) map_view.setPData(pData + 0); return map_view; }
+	private XkbStateNotifyEvent state_view;
+	public XkbStateNotifyEvent get_state() { if (state_view == null) state_view = new XkbStateNotifyEvent(pData + 0); else if (state_view.pData != pData + 0) state_view.setPData(pData + 0); return state_view; }
+	private XkbControlsNotifyEvent ctrls_view;
+	public XkbControlsNotifyEvent get_ctrls() { if (ctrls_view == null) ctrls_view = new XkbControlsNotifyEvent(pData + 0); else if (ctrls_view.pData != pData + 0) ctrls_view.setPData(pData + 0); return ctrls_view; }
+	private XkbIndicatorNotifyEvent indicators_view;
+	public XkbIndicatorNotifyEvent get_indicators() { if (indicators_view == null) indicators_view = new XkbIndicatorNotifyEvent(pData + 0); else if (indicators_view.pData != pData + 0) indicators_view.setPData(pData + 0); return indicators_view; }
+	private XkbNamesNotifyEvent names_view;
+	public XkbNamesNotifyEvent get_names() { if (names_view == null) names_view = new XkbNamesNotifyEvent(pData + 0); else if (names_view.pData != pData + 0) names_view.setPData(pData + 0); return names_view; }
+	private XkbCompatMapNotifyEvent compat_view;
+	public XkbCompatMapNotifyEvent get_compat() { if (compat_view == null) compat_view = new XkbCompatMapNotifyEvent(pData + 0); else if (compat_view.pData != pData + 0) compat_view.setPData(pData + 0); return compat_view; }
+	private XkbBellNotifyEvent bell_view;
+	public XkbBellNotifyEvent get_bell() { if (bell_view == null) bell_view = new XkbBellNotifyEvent(pData + 0); else if (bell_view.pData != pData + 0) bell_view.setPData(pData + 0); return bell_view; }
+	private XkbActionMessageEvent message_view;
+	public XkbActionMessageEvent get_message() { if (message_view == null) message_view = new XkbActionMessageEvent(pData + 0); else if (message_view.pData != pData + 0) message_view.setPData(pData + 0); return message_view; }
+	private XkbAccessXNotifyEvent accessx_view;
+	public XkbAccessXNotifyEvent get_accessx() { if (accessx_view == null) accessx_view = new XkbAccessXNotifyEvent(pData + 0); else if (accessx_view.pData != pData + 0) accessx_view.setPData(pData + 0); return accessx_view; }
+	private XkbExtensionDeviceNotifyEvent device_view;
+	public XkbExtensionDeviceNotifyEvent get_device() { if (device_view == null) device_view = new XkbExtensionDeviceNotifyEvent(pData + 0); else if (device_view.pData != pData + 0) device_view.setPData(pData + 0); return device_view; }
+	private XEvent core_view;
+	public XEvent get_core() { if (core_view == null) core_view = new XEvent(pData + 0); else if (core_view.pData != pData + 0) core_view.setPData(pData + 0); return core_view; }
 
 
 	String getName() {
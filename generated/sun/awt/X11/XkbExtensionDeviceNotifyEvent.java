@@ -15,6 +15,15 @@ public class XkbExtensionDeviceNotifyEvent extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	public XkbExtensionDeviceNotifyEvent(long addr) {
 		log.finest("Creating");
@@ -37,38 +46,38 @@ public class XkbExtensionDeviceNotifyEvent extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_type() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_type(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_serial() { log.finest("");return (Native.getULong(pData+8)); }
-	public void set_serial(long v) { log.finest(""); Native.putULong(pData+8, v); }
-	public boolean get_send_event() { log.finest("");return (Native.getBool(pData+16)); }
-	public void set_send_event(boolean v) { log.finest(""); Native.putBool(pData+16, v); }
-	public long get_display() { log.finest("");return (Native.getLong(pData+24)); }
-	public void set_display(long v) { log.finest(""); Native.putLong(pData+24, v); }
-	public long get_time() { log.finest("");return (Native.getULong(pData+32)); }
-	public void set_time(long v) { log.finest(""); Native.putULong(pData+32, v); }
-	public int get_xkb_type() { log.finest("");return (Native.getInt(pData+40)); }
-	public void set_xkb_type(int v) { log.finest(""); Native.putInt(pData+40, v); }
-	public int get_device() { log.finest("");return (Native.getInt(pData+44)); }
-	public void set_device(int v) { log.finest(""); Native.putInt(pData+44, v); }
-	public int get_reason() { log.finest("");return (Native.getInt(pData+48)); }
-	public void set_reason(int v) { log.finest(""); Native.putInt(pData+48, v); }
-	public int get_supported() { log.finest("");return (Native.getInt(pData+52)); }
-	public void set_supported(int v) { log.finest(""); Native.putInt(pData+52, v); }
-	public int get_unsupported() { log.finest("");return (Native.getInt(pData+56)); }
-	public void set_unsupported(int v) { log.finest(""); Native.putInt(pData+56, v); }
-	public int get_first_btn() { log.finest("");return (Native.getInt(pData+60)); }
-	public void set_first_btn(int v) { log.finest(""); Native.putInt(pData+60, v); }
-	public int get_num_btns() { log.finest("");return (Native.getInt(pData+64)); }
-	public void set_num_btns(int v) { log.finest(""); Native.putInt(pData+64, v); }
-	public int get_leds_defined() { log.finest("");return (Native.getInt(pData+68)); }
-	public void set_leds_defined(int v) { log.finest(""); Native.putInt(pData+68, v); }
-	public int get_led_state() { log.finest("");return (Native.getInt(pData+72)); }
-	public void set_led_state(int v) { log.finest(""); Native.putInt(pData+72, v); }
-	public int get_led_class() { log.finest("");return (Native.getInt(pData+76)); }
-	public void set_led_class(int v) { log.finest(""); Native.putInt(pData+76, v); }
-	public int get_led_id() { log.finest("");return (Native.getInt(pData+80)); }
-	public void set_led_id(int v) { log.finest(""); Native.putInt(pData+80, v); }
+	public int get_type() { return (Native.getInt(pData+0)); }
+	public void set_type(int v) { Native.putInt(pData+0, v); }
+	public long get_serial() { return (Native.getULong(pData+8)); }
+	public void set_serial(long v) { Native.putULong(pData+8, v); }
+	public boolean get_send_event() { return (Native.getBool(pData+16)); }
+	public void set_send_event(boolean v) { Native.putBool(pData+16, v); }
+	public long get_display() { return (Native.getLong(pData+24)); }
+	public void set_display(long v) { Native.putLong(pData+24, v); }
+	public long get_time() { return (Native.getULong(pData+32)); }
+	public void set_time(long v) { Native.putULong(pData+32, v); }
+	public int get_xkb_type() { return (Native.getInt(pData+40)); }
+	public void set_xkb_type(int v) { Native.putInt(pData+40, v); }
+	public int get_device() { return (Native.getInt(pData+44)); }
+	public void set_device(int v) { Native.putInt(pData+44, v); }
+	public int get_reason() { return (Native.getInt(pData+48)); }
+	public void set_reason(int v) { Native.putInt(pData+48, v); }
+	public int get_supported() { return (Native.getInt(pData+52)); }
+	public void set_supported(int v) { Native.putInt(pData+52, v); }
+	public int get_unsupported() { return (Native.getInt(pData+56)); }
+	public void set_unsupported(int v) { Native.putInt(pData+56, v); }
+	public int get_first_btn() { return (Native.getInt(pData+60)); }
+	public void set_first_btn(int v) { Native.putInt(pData+60, v); }
+	public int get_num_btns() { return (Native.getInt(pData+64)); }
+	public void set_num_btns(int v) { Native.putInt(pData+64, v); }
+	public int get_leds_defined() { return (Native.getInt(pData+68)); }
+	public void set_leds_defined(int v) { Native.putInt(pData+68, v); }
+	public int get_led_state() { return (Native.getInt(pData+72)); }
+	public void set_led_state(int v) { Native.putInt(pData+72, v); }
+	public int get_led_class() { return (Native.getInt(pData+76)); }
+	public void set_led_class(int v) { Native.putInt(pData+76, v); }
+	public int get_led_id() { return (Native.getInt(pData+80)); }
+	public void set_led_id(int v) { Native.putInt(pData+80, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class XkbMapNotifyEvent extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	public XkbMapNotifyEvent(long addr) {
 		log.finest("Creating");
@@ -37,58 +46,58 @@ public class XkbMapNotifyEvent extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_type() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_type(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_serial() { log.finest("");return (Native.getULong(pData+8)); }
-	public void set_serial(long v) { log.finest(""); Native.putULong(pData+8, v); }
-	public boolean get_send_event() { log.finest("");return (Native.getBool(pData+16)); }
-	public void set_send_event(boolean v) { log.finest(""); Native.putBool(pData+16, v); }
-	public long get_display() { log.finest("");return (Native.getLong(pData+24)); }
-	public void set_display(long v) { log.finest(""); Native.putLong(pData+24, v); }
-	public long get_time() { log.finest("");return (Native.getULong(pData+32)); }
-	public void set_time(long v) { log.finest(""); Native.putULong(pData+32, v); }
-	public int get_xkb_type() { log.finest("");return (Native.getInt(pData+40)); }
-	public void set_xkb_type(int v) { log.finest(""); Native.putInt(pData+40, v); }
-	public int get_device() { log.finest("");return (Native.getInt(pData+44)); }
-	public void set_device(int v) { log.finest(""); Native.putInt(pData+44, v); }
-	public int get_changed() { log.finest("");return (Native.getInt(pData+48)); }
-	public void set_changed(int v) { log.finest(""); Native.putInt(pData+48, v); }
-	public int get_flags() { log.finest("");return (Native.getInt(pData+52)); }
-	public void set_flags(int v) { log.finest(""); Native.putInt(pData+52, v); }
-	public int get_first_type() { log.finest("");return (Native.getInt(pData+56)); }
-	public void set_first_type(int v) { log.finest(""); Native.putInt(pData+56, v); }
-	public int get_num_types() { log.finest("");return (Native.getInt(pData+60)); }
-	public void set_num_types(int v) { log.finest(""); Native.putInt(pData+60, v); }
-	public int get_min_key_code() { log.finest("");return (Native.getInt(pData+64)); }
-	public void set_min_key_code(int v) { log.finest(""); Native.putInt(pData+64, v); }
-	public int get_max_key_code() { log.finest("");return (Native.getInt(pData+65)); }
-	public void set_max_key_code(int v) { log.finest(""); Native.putInt(pData+65, v); }
-	public int get_first_key_sym() { log.finest("");return (Native.getInt(pData+66)); }
-	public void set_first_key_sym(int v) { log.finest(""); Native.putInt(pData+66, v); }
-	public int get_first_key_act() { log.finest("");return (Native.getInt(pData+67)); }
-	public void set_first_key_act(int v) { log.finest(""); Native.putInt(pData+67, v); }
-	public int get_first_key_behavior() { log.finest("");return (Native.getInt(pData+68)); }
-	public void set_first_key_behavior(int v) { log.finest(""); Native.putInt(pData+68, v); }
-	public int get_first_key_explicit() { log.finest("");return (Native.getInt(pData+69)); }
-	public void set_first_key_explicit(int v) { log.finest(""); Native.putInt(pData+69, v); }
-	public int get_first_modmap_key() { log.finest("");return (Native.getInt(pData+70)); }
-	public void set_first_modmap_key(int v) { log.finest(""); Native.putInt(pData+70, v); }
-	public int get_first_vmodmap_key() { log.finest("");return (Native.getInt(pData+71)); }
-	public void set_first_vmodmap_key(int v) { log.finest(""); Native.putInt(pData+71, v); }
-	public int get_num_key_syms() { log.finest("");return (Native.getInt(pData+72)); }
-	public void set_num_key_syms(int v) { log.finest(""); Native.putInt(pData+72, v); }
-	public int get_num_key_acts() { log.finest("");return (Native.getInt(pData+76)); }
-	public void set_num_key_acts(int v) { log.finest(""); Native.putInt(pData+76, v); }
-	public int get_num_key_behaviors() { log.finest("");return (Native.getInt(pData+80)); }
-	public void set_num_key_behaviors(int v) { log.finest(""); Native.putInt(pData+80, v); }
-	public int get_num_key_explicit() { log.finest("");return (Native.getInt(pData+84)); }
-	public void set_num_key_explicit(int v) { log.finest(""); Native.putInt(pData+84, v); }
-	public int get_num_modmap_keys() { log.finest("");return (Native.getInt(pData+88)); }
-	public void set_num_modmap_keys(int v) { log.finest(""); Native.putInt(pData+88, v); }
-	public int get_num_vmodmap_keys() { log.finest("");return (Native.getInt(pData+92)); }
-	public void set_num_vmodmap_keys(int v) { log.finest(""); Native.putInt(pData+92, v); }
-	public int get_vmods() { log.finest("");return (Native.getInt(pData+96)); }
-	public void set_vmods(int v) { log.finest(""); Native.putInt(pData+96, v); }
+	public int get_type() { return (Native.getInt(pData+0)); }
+	public void set_type(int v) { Native.putInt(pData+0, v); }
+	public long get_serial() { return (Native.getULong(pData+8)); }
+	public void set_serial(long v) { Native.putULong(pData+8, v); }
+	public boolean get_send_event() { return (Native.getBool(pData+16)); }
+	public void set_send_event(boolean v) { Native.putBool(pData+16, v); }
+	public long get_display() { return (Native.getLong(pData+24)); }
+	public void set_display(long v) { Native.putLong(pData+24, v); }
+	public long get_time() { return (Native.getULong(pData+32)); }
+	public void set_time(long v) { Native.putULong(pData+32, v); }
+	public int get_xkb_type() { return (Native.getInt(pData+40)); }
+	public void set_xkb_type(int v) { Native.putInt(pData+40, v); }
+	public int get_device() { return (Native.getInt(pData+44)); }
+	public void set_device(int v) { Native.putInt(pData+44, v); }
+	public int get_changed() { return (Native.getInt(pData+48)); }
+	public void set_changed(int v) { Native.putInt(pData+48, v); }
+	public int get_flags() { return (Native.getInt(pData+52)); }
+	public void set_flags(int v) { Native.putInt(pData+52, v); }
+	public int get_first_type() { return (Native.getInt(pData+56)); }
+	public void set_first_type(int v) { Native.putInt(pData+56, v); }
+	public int get_num_types() { return (Native.getInt(pData+60)); }
+	public void set_num_types(int v) { Native.putInt(pData+60, v); }
+	public int get_min_key_code() { return (Native.getInt(pData+64)); }
+	public void set_min_key_code(int v) { Native.putInt(pData+64, v); }
+	public int get_max_key_code() { return (Native.getInt(pData+65)); }
+	public void set_max_key_code(int v) { Native.putInt(pData+65, v); }
+	public int get_first_key_sym() { return (Native.getInt(pData+66)); }
+	public void set_first_key_sym(int v) { Native.putInt(pData+66, v); }
+	public int get_first_key_act() { return (Native.getInt(pData+67)); }
+	public void set_first_key_act(int v) { Native.putInt(pData+67, v); }
+	public int get_first_key_behavior() { return (Native.getInt(pData+68)); }
+	public void set_first_key_behavior(int v) { Native.putInt(pData+68, v); }
+	public int get_first_key_explicit() { return (Native.getInt(pData+69)); }
+	public void set_first_key_explicit(int v) { Native.putInt(pData+69, v); }
+	public int get_first_modmap_key() { return (Native.getInt(pData+70)); }
+	public void set_first_modmap_key(int v) { Native.putInt(pData+70, v); }
+	public int get_first_vmodmap_key() { return (Native.getInt(pData+71)); }
+	public void set_first_vmodmap_key(int v) { Native.putInt(pData+71, v); }
+	public int get_num_key_syms() { return (Native.getInt(pData+72)); }
+	public void set_num_key_syms(int v) { Native.putInt(pData+72, v); }
+	public int get_num_key_acts() { return (Native.getInt(pData+76)); }
+	public void set_num_key_acts(int v) { Native.putInt(pData+76, v); }
+	public int get_num_key_behaviors() { return (Native.getInt(pData+80)); }
+	public void set_num_key_behaviors(int v) { Native.putInt(pData+80, v); }
+	public int get_num_key_explicit() { return (Native.getInt(pData+84)); }
+	public void set_num_key_explicit(int v) { Native.putInt(pData+84, v); }
+	public int get_num_modmap_keys() { return (Native.getInt(pData+88)); }
+	public void set_num_modmap_keys(int v) { Native.putInt(pData+88, v); }
+	public int get_num_vmodmap_keys() { return (Native.getInt(pData+92)); }
+	public void set_num_vmodmap_keys(int v) { Native.putInt(pData+92, v); }
+	public int get_vmods() { return (Native.getInt(pData+96)); }
+	public void set_vmods(int v) { Native.putInt(pData+96, v); }
 
 
 	String getName() {
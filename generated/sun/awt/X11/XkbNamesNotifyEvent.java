@@ -15,6 +15,15 @@ public class XkbNamesNotifyEvent extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	public XkbNamesNotifyEvent(long addr) {
 		log.finest("Creating");
@@ -37,44 +46,44 @@ public class XkbNamesNotifyEvent extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_type() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_type(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_serial() { log.finest("");return (Native.getULong(pData+8)); }
-	public void set_serial(long v) { log.finest(""); Native.putULong(pData+8, v); }
-	public boolean get_send_event() { log.finest("");return (Native.getBool(pData+16)); }
-	public void set_send_event(boolean v) { log.finest(""); Native.putBool(pData+16, v); }
-	public long get_display() { log.finest("");return (Native.getLong(pData+24)); }
-	public void set_display(long v) { log.finest(""); Native.putLong(pData+24, v); }
-	public long get_time() { log.finest("");return (Native.getULong(pData+32)); }
-	public void set_time(long v) { log.finest(""); Native.putULong(pData+32, v); }
-	public int get_xkb_type() { log.finest("");return (Native.getInt(pData+40)); }
-	public void set_xkb_type(int v) { log.finest(""); Native.putInt(pData+40, v); }
-	public int get_device() { log.finest("");return (Native.getInt(pData+44)); }
-	public void set_device(int v) { log.finest(""); Native.putInt(pData+44, v); }
-	public int get_changed() { log.finest("");return (Native.getInt(pData+48)); }
-	public void set_changed(int v) { log.finest(""); Native.putInt(pData+48, v); }
-	public int get_first_type() { log.finest("");return (Native.getInt(pData+52)); }
-	public void set_first_type(int v) { log.finest(""); Native.putInt(pData+52, v); }
-	public int get_num_types() { log.finest("");return (Native.getInt(pData+56)); }
-	public void set_num_types(int v) { log.finest(""); Native.putInt(pData+56, v); }
-	public int get_first_lvl() { log.finest("");return (Native.getInt(pData+60)); }
-	public void set_first_lvl(int v) { log.finest(""); Native.putInt(pData+60, v); }
-	public int get_num_lvls() { log.finest("");return (Native.getInt(pData+64)); }
-	public void set_num_lvls(int v) { log.finest(""); Native.putInt(pData+64, v); }
-	public int get_num_aliases() { log.finest("");return (Native.getInt(pData+68)); }
-	public void set_num_aliases(int v) { log.finest(""); Native.putInt(pData+68, v); }
-	public int get_num_radio_groups() { log.finest("");return (Native.getInt(pData+72)); }
-	public void set_num_radio_groups(int v) { log.finest(""); Native.putInt(pData+72, v); }
-	public int get_changed_vmods() { log.finest("");return (Native.getInt(pData+76)); }
-	public void set_changed_vmods(int v) { log.finest(""); Native.putInt(pData+76, v); }
-	public int get_changed_groups() { log.finest("");return (Native.getInt(pData+80)); }
-	public void set_changed_groups(int v) { log.finest(""); Native.putInt(pData+80, v); }
-	public int get_changed_indicators() { log.finest("");return (Native.getInt(pData+84)); }
-	public void set_changed_indicators(int v) { log.finest(""); Native.putInt(pData+84, v); }
-	public int get_first_key() { log.finest("");return (Native.getInt(pData+88)); }
-	public void set_first_key(int v) { log.finest(""); Native.putInt(pData+88, v); }
-	public int get_num_keys() { log.finest("");return (Native.getInt(pData+92)); }
-	public void set_num_keys(int v) { log.finest(""); Native.putInt(pData+92, v); }
+	public int get_type() { return (Native.getInt(pData+0)); }
+	public void set_type(int v) { Native.putInt(pData+0, v); }
+	public long get_serial() { return (Native.getULong(pData+8)); }
+	public void set_serial(long v) { Native.putULong(pData+8, v); }
+	public boolean get_send_event() { return (Native.getBool(pData+16)); }
+	public void set_send_event(boolean v) { Native.putBool(pData+16, v); }
+	public long get_display() { return (Native.getLong(pData+24)); }
+	public void set_display(long v) { Native.putLong(pData+24, v); }
+	public long get_time() { return (Native.getULong(pData+32)); }
+	public void set_time(long v) { Native.putULong(pData+32, v); }
+	public int get_xkb_type() { return (Native.getInt(pData+40)); }
+	public void set_xkb_type(int v) { Native.putInt(pData+40, v); }
+	public int get_device() { return (Native.getInt(pData+44)); }
+	public void set_device(int v) { Native.putInt(pData+44, v); }
+	public int get_changed() { return (Native.getInt(pData+48)); }
+	public void set_changed(int v) { Native.putInt(pData+48, v); }
+	public int get_first_type() { return (Native.getInt(pData+52)); }
+	public void set_first_type(int v) { Native.putInt(pData+52, v); }
+	public int get_num_types() { return (Native.getInt(pData+56)); }
+	public void set_num_types(int v) { Native.putInt(pData+56, v); }
+	public int get_first_lvl() { return (Native.getInt(pData+60)); }
+	public void set_first_lvl(int v) { Native.putInt(pData+60, v); }
+	public int get_num_lvls() { return (Native.getInt(pData+64)); }
+	public void set_num_lvls(int v) { Native.putInt(pData+64, v); }
+	public int get_num_aliases() { return (Native.getInt(pData+68)); }
+	public void set_num_aliases(int v) { Native.putInt(pData+68, v); }
+	public int get_num_radio_groups() { return (Native.getInt(pData+72)); }
+	public void set_num_radio_groups(int v) { Native.putInt(pData+72, v); }
+	public int get_changed_vmods() { return (Native.getInt(pData+76)); }
+	public void set_changed_vmods(int v) { Native.putInt(pData+76, v); }
+	public int get_changed_groups() { return (Native.getInt(pData+80)); }
+	public void set_changed_groups(int v) { Native.putInt(pData+80, v); }
+	public int get_changed_indicators() { return (Native.getInt(pData+84)); }
+	public void set_changed_indicators(int v) { Native.putInt(pData+84, v); }
+	public int get_first_key() { return (Native.getInt(pData+88)); }
+	public void set_first_key(int v) { Native.putInt(pData+88, v); }
+	public int get_num_keys() { return (Native.getInt(pData+92)); }
+	public void set_num_keys(int v) { Native.putInt(pData+92, v); }
 
 
 	String getName() {
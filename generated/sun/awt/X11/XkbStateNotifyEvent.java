@@ -15,6 +15,15 @@ public class XkbStateNotifyEvent extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	public XkbStateNotifyEvent(long addr) {
 		log.finest("Creating");
@@ -37,58 +46,58 @@ public class XkbStateNotifyEvent extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_type() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_type(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public long get_serial() { log.finest("");return (Native.getULong(pData+8)); }
-	public void set_serial(long v) { log.finest(""); Native.putULong(pData+8, v); }
-	public boolean get_send_event() { log.finest("");return (Native.getBool(pData+16)); }
-	public void set_send_event(boolean v) { log.finest(""); Native.putBool(pData+16, v); }
-	public long get_display() { log.finest("");return (Native.getLong(pData+24)); }
-	public void set_display(long v) { log.finest(""); Native.putLong(pData+24, v); }
-	public long get_time() { log.finest("");return (Native.getULong(pData+32)); }
-	public void set_time(long v) { log.finest(""); Native.putULong(pData+32, v); }
-	public int get_xkb_type() { log.finest("");return (Native.getInt(pData+40)); }
-	public void set_xkb_type(int v) { log.finest(""); Native.putInt(pData+40, v); }
-	public int get_device() { log.finest("");return (Native.getInt(pData+44)); }
-	public void set_device(int v) { log.finest(""); Native.putInt(pData+44, v); }
-	public int get_changed() { log.finest("");return (Native.getInt(pData+48)); }
-	public void set_changed(int v) { log.finest(""); Native.putInt(pData+48, v); }
-	public int get_group() { log.finest("");return (Native.getInt(pData+52)); }
-	public void set_group(int v) { log.finest(""); Native.putInt(pData+52, v); }
-	public int get_base_group() { log.finest("");return (Native.getInt(pData+56)); }
-	public void set_base_group(int v) { log.finest(""); Native.putInt(pData+56, v); }
-	public int get_latched_group() { log.finest("");return (Native.getInt(pData+60)); }
-	public void set_latched_group(int v) { log.finest(""); Native.putInt(pData+60, v); }
-	public int get_locked_group() { log.finest("");return (Native.getInt(pData+64)); }
-	public void set_locked_group(int v) { log.finest(""); Native.putInt(pData+64, v); }
-	public int get_mods() { log.finest("");return (Native.getInt(pData+68)); }
-	public void set_mods(int v) { log.finest(""); Native.putInt(pData+68, v); }
-	public int get_base_mods() { log.finest("");return (Native.getInt(pData+72)); }
-	public void set_base_mods(int v) { log.finest(""); Native.putInt(pData+72, v); }
-	public int get_latched_mods() { log.finest("");return (Native.getInt(pData+76)); }
-	public void set_latched_mods(int v) { log.finest(""); Native.putInt(pData+76, v); }
-	public int get_locked_mods() { log.finest("");return (Native.getInt(pData+80)); }
-	public void set_locked_mods(int v) { log.finest(""); Native.putInt(pData+80, v); }
-	public int get_compat_state() { log.finest("");return (Native.getInt(pData+84)); }
-	public void set_compat_state(int v) { log.finest(""); Native.putInt(pData+84, v); }
-	public byte get_grab_mods() { log.finest("");return (Native.getByte(pData+88)); }
-	public void set_grab_mods(byte v) { log.finest(""); Native.putByte(pData+88, v); }
-	public byte get_compat_grab_mods() { log.finest("");return (Native.getByte(pData+89)); }
-	public void set_compat_grab_mods(byte v) { log.finest(""); Native.putByte(pData+89, v); }
-	public byte get_lookup_mods() { log.finest("");return (Native.getByte(pData+90)); }
-	public void set_lookup_mods(byte v) { log.finest(""); Native.putByte(pData+90, v); }
-	public byte get_compat_lookup_mods() { log.finest("");return (Native.getByte(pData+91)); }
-	public void set_compat_lookup_mods(byte v) { log.finest(""); Native.putByte(pData+91, v); }
-	public int get_ptr_buttons() { log.finest("");return (Native.getInt(pData+92)); }
-	public void set_ptr_buttons(int v) { log.finest(""); Native.putInt(pData+92, v); }
-	public int get_keycode() { log.finest("");return (Native.getInt(pData+96)); }
-	public void set_keycode(int v) { log.finest(""); Native.putInt(pData+96, v); }
-	public byte get_event_type() { log.finest("");return (Native.getByte(pData+97)); }
-	public void set_event_type(byte v) { log.finest(""); Native.putByte(pData+97, v); }
-	public byte get_req_major() { log.finest("");return (Native.getByte(pData+98)); }
-	public void set_req_major(byte v) { log.finest(""); Native.putByte(pData+98, v); }
-	public byte get_req_minor() { log.finest("");return (Native.getByte(pData+99)); }
-	public void set_req_minor(byte v) { log.finest(""); Native.putByte(pData+99, v); }
+	public int get_type() { return (Native.getInt(pData+0)); }
+	public void set_type(int v) { Native.putInt(pData+0, v); }
+	public long get_serial() { return (Native.getULong(pData+8)); }
+	public void set_serial(long v) { Native.putULong(pData+8, v); }
+	public boolean get_send_event() { return (Native.getBool(pData+16)); }
+	public void set_send_event(boolean v) { Native.putBool(pData+16, v); }
+	public long get_display() { return (Native.getLong(pData+24)); }
+	public void set_display(long v) { Native.putLong(pData+24, v); }
+	public long get_time() { return (Native.getULong(pData+32)); }
+	public void set_time(long v) { Native.putULong(pData+32, v); }
+	public int get_xkb_type() { return (Native.getInt(pData+40)); }
+	public void set_xkb_type(int v) { Native.putInt(pData+40, v); }
+	public int get_device() { return (Native.getInt(pData+44)); }
+	public void set_device(int v) { Native.putInt(pData+44, v); }
+	public int get_changed() { return (Native.getInt(pData+48)); }
+	public void set_changed(int v) { Native.putInt(pData+48, v); }
+	public int get_group() { return (Native.getInt(pData+52)); }
+	public void set_group(int v) { Native.putInt(pData+52, v); }
+	public int get_base_group() { return (Native.getInt(pData+56)); }
+	public void set_base_group(int v) { Native.putInt(pData+56, v); }
+	public int get_latched_group() { return (Native.getInt(pData+60)); }
+	public void set_latched_group(int v) { Native.putInt(pData+60, v); }
+	public int get_locked_group() { return (Native.getInt(pData+64)); }
+	public void set_locked_group(int v) { Native.putInt(pData+64, v); }
+	public int get_mods() { return (Native.getInt(pData+68)); }
+	public void set_mods(int v) { Native.putInt(pData+68, v); }
+	public int get_base_mods() { return (Native.getInt(pData+72)); }
+	public void set_base_mods(int v) { Native.putInt(pData+72, v); }
+	public int get_latched_mods() { return (Native.getInt(pData+76)); }
+	public void set_latched_mods(int v) { Native.putInt(pData+76, v); }
+	public int get_locked_mods() { return (Native.getInt(pData+80)); }
+	public void set_locked_mods(int v) { Native.putInt(pData+80, v); }
+	public int get_compat_state() { return (Native.getInt(pData+84)); }
+	public void set_compat_state(int v) { Native.putInt(pData+84, v); }
+	public byte get_grab_mods() { return (Native.getByte(pData+88)); }
+	public void set_grab_mods(byte v) { Native.putByte(pData+88, v); }
+	public byte get_compat_grab_mods() { return (Native.getByte(pData+89)); }
+	public void set_compat_grab_mods(byte v) { Native.putByte(pData+89, v); }
+	public byte get_lookup_mods() { return (Native.getByte(pData+90)); }
+	public void set_lookup_mods(byte v) { Native.putByte(pData+90, v); }
+	public byte get_compat_lookup_mods() { return (Native.getByte(pData+91)); }
+	public void set_compat_lookup_mods(byte v) { Native.putByte(pData+91, v); }
+	public int get_ptr_buttons() { return (Native.getInt(pData+92)); }
+	public void set_ptr_buttons(int v) { Native.putInt(pData+92, v); }
+	public int get_keycode() { return (Native.getInt(pData+96)); }
+	public void set_keycode(int v) { Native.putInt(pData+96, v); }
+	public byte get_event_type() { return (Native.getByte(pData+97)); }
+	public void set_event_type(byte v) { Native.putByte(pData+97, v); }
+	public byte get_req_major() { return (Native.getByte(pData+98)); }
+	public void set_req_major(byte v) { Native.putByte(pData+98, v); }
+	public byte get_req_minor() { return (Native.getByte(pData+99)); }
+	public void set_req_minor(byte v) { Native.putByte(pData+99, v); }
 
 
 	String getName() {
@@ -15,6 +15,15 @@ public class awtImageData extends XWrapperBase {
 
 	public long getPData() { return pData; }
 
+	// Re-points a wrapper created on an address at another struct, so that
+	// one instance can serve as a view of many.
+	public void setPData(long addr) {
+		if (should_free_memory) {
+			throw new IllegalStateException("wrapper owns its memory");
+		}
+		pData = addr;
+	}
+
 
 	awtImageData(long addr) {
 		log.finest("Creating");
@@ -37,15 +46,16 @@ public class awtImageData extends XWrapperBase {
 			unsafe.freeMemory(pData); 
 	}
 		}
-	public int get_Depth() { log.finest("");return (Native.getInt(pData+0)); }
-	public void set_Depth(int v) { log.finest(""); Native.putInt(pData+0, v); }
-	public XPixmapFormatValues get_wsImageFormat() { log.finest("");return new XPixmapFormatValues(pData + 4); }
-	public long get_clrdata(int index) { log.finest(""); return Native.getLong(pData+16)+index*Native.getLongSize(); }
-	public long get_clrdata() { log.finest("");return Native.getLong(pData+16); }
-	public void set_clrdata(long v) { log.finest(""); Native.putLong(pData + 16, v); }
-	public long get_convert(int index) { log.finest("");return Native.getLong(pData + 48+index*Native.getLongSize()); }
-	public void set_convert(int index, long v) { log.finest(""); Native.putLong(pData+48 + index*Native.getLongSize(), v); }
-	public long get_convert() { log.finest("");return pData+48; }
+	public int get_Depth() { return (Native.getInt(pData+0)); }
+	public void set_Depth(int v) { Native.putInt(pData+0, v); }
+	private XPixmapFormatValues wsImageFormat_view;
+	public XPixmapFormatValues get_wsImageFormat() { if (wsImageFormat_view == null) wsImageFormat_view = new XPixmapFormatValues(pData + 4); else if (wsImageFormat_view.pData != pData + 4) wsImageFormat_view.setPData(pData + 4); return wsImageFormat_view; }
+	public long get_clrdata(int index) { return Native.getLong(pData+16)+index*Native.getLongSize(); }
+	public long get_clrdata() { return Native.getLong(pData+16); }
+	public void set_clrdata(long v) { Native.putLong(pData + 16, v); }
+	public long get_convert(int index) { return Native.getLong(pData + 48+index*Native.getLongSize()); }
+	public void set_convert(int index, long v) { Native.putLong(pData+48 + index*Native.getLongSize(), v); }
+	public long get_convert() { return pData+48; }
 
 
 	String getName() {
@@ -17,6 +17,8 @@ along with this program.  If not, see <http://www.gnu.org/licenses/>.
 
 package com.redhat.rewriter;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
@@ -24,11 +26,10 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.IOException;
-
-import java.nio.charset.Charset;
+import java.io.OutputStream;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Enumeration;
 import java.util.List;
 
 import java.util.concurrent.Callable;
@@ -36,14 +37,17 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
 
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
 public class ClassRewriter
-  implements Callable<Void>
+  implements Callable<byte[]>
 {
 
   /**
@@ -58,27 +62,44 @@ public class ClassRewriter
   private static final boolean DEBUG = false;
 
   /**
-   * The executor for submitting rewriting jobs.
+   * The number of rewriting threads.  Defaults to the number of
+   * processors; set com.redhat.rewriter.threads to 1 to rewrite
+   * serially, as with bootstrap VMs whose threading is unreliable
+   * (PR1340).
+   */
+  private static final int THREADS =
+    Integer.getInteger("com.redhat.rewriter.threads",
+                       Runtime.getRuntime().availableProcessors());
+
+  /**
+   * The magic number at the start of every class file.
    */
-  private static final ExecutorService executor = 
-    Executors.newSingleThreadExecutor();
+  private static final byte[] MAGIC =
+    { (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE };
 
   /**
-   * The source directory, set once by main.
+   * The executor for submitting rewriting jobs.
    */
-  private static File srcDir;
+  private static final ExecutorService executor =
+    Executors.newFixedThreadPool(Math.max(1, THREADS));
 
   /**
    * The list of tasks submitted to the executor.
    */
-  private static List<Future<Void>> tasks = new ArrayList<Future<Void>>();
+  private static List<Future<byte[]>> tasks = new ArrayList<Future<byte[]>>();
+
+  /**
+   * The names of the archive entries produced by the tasks, in the
+   * same order, when writing to an archive.
+   */
+  private static List<String> taskNames = new ArrayList<String>();
 
   public static void main(String[] args)
-    throws ExecutionException, InterruptedException
+    throws ExecutionException, InterruptedException, IOException
   {
     if (args.length < 4)
       {
-        System.err.println("ClassRewriter <srcdir> <destdir> <oldpkg> <newpkg>");
+        System.err.println("ClassRewriter <srcdir|srcjar> <destdir|destjar> <oldpkg> <newpkg>");
         System.exit(-1);
       }
     Level level = DEBUG ? Level.FINE : Level.INFO;
@@ -87,46 +108,210 @@ public class ClassRewriter
     ConsoleHandler handler = new ConsoleHandler();
     handler.setLevel(level);
     logger.addHandler(handler);
-    srcDir = new File(args[0]);
-    processFile(srcDir, args[1], args[2], args[3]);
-    logger.info("Waiting for rewrites to complete...");
-    executor.shutdown();
-    executor.awaitTermination(1, TimeUnit.MINUTES);
-    logger.info("Checking for errors...");
-    // Check for exceptions
-    for (Future<Void> f : tasks)
-      f.get();
+
+    File src = new File(args[0]);
+    File dest = new File(args[1]);
+    String oldPkg = args[2];
+    String newPkg = args[3];
+    ZipOutputStream zos = null;
+    if (isArchive(dest))
+      {
+        File parent = dest.getAbsoluteFile().getParentFile();
+        makeDirs(parent);
+        zos = new ZipOutputStream(new FileOutputStream(dest));
+      }
+    try
+      {
+        if (src.isDirectory())
+          processFile(src, "", dest, zos, oldPkg, newPkg);
+        else if (isArchive(src))
+          processArchive(src, dest, zos, oldPkg, newPkg);
+        else
+          throw new IOException(src + " is neither a directory nor an archive.");
+
+        logger.info("Waiting for " + tasks.size() + " rewrites to complete on "
+                    + THREADS + " threads...");
+        // Check for exceptions, writing archive entries in order
+        for (int i = 0; i < tasks.size(); ++i)
+          {
+            byte[] data = tasks.get(i).get();
+            if (zos != null)
+              {
+                zos.putNextEntry(new ZipEntry(taskNames.get(i)));
+                zos.write(data);
+                zos.closeEntry();
+              }
+          }
+      }
+    finally
+      {
+        executor.shutdown();
+        if (zos != null)
+          zos.close();
+      }
     logger.info("Rewriting completed successfully.");
   }
 
-  private static void processFile(File srcDir, String destDir,
+  private static boolean isArchive(File file)
+  {
+    String name = file.getName();
+    return name.endsWith(".jar") || name.endsWith(".zip");
+  }
+
+  /**
+   * Creates a directory and its parents.  Other threads may be
+   * creating the same directories at the same time.
+   */
+  private static void makeDirs(File dir)
+    throws IOException
+  {
+    if (!dir.mkdirs() && !dir.isDirectory())
+      throw new IOException("Could not create " + dir);
+  }
+
+  private static void processFile(File srcFile, String name, File destDir,
+                                  ZipOutputStream zos,
                                   String oldPkg, String newPkg)
   {
-    if (srcDir.isDirectory())
+    if (srcFile.isDirectory())
       {
-        logger.fine("Recursing into " + srcDir);
-        for (File f : srcDir.listFiles())
-          processFile(f, destDir, oldPkg, newPkg);
+        logger.fine("Recursing into " + srcFile);
+        String prefix = name.length() == 0 ? "" : name + "/";
+        for (File f : srcFile.listFiles())
+          processFile(f, prefix + f.getName(), destDir, zos, oldPkg, newPkg);
       }
-    else if (srcDir.getName().endsWith(".class"))
+    else if (name.endsWith(".class"))
       {
-        logger.info("Processing class " + srcDir);
-        tasks.add(executor.submit(new ClassRewriter(srcDir, destDir,
-                                                    oldPkg, newPkg)));
+        logger.fine("Processing class " + srcFile);
+        submit(new ClassRewriter(srcFile, null, name, destDir, zos != null,
+                                 oldPkg, newPkg));
       }
     else
-      logger.fine("Skipping " + srcDir);
+      logger.fine("Skipping " + srcFile);
+  }
+
+  /**
+   * Rewrites the classes in an archive.  Other entries are only copied
+   * when writing to an archive, and given the new package name.
+   */
+  private static void processArchive(File src, File destDir, ZipOutputStream zos,
+                                     String oldPkg, String newPkg)
+    throws IOException
+  {
+    ZipFile zip = new ZipFile(src);
+    try
+      {
+        Enumeration<? extends ZipEntry> entries = zip.entries();
+        while (entries.hasMoreElements())
+          {
+            ZipEntry entry = entries.nextElement();
+            String name = entry.getName();
+            if (entry.isDirectory())
+              continue;
+            boolean isClass = name.endsWith(".class");
+            if (!isClass && zos == null)
+              {
+                logger.fine("Skipping " + name);
+                continue;
+              }
+            InputStream is = zip.getInputStream(entry);
+            byte[] data;
+            try
+              {
+                data = readFully(is, (int) entry.getSize());
+              }
+            finally
+              {
+                is.close();
+              }
+            if (isClass)
+              {
+                logger.fine("Processing class " + name);
+                submit(new ClassRewriter(null, data, name, destDir, zos != null,
+                                         oldPkg, newPkg));
+              }
+            else
+              {
+                tasks.add(executor.submit(new Copy(data)));
+                taskNames.add(name.replace(oldPkg.replace(".", "/"),
+                                           newPkg.replace(".", "/")));
+              }
+          }
+      }
+    finally
+      {
+        zip.close();
+      }
+  }
+
+  private static void submit(ClassRewriter rewriter)
+  {
+    tasks.add(executor.submit(rewriter));
+    taskNames.add(rewriter.outName);
+  }
+
+  /**
+   * A task that passes an archive entry through unchanged.
+   */
+  private static class Copy
+    implements Callable<byte[]>
+  {
+    private final byte[] data;
+
+    Copy(byte[] data)
+    {
+      this.data = data;
+    }
+
+    public byte[] call()
+    {
+      return data;
+    }
   }
 
   /**
-   * The class file to alter.
+   * Reads the whole of a stream.
+   *
+   * @param is the stream to read.
+   * @param sizeHint the expected size, or -1 if unknown.
+   */
+  private static byte[] readFully(InputStream is, int sizeHint)
+    throws IOException
+  {
+    ByteArrayOutputStream bos =
+      new ByteArrayOutputStream(sizeHint > 0 ? sizeHint : 8192);
+    byte[] buf = new byte[8192];
+    for (int n = is.read(buf); n != -1; n = is.read(buf))
+      bos.write(buf, 0, n);
+    return bos.toByteArray();
+  }
+
+  /**
+   * The class file to alter, or null if it was read from an archive.
    */
   private final File classFile;
 
   /**
-   * The destination directory.
+   * The contents of the class file, if it was read from an archive.
+   */
+  private final byte[] classData;
+
+  /**
+   * The name of the class file relative to the source, separated by '/',
+   * with the new package name.
    */
-  private final String destDir;
+  private final String outName;
+
+  /**
+   * The destination directory, or null.
+   */
+  private final File destDir;
+
+  /**
+   * True if the rewritten class is returned to be written to an archive
+   * rather than written to destDir.
+   */
+  private final boolean toArchive;
 
   /**
    * The old package name.
@@ -138,156 +323,235 @@ public class ClassRewriter
    */
   private final String newPackage;
 
-  public ClassRewriter(File classFile, String destDir,
+  public ClassRewriter(File classFile, byte[] classData, String name,
+                       File destDir, boolean toArchive,
                        String oldPackage, String newPackage)
   {
     this.classFile = classFile;
+    this.classData = classData;
+    this.outName = name.replace(oldPackage.replace(".", "/"),
+                                newPackage.replace(".", "/"));
+    this.destDir = destDir;
+    this.toArchive = toArchive;
     this.oldPackage = oldPackage;
     this.newPackage = newPackage;
-    this.destDir = destDir;
   }
 
-  public Void call()
+  public byte[] call()
+    throws IOException
+  {
+    byte[] in = classData;
+    if (in == null)
+      {
+        InputStream is = new FileInputStream(classFile);
+        try
+          {
+            in = readFully(is, (int) classFile.length());
+          }
+        finally
+          {
+            is.close();
+          }
+      }
+    byte[] out = rewrite(in);
+    if (toArchive)
+      return out;
+
+    File outClass = new File(destDir, outName.replace('/', File.separatorChar));
+    makeDirs(outClass.getParentFile());
+    OutputStream os = new FileOutputStream(outClass);
+    try
+      {
+        os.write(out);
+      }
+    finally
+      {
+        os.close();
+      }
+    return null;
+  }
+
+  /**
+   * Returns true if {@code pattern} occurs anywhere in {@code data}.
+   */
+  private static boolean contains(byte[] data, byte[] pattern)
+  {
+    if (pattern.length == 0)
+      return true;
+    byte first = pattern[0];
+    int last = data.length - pattern.length;
+    outer:
+    for (int i = 0; i <= last; ++i)
+      {
+        if (data[i] != first)
+          continue;
+        for (int j = 1; j < pattern.length; ++j)
+          if (data[i + j] != pattern[j])
+            continue outer;
+        return true;
+      }
+    return false;
+  }
+
+  /**
+   * Returns the class file {@code in} with the old package name
+   * replaced by the new one in its constant pool.  Classes that do not
+   * contain the old name in any form are returned as they are, without
+   * parsing the constant pool.
+   */
+  private byte[] rewrite(byte[] in)
     throws IOException
   {
     String slashedOldPackage = oldPackage.replace(".", "/");
     String slashedNewPackage = newPackage.replace(".", "/");
     String dollaredOldPackage = oldPackage.replace(".", "$");
     String dollaredNewPackage = newPackage.replace(".", "$");
+    String source = classFile != null ? classFile.toString() : outName;
 
-    File outClass =
-      new File(classFile.getPath().replace(srcDir.getPath() + File.separator,
-                                           destDir + File.separator).replace(slashedOldPackage, slashedNewPackage));
-    File targetDir = outClass.getParentFile();
-    while (!targetDir.exists())
-      outClass.getParentFile().mkdirs();
+    /* Check magic 0xCAFEBABE is present */
+    if (in.length < 8)
+      throw new IOException(source + " is not a class file.");
+    for (int i = 0; i < MAGIC.length; ++i)
+      if (in[i] != MAGIC[i])
+        throw new IOException(source + " is not a class file.");
+
+    /* Package names are ASCII, so their modified UTF-8 form is the same
+       as in UTF-8 */
+    if (!contains(in, oldPackage.getBytes("UTF-8")) &&
+        !contains(in, slashedOldPackage.getBytes("UTF-8")) &&
+        !contains(in, dollaredOldPackage.getBytes("UTF-8")))
+      {
+        logger.fine(source + ": no references to " + oldPackage);
+        return in;
+      }
 
-    DataInputStream is = new DataInputStream(new FileInputStream(classFile));
-    DataOutputStream os = new DataOutputStream(new FileOutputStream(outClass));
+    DataInputStream is = new DataInputStream(new ByteArrayInputStream(in));
+    ByteArrayOutputStream bos = new ByteArrayOutputStream(in.length + 256);
+    DataOutputStream os = new DataOutputStream(bos);
 
-    /* Check magic 0xCAFEBABE is present */
-    byte[] magic = new byte[4];
-    int count = is.read(magic);
-    if (count != 4 || !Arrays.equals(magic, new byte[] { (byte) 0xCA,
-                                                         (byte) 0xFE,
-                                                         (byte) 0xBA,
-                                                         (byte) 0xBE }))
-      throw new IOException(classFile + " is not a class file.");
-    os.write(magic);
-
-    /* Copy version number */
-    byte[] version = new byte[4];
-    count = is.read(version);
-    if (count != 4)
-      throw new IOException("Could not read version number.");
-    os.write(version);
+    /* Copy magic and version number */
+    byte[] header = new byte[8];
+    is.readFully(header);
+    os.write(header);
 
     int cpCount = is.readUnsignedShort();
     os.writeShort(cpCount);
-    logger.fine("Constant pool has " + cpCount + " items.");
+    if (DEBUG)
+      logger.fine("Constant pool has " + cpCount + " items.");
 
     for (int a = 1; a < cpCount ; ++a)
       {
         byte tag = is.readByte();
-        String prefix = "At index " + a + ", tag " + tag + ": ";
+        String prefix = DEBUG ? "At index " + a + ", tag " + tag + ": " : null;
         os.write(tag);
         switch (tag)
           {
           case 1:
             /* CONSTANT_Utf8_Info */
             String data = is.readUTF();
-            logger.fine(prefix + "String " + data);
+            if (DEBUG)
+              logger.fine(prefix + "String " + data);
             if (data.contains(oldPackage))
               {
-                logger.fine(String.format("%s: Found %s\n", outClass.toString(), data));
+                if (DEBUG)
+                  logger.fine(String.format("%s: Found %s\n", outName, data));
                 data = data.replace(oldPackage, newPackage);
-                logger.fine(String.format("%s: Rewriting to %s\n", outClass.toString(), data));
+                if (DEBUG)
+                  logger.fine(String.format("%s: Rewriting to %s\n", outName, data));
               }
             else if (data.contains(slashedOldPackage))
               {
-                logger.fine(String.format("%s: Found %s\n", outClass.toString(), data));
+                if (DEBUG)
+                  logger.fine(String.format("%s: Found %s\n", outName, data));
                 data = data.replace(slashedOldPackage, slashedNewPackage);
-                logger.fine(String.format("%s: Rewriting to %s\n", outClass.toString(), data));
+                if (DEBUG)
+                  logger.fine(String.format("%s: Rewriting to %s\n", outName, data));
               }
             else if (data.contains(dollaredOldPackage))
               {
-                logger.fine(String.format("%s: Found %s\n", outClass.toString(), data));
+                if (DEBUG)
+                  logger.fine(String.format("%s: Found %s\n", outName, data));
                 data = data.replace(dollaredOldPackage, dollaredNewPackage);
-                logger.fine(String.format("%s: Rewriting to %s\n", outClass.toString(), data));
+                if (DEBUG)
+                  logger.fine(String.format("%s: Rewriting to %s\n", outName, data));
               }
             os.writeUTF(data);
             break;
           case 3:
             /* CONSTANT_Integer_Info */
             int intBytes = is.readInt();
-            logger.fine(prefix + "Integer " + intBytes);
+            if (DEBUG)
+              logger.fine(prefix + "Integer " + intBytes);
             os.writeInt(intBytes);
             break;
           case 4:
             /* CONSTANT_Float_Info */
-            float floatBytes = is.readFloat();
-            logger.fine(prefix + "Float " + floatBytes);
-            os.writeFloat(floatBytes);
+            int floatBits = is.readInt();
+            if (DEBUG)
+              logger.fine(prefix + "Float " + Float.intBitsToFloat(floatBits));
+            os.writeInt(floatBits);
             break;
           case 5:
             /* CONSTANT_Long_Info */
             long longBytes = is.readLong();
-            logger.fine(prefix + "Long " + longBytes);
+            if (DEBUG)
+              logger.fine(prefix + "Long " + longBytes);
             os.writeLong(longBytes);
             ++a; // longs count as two entries
             break;
           case 6:
             /* CONSTANT_Double_Info */
-            double doubleBytes = is.readDouble();
-            logger.fine(prefix + "Double " + doubleBytes);
-            os.writeDouble(doubleBytes);
+            long doubleBits = is.readLong();
+            if (DEBUG)
+              logger.fine(prefix + "Double " + Double.longBitsToDouble(doubleBits));
+            os.writeLong(doubleBits);
             ++a; // doubles count as two entries
             break;
           case 7:
           case 8:
-            /* CONSTANT_Class_Info and CONSTANT_String_Info */
+          case 16:
+            /* CONSTANT_Class_Info, CONSTANT_String_Info and
+               CONSTANT_MethodType_info */
             short nameIndex = is.readShort();
-            if (tag == 7)
-              logger.fine(prefix + "Class at index " + nameIndex);
-            else
-              logger.fine(prefix + "String at index " + nameIndex);
+            if (DEBUG)
+              logger.fine(prefix + "Index " + nameIndex);
             os.writeShort(nameIndex);
             break;
           case 9:
           case 10:
           case 11:
+          case 12:
+          case 18:
             /* CONSTANT_Fieldref_Info, CONSTANT_Methodref_Info,
-               CONSTANT_InterfaceMethodrefInfo */
-            short classIndex = is.readShort();
-            short nameAndTypeIndex = is.readShort();
-            if (tag == 9)
-              logger.fine(prefix + "Field with class at index " + classIndex +
-                                 " with name and type at " + nameAndTypeIndex);
-            else if (tag == 10)
-              logger.fine(prefix + "Method with class at index " + classIndex +
-                                 " with name and type at " + nameAndTypeIndex);
-            else
-              logger.fine(prefix + "Interface with class at index " + classIndex +
-                                 " with name and type at " + nameAndTypeIndex);
-            os.writeShort(classIndex);
-            os.writeShort(nameAndTypeIndex);
+               CONSTANT_InterfaceMethodrefInfo, CONSTANT_NameAndTypeInfo
+               and CONSTANT_InvokeDynamic_info */
+            short firstIndex = is.readShort();
+            short secondIndex = is.readShort();
+            if (DEBUG)
+              logger.fine(prefix + "Indices " + firstIndex + " and " + secondIndex);
+            os.writeShort(firstIndex);
+            os.writeShort(secondIndex);
             break;
-          case 12:
-            /* CONSTANT_NameAndTypeInfo */
-            short nIndex = is.readShort();
-            short descriptorIndex = is.readShort();
-            logger.fine(prefix + "Name at index " + nIndex +
-                               " with descriptor at index " + descriptorIndex);
-            os.writeShort(nIndex);
-            os.writeShort(descriptorIndex);
+          case 15:
+            /* CONSTANT_MethodHandle_info */
+            byte referenceKind = is.readByte();
+            short referenceIndex = is.readShort();
+            if (DEBUG)
+              logger.fine(prefix + "Method handle of kind " + referenceKind +
+                          " to index " + referenceIndex);
+            os.write(referenceKind);
+            os.writeShort(referenceIndex);
             break;
+          default:
+            throw new IOException(source + ": unknown constant pool tag " + tag +
+                                  " at index " + a);
           }
       }
-    for (int nextByte = is.read(); nextByte != -1; nextByte = is.read())
-      os.write(nextByte);
-    is.close();
-    os.close();
-    return null;
+    /* Copy the rest of the class unchanged */
+    int rest = is.available();
+    os.write(in, in.length - rest, rest);
+    os.flush();
+    return bos.toByteArray();
   }
 
 }
@@ -63,8 +63,14 @@ public class DefaultTestRunner extends TestRunner
                                     try {
                                         TestDescription td;
                                         while ((td = nextTest()) != null) {
-                                            if (!runTest(td))
-                                                allPassed = false;
+                                            long start = HarnessMetrics.INSTANCE.workerStarted();
+                                            try {
+                                                if (!runTest(td))
+                                                    allPassed = false;
+                                            }
+                                            finally {
+                                                HarnessMetrics.INSTANCE.workerFinished(start);
+                                            }
                                         }
                                     }
                                     finally {
@@ -534,6 +534,15 @@ public class Harness
         }
     }
 
+    /**
+     * Get the number of tests that have been read ahead and are waiting
+     * to be run.
+     */
+    int getReadAheadDepth() {
+        ReadAheadIterator r = raTestIter;
+        return (r == null ? 0 : r.getOutputQueueSize());
+    }
+
     /**
      * Set the threshold for automatic haulting of a test run.
      * The current algorithm is to begin at zero, add one for every failure,
@@ -706,6 +715,9 @@ public class Harness
                                            Parameters.ConcurrencyParameters.MAX_CONCURRENCY));
         r.setConcurrency(concurrency);
 
+        HarnessMetrics.register();
+        HarnessMetrics.INSTANCE.startingRun(this, concurrency);
+
         r.setNotifier(notifier);
 
         try {
@@ -850,6 +862,7 @@ public class Harness
         }
 
         public void startingTest(TestResult tr) {
+            HarnessMetrics.INSTANCE.testStarted();
             // protect against removing observers during notification
             Observer[] stableObservers = observers;
             for (int i = stableObservers.length - 1; i >= 0; i--)
@@ -858,6 +871,7 @@ public class Harness
 
         public void finishedTest(TestResult tr) {
             numTestsDone++;
+            HarnessMetrics.INSTANCE.testFinished();
             resultTable.update(tr);
             // protect against removing observers during notification
             Observer[] stableObservers = observers;
@@ -0,0 +1,314 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package com.sun.javatest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The live metrics of the harness, collected from the classes that
+ * run tests and record their results, and registered with the platform
+ * MBean server as "com.sun.javatest:type=HarnessMetrics" when a test run
+ * is started.  Registration can be disabled by setting the system property
+ * javatest.metrics.jmx to false; the metrics are still collected, since
+ * they are cheap to maintain.
+ */
+class HarnessMetrics implements HarnessMetricsMXBean
+{
+    /**
+     * Register the metrics with the platform MBean server, if that has not
+     * already been done.
+     */
+    static synchronized void register() {
+        if (registered || !Boolean.valueOf(System.getProperty("javatest.metrics.jmx", "true")))
+            return;
+        registered = true;
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            mbs.registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        }
+        catch (JMException e) {
+            // metrics are not essential
+        }
+        catch (SecurityException e) {
+            // metrics are not essential
+        }
+    }
+
+    //----------recording--------------------------------------------------------
+
+    void startingRun(Harness harness, int concurrency) {
+        this.harness = new WeakReference<Harness>(harness);
+        this.concurrency = concurrency;
+        synchronized (workers) {
+            runStart = System.nanoTime();
+            busyNanos = 0;
+        }
+    }
+
+    void setResultCache(TestResultCache cache) {
+        resultCache = new WeakReference<TestResultCache>(cache);
+    }
+
+    void testStarted() {
+        testsStarted.incrementAndGet();
+        startRate.add(System.currentTimeMillis());
+    }
+
+    void testFinished() {
+        testsFinished.incrementAndGet();
+        finishRate.add(System.currentTimeMillis());
+    }
+
+    /**
+     * Note that a worker has started to run a test.
+     * @return the time to be passed to workerFinished
+     */
+    long workerStarted() {
+        long now = System.nanoTime();
+        synchronized (workers) {
+            activeWorkers++;
+            activeStartSum += now;
+        }
+        return now;
+    }
+
+    void workerFinished(long start) {
+        long now = System.nanoTime();
+        synchronized (workers) {
+            // a test started before a reset is only counted from the reset
+            long s = Math.max(start, runStart);
+            activeWorkers--;
+            activeStartSum -= s;
+            busyNanos += now - s;
+        }
+    }
+
+    void compressedResultCache(long nanos) {
+        compressCount.incrementAndGet();
+        compressNanos.addAndGet(nanos);
+        long max;
+        while ((max = compressMaxNanos.get()) < nanos && !compressMaxNanos.compareAndSet(max, nanos))
+            ;
+    }
+
+    void wroteResults(long nanos) {
+        writeCount.incrementAndGet();
+        writeNanos.addAndGet(nanos);
+        long max;
+        while ((max = writeMaxNanos.get()) < nanos && !writeMaxNanos.compareAndSet(max, nanos))
+            ;
+        long micros = nanos / 1000;
+        int i = 0;
+        while (i < WRITE_BOUNDS.length && micros >= WRITE_BOUNDS[i])
+            i++;
+        writeHistogram.incrementAndGet(i);
+    }
+
+    //----------HarnessMetricsMXBean-------------------------------------------
+
+    public long getTestsStarted() {
+        return testsStarted.get();
+    }
+
+    public long getTestsFinished() {
+        return testsFinished.get();
+    }
+
+    public double getTestsStartedPerSecond() {
+        return startRate.get(System.currentTimeMillis());
+    }
+
+    public double getTestsFinishedPerSecond() {
+        return finishRate.get(System.currentTimeMillis());
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public int getActiveWorkers() {
+        synchronized (workers) {
+            return activeWorkers;
+        }
+    }
+
+    public double getWorkerUtilization() {
+        long now = System.nanoTime();
+        synchronized (workers) {
+            long elapsed = now - runStart;
+            if (concurrency == 0 || elapsed <= 0)
+                return 0;
+            // include the time so far of the tests being run
+            long busy = busyNanos + activeWorkers * now - activeStartSum;
+            return Math.min(1.0, (double) busy / ((double) elapsed * concurrency));
+        }
+    }
+
+    public int getReadAheadDepth() {
+        Harness h = (harness == null ? null : harness.get());
+        return (h == null ? 0 : h.getReadAheadDepth());
+    }
+
+    public int getResultCacheWriteBacklog() {
+        TestResultCache c = (resultCache == null ? null : resultCache.get());
+        return (c == null ? 0 : c.getWriteBacklog());
+    }
+
+    public long getResultCacheCompressCount() {
+        return compressCount.get();
+    }
+
+    public long getResultCacheCompressTotalMillis() {
+        return compressNanos.get() / 1000000;
+    }
+
+    public long getResultCacheCompressMaxMillis() {
+        return compressMaxNanos.get() / 1000000;
+    }
+
+    public long getWriteResultsCount() {
+        return writeCount.get();
+    }
+
+    public double getWriteResultsMeanMillis() {
+        long n = writeCount.get();
+        return (n == 0 ? 0 : writeNanos.get() / 1e6 / n);
+    }
+
+    public double getWriteResultsMaxMillis() {
+        return writeMaxNanos.get() / 1e6;
+    }
+
+    public long[] getWriteResultsHistogramBounds() {
+        return WRITE_BOUNDS.clone();
+    }
+
+    public long[] getWriteResultsHistogram() {
+        long[] h = new long[writeHistogram.length()];
+        for (int i = 0; i < h.length; i++)
+            h[i] = writeHistogram.get(i);
+        return h;
+    }
+
+    public void reset() {
+        testsStarted.set(0);
+        testsFinished.set(0);
+        startRate.clear();
+        finishRate.clear();
+        synchronized (workers) {
+            runStart = System.nanoTime();
+            busyNanos = 0;
+            // keep the tests being run, but only from now
+            activeStartSum = activeWorkers * runStart;
+        }
+        compressCount.set(0);
+        compressNanos.set(0);
+        compressMaxNanos.set(0);
+        writeCount.set(0);
+        writeNanos.set(0);
+        writeMaxNanos.set(0);
+        for (int i = 0; i < writeHistogram.length(); i++)
+            writeHistogram.set(i, 0);
+    }
+
+    //-------------------------------------------------------------------------
+
+    /**
+     * A count of events in each second of the last minute.
+     */
+    private static class Rate {
+        synchronized void add(long now) {
+            long sec = now / 1000;
+            int i = (int) (sec % WINDOW);
+            if (seconds[i] != sec) {
+                seconds[i] = sec;
+                counts[i] = 0;
+            }
+            counts[i]++;
+            if (first == 0)
+                first = sec;
+        }
+
+        synchronized double get(long now) {
+            if (first == 0)
+                return 0;
+            long sec = now / 1000;
+            long total = 0;
+            for (int i = 0; i < WINDOW; i++) {
+                if (sec - seconds[i] < WINDOW)
+                    total += counts[i];
+            }
+            // include the current, partial, second
+            long window = Math.min(WINDOW, sec - first + 1);
+            return (double) total / window;
+        }
+
+        synchronized void clear() {
+            for (int i = 0; i < WINDOW; i++)
+                seconds[i] = counts[i] = 0;
+            first = 0;
+        }
+
+        private final long[] seconds = new long[WINDOW];
+        private final long[] counts = new long[WINDOW];
+        private long first;
+
+        private static final int WINDOW = 60;
+    }
+
+    private WeakReference<Harness> harness;
+    private WeakReference<TestResultCache> resultCache;
+    private volatile int concurrency;
+
+    private final AtomicLong testsStarted = new AtomicLong();
+    private final AtomicLong testsFinished = new AtomicLong();
+    private final Rate startRate = new Rate();
+    private final Rate finishRate = new Rate();
+
+    private final Object workers = new Object();
+    private int activeWorkers;
+    private long activeStartSum;
+    private long runStart = System.nanoTime();
+    private long busyNanos;
+
+    private final AtomicLong compressCount = new AtomicLong();
+    private final AtomicLong compressNanos = new AtomicLong();
+    private final AtomicLong compressMaxNanos = new AtomicLong();
+
+    private final AtomicLong writeCount = new AtomicLong();
+    private final AtomicLong writeNanos = new AtomicLong();
+    private final AtomicLong writeMaxNanos = new AtomicLong();
+    // microseconds
+    private static final long[] WRITE_BOUNDS = {
+        100, 250, 500, 1000, 2500, 5000, 10000, 25000, 50000, 100000, 250000, 1000000
+    };
+    private final AtomicLongArray writeHistogram = new AtomicLongArray(WRITE_BOUNDS.length + 1);
+
+    static final HarnessMetrics INSTANCE = new HarnessMetrics();
+
+    private static boolean registered;
+    private static final String OBJECT_NAME = "com.sun.javatest:type=HarnessMetrics";
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package com.sun.javatest;
+
+/**
+ * The management interface for the live metrics of the harness, which
+ * can be monitored with a JMX client such as jconsole while tests are
+ * being run.  Counts and times are since the harness was started, or
+ * since {@link #reset} was last called; rates are averaged over the last
+ * minute.
+ */
+public interface HarnessMetricsMXBean
+{
+    /**
+     * Get the number of tests that have been started.
+     * @return the number of tests that have been started
+     */
+    long getTestsStarted();
+
+    /**
+     * Get the number of tests that have finished.
+     * @return the number of tests that have finished
+     */
+    long getTestsFinished();
+
+    /**
+     * Get the rate at which tests have been started over the last minute.
+     * @return the number of tests started per second
+     */
+    double getTestsStartedPerSecond();
+
+    /**
+     * Get the rate at which tests have finished over the last minute.
+     * @return the number of tests finished per second
+     */
+    double getTestsFinishedPerSecond();
+
+    /**
+     * Get the number of worker threads used to run tests in the current
+     * or most recent test run.
+     * @return the number of worker threads
+     */
+    int getConcurrency();
+
+    /**
+     * Get the number of worker threads that are currently running a test.
+     * @return the number of worker threads that are running a test
+     */
+    int getActiveWorkers();
+
+    /**
+     * Get the proportion of the time that worker threads have spent
+     * running tests, since the start of the current or most recent test run.
+     * @return a value between 0 and 1
+     */
+    double getWorkerUtilization();
+
+    /**
+     * Get the number of tests that have been read ahead of the tests
+     * being run, and are waiting to be run.
+     * @return the number of tests waiting to be run
+     */
+    int getReadAheadDepth();
+
+    /**
+     * Get the number of test results waiting to be written to the
+     * result cache of the work directory.
+     * @return the number of test results waiting to be written
+     */
+    int getResultCacheWriteBacklog();
+
+    /**
+     * Get the number of times the result cache has been compressed.
+     * @return the number of times the result cache has been compressed
+     */
+    long getResultCacheCompressCount();
+
+    /**
+     * Get the total time spent compressing the result cache.
+     * @return the total time, in milliseconds
+     */
+    long getResultCacheCompressTotalMillis();
+
+    /**
+     * Get the longest time taken to compress the result cache.
+     * @return the longest time, in milliseconds
+     */
+    long getResultCacheCompressMaxMillis();
+
+    /**
+     * Get the number of test results that have been written.
+     * @return the number of calls of TestResult.writeResults
+     */
+    long getWriteResultsCount();
+
+    /**
+     * Get the mean time taken to write a test result.
+     * @return the mean time, in milliseconds
+     */
+    double getWriteResultsMeanMillis();
+
+    /**
+     * Get the longest time taken to write a test result.
+     * @return the longest time, in milliseconds
+     */
+    double getWriteResultsMaxMillis();
+
+    /**
+     * Get the upper bounds of the buckets of the histogram of the times
+     * taken to write test results.  The last bucket of the histogram,
+     * which has no upper bound, is not included.
+     * @return the upper bounds, in microseconds
+     * @see #getWriteResultsHistogram
+     */
+    long[] getWriteResultsHistogramBounds();
+
+    /**
+     * Get a histogram of the times taken to write test results.
+     * @return the number of results written in a time less than the
+     *   corresponding value of getWriteResultsHistogramBounds, and at
+     *   least the preceding value, followed by the number of results
+     *   that took longer than all the bounds
+     * @see #getWriteResultsHistogramBounds
+     */
+    long[] getWriteResultsHistogram();
+
+    /**
+     * Reset the counts, times and histograms to zero.
+     */
+    void reset();
+}
@@ -28,7 +28,9 @@ package com.sun.javatest;
 
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import com.sun.javatest.util.I18NResourceBundle;
 import com.sun.javatest.util.StringArray;
 
@@ -161,6 +163,73 @@ public abstract class Keywords
      */
     public abstract boolean accepts(Set s);
 
+    /**
+     * Check if this keywords object accepts, or matches, the keywords
+     * of a test description, as given by
+     * {@link TestDescription#getKeywordTable}.
+     * The keywords objects returned by {@link #create create} compare
+     * against a bit set of the keywords that is computed once for each
+     * test description, rather than against a newly built set.
+     *
+     * @param td The test description whose keywords are to be checked.
+     * @return true if the keywords of the test description are compatible
+     * with this keywords object.
+     * @see #accepts(Set)
+     */
+    public boolean accepts(TestDescription td) {
+        return accepts(td.getKeywordTable());
+    }
+
+    /**
+     * Get the number of a keyword in the dictionary of all the keywords
+     * seen so far, adding it if necessary.  Keyword numbers are the bit
+     * positions in the sets returned by {@link #toBits}.
+     * @param word a keyword, in canonical (lower-case) form
+     * @return the number of the keyword
+     */
+    static int intern(String word) {
+        Integer n = dictionary.get(word);
+        if (n == null) {
+            synchronized (dictionary) {
+                n = dictionary.get(word);
+                if (n == null) {
+                    n = Integer.valueOf(dictionary.size());
+                    dictionary.put(word, n);
+                }
+            }
+        }
+        return n.intValue();
+    }
+
+    /**
+     * Get a set of words as a bit set over the keyword numbers.
+     * The words are converted to canonical (lower-case) form first.
+     * @param words the words to be included in the set
+     * @return the bit set; it has no trailing words that are zero
+     */
+    static long[] toBits(String[] words) {
+        long[] bits = NO_BITS;
+        for (int i = 0; i < words.length; i++) {
+            int n = intern(words[i].toLowerCase());
+            int w = n >>> 6;
+            if (w >= bits.length) {
+                long[] b = new long[w + 1];
+                System.arraycopy(bits, 0, b, 0, bits.length);
+                bits = b;
+            }
+            bits[w] |= 1L << n;
+        }
+        return bits;
+    }
+
+    /**
+     * Check whether a bit set contains a keyword.
+     */
+    static boolean contains(long[] bits, int n) {
+        int w = n >>> 6;
+        return (w < bits.length && (bits[w] & (1L << n)) != 0);
+    }
+
     private static Set toLowerCase(Set words) {
         if (words == null)
             return null;
@@ -193,6 +262,9 @@ public abstract class Keywords
 
     static I18NResourceBundle i18n = I18NResourceBundle.getBundleForClass(Keywords.class);
 
+    private static final long[] NO_BITS = new long[0];
+    private static final Map<String, Integer> dictionary =
+        new ConcurrentHashMap<String, Integer>();
 }
 
 //------------------------------------------------------------------------------
@@ -209,6 +281,7 @@ class AllKeywords extends Keywords
             if (validKeywords != null && !validKeywords.contains(this.keys[i]))
                 throw new Keywords.Fault(i18n, "kw.invalidKeyword", keys[i]);
         }
+        mask = toBits(this.keys);
     }
 
     public boolean accepts(Set s) {
@@ -218,6 +291,17 @@ class AllKeywords extends Keywords
         return true;
     }
 
+    public boolean accepts(TestDescription td) {
+        long[] bits = td.getKeywordBits();
+        if (bits.length < mask.length)
+            return false;
+        for (int i = 0; i < mask.length; i++) {
+            if ((bits[i] & mask[i]) != mask[i])
+                return false;
+        }
+        return true;
+    }
+
     public boolean equals(Object o) {
         if (!(o instanceof AllKeywords))
             return false;
@@ -237,6 +321,7 @@ class AllKeywords extends Keywords
     }
 
     private String[] keys;
+    private long[] mask;
 }
 
 //------------------------------------------------------------------------------
@@ -253,6 +338,7 @@ class AnyKeywords extends Keywords
             if (validKeywords != null && !validKeywords.contains(this.keys[i]))
                 throw new Keywords.Fault(i18n, "kw.invalidKeyword", keys[i]);
         }
+        mask = toBits(this.keys);
     }
 
     public boolean accepts(Set s) {
@@ -262,6 +348,16 @@ class AnyKeywords extends Keywords
         return false;
     }
 
+    public boolean accepts(TestDescription td) {
+        long[] bits = td.getKeywordBits();
+        int n = Math.min(bits.length, mask.length);
+        for (int i = 0; i < n; i++) {
+            if ((bits[i] & mask[i]) != 0)
+                return true;
+        }
+        return false;
+    }
+
     public boolean equals(Object o) {
         if (!(o instanceof AnyKeywords))
             return false;
@@ -282,6 +378,7 @@ class AnyKeywords extends Keywords
     }
 
     private String[] keys;
+    private long[] mask;
 }
 
 //------------------------------------------------------------------------------
@@ -416,6 +513,84 @@ abstract class ExprKeywords extends Keywords
     ExprKeywords order() {
         return this;
     }
+
+    /**
+     * Add the postfix form of this expression to a program.
+     */
+    abstract void compile(Program p);
+
+    /**
+     * Evaluate the expression against the keyword bits of the test
+     * description.  The expression tree is compiled on first use to a
+     * postfix program of keyword numbers and operators, which is run
+     * with the operand stack held in the bits of a long.
+     */
+    public boolean accepts(TestDescription td) {
+        int[] code = program;
+        if (code == null) {
+            Program p = new Program();
+            compile(p);
+            code = (p.maxDepth <= 64 ? p.toArray() : TOO_DEEP);
+            program = code;
+        }
+        if (code == TOO_DEEP)
+            return accepts(td.getKeywordTable());
+
+        long[] bits = td.getKeywordBits();
+        long stack = 0; // bit 0 is the top of the stack
+        for (int i = 0; i < code.length; i++) {
+            int op = code[i];
+            switch (op) {
+            case AND:
+                stack = (stack >>> 1) & (stack | ~1L);
+                break;
+            case OR:
+                stack = (stack >>> 1) | (stack & 1L);
+                break;
+            case NOT:
+                stack ^= 1L;
+                break;
+            default:
+                stack = (stack << 1) | (contains(bits, op) ? 1L : 0L);
+            }
+        }
+        return ((stack & 1L) != 0);
+    }
+
+    /**
+     * A postfix program being compiled.  Non-negative entries are
+     * keyword numbers, which push whether the keyword is present;
+     * the negative entries are operators.
+     */
+    static class Program {
+        void add(int op) {
+            if (size == code.length) {
+                int[] c = new int[code.length * 2];
+                System.arraycopy(code, 0, c, 0, size);
+                code = c;
+            }
+            code[size++] = op;
+            if (op >= 0)
+                maxDepth = Math.max(maxDepth, ++depth);
+            else if (op != NOT)
+                depth--;
+        }
+
+        int[] toArray() {
+            int[] c = new int[size];
+            System.arraycopy(code, 0, c, 0, size);
+            return c;
+        }
+
+        private int[] code = new int[8];
+        private int size;
+        private int depth;
+        int maxDepth;
+    }
+
+    static final int AND = -1, OR = -2, NOT = -3;
+    private static final int[] TOO_DEEP = new int[0];
+    private volatile int[] program;
 }
 
 //------------------------------------------------------------------------------
@@ -453,6 +628,12 @@ class AndExprKeywords extends BinaryExprKeywords
         return (left.accepts(s) && right.accepts(s));
     }
 
+    void compile(Program p) {
+        left.compile(p);
+        right.compile(p);
+        p.add(AND);
+    }
+
     public boolean equals(Object o) {
         if (!(o instanceof AndExprKeywords))
             return false;
@@ -482,6 +663,11 @@ class NotExprKeywords extends ExprKeywords
         return !expr.accepts(s);
     }
 
+    void compile(Program p) {
+        expr.compile(p);
+        p.add(NOT);
+    }
+
     public boolean equals(Object o) {
         if (!(o instanceof NotExprKeywords))
             return false;
@@ -513,6 +699,12 @@ class OrExprKeywords extends BinaryExprKeywords
         return (left.accepts(s) || right.accepts(s));
     }
 
+    void compile(Program p) {
+        left.compile(p);
+        right.compile(p);
+        p.add(OR);
+    }
+
     public boolean equals(Object o) {
         if (!(o instanceof OrExprKeywords))
             return false;
@@ -543,6 +735,10 @@ class ParenExprKeywords extends ExprKeywords
         return expr.accepts(s);
     }
 
+    void compile(Program p) {
+        expr.compile(p);
+    }
+
     public boolean equals(Object o) {
         if (!(o instanceof ParenExprKeywords))
             return false;
@@ -574,6 +770,10 @@ class TermExprKeywords extends ExprKeywords
         return (s.contains(key));
     }
 
+    void compile(Program p) {
+        p.add(intern(key));
+    }
+
     public boolean equals(Object o) {
         if (!(o instanceof TermExprKeywords))
             return false;
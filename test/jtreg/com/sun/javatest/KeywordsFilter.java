@@ -61,7 +61,7 @@ public class KeywordsFilter extends TestFilter {
     }
 
     public boolean accepts(TestDescription td) {
-        return keywords.accepts(td.getKeywordTable());
+        return keywords.accepts(td);
     }
 
     public boolean equals(Object o) {
@@ -0,0 +1,367 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.sun.javatest;
+
+import java.io.File;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A compact, column-wise store for the test results in a TestResultTable.
+ * For each test, the table keeps just the name, status and end time of the
+ * result, which is all it needs to count and find results, and makes a
+ * TestResult for a test only when one is asked for.  Such a result is the
+ * same as those read from the result cache: it takes its test description
+ * from the test finder, and reloads its other details from the results
+ * file in the work directory when they are needed.
+ *
+ * The directory part of the test names, and the status reasons, are
+ * interned for the life of the table; the rest of each name is kept in a
+ * shared character array.  A test result given to, or made by, the store
+ * is weakly referenced, so that the same object is returned for a test for
+ * as long as anyone else refers to it.
+ *
+ * Only results that have been written to the work directory of the table
+ * are kept in the store; others, such as the not-run results made from the
+ * test descriptions read by a test finder, are kept by the tree nodes as
+ * before.  The store can be disabled by setting the system property
+ * javatest.trt.summaries to false.
+ */
+class TRT_Summaries
+{
+    TRT_Summaries(TestResultTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Check whether a test result can be kept in the store, and made again
+     * from its summary.
+     */
+    boolean canStore(TestResult tr) {
+        WorkDirectory wd = table.getWorkDirectory();
+        if (!ENABLED || wd == null || tr.isMutable())
+            return false;
+
+        File f = tr.getFile();
+        if (f == null || tr.getStatus().getType() == Status.NOT_RUN)
+            return false;
+
+        return f.equals(wd.getFile(tr.getWorkRelativePath()));
+    }
+
+    /**
+     * Add a test result to the store.
+     * @return the slot for the result
+     */
+    synchronized int add(TestResult tr) {
+        expunge();
+
+        int slot;
+        if (freeCount > 0)
+            slot = free[--freeCount];
+        else {
+            if (size == types.length)
+                grow();
+            slot = size++;
+        }
+
+        String url = tr.getTestName();
+        int sep = getDirEnd(url);
+        dirs[slot] = dirPool.intern(url.substring(0, sep));
+        int len = url.length() - sep;
+        if (namesUsed + len > names.length) {
+            char[] newNames = new char[Math.max(names.length * 3 / 2, namesUsed + len)];
+            System.arraycopy(names, 0, newNames, 0, namesUsed);
+            names = newNames;
+        }
+        url.getChars(sep, url.length(), names, namesUsed);
+        nameStarts[slot] = namesUsed;
+        nameLengths[slot] = len;
+        namesUsed += len;
+
+        set(slot, tr);
+        return slot;
+    }
+
+    /**
+     * Replace the result in a slot with another result for the same test.
+     */
+    synchronized void set(int slot, TestResult tr) {
+        Status s = tr.getStatus();
+        types[slot] = (byte) s.getType();
+        reasons[slot] = reasonPool.intern(s.getReason());
+        endTimes[slot] = tr.getEndTime();
+        refs[slot] = new SlotRef(tr, slot, queue);
+    }
+
+    /**
+     * Release a slot.  The space used by the name of the test is not
+     * reclaimed, since tests are rarely removed from a table.
+     */
+    synchronized void remove(int slot) {
+        refs[slot] = null;
+        if (freeCount == free.length) {
+            int[] newFree = new int[Math.max(16, free.length * 2)];
+            System.arraycopy(free, 0, newFree, 0, freeCount);
+            free = newFree;
+        }
+        free[freeCount++] = slot;
+    }
+
+    /**
+     * Get the test result for a slot, making one from its summary if there
+     * is no longer a result object for it.  The test description of such a
+     * result is read again from the test finder, if the table has one,
+     * rather than from the results file, which may be out of date.
+     * @param slot the slot
+     * @param parent the node that contains the result
+     */
+    TestResult get(int slot, TRT_TreeNode parent) {
+        while (true) {
+            SlotRef ref;
+            String name;
+            Status s;
+            long endTime;
+            synchronized (this) {
+                expunge();
+
+                ref = refs[slot];
+                TestResult tr = (ref == null ? null : (TestResult) ref.get());
+                if (tr != null)
+                    return tr;
+
+                name = getTestName(slot);
+                s = new Status(types[slot], reasonPool.get(reasons[slot]));
+                endTime = endTimes[slot];
+            }
+
+            // the finder is not called while holding the lock on the store
+            TestResult tr = new TestResult(name, table.getWorkDirectory(), s, endTime);
+            if (table.getTestFinder() != null)
+                tr.setTestDescription(parent.updateTestDescription(name, null));
+            tr.setParent(parent);
+
+            synchronized (this) {
+                expunge();
+
+                // try again if the slot was changed meanwhile
+                if (refs[slot] == ref) {
+                    refs[slot] = new SlotRef(tr, slot, queue);
+                    materialized++;
+                    return tr;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check whether an object is the test result for a slot.
+     */
+    synchronized boolean isResult(int slot, Object o) {
+        SlotRef ref = refs[slot];
+        return (ref != null && o != null && ref.get() == o);
+    }
+
+    synchronized int getStatusType(int slot) {
+        return types[slot];
+    }
+
+    synchronized String getTestName(int slot) {
+        String dir = dirPool.get(dirs[slot]);
+        StringBuffer sb = new StringBuffer(dir.length() + nameLengths[slot]);
+        sb.append(dir);
+        sb.append(names, nameStarts[slot], nameLengths[slot]);
+        return sb.toString();
+    }
+
+    /**
+     * Check whether a work-relative path is that of the results file
+     * for a slot, without making the name of the test or of the file.
+     * @see TestResult#getWorkRelativePath(String)
+     */
+    synchronized boolean isResultsFile(int slot, String jtrPath) {
+        String dir = dirPool.get(dirs[slot]);
+        if (!jtrPath.startsWith(dir))
+            return false;
+
+        int start = nameStarts[slot];
+        int end = start + nameLengths[slot];
+        int hash = -1;
+        for (int i = end - 1; i >= start; i--) {
+            if (names[i] == '#') {
+                hash = i;
+                break;
+            }
+        }
+        int baseEnd = (hash == -1 ? end : hash);
+        for (int i = baseEnd - 1; i >= start; i--) {
+            if (names[i] == '.') {
+                baseEnd = i;
+                break;
+            }
+        }
+
+        int p = dir.length();
+        int len = jtrPath.length();
+        for (int i = start; i < baseEnd; i++, p++) {
+            if (p == len || jtrPath.charAt(p) != names[i])
+                return false;
+        }
+        if (hash != -1) {
+            if (p == len || jtrPath.charAt(p++) != '_')
+                return false;
+            for (int i = hash + 1; i < end; i++, p++) {
+                if (p == len || jtrPath.charAt(p) != names[i])
+                    return false;
+            }
+        }
+        return jtrPath.startsWith(TestResult.EXTN, p)
+                && p + TestResult.EXTN.length() == len;
+    }
+
+    /**
+     * Get the number of results in the store.
+     */
+    synchronized int size() {
+        return size - freeCount;
+    }
+
+    /**
+     * Get the number of test results that have been made from summaries.
+     */
+    synchronized int getMaterializedCount() {
+        return materialized;
+    }
+
+    /**
+     * Get the index of the end of the directory part of a test URL,
+     * not counting any test id, which may contain '/'.
+     */
+    private static int getDirEnd(String url) {
+        int hash = url.lastIndexOf('#');
+        int slash = url.lastIndexOf('/', (hash == -1 ? url.length() : hash));
+        return slash + 1;
+    }
+
+    private void grow() {
+        int n = types.length * 3 / 2;
+        dirs = grow(dirs, n);
+        nameStarts = grow(nameStarts, n);
+        nameLengths = grow(nameLengths, n);
+        reasons = grow(reasons, n);
+
+        byte[] newTypes = new byte[n];
+        System.arraycopy(types, 0, newTypes, 0, size);
+        types = newTypes;
+
+        long[] newEndTimes = new long[n];
+        System.arraycopy(endTimes, 0, newEndTimes, 0, size);
+        endTimes = newEndTimes;
+
+        SlotRef[] newRefs = new SlotRef[n];
+        System.arraycopy(refs, 0, newRefs, 0, size);
+        refs = newRefs;
+    }
+
+    private int[] grow(int[] a, int n) {
+        int[] b = new int[n];
+        System.arraycopy(a, 0, b, 0, size);
+        return b;
+    }
+
+    /**
+     * Drop the references to results that have been collected.
+     */
+    private void expunge() {
+        SlotRef ref;
+        while ((ref = (SlotRef) (queue.poll())) != null) {
+            if (refs[ref.slot] == ref)
+                refs[ref.slot] = null;
+        }
+    }
+
+    /**
+     * A set of strings, each identified by its index.
+     */
+    private static class Pool {
+        int intern(String s) {
+            Integer i = (Integer) (index.get(s));
+            if (i != null)
+                return i.intValue();
+
+            int n = index.size();
+            if (n == strings.length) {
+                String[] newStrings = new String[n * 2];
+                System.arraycopy(strings, 0, newStrings, 0, n);
+                strings = newStrings;
+            }
+            strings[n] = s;
+            index.put(s, new Integer(n));
+            return n;
+        }
+
+        String get(int i) {
+            return strings[i];
+        }
+
+        private String[] strings = new String[64];
+        private final Map index = new HashMap();
+    }
+
+    private static class SlotRef extends WeakReference {
+        SlotRef(TestResult tr, int slot, ReferenceQueue q) {
+            super(tr, q);
+            this.slot = slot;
+        }
+
+        final int slot;
+    }
+
+    private final TestResultTable table;
+
+    // the columns, indexed by slot
+    private int[] dirs = new int[INITIAL_SIZE];         // index in dirPool
+    private int[] nameStarts = new int[INITIAL_SIZE];   // start of the rest of the name in names
+    private int[] nameLengths = new int[INITIAL_SIZE];
+    private byte[] types = new byte[INITIAL_SIZE];      // Status type
+    private int[] reasons = new int[INITIAL_SIZE];      // index in reasonPool
+    private long[] endTimes = new long[INITIAL_SIZE];
+    private SlotRef[] refs = new SlotRef[INITIAL_SIZE]; // the result, while it is in use
+    private int size;
+
+    private int[] free = new int[0];
+    private int freeCount;
+
+    private char[] names = new char[INITIAL_SIZE * 16];
+    private int namesUsed;
+
+    private final Pool dirPool = new Pool();
+    private final Pool reasonPool = new Pool();
+
+    private final ReferenceQueue queue = new ReferenceQueue();
+    private int materialized;
+
+    private static final int INITIAL_SIZE = 256;
+    private static final boolean ENABLED =
+        Boolean.valueOf(System.getProperty("javatest.trt.summaries", "true")).booleanValue();
+}
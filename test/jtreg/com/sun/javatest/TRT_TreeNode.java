@@ -137,7 +137,7 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
         if (childs == null || index >= childs.length)
             return null;
         else
-            return childs[index];
+            return childAt(index);
     }
 
     /**
@@ -150,8 +150,8 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
 
         if (childs != null && childs.length != 0) {
             for (int i = 0; i < childs.length; i++) {
-                if (childs[i] instanceof TestResult)
-                    leafs = (TestResult[])(DynamicArray.append(leafs, childs[i]));
+                if (isResultAt(i))
+                    leafs = (TestResult[])(DynamicArray.append(leafs, childAt(i)));
             }   // for
         }
 
@@ -187,7 +187,7 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
 
         if (index < 0 || index >= childs.length)
             return false;
-        else if (childs[index] instanceof TestResult)
+        else if (isResultAt(index))
             return true;
         else if (childs[index] instanceof TRT_TreeNode) {
             // if there are no nodes or tests below, then...
@@ -219,8 +219,11 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
         else if (childs == null)
             return -1;      // not found
         else {
-            for (int i = 0; i < childs.length; i++)
-                if (childs[i] == target) return i;
+            for (int i = 0; i < childs.length; i++) {
+                if (childs[i] == target ||
+                    (childs[i] == null && table.getSummaries().isResult(slots[i], target)))
+                    return i;
+            }
         }
 
         // not found
@@ -244,8 +247,8 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
         if (childs == null || childs.length == 0) return null;
 
         for (int i = 0; i < childs.length; i++) {
-            if (childs[i] instanceof TestResult) {
-                TestResult tr = (TestResult)(childs[i]);
+            if (isResultAt(i)) {
+                TestResult tr = (TestResult)(childAt(i));
 
                 try {
                     String name = tr.getDescription().getRootRelativeURL();
@@ -258,7 +261,7 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
                     Debug.println("   -> trying to match against " + name);
 
                 if ( name.equals(url) ) {
-                    found = (TestResult)childs[i];
+                    found = tr;
                     i = childs.length;    // exit loop
                 }
                 else
@@ -397,15 +400,15 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
         if (childs == null || childs.length == 0) return null;
 
         for (int i = 0; i < childs.length; i++) {
-            if (childs[i] instanceof TestResult) {
-                File trName = new File(
-                    ((TestResult)(childs[i])).getWorkRelativePath());
+            if (isResultAt(i)) {
+                TestResult tr = (TestResult)(childAt(i));
+                File trName = new File(tr.getWorkRelativePath());
 
                 if (debug > 1)
                     Debug.println("   -> trying to match against " + trName.getName());
 
                 if ( name.equals(trName.getName()) ) {
-                    found = (TestResult)childs[i];
+                    found = tr;
                     i = childs.length;    // exit loop
                 }
                 else
@@ -499,8 +502,15 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
         int found = -1;
 
         if (childs != null && childs.length != 0) {
+            TRT_Summaries summaries = table.getSummaries();
             for (int i = 0; i < childs.length; i++) {
-                if (childs[i] instanceof TestResult) {
+                if (childs[i] == null) {
+                    if (summaries.isResultsFile(slots[i], jtrPath)) {
+                        found = i;
+                        break;
+                    }
+                }
+                else if (childs[i] instanceof TestResult) {
                     TestResult tr = (TestResult)childs[i];
 
                     if (tr.getWorkRelativePath().equals(jtrPath)) {
@@ -655,7 +665,7 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
 
     // SPECIAL TEST REFRESH/REPLACE METHODS
     synchronized TestResult resetTest(int index, TestResult tr) {
-        if (!(childs[index] == tr))
+        if (!(childAt(index) == tr))
             return null;
 
         // remove the JTR file
@@ -947,9 +957,10 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
         File fileToScan = new File(filename);
 
         // do this if the file seems to need rescanning, or we
-        // don't seem to have an "old" TD
-        if (table.getLastModifiedTime(fileToScan) > lastScanDate ||
-            oldTd == null) {
+        // don't seem to have an "old" TD; a file which is gone has no TDs
+        long lastModified = table.getLastModifiedTime(fileToScan);
+        if (lastModified != 0 &&
+            (lastModified > lastScanDate || oldTd == null)) {
             // run the finder on the correct file
             // find the matching TD
             TestFinder finder = table.getTestFinder();
@@ -980,9 +991,9 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
     }
 
     private TestResult replaceTest(TestResult newTr, int index) {
-        TestResult oldTr = (TestResult)childs[index];
+        TestResult oldTr = (TestResult)childAt(index);
 
-        childs[index] = newTr;
+        setResultAt(index, newTr);
         notifyReplacedResult(oldTr, newTr, index);
         newTr.setParent(this);
         oldTr.setParent(null);
@@ -1042,7 +1053,7 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
 
         // process the tests
         for (TestDescription td : tds) {
-            TestResult tr = table.getCachedResult(td);
+            TestResult tr = table.takeCachedResult(td);
             if (tr == null) {
                 tr = TestResult.notRun(td);
             }
@@ -1404,6 +1415,7 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
                 try {
                     // XXX should cache result of Class.forName
                     childs = DynamicArray.append(childs, tr, Class.forName("java.lang.Object"));
+                    setResultAt(childs.length - 1, tr);
                     tr.setParent(this);
                     bubbleUpCounterInc();
                     notifyInsResult(tr, childs.length-1);
@@ -1415,8 +1427,8 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
         }
         else if (shouldReplaceTest(oldIndex, tr, suppressScan)) {
             // replace a previous result
-            oldTR = (TestResult)childs[oldIndex];
-            childs[oldIndex] = tr;
+            oldTR = (TestResult)childAt(oldIndex);
+            setResultAt(oldIndex, tr);
             if (debug > 1) {
                 Debug.println("   -> ** replacing existing TR with " + tr);
                 Debug.println("   -> " + tr.getTestName());
@@ -1437,8 +1449,8 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
                 //Debug.println("   -> " + ((TestResult)(childs[oldIndex])).getTestName());
                 // a cast exeception here indicates a problem, the item at oldIndex
                 // should indeed be a TestResult
-                Debug.println("   -> old status: " + ((TestResult)(childs[oldIndex])).getStatus().toString());
-                Debug.println("   -> curr. ref in TRT: " + childs[oldIndex]);
+                Debug.println("   -> old status: " + ((TestResult)(childAt(oldIndex))).getStatus().toString());
+                Debug.println("   -> curr. ref in TRT: " + childAt(oldIndex));
                 Debug.println("   -> ignored new ref.: " + tr);
             }
 
@@ -1478,6 +1490,8 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
             if (childs[i] == tn) {
                 Object[] newarr = DynamicArray.remove(childs, i);
                 childs = (newarr == null ? new Object[0] : newarr);
+                if (slots != null && i < slots.length)
+                    System.arraycopy(slots, i + 1, slots, i, slots.length - i - 1);
                 invalidateChildStats();
                 return i;
             }
@@ -1508,11 +1522,11 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
     private boolean shouldReplaceTest(int index, TestResult newone,
                                       boolean suppressScan) {
         // check for out of range indexes, types and null
-        if (!(childs[index] instanceof TestResult) || newone == null ||
-            index < 0 || index >= childs.length)
+        if (newone == null || index < 0 || index >= childs.length ||
+            !isResultAt(index))
             return false;
 
-        TestResult orig = (TestResult)(childs[index]);
+        TestResult orig = (TestResult)(childAt(index));
 
         // check that test names match
         // this actually should never fail
@@ -1578,6 +1592,63 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
         return false;
     }
 
+    /**
+     * Check whether the child at an index is a test result, which may be
+     * kept as a summary.
+     */
+    private boolean isResultAt(int index) {
+        return (childs[index] == null || childs[index] instanceof TestResult);
+    }
+
+    /**
+     * Get the child at an index, making the test result from its summary
+     * if necessary.
+     */
+    private Object childAt(int index) {
+        Object o = childs[index];
+        return (o == null ? table.getSummaries().get(slots[index], this) : o);
+    }
+
+    /**
+     * Get the status type of the test result at an index, without making
+     * the test result from its summary.
+     */
+    private int getStatusTypeAt(int index) {
+        Object o = childs[index];
+        return (o == null ? table.getSummaries().getStatusType(slots[index])
+                : ((TestResult) o).getStatus().getType());
+    }
+
+    /**
+     * Put a test result at an index, keeping just its summary if possible.
+     * @see TRT_Summaries
+     */
+    private void setResultAt(int index, TestResult tr) {
+        TRT_Summaries summaries = (table == null ? null : table.getSummaries());
+        boolean summarize = (summaries != null && summaries.canStore(tr));
+
+        if (childs[index] == null) {
+            if (summarize) {
+                summaries.set(slots[index], tr);
+                return;
+            }
+            summaries.remove(slots[index]);
+            childs[index] = tr;
+        }
+        else if (summarize) {
+            if (slots == null || slots.length < childs.length) {
+                int[] newSlots = new int[childs.length];
+                if (slots != null)
+                    System.arraycopy(slots, 0, newSlots, 0, slots.length);
+                slots = newSlots;
+            }
+            slots[index] = summaries.add(tr);
+            childs[index] = null;
+        }
+        else
+            childs[index] = tr;
+    }
+
     /**
      * Recalculate the counters which track the status of tests below this node.
      * This can be a high cost calculation, but will do nothing if all the counters
@@ -1601,8 +1672,7 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
             }
             else {
                 // node is a test result
-                TestResult tr = (TestResult)(node.childs[i]);
-                node.childStats[tr.getStatus().getType()]++;
+                node.childStats[node.getStatusTypeAt(i)]++;
             }
         }
     }
@@ -1700,7 +1770,9 @@ public class TRT_TreeNode implements TestResultTable.TreeNode {
     /**
      * null if the node has not been scanned, zero length if it is acually empty
      */
-    private Object[] childs;            // contains combo of TreeNodes or TestResults
+    private Object[] childs;            // contains combo of TreeNodes or TestResults,
+                                        // or null for a result kept in the table's summaries
+    private int[] slots;                // for null childs, the slot in the summaries
     private TRT_TreeNode parent;        // should never be null, unless root
     private TestResultTable table;      // what table this node is in
 
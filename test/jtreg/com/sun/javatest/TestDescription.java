@@ -234,6 +234,21 @@ public class TestDescription implements Serializable
         return s;
     }
 
+    /**
+     * Get the keywords of this test description as a bit set over the
+     * keyword numbers given out by {@link Keywords#intern}.
+     * The set is computed once and shared; callers must not modify it.
+     * @return the keywords, in canonical form, as a bit set
+     */
+    long[] getKeywordBits() {
+        long[] bits = keywordBits;
+        if (bits == null) {
+            bits = Keywords.toBits(getKeywords());
+            keywordBits = bits;
+        }
+        return bits;
+    }
+
     /**
      * Get the set of source files for this test description,
      * as specified by the "source" parameter.
@@ -570,6 +585,14 @@ public class TestDescription implements Serializable
      */
     private String[] fields;
 
+    /**
+     * The keywords as a bit set, computed on first use.
+     */
+    private transient volatile long[] keywordBits;
+
     private static File cachedRoot;
     private static String cachedRootDir;
+
+    // the value computed before getKeywordBits was added
+    private static final long serialVersionUID = 7352225341262347250L;
 }
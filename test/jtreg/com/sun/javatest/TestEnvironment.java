@@ -27,12 +27,16 @@
 package com.sun.javatest;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.sun.javatest.util.DynamicArray;
 import com.sun.javatest.util.I18NResourceBundle;
@@ -201,6 +205,9 @@ public class TestEnvironment
 
     /**
      * Create a copy of the current environment.
+     * The copy shares the values added with {@link #put put} and the
+     * resolved values of this environment until either of them is
+     * changed, so copying is cheap.
      * @return a copy of the current environment
      */
     public TestEnvironment copy() {
@@ -247,7 +254,7 @@ public class TestEnvironment
         // Note further that the main props table is considered IMMUTABLE,
         // because it is shared amongst the clones.
         String[] v = {value};
-        extras.put(name, v);
+        writableOverlay().extras.put(name, v);
     }
 
     /**
@@ -260,7 +267,7 @@ public class TestEnvironment
         // used to save values without subjecting them to any $ or # processing
         // Note further that the main props table is considered IMMUTABLE,
         // because it is shared amongst the clones.
-        extras.put(name, value);
+        writableOverlay().extras.put(name, value);
     }
 
     /**
@@ -299,8 +306,9 @@ public class TestEnvironment
         return lookup(key, null);
     }
 
-    private String[] lookup(String key, Vector activeKeys) throws Fault {
-        String[] v = (String[])extras.get(key);
+    private String[] lookup(String key, Resolution r) throws Fault {
+        Overlay o = overlay;
+        String[] v = (String[])o.extras.get(key);
         if (v != null)
             return v;
 
@@ -308,22 +316,42 @@ public class TestEnvironment
         Element elem = (Element)table.get(key);
         if (elem != null) {
             cache.put(key, elem);
-            if (activeKeys == null)
-                activeKeys = new Vector();
-            else if (activeKeys.contains(key))
+
+            // resolved values depend only on the shared table and the
+            // extras, so they are kept with the extras
+            Resolved done = (Resolved)o.resolved.get(key);
+            if (done != null) {
+                for (int i = 0; i < done.used.length; i++)
+                    cache.put(done.used[i].key, done.used[i]);
+                if (r != null)
+                    r.used(done.used);
+                return (String[])done.value.clone();
+            }
+
+            if (r == null)
+                r = new Resolution();
+            else if (r.activeKeys.contains(key))
                 throw new Fault(i18n, "env.recursive",
                                 new Object[] {key, elem.getDefinedInFile()});
 
-            activeKeys.addElement(key);
+            r.activeKeys.add(key);
+            r.begin(elem);
+            boolean ok = false;
             try {
-                return resolve(elem.getValue(), activeKeys);
+                String[] value = elem.getTemplate().resolve(this, r);
+                Element[] used = r.end();
+                ok = true;
+                o.resolved.put(key, new Resolved((String[])value.clone(), used));
+                return value;
             }
             catch (Fault e) {
                 throw new Fault(i18n, "env.badName",
                                 new Object[] {key, elem.getDefinedInFile(), e.getMessage()});
             }
             finally {
-                activeKeys.removeElement(key);
+                if (!ok)
+                    r.end();
+                r.activeKeys.remove(r.activeKeys.size() - 1);
             }
         }
 
@@ -353,168 +381,382 @@ public class TestEnvironment
         return resolve(s, null);
     }
 
-    private String[] resolve(String s, Vector activeKeys) throws Fault {
-        Vector v = new Vector();
-        StringBuffer current = new StringBuffer(64);
-        char term = 0;
-
-  loop:
-        for (int i = 0; i < s.length(); i++) {
-            char c = s.charAt(i);
-            switch (c) {
-              case '#':
-                // # at top level introduces comment to end of line and terminates
-                //command (if found); otherwise, it goes into the current word
-                if (term == 0 || term ==' ')
-                    break loop;
-                else
-                    current.append(c);
-                break;
-
-              case '\'':
-              case '\"':
-                // string quotes at top level begin/end a matched pair; otherwise they
-                // are part of it
-                if (term == 0 || term == ' ') {
-                    term = c;           // start matched pair
-                } else if (term == c)
-                    term = ' ';         // end matched pair
-                else
-                    current.append(c);  // put character in string
-                break;
-
-              case '$':
-                // dollar introduces a name to be substituted, provided it does not
-                // appear in single quotes. Special values: $/ is File.separatorChar,
-                // $: is File.pathSeparatorChar, and $$ is $
-                if (term != '\'') {
-                    StringBuffer buf = new StringBuffer();
-                    String name = null;
-                    String[] nameArgs = null;
-                    try {
-                        c = s.charAt(++i);
-                        switch (c) {
-                        case '/':
-                            current.append(File.separatorChar);
-                            continue loop;
-
-                        case ':':
-                            current.append(File.pathSeparatorChar);
-                            continue loop;
-
-                        case '$':
-                            current.append('$');
-                            continue loop;
-
-                        case '{':
-                            c = s.charAt(++i);
-                            while (c != ':' && c != '}') {
-                                buf.append(c);
-                                c = s.charAt(++i);
-                            }
-                            name=convertToName(resolve(buf.toString()));
-
-                            // pick up optional nameArgs after embedded ':'
-                            if (c == ':') {
-                                buf = new StringBuffer();
-                                c = s.charAt(++i);
-                                while (c != '}') {
-                                    buf.append(c);
-                                    c = s.charAt(++i);
-                                }
-                                nameArgs = StringArray.split(buf.toString());
-                            }
+    private String[] resolve(String s, Resolution r) throws Fault {
+        return Template.compile(s).resolve(this, r);
+    }
 
-                            break;
-
-                        default:
-                            if (isNameChar(c)) {
-                                while (i < s.length() && isNameChar(s.charAt(i))) {
-                                    buf.append(s.charAt(i++));
-                                }
-                                i--;
-                            } else
-                                throw new Fault(i18n, "env.badExprChar", new Character(c));
-                            name = buf.toString();
-                        }
+    /**
+     * A value of the environment, parsed once into the segments that
+     * {@link #resolve(String)} splits it into: literal text, word breaks,
+     * quotes and $ references.  Whether a word has been started depends
+     * on the values substituted, so that is decided as the segments are
+     * applied; everything else is decided when the value is parsed.
+     */
+    private static class Template {
+        // segment kinds
+        static final int TEXT = 0;      // characters that start a word if needed
+        static final int RAW = 1;       // $/, $: and $$, which do not start a word
+        static final int SPACE = 2;     // white space outside quotes
+        static final int OPEN = 3;      // an opening quote
+        static final int CLOSE = 4;     // a closing quote
+        static final int REF = 5;       // $name or ${name:args}
+        static final int FAIL = 6;      // a malformed $ expression
+
+        private final List segments = new ArrayList();
+
+        private static class Segment {
+            int kind;
+            String text;                // TEXT, RAW; the name for REF
+            char quote;                 // OPEN
+            Template nameTemplate;      // REF, if the name has to be resolved
+            String[] nameArgs;          // REF
+            boolean truncated;          // REF, if the closing } is missing
+            String faultKey;            // FAIL
+            Object faultArg;            // FAIL
+        }
 
-                        String[] val = lookup(name, activeKeys);
-
-                        // apply nameArgs, if any
-                        if (nameArgs != null) {
-                            for (int argi = 0; argi < nameArgs.length; argi++) {
-                                String arg = nameArgs[argi];
-                                if (arg.startsWith("FS=") && arg.length() == 4)
-                                    substituteChar(val, File.separatorChar, arg.charAt(3));
-                                else if (arg.startsWith("PS=") && arg.length() == 4)
-                                    substituteChar(val, File.pathSeparatorChar, arg.charAt(3));
-                                else if (arg.startsWith("MAP="))
-                                    substituteMap(val, lookup("map."+arg.substring(4), activeKeys));
-                                else if (arg.equals("MAP"))
-                                    substituteMap(val, lookup("map", activeKeys));
-                                else
-                                    throw new Fault(i18n, "env.badOption", arg);
-                            }
-                        }
+        static Template compile(String s) {
+            Template t = new Template();
+            StringBuffer text = new StringBuffer();
+            int textKind = TEXT;
+            char quote = 0;
+
+          loop:
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                switch (c) {
+                  case '#':
+                    if (quote == 0)
+                        break loop;
+                    textKind = t.text(text, textKind, TEXT);
+                    text.append(c);
+                    break;
+
+                  case '\'':
+                  case '\"':
+                    if (quote == 0) {
+                        t.flush(text, textKind);
+                        t.add(OPEN).quote = c;
+                        quote = c;
+                    } else if (quote == c) {
+                        t.flush(text, textKind);
+                        t.add(CLOSE);
+                        quote = 0;
+                    } else {
+                        textKind = t.text(text, textKind, TEXT);
+                        text.append(c);
+                    }
+                    break;
 
-                        if (val != null && val.length > 0) {
-                            // only start a new word if there is something to substitute
-                            if (term == 0)
-                                term = ' ';
-                            for (int vi = 0; vi < val.length; vi++) {
-                                if (vi == 0)
-                                    current.append(val[vi]);
-                                else if (term == '"') {
-                                    current.append(' ');
-                                    current.append(val[vi]);
-                                }
-                                else {
-                                    v.addElement(current.toString());
-                                    current.setLength(0);
-                                    current.append(val[vi]);
-                                }
+                  case '$':
+                    if (quote == '\'') {
+                        textKind = t.text(text, textKind, TEXT);
+                        text.append(c);
+                        break;
+                    }
+                    if (i + 1 >= s.length()) {
+                        t.flush(text, textKind);
+                        t.fail("env.badExpr", null);
+                        break loop;
+                    }
+                    c = s.charAt(++i);
+                    switch (c) {
+                      case '/':
+                        textKind = t.text(text, textKind, RAW);
+                        text.append(File.separatorChar);
+                        continue loop;
+
+                      case ':':
+                        textKind = t.text(text, textKind, RAW);
+                        text.append(File.pathSeparatorChar);
+                        continue loop;
+
+                      case '$':
+                        textKind = t.text(text, textKind, RAW);
+                        text.append('$');
+                        continue loop;
+
+                      case '{': {
+                        int start = i + 1;
+                        int end = start;
+                        while (end < s.length() && s.charAt(end) != ':' && s.charAt(end) != '}')
+                            end++;
+                        t.flush(text, textKind);
+                        if (end >= s.length()) {
+                            t.fail("env.badExpr", null);
+                            break loop;
+                        }
+                        Segment seg = t.add(REF);
+                        String nameExpr = s.substring(start, end);
+                        if (nameExpr.indexOf('$') < 0) {
+                            // no references, so the name is fixed
+                            try {
+                                seg.text = convertToName(compile(nameExpr).resolve(null, null));
+                            } catch (Fault e) {
+                                throw new Error(e.toString()); // cannot happen without references
+                            }
+                        } else
+                            seg.nameTemplate = compile(nameExpr);
+                        i = end;
+                        if (s.charAt(end) == ':') {
+                            int close = s.indexOf('}', end + 1);
+                            if (close < 0) {
+                                seg.truncated = true;
+                                break loop;
                             }
+                            seg.nameArgs = StringArray.split(s.substring(end + 1, close));
+                            i = close;
+                        }
+                        continue loop;
+                      }
+
+                      default:
+                        if (!isNameChar(c)) {
+                            t.flush(text, textKind);
+                            t.fail("env.badExprChar", new Character(c));
+                            break loop;
                         }
+                        int start = i;
+                        while (i < s.length() && isNameChar(s.charAt(i)))
+                            i++;
+                        t.flush(text, textKind);
+                        t.add(REF).text = s.substring(start, i);
+                        i--;
+                        continue loop;
                     }
-                    catch (IndexOutOfBoundsException e) {
-                        throw new Fault(i18n, "env.badExpr");
+
+                  case ' ':
+                  case '\t':
+                    if (quote == 0) {
+                        t.flush(text, textKind);
+                        if (t.segments.isEmpty()
+                            || ((Segment)t.segments.get(t.segments.size() - 1)).kind != SPACE)
+                            t.add(SPACE);
+                    } else {
+                        textKind = t.text(text, textKind, TEXT);
+                        text.append(c);
                     }
-                } else
-                    current.append(c);
-                break;
-
-              case ' ':
-              case '\t':
-                // space or tab are skipped if not in a word; if in a word and
-                // term is space, they terminate it; otherwise they go into the
-                // current word
-                if (term != 0) {
+                    break;
+
+                  default:
+                    textKind = t.text(text, textKind, TEXT);
+                    text.append(c);
+                    break;
+                }
+            }
+            t.flush(text, textKind);
+            return t;
+        }
+
+        /** Prepares to append text of the given kind, flushing text of another kind. */
+        private int text(StringBuffer text, int current, int kind) {
+            if (current != kind)
+                flush(text, current);
+            return kind;
+        }
+
+        private void flush(StringBuffer text, int kind) {
+            if (text.length() > 0) {
+                add(kind).text = text.toString();
+                text.setLength(0);
+            }
+        }
+
+        private Segment add(int kind) {
+            Segment seg = new Segment();
+            seg.kind = kind;
+            segments.add(seg);
+            return seg;
+        }
+
+        private void fail(String key, Object arg) {
+            Segment seg = add(FAIL);
+            seg.faultKey = key;
+            seg.faultArg = arg;
+        }
+
+        /**
+         * Applies the segments, looking references up in env, which may
+         * be null if there are none.
+         */
+        String[] resolve(TestEnvironment env, Resolution r) throws Fault {
+            Vector v = new Vector();
+            StringBuffer current = new StringBuffer(64);
+            char term = 0;
+
+            for (int si = 0; si < segments.size(); si++) {
+                Segment seg = (Segment)segments.get(si);
+                switch (seg.kind) {
+                  case TEXT:
+                    if (term == 0)
+                        term = ' ';
+                    current.append(seg.text);
+                    break;
+
+                  case RAW:
+                    current.append(seg.text);
+                    break;
+
+                  case SPACE:
                     if (term == ' ') {
                         v.addElement(current.toString());
                         current.setLength(0);
                         term = 0;
-                    } else
-                        current.append(c);
-                }
-                break;
+                    }
+                    break;
 
+                  case OPEN:
+                    term = seg.quote;
+                    break;
 
-              default:
-                // other characters start a word if needed, then go into the word
-                if (term == 0)
+                  case CLOSE:
                     term = ' ';
-                current.append(c);
-                break;
+                    break;
+
+                  case REF:
+                    String name = seg.text;
+                    if (name == null)
+                        name = convertToName(seg.nameTemplate.resolve(env, Resolution.nested(r)));
+                    if (seg.truncated)
+                        throw new Fault(i18n, "env.badExpr");
+
+                    String[] val = env.lookup(name, r);
+
+                    // apply nameArgs, if any
+                    String[] nameArgs = seg.nameArgs;
+                    if (nameArgs != null) {
+                        // values added with put are returned as they are
+                        val = (String[])val.clone();
+                        for (int argi = 0; argi < nameArgs.length; argi++) {
+                            String arg = nameArgs[argi];
+                            if (arg.startsWith("FS=") && arg.length() == 4)
+                                substituteChar(val, File.separatorChar, arg.charAt(3));
+                            else if (arg.startsWith("PS=") && arg.length() == 4)
+                                substituteChar(val, File.pathSeparatorChar, arg.charAt(3));
+                            else if (arg.startsWith("MAP="))
+                                substituteMap(val, env.lookup("map."+arg.substring(4), r));
+                            else if (arg.equals("MAP"))
+                                substituteMap(val, env.lookup("map", r));
+                            else
+                                throw new Fault(i18n, "env.badOption", arg);
+                        }
+                    }
+
+                    if (val != null && val.length > 0) {
+                        // only start a new word if there is something to substitute
+                        if (term == 0)
+                            term = ' ';
+                        for (int vi = 0; vi < val.length; vi++) {
+                            if (vi == 0)
+                                current.append(val[vi]);
+                            else if (term == '"') {
+                                current.append(' ');
+                                current.append(val[vi]);
+                            }
+                            else {
+                                v.addElement(current.toString());
+                                current.setLength(0);
+                                current.append(val[vi]);
+                            }
+                        }
+                    }
+                    break;
+
+                  case FAIL:
+                    if (seg.faultArg == null)
+                        throw new Fault(i18n, seg.faultKey);
+                    throw new Fault(i18n, seg.faultKey, seg.faultArg);
+                }
             }
+
+            // we've reached the end; if a word has been started, finish it
+            if (term != 0)
+               v.addElement(current.toString());
+
+            String[] result = new String[v.size()];
+            v.copyInto(result);
+            return result;
+        }
+    }
+
+    /**
+     * The state of one call of lookup or resolve: the keys being resolved,
+     * to detect recursive definitions, and for each of them, the entries
+     * its value was found to depend on.
+     */
+    private static class Resolution {
+        List activeKeys = new ArrayList();
+        List recording = new ArrayList();       // of Set of Element
+
+        /**
+         * A resolution for a name inside ${...}, which starts a fresh
+         * check for recursion but still records what it uses.
+         */
+        static Resolution nested(Resolution r) {
+            Resolution n = new Resolution();
+            if (r != null)
+                n.recording = r.recording;
+            return n;
         }
 
-        // we've reached the end; if a word has been started, finish it
-        if (term != 0)
-           v.addElement(current.toString());
+        void begin(Element elem) {
+            used(new Element[] { elem });
+            Set s = new LinkedHashSet();
+            s.add(elem);
+            recording.add(s);
+        }
 
-        String[] result = new String[v.size()];
-        v.copyInto(result);
-        return result;
+        void used(Element[] elems) {
+            if (!recording.isEmpty()) {
+                Set s = (Set)recording.get(recording.size() - 1);
+                for (int i = 0; i < elems.length; i++)
+                    s.add(elems[i]);
+            }
+        }
+
+        Element[] end() {
+            Set s = (Set)recording.remove(recording.size() - 1);
+            Element[] elems = (Element[])s.toArray(new Element[s.size()]);
+            used(elems);
+            return elems;
+        }
+    }
+
+    /**
+     * The resolved value of an entry, with the entries it depends on.
+     */
+    private static class Resolved {
+        Resolved(String[] value, Element[] used) {
+            this.value = value;
+            this.used = used;
+        }
+
+        final String[] value;
+        final Element[] used;
+    }
+
+    /**
+     * The values added with put, and the resolved values that depend on
+     * them, shared between an environment and its copies until one of
+     * them adds a value.
+     */
+    private static class Overlay {
+        Overlay(HashMap extras) {
+            this.extras = extras;
+        }
+
+        final HashMap extras;
+        final Map resolved = new ConcurrentHashMap();
+        volatile boolean shared;
+    }
+
+    private Overlay writableOverlay() {
+        Overlay o = overlay;
+        if (o.shared)
+            overlay = o = new Overlay((HashMap)(o.extras.clone()));
+        else
+            o.resolved.clear();
+        return o;
     }
 
     /**
@@ -532,12 +774,12 @@ public class TestEnvironment
         return false;
     }
 
-    private void substituteChar(String[] v, char from, char to) {
+    private static void substituteChar(String[] v, char from, char to) {
         for (int i = 0; i < v.length; i++)
             v[i] = v[i].replace(from, to);
     }
 
-    private void substituteMap(String[] v, String[] map) {
+    private static void substituteMap(String[] v, String[] map) {
         if (map == null)
             return;
 
@@ -558,7 +800,7 @@ public class TestEnvironment
         }
     }
 
-    private String convertToName(String[] v) {
+    private static String convertToName(String[] v) {
         String s = "";
         for (int i = 0; i < v.length; i++) {
             if (i > 0)
@@ -630,7 +872,8 @@ public class TestEnvironment
         name = o.name;
         inherits = o.inherits;
         table = o.table;
-        extras = (HashMap)(o.extras.clone());
+        o.overlay.shared = true;
+        overlay = o.overlay;
     }
 
     /**
@@ -675,16 +918,24 @@ public class TestEnvironment
          */
         public String getDefinedInFile() { return definedInFile; }
 
+        Template getTemplate() {
+            Template t = template;
+            if (t == null)
+                template = t = Template.compile(value);
+            return t;
+        }
+
         String key;
         String value;
         String definedInEnv;
         String definedInFile;
+        private volatile Template template;
     }
 
     private String name;
     private String[] inherits;
     private HashMap table = new HashMap();
-    private HashMap extras = new HashMap();
+    private Overlay overlay = new Overlay(new HashMap());
     private HashMap cache = new HashMap();
 
     private static final String[] EMPTY_STRING_ARRAY = {};
@@ -1488,6 +1488,8 @@ public class TestResult {
         if (isMutable())
             throw new IllegalStateException("This TestResult is still mutable - set the status!");
 
+        long start = System.nanoTime();
+
         // could attempt a reload() I suppose
         if (props == null)
             props = emptyStringArray;
@@ -1505,6 +1507,7 @@ public class TestResult {
         finally {
             if (tempFile.exists())
                 tempFile.delete();
+            HarnessMetrics.INSTANCE.wroteResults(System.nanoTime() - start);
         }
     }
 
@@ -133,6 +133,8 @@ public class TestResultCache {
 
         raf = new RandomAccessFile(cacheFile, "rw");
 
+        HarnessMetrics.INSTANCE.setResultCache(this);
+
         worker = new Thread() {
                 public void run() {
                     doWorkUntilDone();
@@ -170,6 +172,13 @@ public class TestResultCache {
         notifyAll();
     }
 
+    /**
+     * Get the number of test results waiting to be written to the cache file.
+     */
+    int getWriteBacklog() {
+        return testsToWrite.size();
+    }
+
     /**
      * Request an update via the observer of all the tests in the cache.
      */
@@ -346,7 +355,11 @@ public class TestResultCache {
             }
 
             if (rebuildCache || compressRequested || raf.length() == 0) {
+                boolean compress = compressRequested && !rebuildCache;
+                long start = System.nanoTime();
                 writeCache(tests);
+                if (compress)
+                    HarnessMetrics.INSTANCE.compressedResultCache(System.nanoTime() - start);
                 // it is safe to clear the compressRequested flag because the client
                 // can only set it to true (not false, nor read it)
                 compressRequested = false;
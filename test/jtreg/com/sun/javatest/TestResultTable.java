@@ -240,6 +240,7 @@ public class TestResultTable {
         for (int i = 0; i < statusTables.length; i++)
             statusTables[i] = new Hashtable();
 
+        summaries = new TRT_Summaries(this);
         root = new TRT_TreeNode(this, null);
 
         /* OLD
@@ -1074,6 +1075,13 @@ public class TestResultTable {
         return root;
     }
 
+    /**
+     * Get the store for the summaries of the test results in this table.
+     */
+    TRT_Summaries getSummaries() {
+        return summaries;
+    }
+
     /**
      * Get the root URL of the test suite.
      * This may not match that given by the environment if the environment's
@@ -1599,7 +1607,11 @@ public class TestResultTable {
         if (rtc.getRequests() != null) {
             for (TestDescription td : rtc.getRequests()) {
                 String testRes = TestResult.getWorkRelativePath(td.getRootRelativeURL());
-                TestResult tr = (TestResult)m.get(testRes);
+                TestResult tr;
+                synchronized (m) {
+                    // the table keeps the result from now on
+                    tr = (TestResult)m.remove(testRes);
+                }
                 if (tr != null) {
                     tr.setTestDescription(td);
                     update(tr, suppressFinderScan);
@@ -2152,13 +2164,31 @@ public class TestResultTable {
      * his work.
      */
     public TestResult getCachedResult(TestDescription td) {
-        if (cachedResults != null) {
+        return getCachedResult(td, false);
+    }
+
+    /**
+     * Get a TestResult from the map of test results collected by the
+     * TestResultCache worker, as for {@link #getCachedResult(TestDescription)},
+     * and remove it from the map, so that the map does not keep the result
+     * once it has been put in the table.
+     */
+    TestResult takeCachedResult(TestDescription td) {
+        return getCachedResult(td, true);
+    }
+
+    private TestResult getCachedResult(TestDescription td, boolean remove) {
+        Map m = cachedResults;
+        if (m != null) {
             String url = TestResult.getWorkRelativePath(td.getRootRelativeURL());
-                TestResult res = (TestResult)cachedResults.get(url);
-                if (res != null) {
-                    res.setTestDescription(td);
-                }
-                return res;
+            TestResult res;
+            synchronized (m) {
+                res = (TestResult)(remove ? m.remove(url) : m.get(url));
+            }
+            if (res != null) {
+                res.setTestDescription(td);
+            }
+            return res;
         }
         else {
             rtc.addToUpdateFromCache(td);
@@ -2209,6 +2239,7 @@ public class TestResultTable {
     private Hashtable[] statusTables;
                                 // tables indexed by status.type mapping status.reason
                                 // to a unique status object
+    private TRT_Summaries summaries;
     private WorkDirectory workDir;
     private TestFinder finder;
     private String[] finderErrors =new String[0];
@@ -28,8 +28,21 @@ package com.sun.javatest.agent;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.lang.reflect.Method;
 
 class AgentClassLoader2 extends ClassLoader {
+    static {
+        // registerAsParallelCapable is new in JDK 7; on older VMs the
+        // loader simply stays serial.
+        try {
+            Method m = ClassLoader.class.getDeclaredMethod(
+                "registerAsParallelCapable", new Class[0]);
+            m.invoke(null, new Object[0]);
+        }
+        catch (Exception e) {
+        }
+    }
+
     public AgentClassLoader2(Agent.Task parent) {
         super(parent.getClass().getClassLoader());
         this.parent = parent;
@@ -30,22 +30,16 @@ import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
-import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.InputStream;
 import java.io.InterruptedIOException;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.net.ConnectException;
-import java.util.Enumeration;
-import java.util.Hashtable;
 import java.util.Vector;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
 
 import com.sun.javatest.Status;
 import com.sun.javatest.util.DynamicArray;
+import com.sun.javatest.util.PathIndex;
 
 /**
  * Access to the facilities provided by JT Harness agents.
@@ -272,6 +266,7 @@ public class AgentManager
          */
         public void setClassPath(String path) {
             classPath = split(path);
+            setClassPathIndex(new PathIndex(classPath));
         }
 
 
@@ -291,6 +286,13 @@ public class AgentManager
             }
 
             classPath = path;
+            setClassPathIndex(new PathIndex(classPath));
+        }
+
+        private void setClassPathIndex(PathIndex index) {
+            if (classPathIndex != null)
+                classPathIndex.close();
+            classPathIndex = index;
         }
 
         /**
@@ -518,102 +520,25 @@ public class AgentManager
             log.flush();
             ref.flush();
 
-            // might be better not to flush these ...
-            for (Enumeration e = zips.keys(); e.hasMoreElements(); ) {
-                File f = (File)(e.nextElement());
-                ZipFile z = (ZipFile)(zips.get(f));
-                zips.remove(f);
-                z.close();
-            }
-
             return status;
         }
 
         private byte[] locateClass(String name) {
             //System.err.println("locateClass: " + name);
-            if (classPath != null) {
-                String cname = name.replace('.', '/') + ".class";
-                for (int i = 0; i < classPath.length; i++) {
-                    byte[] data;
-                    if (classPath[i].isDirectory())
-                        data = readFromDir(cname, classPath[i]);
-                    else
-                        data = readFromJar(cname, classPath[i]);
-                    if (data != null)
-                        return data;
-                }
-            }
+            if (classPathIndex != null)
+                return classPathIndex.readBytes(name.replace('.', '/') + ".class");
 
             return null;
         }
 
         private byte[] locateData(String name) {
             //System.err.println("locateData: " + name);
-            if (classPath != null) {
-                for (int i = 0; i < classPath.length; i++) {
-                    byte[] data;
-                    if (classPath[i].isDirectory())
-                        data = readFromDir(name, classPath[i]);
-                    else
-                        data = readFromJar(name, classPath[i]);
-                    if (data != null)
-                        return data;
-                }
-            }
+            if (classPathIndex != null)
+                return classPathIndex.readBytes(name);
 
             return null;
         }
 
-        private byte[] readFromDir(String name, File dir) {
-            //System.err.println("readFromDir: " + name + " " + dir);
-            try {
-                File file = new File(dir, name);
-                return read(new FileInputStream(file), ((int) file.length()));
-            }
-            catch (IOException e) {
-                //System.err.println("readFromDir: " + e);
-                return null;
-            }
-        }
-
-        private byte[] readFromJar(String name, File jarFile) {
-            //System.err.println("readFromJar: " + name + " " + jarFile);
-            try {
-                ZipFile z = (ZipFile)zips.get(jarFile);
-                if (z == null) {
-                    z = new ZipFile(jarFile);
-                    zips.put(jarFile, z);
-                }
-                ZipEntry ze = z.getEntry(name);
-                if (ze == null)
-                    return null;
-                return read(z.getInputStream(ze), ((int) ze.getSize()));
-            }
-            catch (IOException e) {
-                //System.err.println("readFromJar: " + e);
-                return null;
-            }
-        }
-
-        private byte[] read(InputStream in, int size) throws IOException {
-            //System.err.println("read: " + size);
-            try {
-                byte data[] = new byte[size];
-                for (int total = 0; total < data.length; ) {
-                    int n = in.read(data, total, data.length - total);
-                    if (n > 0)
-                        total += n;
-                    else
-                        throw new EOFException("unexpected end of file");
-                }
-                //System.err.println("read complete: " + data.length);
-                return data;
-            }
-            finally {
-                in.close();
-            }
-        }
-
         private File[] split(String s) {
             char pathCh = File.pathSeparatorChar;
             Vector v = new Vector();
@@ -639,7 +564,7 @@ public class AgentManager
         private DataOutputStream out;
 
         private File[] classPath;
-        private Hashtable zips = new Hashtable();
+        private PathIndex classPathIndex;
     }
 
 }
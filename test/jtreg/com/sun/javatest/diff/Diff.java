@@ -112,7 +112,9 @@ public abstract class Diff {
         if (reporter == null) {
             try {
                 initFormat();
-                if (format != null && format.equals("html"))
+                if (usageThreshold >= 0)
+                    reporter = new UsageReporter(out);
+                else if (format != null && format.equals("html"))
                     reporter = new HTMLReporter(out);
                 else
                     reporter = new SimpleReporter(out);
@@ -123,8 +125,12 @@ public abstract class Diff {
     }
 
     protected void initComparator() {
-        if (comparator == null)
-            comparator = new StatusComparator(includeReason);
+        if (comparator == null) {
+            if (usageThreshold >= 0)
+                comparator = new UsageComparator(usageThreshold);
+            else
+                comparator = new StatusComparator(includeReason);
+        }
     }
 
     protected DiffReader open(File f) throws Fault {
@@ -157,5 +163,6 @@ public abstract class Diff {
     protected boolean includeReason;
     protected String format;
     protected String title;
+    protected int usageThreshold = -1;
     private static I18NResourceBundle i18n = I18NResourceBundle.getBundleForClass(Diff.class);
 }
@@ -68,6 +68,11 @@ public class Main {
                 superMode = true;
             }
         },
+        new Option(OPT, COMPARE, "resources", "resources") {
+            public void process(String opt, String arg) {
+                resourcesArg = (arg == null ? DEFAULT_RESOURCES_THRESHOLD : arg);
+            }
+        },
         new Option(OLD, OUTPUT, "o", "o", "outFile") {
             public void process(String opt, String arg) {
                 outFile = new File(arg);
@@ -173,6 +178,20 @@ public class Main {
                 throw new Fault(i18n, "main.bad.super.format");
         }
 
+        if (resourcesArg != null) {
+            try {
+                usageThreshold = Integer.parseInt(resourcesArg);
+            } catch (NumberFormatException e) {
+                throw new Fault(i18n, "main.bad.resources", resourcesArg);
+            }
+            if (usageThreshold < 0)
+                throw new Fault(i18n, "main.bad.resources", resourcesArg);
+            if (superMode)
+                throw new Fault(i18n, "main.bad.resources.super");
+            if (format != null && !format.equals("text"))
+                throw new Fault(i18n, "main.bad.resources.format");
+        }
+
         return run();
     }
 
@@ -196,6 +215,7 @@ public class Main {
         d.includeReason = includeReason;
         d.format = format;
         d.title = title;
+        d.usageThreshold = usageThreshold;
 
         return d.report(outFile);
     }
@@ -213,7 +233,11 @@ public class Main {
     private File outFile;
     private List<File> fileArgs = new ArrayList<File>();
     private boolean superMode;
+    private String resourcesArg;
+    private int usageThreshold = -1;
     private Help help;
 
+    private static final String DEFAULT_RESOURCES_THRESHOLD = "25";
+
     private static I18NResourceBundle i18n = I18NResourceBundle.getBundleForClass(Main.class);
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.sun.javatest.diff;
+
+import java.util.Comparator;
+
+import com.sun.javatest.TestResult;
+import com.sun.javatest.regtest.ResourceUsage;
+
+/**
+ * A comparator for the resource usage recorded in a test result, which
+ * finds the results that use more resources than a baseline.  A result
+ * compares as greater than the baseline if any of its values exceeds the
+ * corresponding value of the baseline by more than a given percentage,
+ * and by more than a minimum amount, so that small tests do not appear
+ * to regress because of noise.  Otherwise it compares as equal, including
+ * when either result has no usage recorded.
+ */
+public class UsageComparator implements Comparator<TestResult> {
+
+    /**
+     * Creates a new instance of UsageComparator.
+     * @param threshold the percentage by which a value must exceed the
+     *   baseline value to be considered a regression
+     */
+    public UsageComparator(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Get the percentage by which a value must exceed the baseline value
+     * to be considered a regression.
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Compare a test result with a baseline.
+     * @param tr the test result
+     * @param baseline the baseline test result
+     * @return 1 if the test result regressed from the baseline, or 0 otherwise
+     */
+    public int compare(TestResult tr, TestResult baseline) {
+        ResourceUsage u = get(tr);
+        ResourceUsage b = get(baseline);
+        if (u == null || b == null)
+            return 0;
+        long[] uv = u.getValues();
+        long[] bv = b.getValues();
+        for (int i = 0; i < uv.length; i++) {
+            if (isRegression(i, uv[i], bv[i]))
+                return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Determine if a value of resource usage has regressed.
+     * @param index the index of the value, as given by ResourceUsage.NAMES
+     * @param value the value
+     * @param baseline the baseline value
+     */
+    boolean isRegression(int index, long value, long baseline) {
+        return (value - baseline > MINIMUM[index]
+                && value * 100 > baseline * (100 + threshold));
+    }
+
+    static ResourceUsage get(TestResult tr) {
+        return (tr == null ? null : ResourceUsage.get(tr));
+    }
+
+    private int threshold;
+
+    // cpu (ms), peak rss (kB), threads, bytes read, bytes written
+    private static final long[] MINIMUM = { 100, 8192, 4, 1 << 20, 1 << 20 };
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.sun.javatest.diff;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+import com.sun.javatest.TestResult;
+import com.sun.javatest.regtest.ResourceUsage;
+import com.sun.javatest.util.I18NResourceBundle;
+
+/**
+ * Write a text report of the tests whose resource usage has regressed
+ * from that in the first set of results, as determined by a
+ * {@link UsageComparator}.
+ */
+public class UsageReporter extends Reporter {
+
+    /**
+     * Creates a new instance of UsageReporter
+     */
+    public UsageReporter(PrintWriter out) {
+        this.out = out;
+    }
+
+    public void write(MultiMap<String, TestResult> table) throws IOException {
+        UsageComparator uc = (UsageComparator) comparator;
+
+        if (title != null) {
+            out.println(title);
+            out.println();
+        }
+
+        int size = table.getColumns();
+        for (int i = 0; i < size; i++)
+            out.println(i18n.getString("simple.set",
+                    new Object[] { i, table.getColumnName(i) }));
+        out.println();
+        out.println(i18n.getString("usage.threshold", uc.getThreshold()));
+
+        diffs = 0;
+        for (Map.Entry<String, MultiMap.Entry<TestResult>> e: table.entrySet()) {
+            MultiMap.Entry<TestResult> result = e.getValue();
+            if (result.allEqual(comparator))
+                continue;
+
+            out.println();
+            out.println(e.getKey());
+            ResourceUsage[] usages = new ResourceUsage[result.getSize()];
+            for (int i = 0; i < usages.length; i++)
+                usages[i] = UsageComparator.get(result.get(i));
+            long[] base = usages[0].getValues();
+            for (int n = 0; n < ResourceUsage.NAMES.length; n++) {
+                boolean regressed = false;
+                StringBuilder sb = new StringBuilder();
+                sb.append(String.format("  %-14s %14d", i18n.getString(LABELS[n]), base[n]));
+                for (int i = 1; i < usages.length; i++) {
+                    if (usages[i] == null) {
+                        sb.append(String.format(" %14s %7s", "-", ""));
+                        continue;
+                    }
+                    long v = usages[i].getValues()[n];
+                    sb.append(String.format(" %14d %7s", v,
+                            base[n] == 0 ? "" : String.format("%+d%%", (v - base[n]) * 100 / base[n])));
+                    regressed |= uc.isRegression(n, v, base[n]);
+                }
+                if (regressed)
+                    out.println(sb);
+            }
+            diffs++;
+        }
+
+        out.println();
+        if (diffs == 0)
+            out.println(i18n.getString("usage.diffs.none"));
+        else
+            out.println(i18n.getString("usage.diffs.count", diffs));
+    }
+
+    private PrintWriter out;
+
+    private static final String[] LABELS = {
+        "usage.cpu", "usage.peakRSS", "usage.threads", "usage.ioRead", "usage.ioWrite"
+    };
+
+    private static I18NResourceBundle i18n = I18NResourceBundle.getBundleForClass(UsageReporter.class);
+}
@@ -287,6 +287,7 @@ public class ProcessCommand extends Command
 
             Runtime r = Runtime.getRuntime();
             p = (execDir == null ? r.exec(cmd, cmdEnv) : r.exec(cmd, cmdEnv, execDir));
+            processStarted(p);
 
             Reader in = new InputStreamReader(p.getInputStream()); // output stream from process
             StreamCopier refConnector = new StreamCopier(in, ref);
@@ -309,6 +310,7 @@ public class ProcessCommand extends Command
             // why we waited for the stream copiers to complete first ... because they are
             // interruptible.
             int exitCode = p.waitFor();
+            processFinished(p);
             //if (verbose > 0)
             //  log.report("command exited, exit=" + exitCode);
 
@@ -318,8 +320,10 @@ public class ProcessCommand extends Command
             return getStatus(exitCode, logConnector.exitStatus());
         }
         catch (InterruptedException e) {
-            if (p != null)
+            if (p != null) {
                 p.destroy();
+                processFinished(p);
+            }
             String msg = "Program `" + cmd[0] + "' interrupted! (timed out?)";
             s = (useFailedOnException ? Status.failed(msg) : Status.error(msg));
         }
@@ -330,6 +334,26 @@ public class ProcessCommand extends Command
         return s;
     }
 
+    /**
+     * Called when the process for a command has been started, before any
+     * of its output has been read.  The default implementation does nothing;
+     * subclasses may override it to monitor the process while it runs.
+     * @param p the process that has been started
+     * @see #processFinished
+     */
+    protected void processStarted(Process p) {
+    }
+
+    /**
+     * Called when the process for a command has exited, or has been
+     * destroyed because the command was interrupted.  The default
+     * implementation does nothing.
+     * @param p the process that has finished
+     * @see #processStarted
+     */
+    protected void processFinished(Process p) {
+    }
+
     /**
      * Generate a status for the command, based upon the command's exit code
      * and a status that may have been passed from the command by using
@@ -300,6 +300,22 @@ public abstract class Action
         section.setStatus(status);
     } // endAction()
 
+    /**
+     * Record the resources used by the process run for the action, if they
+     * could be measured, in the messages for the action and in the test
+     * result.
+     *
+     * @param cmd The command used to run the process.
+     * @param section The record area for the action.
+     */
+    protected void recordUsage(MonitoredProcessCommand cmd, TestResult.Section section) {
+        ResourceUsage usage = cmd.getUsage();
+        if (usage == null)
+            return;
+        section.getMessageWriter().println(LOG_RESOURCE_USAGE + usage);
+        script.addResourceUsage(usage);
+    } // recordUsage()
+
     //----------workarounds-------------------------------------------------------
 
     /**
@@ -416,6 +432,7 @@ public abstract class Action
         LOG_JT_COMMAND        = "JavaTest command: ",
         LOG_REASON            = "reason: ",
         LOG_ELAPSED_TIME      = "elapsed time (seconds): ",
+        LOG_RESOURCE_USAGE    = "resource usage: ",
         //LOG_JDK               = "JDK under test: ",
 
         // COMMON
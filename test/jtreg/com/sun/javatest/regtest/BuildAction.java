@@ -169,16 +169,30 @@ public class BuildAction extends Action
 //      }
 
         // step 1: see which files need compiling, and group them according
-        // to the value of the -d flag that will be required
+        // to the value of the -d flag that will be required.  Classes in
+        // libraries are grouped by library, and checked in step 2.
         Map<File,List<File>> filesToCompile = new LinkedHashMap<File,List<File>>();
+        Map<File,List<String>> libClasses = new LinkedHashMap<File,List<String>>();
+        Map<File,File> libSrcDirs = new LinkedHashMap<File,File>();
         for (int i = 0; i < args.length; i++) {
             // the argument to build is a classname
             String currFN = args[i].replace('.', File.separatorChar) + ".java";
             File sf = script.locateJavaSrc(currFN);
+            File destDir = script.absTestClsDestDir(sf);
+            File libSrcDir = script.absSrcLibDir(sf);
+            if (libSrcDir != null) {
+                List<String> classesForLib = libClasses.get(destDir);
+                if (classesForLib == null) {
+                    classesForLib = new ArrayList<String>();
+                    libClasses.put(destDir, classesForLib);
+                    libSrcDirs.put(destDir, libSrcDir);
+                }
+                classesForLib.add(args[i]);
+                continue;
+            }
             File cf = script.locateJavaCls(currFN);
             if (!cf.exists() || !cf.canRead()
                     || (cf.lastModified() < sf.lastModified())) {
-                File destDir = script.absTestClsDestDir(sf);
                 List<File> filesForDest = filesToCompile.get(destDir);
                 if (filesForDest == null) {
                     filesForDest = new ArrayList<File>();
@@ -188,11 +202,36 @@ public class BuildAction extends Action
             }
         }
 
-        // step 2: perform the compilations, if any
-        if (filesToCompile.isEmpty()) {
-            status = Status.passed(BUILD_UP_TO_DATE);
-        } else {
-            status = null;
+        // step 2: build the libraries, one test at a time for each library,
+        // compiling the classes not already built in this or an earlier run
+        status = null;
+        boolean compiled = false;
+        for (Map.Entry<File,List<String>> e: libClasses.entrySet()) {
+            File libSrcDir = libSrcDirs.get(e.getKey());
+            LibraryBuildCache lib = LibraryBuildCache.get(e.getKey());
+            synchronized (lib.getLock()) {
+                List<String> stale = lib.getStale(libSrcDir, e.getValue(),
+                        script.getTestCompilerOptions(),
+                        new File(script.getJavacProg()));
+                if (stale.isEmpty())
+                    continue;
+                List<File> files = new ArrayList<File>();
+                for (String c: stale)
+                    files.add(script.locateJavaSrc(c.replace('.', File.separatorChar) + ".java"));
+                CompileAction ca = new CompileAction();
+                Status s = ca.compile(opts, asStrings(files.toArray(new File[files.size()])),
+                                      SREASON_FILE_TOO_OLD, script);
+                if (s.isFailed()) {
+                    status = s;
+                    break;
+                }
+                lib.setBuilt(stale);
+                compiled = true;
+            }
+        }
+
+        // step 3: perform the other compilations, if any
+        if (status == null) {
             for (List<File> filesForDest: filesToCompile.values()) {
                 File[] files = filesForDest.toArray(new File[filesForDest.size()]);
                 CompileAction ca = new CompileAction();
@@ -201,10 +240,11 @@ public class BuildAction extends Action
                     status = s;
                     break;
                 }
+                compiled = true;
             }
-            if (status == null)
-                status = Status.passed(BUILD_SUCC);
         }
+        if (status == null)
+            status = Status.passed(compiled ? BUILD_SUCC : BUILD_UP_TO_DATE);
 
         endAction(status, section);
         return status;
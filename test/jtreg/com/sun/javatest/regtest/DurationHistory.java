@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.sun.javatest.regtest;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.sun.javatest.Harness;
+import com.sun.javatest.Parameters;
+import com.sun.javatest.Status;
+import com.sun.javatest.TestResult;
+import com.sun.javatest.WorkDirectory;
+
+/**
+ * The history of how long each test has taken to run in a work directory,
+ * kept as rolling statistics per test, and used to divide a set of tests
+ * into shards that should each take about the same time to run.
+ *
+ * The history is kept in the file jtData/durations in the work directory.
+ * Each line gives, for one test, the number of runs recorded, a moving
+ * average of the duration and of its deviation from the average, both in
+ * milliseconds, the end time of the last run recorded, and the name of
+ * the test.  Durations are recorded as tests finish, using the start and
+ * end times of the test result.  Results from the work directory that are
+ * newer than the history, such as results copied in from the work
+ * directories of other shards, are added to the history when the tests are
+ * next divided into shards.
+ */
+class DurationHistory {
+    /**
+     * Open the history for a work directory.
+     */
+    static DurationHistory open(WorkDirectory wd) {
+        return new DurationHistory(wd.getSystemFile(FILE));
+    }
+
+    private DurationHistory(File file) {
+        this.file = file;
+        read();
+    }
+
+    /**
+     * Get an observer to record the durations of tests as they are run.
+     * The history is written when the test run finishes.
+     */
+    Harness.Observer getObserver() {
+        return new Harness.Observer() {
+            public void startingTestRun(Parameters params) { }
+            public void startingTest(TestResult tr) { }
+            public void finishedTest(TestResult tr) {
+                add(tr);
+            }
+            public void stoppingTestRun() { }
+            public void finishedTesting() { }
+            public void finishedTestRun(boolean allOK) {
+                write();
+            }
+            public void error(String msg) { }
+        };
+    }
+
+    /**
+     * Add the duration of a test result to the history, if the result
+     * has not already been recorded.
+     * @return true if the history was updated
+     */
+    synchronized boolean add(TestResult tr) {
+        int s = tr.getStatus().getType();
+        if (s != Status.PASSED && s != Status.FAILED)
+            return false;
+
+        long end = tr.getEndTime();
+        Entry e = entries.get(tr.getTestName());
+        if (end <= 0 || (e != null && end <= e.end))
+            return false;
+
+        long start;
+        try {
+            String startStr = tr.getProperty(TestResult.START);
+            if (startStr == null)
+                return false;
+            start = parseDate(startStr);
+        } catch (TestResult.Fault f) {
+            return false;
+        } catch (ParseException ex) {
+            return false;
+        }
+        if (start <= 0 || start > end)
+            return false;
+
+        if (e == null) {
+            e = new Entry();
+            entries.put(tr.getTestName(), e);
+        }
+        e.add(end - start, end);
+        modified = true;
+        return true;
+    }
+
+    /**
+     * Get the expected duration of a test, in milliseconds, or -1 if there
+     * is no history for the test.
+     */
+    synchronized long getExpected(String test) {
+        Entry e = entries.get(test);
+        return (e == null ? -1 : Math.round(e.mean));
+    }
+
+    /**
+     * Divide tests into shards, so that the expected time to run each shard
+     * is about the same, and return the tests in one of the shards.  Tests
+     * with no history are expected to take the average time of those that
+     * have one.  The division depends only on the tests and the history,
+     * so that all shards may be selected independently from copies of the
+     * same work directory.
+     * @param tests the tests to be divided
+     * @param count the number of shards
+     * @param index the shard to be returned, from 0 to count - 1
+     * @return the tests in the shard, in their original order
+     */
+    synchronized List<String> getShard(List<String> tests, int count, int index) {
+        final Map<String, Long> expected = new TreeMap<String, Long>();
+        long known = 0;
+        int numKnown = 0;
+        for (String t: tests) {
+            long d = getExpected(t);
+            if (d >= 0) {
+                known += d;
+                numKnown++;
+            }
+            expected.put(t, d);
+        }
+        long dflt = (numKnown == 0 ? DEFAULT_DURATION : known / numKnown);
+        for (Map.Entry<String, Long> e: expected.entrySet()) {
+            if (e.getValue() < 0)
+                e.setValue(dflt);
+        }
+
+        // longest first, each to the shard with the least time so far
+        List<String> order = new ArrayList<String>(expected.keySet());
+        Collections.sort(order, new Comparator<String>() {
+            public int compare(String t1, String t2) {
+                long d1 = expected.get(t1);
+                long d2 = expected.get(t2);
+                return (d1 > d2 ? -1 : d1 < d2 ? 1 : t1.compareTo(t2));
+            }
+        });
+        long[] totals = new long[count];
+        Map<String, Integer> shards = new TreeMap<String, Integer>();
+        for (String t: order) {
+            int s = 0;
+            for (int i = 1; i < count; i++) {
+                if (totals[i] < totals[s])
+                    s = i;
+            }
+            totals[s] += expected.get(t);
+            shards.put(t, s);
+        }
+
+        List<String> shard = new ArrayList<String>();
+        for (String t: tests) {
+            if (shards.get(t) == index)
+                shard.add(t);
+        }
+        return shard;
+    }
+
+    /**
+     * Write the history, if it has been updated.
+     */
+    synchronized void write() {
+        if (!modified)
+            return;
+        try {
+            File tmp = new File(file.getPath() + ".tmp");
+            Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tmp), "UTF-8"));
+            try {
+                for (Map.Entry<String, Entry> me: entries.entrySet()) {
+                    Entry e = me.getValue();
+                    out.write(e.count + " " + Math.round(e.mean) + " " + Math.round(e.dev)
+                              + " " + e.end + " " + me.getKey() + "\n");
+                }
+            } finally {
+                out.close();
+            }
+            if (!tmp.renameTo(file)) {
+                file.delete();
+                if (!tmp.renameTo(file))
+                    tmp.delete();
+            }
+            modified = false;
+        } catch (IOException e) {
+            // the history will be updated from the test results next time
+        }
+    }
+
+    private void read() {
+        if (!file.exists())
+            return;
+        try {
+            BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+            try {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String[] f = line.split(" ", 5);
+                    if (f.length != 5)
+                        continue;
+                    try {
+                        Entry e = new Entry();
+                        e.count = Integer.parseInt(f[0]);
+                        e.mean = Long.parseLong(f[1]);
+                        e.dev = Long.parseLong(f[2]);
+                        e.end = Long.parseLong(f[3]);
+                        entries.put(f[4], e);
+                    } catch (NumberFormatException ex) {
+                        // ignore the entry
+                    }
+                }
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            // start again from the test results
+            entries.clear();
+        }
+    }
+
+    private static long parseDate(String s) throws ParseException {
+        // TestResult records times with Date.toString()
+        DateFormat df = new SimpleDateFormat("EEE MMM dd HH:mm:ss zzz yyyy", Locale.US);
+        Date d = df.parse(s);
+        return d.getTime();
+    }
+
+    private static class Entry {
+        void add(long duration, long end) {
+            // a plain average for the first few runs, and then a moving
+            // average, to follow tests that get slower or faster
+            count++;
+            double w = Math.max(1.0 / count, WEIGHT);
+            double diff = duration - mean;
+            mean += w * diff;
+            dev += w * (Math.abs(diff) - dev);
+            this.end = end;
+        }
+
+        int count;
+        double mean;
+        double dev;
+        long end;
+    }
+
+    private final File file;
+    private final Map<String, Entry> entries = new TreeMap<String, Entry>();
+    private boolean modified;
+
+    private static final String FILE = "durations";
+    private static final double WEIGHT = 0.25;
+    private static final long DEFAULT_DURATION = 1000;
+}
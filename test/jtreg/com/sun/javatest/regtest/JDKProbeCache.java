@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.sun.javatest.regtest;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * A cache of the results of probing a JDK, such as the output of
+ * "java -version", kept on disk so that successive runs of jtreg on the
+ * same JDK need not start it again.
+ *
+ * Results are keyed by the java executable, its size and modification
+ * time, and the VM options it was run with; a rebuilt JDK, or different
+ * options, give new probes.  The results for each key are stored in a
+ * properties file in the directory named by the system property
+ * javatest.regtest.probeCache, by default jtreg/jdk in the user's cache
+ * directory ($XDG_CACHE_HOME, or ~/.cache).  An empty value for the
+ * property disables the cache.
+ */
+class JDKProbeCache {
+    /**
+     * Get the cache for a JDK run with the given VM options.
+     */
+    static synchronized JDKProbeCache get(JDK jdk, List<String> vmOpts) {
+        File java = jdk.getJavaProg();
+        try {
+            java = java.getCanonicalFile();
+        } catch (IOException e) {
+            // use the absolute file
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(java.getPath())
+                .append('\n').append(java.lastModified())
+                .append('\n').append(java.length());
+        for (String o: vmOpts)
+            sb.append('\n').append(o);
+        String key = sb.toString();
+
+        JDKProbeCache c = caches.get(key);
+        if (c == null) {
+            c = new JDKProbeCache(key);
+            caches.put(key, c);
+        }
+        return c;
+    }
+
+    private JDKProbeCache(String key) {
+        this.key = key;
+        File dir = getCacheDir();
+        file = (dir == null ? null
+                : new File(dir, "jdk-" + Integer.toHexString(key.hashCode()) + ".properties"));
+        values = read();
+    }
+
+    /**
+     * Get the cached result of a probe, or null if there is none.
+     */
+    synchronized String getValue(String probe) {
+        return values.getProperty(probe);
+    }
+
+    /**
+     * Record the result of a probe.  Only successful probes should be
+     * recorded.
+     */
+    synchronized void setValue(String probe, String value) {
+        values.setProperty(probe, value);
+        write();
+    }
+
+    private Properties read() {
+        Properties p = new Properties();
+        if (file != null && file.exists()) {
+            try {
+                InputStream in = new FileInputStream(file);
+                try {
+                    p.load(in);
+                } finally {
+                    in.close();
+                }
+            } catch (IOException e) {
+                p.clear();
+            }
+            // a different key with the same hash
+            if (!key.equals(p.getProperty(KEY)))
+                p.clear();
+        }
+        p.setProperty(KEY, key);
+        return p;
+    }
+
+    private void write() {
+        if (file == null)
+            return;
+        try {
+            File dir = file.getParentFile();
+            if (!dir.exists() && !dir.mkdirs())
+                return;
+            // include results written meanwhile by other runs of jtreg
+            Properties p = read();
+            p.putAll(values);
+            File tmp = File.createTempFile("jdk", ".tmp", dir);
+            OutputStream out = new FileOutputStream(tmp);
+            try {
+                p.store(out, "jtreg JDK probe cache");
+            } finally {
+                out.close();
+            }
+            if (!tmp.renameTo(file)) {
+                file.delete();
+                if (!tmp.renameTo(file))
+                    tmp.delete();
+            }
+        } catch (IOException e) {
+            // the results are only a cache
+        } catch (SecurityException e) {
+            // the results are only a cache
+        }
+    }
+
+    private static File getCacheDir() {
+        String s = System.getProperty("javatest.regtest.probeCache");
+        if (s != null)
+            return (s.length() == 0 ? null : new File(s));
+        String xdg = System.getenv("XDG_CACHE_HOME");
+        File base = (xdg != null && xdg.length() > 0) ? new File(xdg)
+                : new File(System.getProperty("user.home"), ".cache");
+        return new File(new File(base, "jtreg"), "jdk");
+    }
+
+    private final String key;
+    private final File file;
+    private final Properties values;
+
+    private static final String KEY = "$key";
+    private static final Map<String, JDKProbeCache> caches =
+            new HashMap<String, JDKProbeCache>();
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.sun.javatest.regtest;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Keeps track of the classes built in each library class directory,
+ * so that tests that share an @library do not each rebuild it, and do
+ * not race to build it at the same time.
+ *
+ * A library is up to date for a class if the class has been built with
+ * the current sources of the library, compiler options and compiler.
+ * These are summarized by a hash of the contents, rather than by
+ * modification times, which is computed once per run for each library.
+ * The hash, and the classes built with it, are recorded in a stamp file
+ * in the library class directory, so that a library can be reused by
+ * a later run.
+ *
+ * Builds of the same library class directory are serialized: a test that
+ * needs a library while another test is building it waits for that build,
+ * and then finds the classes up to date.
+ */
+class LibraryBuildCache {
+    /**
+     * Get the entry for a library class directory.
+     */
+    static synchronized LibraryBuildCache get(File clsDir) {
+        File key;
+        try {
+            key = clsDir.getCanonicalFile();
+        } catch (IOException e) {
+            key = clsDir.getAbsoluteFile();
+        }
+        LibraryBuildCache c = libraries.get(key);
+        if (c == null) {
+            c = new LibraryBuildCache(key);
+            libraries.put(key, c);
+        }
+        return c;
+    }
+
+    private LibraryBuildCache(File clsDir) {
+        this.clsDir = clsDir;
+        stampFile = new File(clsDir, STAMP_FILE);
+    }
+
+    /**
+     * Get the lock to be held while checking and building this library.
+     */
+    Object getLock() {
+        return this;
+    }
+
+    /**
+     * Determine which of the given classes of the library need to be
+     * built.  The caller must hold the lock.
+     * @param srcDir the source directory of the library
+     * @param classNames the names of classes in the library
+     * @param compileOpts the options that would be used to compile them
+     * @param javac the compiler that would be used
+     * @return the classes that are not up to date
+     */
+    List<String> getStale(File srcDir, List<String> classNames,
+                          List<String> compileOpts, File javac) {
+        // the sources are only hashed once per run
+        String k = srcDir + "\n" + compileOpts + "\n" + javac;
+        if (!k.equals(hashKey)) {
+            hashKey = k;
+            hash = hash(srcDir, compileOpts, javac);
+            built = readStamp(hash);
+        }
+
+        List<String> stale = new ArrayList<String>();
+        for (String c: classNames) {
+            if (!built.contains(c)
+                    || !new File(clsDir, c.replace('.', File.separatorChar) + ".class").exists())
+                stale.add(c);
+        }
+        return stale;
+    }
+
+    /**
+     * Record that classes have been built successfully, with the sources
+     * and options given to the last call of getStale.  The caller must
+     * hold the lock.
+     */
+    void setBuilt(List<String> classNames) {
+        built.addAll(classNames);
+        writeStamp();
+    }
+
+    private Set<String> readStamp(String h) {
+        Set<String> s = new LinkedHashSet<String>();
+        if (stampFile.exists()) {
+            Properties p = new Properties();
+            try {
+                InputStream in = new FileInputStream(stampFile);
+                try {
+                    p.load(in);
+                } finally {
+                    in.close();
+                }
+                if (h.equals(p.getProperty("hash")))
+                    s.addAll(Arrays.asList(StringArray.splitWS(p.getProperty("classes", ""))));
+            } catch (IOException e) {
+                // rebuild
+            }
+        }
+        return s;
+    }
+
+    private void writeStamp() {
+        Properties p = new Properties();
+        p.setProperty("hash", hash);
+        p.setProperty("classes", StringUtils.join(new ArrayList<String>(built), " "));
+        try {
+            clsDir.mkdirs();
+            OutputStream out = new FileOutputStream(stampFile);
+            try {
+                p.store(out, "jtreg library build");
+            } finally {
+                out.close();
+            }
+        } catch (IOException e) {
+            // the library will be rebuilt next time
+        }
+    }
+
+    /**
+     * Compute a hash of the sources of a library, and the options and
+     * compiler used to compile them.
+     */
+    private static String hash(File srcDir, List<String> compileOpts, File javac) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-1");
+            update(md, "javac " + javac.getPath() + " " + javac.lastModified()
+                   + " " + javac.length());
+            for (String o: compileOpts)
+                update(md, "opt " + o);
+            hashDir(md, srcDir, "");
+            StringBuilder sb = new StringBuilder();
+            for (byte b: md.digest())
+                sb.append(Character.forDigit((b >> 4) & 0xf, 16))
+                  .append(Character.forDigit(b & 0xf, 16));
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new Error(e);
+        }
+    }
+
+    private static void hashDir(MessageDigest md, File dir, String prefix) {
+        String[] names = dir.list();
+        if (names == null)
+            return;
+        Arrays.sort(names);
+        byte[] buf = new byte[8192];
+        for (String name: names) {
+            File f = new File(dir, name);
+            if (f.isDirectory()) {
+                hashDir(md, f, prefix + name + "/");
+            } else if (name.endsWith(".java")) {
+                update(md, "file " + prefix + name + " " + f.length());
+                try {
+                    InputStream in = new FileInputStream(f);
+                    try {
+                        int n;
+                        while ((n = in.read(buf)) > 0)
+                            md.update(buf, 0, n);
+                    } finally {
+                        in.close();
+                    }
+                } catch (IOException e) {
+                    // make sure the hash does not match a readable file
+                    update(md, "unreadable " + f.lastModified());
+                }
+            }
+        }
+    }
+
+    private static void update(MessageDigest md, String s) {
+        try {
+            md.update(s.getBytes("UTF-8"));
+            md.update((byte) 0);
+        } catch (java.io.UnsupportedEncodingException e) {
+            throw new Error(e);
+        }
+    }
+
+    private final File clsDir;
+    private final File stampFile;
+    private String hashKey;
+    private String hash;
+    private Set<String> built = new LinkedHashSet<String>();
+
+    private static final String STAMP_FILE = ".jtreg-library";
+    private static final Map<File, LibraryBuildCache> libraries =
+            new HashMap<File, LibraryBuildCache>();
+}
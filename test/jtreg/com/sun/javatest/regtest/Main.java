@@ -374,6 +374,21 @@ public class Main {
             }
         },
 
+        new Option(STD, SELECT, null, "shard") {
+            public void process(String opt, String arg) throws BadArgs {
+                int sep = arg.indexOf('/');
+                try {
+                    shardIndexArg = Integer.parseInt(arg.substring(0, Math.max(sep, 0)));
+                    shardCountArg = Integer.parseInt(arg.substring(sep + 1));
+                } catch (NumberFormatException e) {
+                    throw new BadArgs(i18n, "main.badShard", arg);
+                }
+                if (shardCountArg < 1 || shardIndexArg < 1 || shardIndexArg > shardCountArg)
+                    throw new BadArgs(i18n, "main.badShard", arg);
+                childArgs.add(opt);
+            }
+        },
+
         new Option(NONE, MODE, "svm-ovm", "ovm", "othervm") {
             public void process(String opt, String arg) {
                 sameJVMFlag = false;
@@ -1488,9 +1503,18 @@ public class Main {
                 }
                 ok = (testStats[Status.FAILED] == 0 && testStats[Status.ERROR] ==0);
             } else {
-                Harness harness = createHarness();
-                harness.addObserver(new BatchObserver());
-                ok = harness.batch(params);
+                DurationHistory history = DurationHistory.open(params.getWorkDirectory());
+                if (shardCountArg > 0 && !selectShard(params, history)) {
+                    out.println(i18n.getString("main.emptyShard",
+                            new Object[] { shardIndexArg, shardCountArg }));
+                    testStats = new int[Status.NUM_STATES];
+                    ok = true;
+                } else {
+                    Harness harness = createHarness();
+                    harness.addObserver(new BatchObserver());
+                    harness.addObserver(history.getObserver());
+                    ok = harness.batch(params);
+                }
             }
 
             showResultStats(testStats);
@@ -1520,6 +1544,11 @@ public class Main {
                         report = new File(new File(reportDirArg, "html"), "report.html"); // version 4.*
                     if (report.exists())
                         out.println("Report written to " + report);
+                    if (reportKinds.contains("text")) {
+                        File usage = UsageReport.write(getResultsIterator(params), reportDirArg);
+                        if (usage != null)
+                            out.println("Resource usage written to " + usage);
+                    }
                 } catch (IOException e) {
                     out.println("Error while writing report: " + e);
                 }
@@ -1542,6 +1571,29 @@ public class Main {
         }
     }
 
+    /**
+     * Restrict the tests to be run to those in the shard given by -shard,
+     * using the history of the work directory to balance the shards.
+     * @return false if there are no tests in the shard
+     */
+    private boolean selectShard(InterviewParameters params, DurationHistory history) {
+        List<String> tests = new ArrayList<String>();
+        for (Iterator iter = getResultsIterator(params); iter.hasNext(); ) {
+            TestResult tr = (TestResult) (iter.next());
+            // include results that are newer than the history, such as
+            // those merged in from the work directories of other shards
+            history.add(tr);
+            tests.add(tr.getTestName());
+        }
+        history.write();
+
+        List<String> shard = history.getShard(tests, shardCountArg, shardIndexArg - 1);
+        if (shard.isEmpty())
+            return false;
+        ((RegressionParameters) params).setTests(shard);
+        return true;
+    }
+
     private Iterator getResultsIterator(InterviewParameters params) {
         TestResultTable trt = params.getWorkDirectory().getTestResultTable();
         trt.waitUntilReady();
@@ -1788,6 +1840,8 @@ public class Main {
     private String concurrencyArg; // not currently exposed in any way
     private String timeoutFactorArg;
     private String priorStatusValuesArg;
+    private int shardIndexArg;
+    private int shardCountArg;
     private File reportDirArg;
     private List<File> testFileArgs = new ArrayList<File>();
     // TODO: consider making this a "pathset" to detect redundant specification
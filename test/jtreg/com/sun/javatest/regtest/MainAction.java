@@ -33,9 +33,6 @@ import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Enumeration;
@@ -45,7 +42,7 @@ import java.util.Properties;
 
 import com.sun.javatest.Status;
 import com.sun.javatest.TestResult;
-import com.sun.javatest.lib.ProcessCommand;
+import com.sun.javatest.util.IndexedPathClassLoader;
 
 /**
  * This class implements the "main" action as described by the JDK tag
@@ -312,7 +309,7 @@ public class MainAction extends Action
 //          System.out.println();
 
             // RUN THE MAIN WRAPPER CLASS
-            ProcessCommand cmd = new ProcessCommand();
+            MonitoredProcessCommand cmd = new MonitoredProcessCommand();
             cmd.setExecDir(script.absTestScratchDir());
 
             // Set the exit codes and their associated strings.  Note that we
@@ -329,6 +326,7 @@ public class MainAction extends Action
                 script.setAlarm(timeout*1000);
 
             status = cmd.run(cmdArgs, sysErr, sysOut);
+            recordUsage(cmd, section);
         } finally {
             script.setAlarm(0);
             if (sysOut != null) sysOut.close();
@@ -404,21 +402,18 @@ public class MainAction extends Action
         Status status;
         PrintStream saveOut = System.out;
         PrintStream saveErr = System.err;
+        IndexedPathClassLoader loader = null;
         try {
             status = Status.passed(EXEC_PASS);
 
             String[] classpath = StringArray.splitSeparator(PATHSEP, script.testClassPath());
-            List<URL> urls = new ArrayList<URL>();
+            List<File> path = new ArrayList<File>();
             for (int i = 0; i < classpath.length; i++) {
                 String p = classpath[i];
-                if (p.length() > 0) {
-                    try {
-                        urls.add(new File(p).toURI().toURL());
-                    } catch (MalformedURLException e) {
-                    }
-                }
+                if (p.length() > 0)
+                    path.add(new File(p));
             }
-            ClassLoader loader = new URLClassLoader(urls.toArray(new URL[urls.size()]));
+            loader = new IndexedPathClassLoader(path.toArray(new File[path.size()]));
             Class<?> c = loader.loadClass(buildFN);
             Class<?>[] argTypes = { String[].class };
             Method method = c.getMethod("main", argTypes);
@@ -501,6 +496,9 @@ public class MainAction extends Action
             psErr.println();
             status = Status.error(MAIN_CANT_FIND_MAIN);
         } finally {
+            if (loader != null)
+                loader.close();
+
             SecurityManager sm = System.getSecurityManager();
             if (sm instanceof RegressionSecurityManager) {
                 RegressionSecurityManager rsm = (RegressionSecurityManager) sm;
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.sun.javatest.regtest;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.sun.javatest.lib.ProcessCommand;
+
+/**
+ * A ProcessCommand that measures the resources used by the process it
+ * runs, and by any processes the process starts in turn, by sampling
+ * their entries in /proc while they run.
+ *
+ * CPU time and I/O are taken from the last sample of each process, and
+ * so may miss the final moments of a process; peak memory is the largest
+ * sum of the peak resident sizes of the processes seen in one sample.
+ * Where /proc is not available, or the process id cannot be determined,
+ * no usage is recorded.  The interval between samples can be set, in
+ * milliseconds, with the system property javatest.regtest.usageInterval;
+ * a value of 0 disables sampling.
+ */
+class MonitoredProcessCommand extends ProcessCommand {
+    /**
+     * Get the resources used by the process, or null if they could not
+     * be measured.
+     */
+    ResourceUsage getUsage() {
+        return usage;
+    }
+
+    @Override
+    protected void processStarted(Process p) {
+        usage = null;
+        peakRSS = peakThreads = 0;
+        final int pid = getPid(p);
+        if (pid <= 0 || INTERVAL <= 0 || !PROC.isDirectory())
+            return;
+
+        sampler = new Thread(Thread.currentThread().getName() + "_UsageSampler") {
+            @Override
+            public void run() {
+                try {
+                    while (sample(pid))
+                        sleep(INTERVAL);
+                } catch (InterruptedException e) {
+                    // done
+                }
+            }
+        };
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    @Override
+    protected void processFinished(Process p) {
+        if (sampler == null)
+            return;
+        sampler.interrupt();
+        try {
+            sampler.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sampler = null;
+
+        if (procs.isEmpty())
+            return;
+        long cpu = 0, read = 0, written = 0;
+        for (long[] v: procs.values()) {
+            cpu += v[0];
+            read += v[1];
+            written += v[2];
+        }
+        usage = new ResourceUsage();
+        usage.set(cpu * 1000 / CLOCK_TICKS, peakRSS, peakThreads, read, written);
+        procs.clear();
+    }
+
+    /**
+     * Sample a process and its descendants.
+     * @return false if the process no longer exists
+     */
+    private boolean sample(int pid) {
+        List<Integer> tree = new ArrayList<Integer>();
+        tree.add(pid);
+        long rss = 0, threads = 0;
+        for (int i = 0; i < tree.size(); i++) {
+            int p = tree.get(i);
+            String stat = read(p + "/stat");
+            if (stat == null) {
+                if (i == 0)
+                    return false;
+                continue;
+            }
+            // the command name is in parentheses, and may contain spaces
+            String[] f = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+            long ticks;
+            String key;
+            try {
+                ticks = Long.parseLong(f[STAT_UTIME]) + Long.parseLong(f[STAT_STIME]);
+                key = p + "/" + f[STAT_STARTTIME];
+            } catch (RuntimeException e) {
+                continue;
+            }
+
+            long[] v = procs.get(key);
+            if (v == null)
+                procs.put(key, v = new long[3]);
+            v[0] = ticks;
+            String io = read(p + "/io");
+            if (io != null) {
+                v[1] = getField(io, "rchar:");
+                v[2] = getField(io, "wchar:");
+            }
+
+            String status = read(p + "/status");
+            if (status != null) {
+                rss += getField(status, "VmHWM:");
+                threads += getField(status, "Threads:");
+            }
+
+            addChildren(p, tree);
+        }
+        peakRSS = Math.max(peakRSS, rss);
+        peakThreads = Math.max(peakThreads, threads);
+        return true;
+    }
+
+    private static void addChildren(int pid, List<Integer> tree) {
+        // any thread may start a child process
+        String[] tasks = new File(PROC, pid + "/task").list();
+        if (tasks == null)
+            return;
+        for (String t: tasks) {
+            String children = read(pid + "/task/" + t + "/children");
+            if (children == null)
+                continue;
+            for (String c: children.trim().split(" +")) {
+                try {
+                    if (c.length() > 0)
+                        tree.add(Integer.valueOf(c));
+                } catch (NumberFormatException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    private static long getField(String text, String name) {
+        int i = text.indexOf(name);
+        if (i == -1)
+            return 0;
+        i += name.length();
+        while (i < text.length() && (text.charAt(i) == ' ' || text.charAt(i) == '\t'))
+            i++;
+        long v = 0;
+        for (; i < text.length() && Character.isDigit(text.charAt(i)); i++)
+            v = v * 10 + (text.charAt(i) - '0');
+        return v;
+    }
+
+    private static String read(String name) {
+        try {
+            InputStream in = new FileInputStream(new File(PROC, name));
+            try {
+                byte[] buf = new byte[4096];
+                int n = 0, r;
+                while ((r = in.read(buf, n, buf.length - n)) > 0) {
+                    n += r;
+                    if (n == buf.length) {
+                        byte[] b = new byte[buf.length * 2];
+                        System.arraycopy(buf, 0, b, 0, n);
+                        buf = b;
+                    }
+                }
+                return new String(buf, 0, n, "ISO-8859-1");
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get the operating system id of a process, or -1 if it cannot be
+     * determined.
+     */
+    private static int getPid(Process p) {
+        try {
+            // JDK 9 and later
+            Method m = Process.class.getMethod("pid");
+            return ((Long) m.invoke(p)).intValue();
+        } catch (Exception e) {
+            // earlier versions
+        }
+        try {
+            Field f = p.getClass().getDeclaredField("pid");
+            f.setAccessible(true);
+            return f.getInt(p);
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private Thread sampler;
+    private ResourceUsage usage;
+    // for each process seen, by pid and start time: cpu ticks, bytes read, bytes written
+    private final Map<String, long[]> procs = new HashMap<String, long[]>();
+    private long peakRSS;
+    private long peakThreads;
+
+    private static final File PROC = new File("/proc");
+    private static final long INTERVAL = Long.getLong("javatest.regtest.usageInterval", 100);
+    // USER_HZ, the unit of times in /proc, is 100 on all common platforms
+    private static final long CLOCK_TICKS = 100;
+    // indices of fields of /proc/<pid>/stat, counting from the state
+    private static final int STAT_UTIME = 11;
+    private static final int STAT_STIME = 12;
+    private static final int STAT_STARTTIME = 19;
+}
@@ -331,31 +331,17 @@ public class RegressionParameters
             final String VERSION_PROPERTY = "java.specification.version";
             String version = "unknown";
             if (isOtherJVM()) {
-                // TODO: move to JDK
-                Status status = null;
-                // since we are trying to determine the Java version, we have to assume
-                // the worst, and use CLASSPATH.
-                String[] cmdArgs = new String[] {
-                    "CLASSPATH=" + getJavaTestClassPath(),
-                    jdk.getJavaProg().getPath(),
-                    "com.sun.javatest.regtest.GetSystemProperty",
-                    VERSION_PROPERTY
-                };
-
-                // PASS TO PROCESSCOMMAND
-                StringWriter outSW = new StringWriter();
-                StringWriter errSW = new StringWriter();
-
-                ProcessCommand cmd = new ProcessCommand();
-                //cmd.setExecDir(scratchDir());
-                status = cmd.run(cmdArgs, new PrintWriter(errSW), new PrintWriter(outSW));
-
-                // EVALUATE THE RESULTS
-                if (status.isPassed()) {
-                    // we sent everything to stdout
-                    String[] v = StringArray.splitEqual(outSW.toString().trim());
-                    if (v.length == 2 && v[0].equals(VERSION_PROPERTY))
-                        version = v[1];
+                // the probe is run without the test VM options
+                JDKProbeCache cache = JDKProbeCache.get(jdk, new ArrayList<String>());
+                String cached = cache.getValue(VERSION_PROPERTY);
+                if (cached != null)
+                    version = cached;
+                else {
+                    String v = probeSystemProperty(VERSION_PROPERTY);
+                    if (v != null) {
+                        version = v;
+                        cache.setValue(VERSION_PROPERTY, version);
+                    }
                 }
             } else
                 version = System.getProperty(VERSION_PROPERTY);
@@ -370,12 +356,54 @@ public class RegressionParameters
         return javaVersion;
     }
 
+    /**
+     * Run the JDK under test to get the value of a system property.
+     * @return the value of the property, or null if it could not be determined
+     */
+    private String probeSystemProperty(String name) {
+        // TODO: move to JDK
+        Status status = null;
+        // since this may be used to determine the Java version, we have to assume
+        // the worst, and use CLASSPATH.
+        String[] cmdArgs = new String[] {
+            "CLASSPATH=" + getJavaTestClassPath(),
+            jdk.getJavaProg().getPath(),
+            "com.sun.javatest.regtest.GetSystemProperty",
+            name
+        };
+
+        // PASS TO PROCESSCOMMAND
+        StringWriter outSW = new StringWriter();
+        StringWriter errSW = new StringWriter();
+
+        ProcessCommand cmd = new ProcessCommand();
+        //cmd.setExecDir(scratchDir());
+        status = cmd.run(cmdArgs, new PrintWriter(errSW), new PrintWriter(outSW));
+
+        // EVALUATE THE RESULTS
+        if (status.isPassed()) {
+            // we sent everything to stdout
+            String[] v = StringArray.splitEqual(outSW.toString().trim());
+            if (v.length == 2 && v[0].equals(name))
+                return v[1];
+        }
+        return null;
+    }
+
     private String javaVersion;
 
     //---------------------------------------------------------------------
 
     String getJavaFullVersion() {
         if (javaFullVersion == null) {
+            final String VERSION_PROBE = "-version";
+            JDKProbeCache cache = JDKProbeCache.get(jdk, getTestVMOptions());
+            String cached = cache.getValue(VERSION_PROBE);
+            if (cached != null) {
+                javaFullVersion = "(" + getJDK() + ")" + LINESEP + cached;
+                return javaFullVersion;
+            }
+
             Status status = null;
             List<String> cmdArgs = new ArrayList<String>();
             cmdArgs.add(jdk.getJavaProg().getPath());
@@ -395,11 +423,10 @@ public class RegressionParameters
             if (status.isPassed()) {
                 // some JDK's send the string to stderr, others to stdout
                 String version = errSW.toString().trim();
-                javaFullVersion = "(" + getJDK() + ")" + LINESEP;
                 if (version.length() == 0)
-                    javaFullVersion += outSW.toString().trim();
-                else
-                    javaFullVersion += version;
+                    version = outSW.toString().trim();
+                cache.setValue(VERSION_PROBE, version);
+                javaFullVersion = "(" + getJDK() + ")" + LINESEP + version;
             } else {
                 javaFullVersion = getJDK().getPath();
             }
@@ -112,12 +112,24 @@ public class RegressionScript extends Script
         } catch (TestRunException e) {
             status = Status.error(e.getMessage());
         } finally {
+            if (usage != null)
+                usage.put(testResult);
             if (params.isRetainEnabled())
                 retainScratchFiles(status);
         }
         return status;
     } // run()
 
+    /**
+     * Add the resources used by a process run by an action of the test.
+     * The total usage is recorded in the test result when the test completes.
+     */
+    void addResourceUsage(ResourceUsage u) {
+        if (usage == null)
+            usage = new ResourceUsage();
+        usage.add(u);
+    }
+
     /**
      * Get the set of source files used by the actions in a test description.
      **/
@@ -635,6 +647,21 @@ public class RegressionScript extends Script
         return retVal;
     } // absTestClsDestDir()
 
+    /**
+     * Determine the library source directory containing a .java file
+     * found by locateJavaSrc, or null if it is not in a library.
+     */
+    File absSrcLibDir(File file) throws TestClassException {
+        if (absTestClsDestDir(file).equals(absTestClsDir()))
+            return null;
+        String path = file.getPath();
+        for (int i = 0; i < cacheAbsSrcLibList.length; i++) {
+            if (path.startsWith(cacheAbsSrcLibList[i].getPath() + FILESEP))
+                return cacheAbsSrcLibList[i];
+        }
+        return null;
+    }
+
     String getStdJavaClassPath() {
         return params.getStdJavaClassPath();
     }
@@ -939,6 +966,7 @@ public class RegressionScript extends Script
 
     private Map<String,Class<?>> actionTable = new HashMap<String,Class<?>>();
     private TestResult testResult;
+    private ResourceUsage usage;
     // the library-list resolved to the test-src directory
     //private String[] libList;
 
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.sun.javatest.regtest;
+
+import com.sun.javatest.TestResult;
+
+/**
+ * The resources used by the processes run by a test: CPU time, peak
+ * resident memory, the number of threads and the bytes read and written.
+ * The usage is recorded in the properties of the test result, so that it
+ * can be reported, and compared between sets of results.
+ */
+public class ResourceUsage {
+    /** The property for the CPU time, user and system, in milliseconds. */
+    public static final String CPU = "usage.cpu";
+    /** The property for the peak resident memory, in kilobytes. */
+    public static final String PEAK_RSS = "usage.peakRSS";
+    /** The property for the peak number of threads. */
+    public static final String THREADS = "usage.threads";
+    /** The property for the number of bytes read. */
+    public static final String IO_READ = "usage.ioRead";
+    /** The property for the number of bytes written. */
+    public static final String IO_WRITE = "usage.ioWrite";
+
+    /** The names of the properties, in the order of {@link #getValues}. */
+    public static final String[] NAMES = { CPU, PEAK_RSS, THREADS, IO_READ, IO_WRITE };
+
+    /**
+     * Create an object with no usage.
+     */
+    public ResourceUsage() {
+    }
+
+    /**
+     * Get the resource usage recorded in a test result.
+     * @param tr the test result
+     * @return the usage, or null if none was recorded
+     */
+    public static ResourceUsage get(TestResult tr) {
+        ResourceUsage u = new ResourceUsage();
+        try {
+            for (int i = 0; i < NAMES.length; i++) {
+                String s = tr.getProperty(NAMES[i]);
+                if (s == null)
+                    return null;
+                u.values[i] = Long.parseLong(s);
+            }
+        } catch (TestResult.Fault e) {
+            return null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return u;
+    }
+
+    /**
+     * Record this usage in a test result.
+     * @param tr the test result
+     */
+    public void put(TestResult tr) {
+        for (int i = 0; i < NAMES.length; i++)
+            tr.putProperty(NAMES[i], String.valueOf(values[i]));
+    }
+
+    /**
+     * Get the values of the usage, in the order of {@link #NAMES}.
+     * @return the values of the usage
+     */
+    public long[] getValues() {
+        return values.clone();
+    }
+
+    public long getCPUTime() {
+        return values[0];
+    }
+
+    public long getPeakRSS() {
+        return values[1];
+    }
+
+    public long getThreads() {
+        return values[2];
+    }
+
+    public long getBytesRead() {
+        return values[3];
+    }
+
+    public long getBytesWritten() {
+        return values[4];
+    }
+
+    /**
+     * Add the usage of a process run after those already included.
+     * Times and bytes are added; peak values are the greater of the two,
+     * since the processes did not run at the same time.
+     */
+    void add(ResourceUsage other) {
+        values[0] += other.values[0];
+        values[1] = Math.max(values[1], other.values[1]);
+        values[2] = Math.max(values[2], other.values[2]);
+        values[3] += other.values[3];
+        values[4] += other.values[4];
+    }
+
+    void set(long cpu, long peakRSS, long threads, long read, long written) {
+        values[0] = cpu;
+        values[1] = peakRSS;
+        values[2] = threads;
+        values[3] = read;
+        values[4] = written;
+    }
+
+    @Override
+    public String toString() {
+        return "cpu " + values[0] + "ms, peak rss " + values[1] + "kB, threads "
+                + values[2] + ", read " + values[3] + " bytes, written "
+                + values[4] + " bytes";
+    }
+
+    private final long[] values = new long[NAMES.length];
+}
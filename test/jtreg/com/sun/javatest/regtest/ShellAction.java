@@ -32,7 +32,6 @@ import java.util.List;
 
 import com.sun.javatest.Status;
 import com.sun.javatest.TestResult;
-import com.sun.javatest.lib.ProcessCommand;
 
 /**
  * This class implements the "shell" action as described by the JDK tag
@@ -211,13 +210,14 @@ public class ShellAction extends Action
                     JTCmd("shell", cmdArgs, section);
 
                 // RUN THE SHELL SCRIPT
-                ProcessCommand cmd = new ProcessCommand();
+                MonitoredProcessCommand cmd = new MonitoredProcessCommand();
                 cmd.setExecDir(script.absTestScratchDir());
 
                 if (timeout > 0)
                     script.setAlarm(timeout*1000);
 
                 status = cmd.run(cmdArgs, sysErr, sysOut);
+                recordUsage(cmd, section);
             } finally {
                 script.setAlarm(0);
                 if (sysOut != null) sysOut.close();
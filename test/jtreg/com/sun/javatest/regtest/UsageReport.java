@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package com.sun.javatest.regtest;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import com.sun.javatest.TestResult;
+
+/**
+ * Writes the resources used by each test, as recorded by
+ * {@link MonitoredProcessCommand}, to text/usage.txt in a report directory.
+ * Tests are listed in order of decreasing CPU time, followed by the totals.
+ */
+class UsageReport {
+    /**
+     * Write the report for the results given by an iterator.
+     * @param iter an iterator over the test results to be reported
+     * @param reportDir the report directory
+     * @return the file that was written, or null if none of the results
+     *   have any recorded resource usage
+     */
+    static File write(Iterator iter, File reportDir) throws IOException {
+        final List<String> names = new ArrayList<String>();
+        final List<ResourceUsage> usages = new ArrayList<ResourceUsage>();
+        ResourceUsage total = new ResourceUsage();
+        while (iter.hasNext()) {
+            TestResult tr = (TestResult) (iter.next());
+            ResourceUsage u = ResourceUsage.get(tr);
+            if (u != null) {
+                names.add(tr.getTestName());
+                usages.add(u);
+                total.add(u);
+            }
+        }
+        if (names.isEmpty())
+            return null;
+
+        List<Integer> order = new ArrayList<Integer>();
+        for (int i = 0; i < names.size(); i++)
+            order.add(i);
+        Collections.sort(order, new Comparator<Integer>() {
+            public int compare(Integer i1, Integer i2) {
+                long c1 = usages.get(i1).getCPUTime();
+                long c2 = usages.get(i2).getCPUTime();
+                return (c1 > c2 ? -1 : c1 < c2 ? 1 : names.get(i1).compareTo(names.get(i2)));
+            }
+        });
+
+        File dir = new File(reportDir, "text");
+        dir.mkdirs();
+        File file = new File(dir, "usage.txt");
+        PrintWriter out = new PrintWriter(new BufferedWriter(new FileWriter(file)));
+        try {
+            out.println(String.format(FORMAT, "cpu(ms)", "peakRSS(kB)", "threads",
+                                      "read(bytes)", "written(bytes)", "test"));
+            for (int i: order)
+                write(out, usages.get(i), names.get(i));
+            write(out, total, "TOTAL (peak values are maxima)");
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+
+    private static void write(PrintWriter out, ResourceUsage u, String name) {
+        out.println(String.format(FORMAT, u.getCPUTime(), u.getPeakRSS(), u.getThreads(),
+                                  u.getBytesRead(), u.getBytesWritten(), name));
+    }
+
+    private static final String FORMAT = "%10s %12s %8s %14s %14s  %s";
+}
@@ -27,12 +27,13 @@
 package com.sun.javatest.util;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.net.URL;
-import java.util.Hashtable;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class loader loads classes from files a specified directory.
@@ -41,6 +42,24 @@ import java.util.Hashtable;
  */
 public class DirectoryClassLoader extends ClassLoader
 {
+    // ClassLoader.registerAsParallelCapable is new in JDK 7, and the
+    // harness must still build and run on JDK 6, so it is called
+    // reflectively; where it is missing, classes are loaded under the
+    // loader's own lock, as before.
+    private static final boolean parallelCapable;
+    static {
+        boolean b;
+        try {
+            Method m = ClassLoader.class.getDeclaredMethod(
+                "registerAsParallelCapable", new Class[0]);
+            b = ((Boolean) m.invoke(null, new Object[0])).booleanValue();
+        }
+        catch (Exception e) {
+            b = false;
+        }
+        parallelCapable = b;
+    }
+
     /**
      * Constructor that provides the name of the directory in which to search
      * for a given class.
@@ -49,6 +68,7 @@ public class DirectoryClassLoader extends ClassLoader
      */
     public DirectoryClassLoader(File dir) {
         loadDir = dir;
+        index = new PathIndex(new File[] { dir });
     }
 
     /**
@@ -58,7 +78,7 @@ public class DirectoryClassLoader extends ClassLoader
      * @param dirName  A file pathname specifying the directory to search.
      */
     public DirectoryClassLoader(String dirName) {
-        loadDir = new File(dirName);
+        this(new File(dirName));
     }
 
     //----------ClassLoader methods---------------------------------------------
@@ -158,69 +178,53 @@ public class DirectoryClassLoader extends ClassLoader
      * @since  JDK1.2
      */
     public URL findResource(String name) {
-       try {
-           File f = new File(loadDir, name);
-           if (f.exists())
-               return new URL("file:" + f.getAbsolutePath());
-           else
-               return null;
-       }
-       catch (java.net.MalformedURLException e) {
-           return null;
-       }
+        return (index.find(name) == -1 ? null : index.getURL(0, name));
     }
 
     //----------internal methods------------------------------------------------
 
-    private synchronized Class locateClass(String name)
+    private Class locateClass(String name)
         throws ClassNotFoundException {
-        //This check is currently necessary; we just
-        // check the cache at the one call site, but that was not
-        // synchronized, so there is a very small remote chance another
-        // caller has just loaded this class.
-        Class cl = (Class)classes.get(name);
-        if (cl != null)
-            return cl;
-
-        String cname = name.replace('.', '/') + ".class";
-
-        File file = new File(loadDir, cname);
+        synchronized (getLoadingLock(name)) {
+            //This check is currently necessary; we just
+            // check the cache at the one call site, but that was not
+            // synchronized, so there is a very small remote chance another
+            // caller has just loaded this class.
+            Class cl = (Class)classes.get(name);
+            if (cl != null)
+                return cl;
+
+            // If the file is missing or cannot be read, we throw
+            // ClassNotFoundException
+            ByteBuffer data = index.read(name.replace('.', '/') + ".class");
+            if (data == null)
+                throw new ClassNotFoundException(name);
 
-        try {
-            InputStream in = new FileInputStream(file);
-            byte[] data;
-            try {
-                int len = in.available();
-                data = new byte[len];
-                for (int total = 0; total < data.length; ) {
-                    total += in.read(data, total, data.length - total);
-                }
-            }
-            finally {
-                if (in != null)
-                    in.close();
-            }
             // the next line may throw LinkageError, which we let
             // escape to the caller
-            cl = defineClass(name, data, 0, data.length);
+            cl = defineClass(name, data, null);
             classes.put(name, cl);
             return cl;
         }
-        catch (FileNotFoundException e) {
-            // ClassNotFoundException is obviously the correct
-            // exception to throw in this case
-            throw new ClassNotFoundException(name);
-        }
-        catch (IOException e) {
-            // This one is more iffy; we found a file, but had trouble
-            // reading it; still use ClassNotFoundException for now.
-            throw new ClassNotFoundException(name);
-        }
+    }
 
+    /**
+     * Returns the lock to hold while defining <code>name</code>: one per
+     * class name if the loader is registered as parallel capable, or the
+     * loader itself otherwise, as ClassLoader.getClassLoadingLock does.
+     */
+    private Object getLoadingLock(String name) {
+        if (!parallelCapable)
+            return this;
+        Object lock = new Object();
+        Object prev = locks.putIfAbsent(name, lock);
+        return (prev == null ? lock : prev);
     }
 
     //----------Data members----------------------------------------------------
 
     private File loadDir;
-    private Hashtable classes = new Hashtable();
+    private PathIndex index;
+    private Map classes = new ConcurrentHashMap();
+    private ConcurrentHashMap locks = new ConcurrentHashMap();
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package com.sun.javatest.util;
+
+import java.io.File;
+import java.io.FilePermission;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.security.CodeSource;
+import java.security.PermissionCollection;
+import java.security.SecureClassLoader;
+import java.security.cert.Certificate;
+import java.util.Enumeration;
+import java.util.Vector;
+
+/**
+ * A class loader for loading classes and resources from a path of
+ * directories, zip files and jar files, using a {@link PathIndex} so
+ * that a class is only looked for in the entries that contain its
+ * package.
+ *
+ * <p>Unlike {@link PathClassLoader}, this loader follows the standard
+ * delegation model, and is registered as parallel capable on VMs that
+ * support it (JDK 7 and later).  Classes are given a code source for
+ * the path entry they are loaded from, with the same permissions as
+ * from a {@link java.net.URLClassLoader}.
+ */
+public class IndexedPathClassLoader extends SecureClassLoader
+{
+    static {
+        // called reflectively, since the harness is also built with
+        // JDK 6, which does not have it
+        try {
+            Method m = ClassLoader.class.getDeclaredMethod(
+                "registerAsParallelCapable", new Class[0]);
+            m.invoke(null, new Object[0]);
+        }
+        catch (Exception e) {
+        }
+    }
+
+    /**
+     * Create a loader for a path, using the system class loader
+     * as the parent.
+     * @param path an array of files, identifying a sequence of locations
+     *   in which to look for classes to be loaded
+     */
+    public IndexedPathClassLoader(File[] path) {
+        this(path, getSystemClassLoader());
+    }
+
+    /**
+     * Create a loader for a path.
+     * @param path an array of files, identifying a sequence of locations
+     *   in which to look for classes to be loaded
+     * @param parent the parent class loader for delegation
+     */
+    public IndexedPathClassLoader(File[] path, ClassLoader parent) {
+        super(parent);
+        index = new PathIndex(path);
+        this.path = index.getPath();
+        codeSources = new CodeSource[path.length];
+    }
+
+    /**
+     * Get the index used by this loader.
+     * @return the index used by this loader
+     */
+    public PathIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Release the jar files opened by this loader.  Classes can still be
+     * loaded afterwards, but the jar files will be opened again.
+     * @see PathIndex#close
+     */
+    public void close() {
+        index.close();
+    }
+
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        String rname = name.replace('.', '/') + ".class";
+        int entry = index.find(rname);
+        if (entry == -1)
+            throw new ClassNotFoundException(name);
+        ByteBuffer data = index.read(entry, rname);
+        if (data == null)
+            throw new ClassNotFoundException(name);
+
+        int sep = name.lastIndexOf('.');
+        if (sep != -1) {
+            String pkg = name.substring(0, sep);
+            if (getPackage(pkg) == null) {
+                try {
+                    definePackage(pkg, null, null, null, null, null, null, null);
+                }
+                catch (IllegalArgumentException e) {
+                    // defined by another thread
+                }
+            }
+        }
+
+        return defineClass(name, data, getCodeSource(entry));
+    }
+
+    protected URL findResource(String name) {
+        int entry = index.find(name);
+        return (entry == -1 ? null : index.getURL(entry, name));
+    }
+
+    protected Enumeration<URL> findResources(String name) throws IOException {
+        int[] entries = index.findAll(name);
+        Vector<URL> v = new Vector<URL>(entries.length);
+        for (int i = 0; i < entries.length; i++) {
+            URL u = index.getURL(entries[i], name);
+            if (u != null)
+                v.addElement(u);
+        }
+        return v.elements();
+    }
+
+    /**
+     * Get the permissions for a code source: those granted by the policy,
+     * and permission to read the path entry the code was loaded from.
+     */
+    protected PermissionCollection getPermissions(CodeSource cs) {
+        PermissionCollection perms = super.getPermissions(cs);
+        synchronized (codeSources) {
+            for (int i = 0; i < codeSources.length; i++) {
+                if (codeSources[i] == cs) {
+                    String p = path[i].getAbsolutePath();
+                    if (!index.isJar(i))
+                        p = p + File.separator + "-";
+                    perms.add(new FilePermission(p, "read"));
+                    break;
+                }
+            }
+        }
+        return perms;
+    }
+
+    private CodeSource getCodeSource(int entry) {
+        // getPermissions relies on there being one code source per entry
+        synchronized (codeSources) {
+            CodeSource cs = codeSources[entry];
+            if (cs == null) {
+                URL u;
+                try {
+                    u = path[entry].getAbsoluteFile().toURI().toURL();
+                }
+                catch (MalformedURLException e) {
+                    u = null;
+                }
+                cs = new CodeSource(u, (Certificate[]) null);
+                codeSources[entry] = cs;
+            }
+            return cs;
+        }
+    }
+
+    private final PathIndex index;
+    private final File[] path;
+    private final CodeSource[] codeSources;
+}
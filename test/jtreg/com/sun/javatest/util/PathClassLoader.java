@@ -27,20 +27,37 @@
 package com.sun.javatest.util;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.InputStream;
-import java.io.IOException;
-import java.util.Hashtable;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.Map;
 import java.util.Vector;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A class loader for loading classes from a path of directories,
  * zip files and jar files.
+ * @see IndexedPathClassLoader
  */
 public class PathClassLoader extends ClassLoader
 {
+    // ClassLoader.registerAsParallelCapable is new in JDK 7, and the
+    // harness must still build and run on JDK 6, so it is called
+    // reflectively; where it is missing, classes are loaded under the
+    // loader's own lock, as before.
+    private static final boolean parallelCapable;
+    static {
+        boolean b;
+        try {
+            Method m = ClassLoader.class.getDeclaredMethod(
+                "registerAsParallelCapable", new Class[0]);
+            b = ((Boolean) m.invoke(null, new Object[0])).booleanValue();
+        }
+        catch (Exception e) {
+            b = false;
+        }
+        parallelCapable = b;
+    }
+
     /**
      * Create a PathClassLoader, specifying a path.
      * @param pathString a string containing a sequence of
@@ -50,7 +67,7 @@ public class PathClassLoader extends ClassLoader
      * @see File#pathSeparator
      */
     public PathClassLoader(String pathString) {
-        this.path = split(pathString);
+        this(split(pathString));
     }
 
     /**
@@ -65,12 +82,7 @@ public class PathClassLoader extends ClassLoader
      * @see File#pathSeparator
      */
     public PathClassLoader(File baseDir, String pathString) {
-        path = split(pathString);
-        for (int i = 0; i < path.length; i++) {
-            File f = path[i];
-            if (!f.isAbsolute())
-                path[i] = new File(baseDir, f.getPath());
-        }
+        this(resolve(baseDir, split(pathString)));
     }
 
     /**
@@ -79,7 +91,7 @@ public class PathClassLoader extends ClassLoader
      *   to look for classes to be loaded
      */
     public PathClassLoader(File[] path) {
-        this.path = path;
+        index = new PathIndex(path);
     }
 
     /**
@@ -112,77 +124,47 @@ public class PathClassLoader extends ClassLoader
     }
 
 
-    private synchronized Class locateClass(String name)
+    private Class locateClass(String name)
         throws ClassNotFoundException {
         //System.err.println("locateClass: " + name);
-        Class c = (Class)classes.get(name);
-        if (c != null)
-            return c;
-
-        for (int i = 0; i < path.length; i++) {
-            if (path[i].isDirectory())
-                c = locateClassInDir(name, path[i]);
-            else
-                c = locateClassInJar(name, path[i]);
-
-            if (c != null) {
-                classes.put(name, c);
+        synchronized (getLoadingLock(name)) {
+            Class c = (Class)classes.get(name);
+            if (c != null)
                 return c;
-            }
-        }
 
-        throw new ClassNotFoundException(name);
-    }
+            ByteBuffer data = index.read(name.replace('.', '/') + ".class");
+            if (data == null)
+                throw new ClassNotFoundException(name);
 
-    private Class locateClassInDir(String name, File dir)
-        throws ClassNotFoundException {
-        //System.err.println("locateClassInDir: " + name + " " + dir);
-        String cname = name.replace('.', '/') + ".class";
-        try {
-            File file = new File(dir, cname);
-            return readClass(name, new FileInputStream(file), (int)(file.length()));
-        }
-        catch (IOException e) {
-            //System.err.println("locateClassInDir: " + e);
-            return null;
+            c = defineClass(name, data, null);
+            classes.put(name, c);
+            return c;
         }
     }
 
-    private Class locateClassInJar(String name, File jarFile)
-        throws ClassNotFoundException {
-        //System.err.println("locateClassInJar: " + name + " " + jarFile);
-        String cname = name.replace('.', '/') + ".class";
-        try {
-            ZipFile z = (ZipFile)zips.get(jarFile);
-            if (z == null) {
-                z = new ZipFile(jarFile);
-                zips.put(jarFile, z);
-            }
-            ZipEntry ze = z.getEntry(cname);
-            if (ze == null)
-                return null;
-            return readClass(name, z.getInputStream(ze), (int)(ze.getSize()));
-        }
-        catch (IOException e) {
-            //System.err.println("locateClassInJar: " + e);
-            return null;
-        }
+    /**
+     * Returns the lock to hold while defining <code>name</code>: one per
+     * class name if the loader is registered as parallel capable, or the
+     * loader itself otherwise, as ClassLoader.getClassLoadingLock does.
+     */
+    private Object getLoadingLock(String name) {
+        if (!parallelCapable)
+            return this;
+        Object lock = new Object();
+        Object prev = locks.putIfAbsent(name, lock);
+        return (prev == null ? lock : prev);
     }
 
-    private Class readClass(String name, InputStream in, int size) throws IOException {
-        byte[] data = new byte[size];
-        try {
-            for (int total = 0; total < size; ) {
-                total += in.read(data, total, size - total);
-            }
-        }
-        finally {
-            in.close();
+    private static File[] resolve(File baseDir, File[] path) {
+        for (int i = 0; i < path.length; i++) {
+            File f = path[i];
+            if (!f.isAbsolute())
+                path[i] = new File(baseDir, f.getPath());
         }
-        return defineClass(name, data, 0, data.length);
+        return path;
     }
 
-    private File[] split(String s) {
+    private static File[] split(String s) {
         char pathCh = File.pathSeparatorChar;
         Vector v = new Vector();
         int start = 0;
@@ -197,12 +179,12 @@ public class PathClassLoader extends ClassLoader
         return path;
     }
 
-    private void add(String s, Vector v) {
+    private static void add(String s, Vector v) {
         if (s.length() != 0)
             v.addElement(new File(s));
     }
 
-    private File[] path;
-    private Hashtable classes = new Hashtable();
-    private Hashtable zips = new Hashtable();
+    private PathIndex index;
+    private Map classes = new ConcurrentHashMap();
+    private ConcurrentHashMap locks = new ConcurrentHashMap();
 }
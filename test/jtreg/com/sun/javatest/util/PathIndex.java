@@ -0,0 +1,723 @@
+/*
+ * Copyright (C) 2026 Red Hat, Inc.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  This particular file is
+ * subject to the "Classpath" exception as provided in the LICENSE file
+ * that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package com.sun.javatest.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * An index of the resources on a path of directories, zip files and
+ * jar files, for finding classes and resources without searching every
+ * entry on the path.
+ *
+ * <p>The index maps each package, that is, each directory name within
+ * the path entries, to the entries that contain it.  It is built when
+ * the index is created, from the lists of packages in the jar files,
+ * which are kept on disk, keyed by the size and modification time of
+ * the jar file, in the directory named by the system property
+ * <code>javatest.pathIndex.dir</code>; by default jtreg/pathindex in the
+ * user's cache directory ($XDG_CACHE_HOME, or ~/.cache).  The packages
+ * in a directory are not indexed, but are looked up each time, since a
+ * directory may gain packages while the index is in use, such as when a
+ * test compiles classes into it.
+ *
+ * <p>Jar files are memory-mapped and their central directory is read
+ * once, the first time a resource is read from them.  The handles
+ * belong to the index, and are released by {@link #close} or when the
+ * index is no longer used; the size and modification time of a jar
+ * file are checked before each use, and a jar file that has changed
+ * is opened again.  Jar files that cannot be mapped, such as zip64
+ * files, are read with {@link ZipFile} instead.
+ *
+ * <p>Instances are safe for use by multiple threads.
+ */
+public class PathIndex
+{
+    /**
+     * Create an index for a path.
+     * @param path an array of files, identifying a sequence of locations
+     *   in which to look for resources
+     */
+    public PathIndex(File[] path) {
+        this.path = path.clone();
+        jars = new Jar[path.length];
+        isJar = new boolean[path.length];
+        boolean dirs = false;
+        for (int i = 0; i < path.length; i++) {
+            if (!path[i].isDirectory() && path[i].isFile()) {
+                jars[i] = new Jar(path[i].getAbsoluteFile());
+                isJar[i] = true;
+            }
+            else
+                dirs = true;
+        }
+        hasDirs = dirs;
+    }
+
+    /**
+     * Release the jar files opened by this index.  The index can still
+     * be used afterwards; jar files are opened again when needed.
+     */
+    public void close() {
+        synchronized (jars) {
+            for (int i = 0; i < jars.length; i++) {
+                if (jars[i] != null)
+                    jars[i].release();
+            }
+        }
+    }
+
+    /**
+     * Get the path for this index.
+     * @return the path for this index
+     */
+    public File[] getPath() {
+        return path.clone();
+    }
+
+    /**
+     * Find the first entry on the path that contains a resource.
+     * @param name the name of the resource, such as
+     *   <code>com/sun/javatest/Test.class</code>
+     * @return the position on the path of the first entry that contains
+     *   the resource, or -1 if there is none
+     */
+    public int find(String name) {
+        int[] entries = getEntries(name);
+        for (int i = 0; i < entries.length; i++) {
+            if (contains(entries[i], name))
+                return entries[i];
+        }
+        return -1;
+    }
+
+    /**
+     * Find all the entries on the path that contain a resource.
+     * @param name the name of the resource
+     * @return the positions on the path of the entries that contain
+     *   the resource, in path order
+     */
+    public int[] findAll(String name) {
+        int[] entries = getEntries(name);
+        int[] result = new int[entries.length];
+        int n = 0;
+        for (int i = 0; i < entries.length; i++) {
+            if (contains(entries[i], name))
+                result[n++] = entries[i];
+        }
+        int[] r = new int[n];
+        System.arraycopy(result, 0, r, 0, n);
+        return r;
+    }
+
+    /**
+     * Read a resource from the first entry on the path that contains it.
+     * @param name the name of the resource
+     * @return the contents of the resource, or null if it is not found
+     *   or cannot be read
+     * @see #read(int, String)
+     */
+    public ByteBuffer read(String name) {
+        int e = find(name);
+        return (e == -1 ? null : read(e, name));
+    }
+
+    /**
+     * Read a resource from an entry on the path.
+     * @param entry the position of the entry on the path
+     * @param name the name of the resource
+     * @return the contents of the resource, or null if it cannot be read
+     */
+    public ByteBuffer read(int entry, String name) {
+        try {
+            Jar j = jar(entry);
+            if (j != null)
+                return j.read(name);
+            else if (path[entry].isDirectory())
+                return ByteBuffer.wrap(readFile(new File(path[entry], name)));
+            else
+                return null;
+        }
+        catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Read a resource from the first entry on the path that contains it,
+     * into a new byte array.
+     * @param name the name of the resource
+     * @return the contents of the resource, or null if it is not found
+     *   or cannot be read
+     */
+    public byte[] readBytes(String name) {
+        ByteBuffer b = read(name);
+        if (b == null)
+            return null;
+        if (b.hasArray() && b.arrayOffset() == 0 && b.remaining() == b.array().length)
+            return b.array();
+        byte[] data = new byte[b.remaining()];
+        b.duplicate().get(data);
+        return data;
+    }
+
+    /**
+     * Get a URL for a resource in an entry on the path.
+     * @param entry the position of the entry on the path
+     * @param name the name of the resource
+     * @return a <code>file:</code> URL for a resource in a directory,
+     *   or a <code>jar:</code> URL for a resource in a jar file
+     */
+    public URL getURL(int entry, String name) {
+        try {
+            if (jars[entry] != null)
+                return new URL("jar:" + path[entry].toURI().toURL() + "!/" + name);
+            else
+                return new File(path[entry], name).toURI().toURL();
+        }
+        catch (MalformedURLException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Check whether an entry on the path is a jar or zip file.
+     * @param entry the position of the entry on the path
+     * @return true if the entry is a jar or zip file
+     */
+    public boolean isJar(int entry) {
+        return (jars[entry] != null);
+    }
+
+    private boolean contains(int entry, String name) {
+        Jar j = jar(entry);
+        if (j != null)
+            return j.contains(name);
+        else
+            return new File(path[entry], name).isFile();
+    }
+
+    /**
+     * Get the jar file for an entry on the path, opening it again if it
+     * has changed since it was opened.
+     */
+    private Jar jar(int entry) {
+        Jar j;
+        synchronized (jars) {
+            j = jars[entry];
+        }
+        if (j == null || j.isCurrent())
+            return j;
+        synchronized (jars) {
+            if (jars[entry] == j) {
+                j.release();
+                jars[entry] = new Jar(j.file);
+                // the jar file may have gained or lost packages
+                packages.clear();
+            }
+            return jars[entry];
+        }
+    }
+
+    /**
+     * Get the entries on the path that contain the package of a resource.
+     */
+    private int[] getEntries(String name) {
+        String pkg = packageOf(name);
+        int[] jarEntries = packages.get(pkg);
+        if (jarEntries == null) {
+            int[] e = new int[path.length];
+            int n = 0;
+            for (int i = 0; i < path.length; i++) {
+                Jar j = jar(i);
+                if (j != null && j.hasPackage(pkg))
+                    e[n++] = i;
+            }
+            jarEntries = new int[n];
+            System.arraycopy(e, 0, jarEntries, 0, n);
+            packages.put(pkg, jarEntries);
+        }
+        if (!hasDirs)
+            return jarEntries;
+
+        // merge in the directories that have the package now
+        int[] e = new int[path.length];
+        int n = 0;
+        for (int i = 0, k = 0; i < path.length; i++) {
+            if (k < jarEntries.length && jarEntries[k] == i) {
+                e[n++] = i;
+                k++;
+            }
+            else if (!isJar[i] && (pkg.length() == 0 ? path[i].isDirectory()
+                                   : new File(path[i], pkg).isDirectory()))
+                e[n++] = i;
+        }
+        int[] entries = new int[n];
+        System.arraycopy(e, 0, entries, 0, n);
+        return entries;
+    }
+
+    private static byte[] readFile(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            int size = (int) file.length();
+            byte[] data = new byte[size];
+            for (int total = 0; total < size; ) {
+                int n = in.read(data, total, size - total);
+                if (n == -1)
+                    throw new IOException("unexpected end of file: " + file);
+                total += n;
+            }
+            return data;
+        }
+        finally {
+            in.close();
+        }
+    }
+
+    private static String packageOf(String name) {
+        int sep = name.lastIndexOf('/');
+        return (sep == -1 ? "" : name.substring(0, sep));
+    }
+
+    //--------------------------------------------------------------------------
+
+    /**
+     * A jar or zip file on the path, as it was when the index first used
+     * it.
+     */
+    private static class Jar {
+        Jar(File file) {
+            this.file = file;
+            lastModified = file.lastModified();
+            length = file.length();
+            packages = readPackages();
+        }
+
+        /**
+         * Check whether the file still has the size and modification time
+         * it had when this object was created.
+         */
+        boolean isCurrent() {
+            return (file.lastModified() == lastModified && file.length() == length);
+        }
+
+        boolean hasPackage(String pkg) {
+            return (packages != null && packages.contains(pkg));
+        }
+
+        boolean contains(String name) {
+            try {
+                Handle h = open();
+                return (h.zip != null ? h.zip.getEntry(name) != null
+                        : h.entries.containsKey(name));
+            }
+            catch (IOException e) {
+                return false;
+            }
+        }
+
+        ByteBuffer read(String name) throws IOException {
+            Handle h = open();
+            try {
+                return read(h, name);
+            }
+            catch (InternalError e) {
+                // the file was truncated under the mapping
+                release();
+                throw new IOException("cannot read " + name + " from " + file);
+            }
+        }
+
+        private ByteBuffer read(Handle h, String name) throws IOException {
+            ZipFile zip = h.zip;
+            if (zip != null) {
+                ZipEntry ze = zip.getEntry(name);
+                if (ze == null)
+                    return null;
+                InputStream in = zip.getInputStream(ze);
+                try {
+                    int size = (int) ze.getSize();
+                    byte[] data = new byte[size];
+                    for (int total = 0; total < size; ) {
+                        int n = in.read(data, total, size - total);
+                        if (n == -1)
+                            throw new IOException("unexpected end of entry: " + name);
+                        total += n;
+                    }
+                    return ByteBuffer.wrap(data);
+                }
+                finally {
+                    in.close();
+                }
+            }
+
+            Entry e = h.entries.get(name);
+            if (e == null)
+                return null;
+            MappedByteBuffer map = h.map;
+
+            // the local header may have different extra data to the central one
+            int lh = e.offset;
+            if (lh + LOCHDR > map.limit() || map.getInt(lh) != LOCSIG)
+                throw new IOException("bad local header: " + name);
+            int start = lh + LOCHDR + (map.getShort(lh + 26) & 0xffff)
+                + (map.getShort(lh + 28) & 0xffff);
+            if (start + e.compressedSize > map.limit())
+                throw new IOException("truncated entry: " + name);
+
+            ByteBuffer b = map.duplicate();
+            b.position(start);
+            b.limit(start + e.compressedSize);
+            if (e.method == ZipEntry.STORED) {
+                // copied, so that a later change to the file cannot fault
+                // in code that is handed the buffer
+                byte[] data = new byte[e.compressedSize];
+                b.get(data);
+                return ByteBuffer.wrap(data);
+            }
+
+            byte[] in = new byte[e.compressedSize + 1]; // spare byte for the inflater
+            b.get(in, 0, e.compressedSize);
+            byte[] out = new byte[e.size];
+            Inflater inf = new Inflater(true);
+            try {
+                inf.setInput(in);
+                int total = 0;
+                while (total < out.length) {
+                    int n = inf.inflate(out, total, out.length - total);
+                    if (n == 0 && (inf.finished() || inf.needsInput() || inf.needsDictionary()))
+                        throw new IOException("bad compressed data: " + name);
+                    total += n;
+                }
+            }
+            catch (DataFormatException ex) {
+                throw new IOException("bad compressed data: " + name);
+            }
+            finally {
+                inf.end();
+            }
+            return ByteBuffer.wrap(out);
+        }
+
+        /**
+         * Map the file and read its central directory, if not done already.
+         */
+        private synchronized Handle open() throws IOException {
+            if (handle != null)
+                return handle;
+            if (openFailed)
+                throw new IOException("cannot open " + file);
+            try {
+                try {
+                    handle = mapFile();
+                }
+                catch (IOException e) {
+                    // not a file we can map; let ZipFile try
+                    handle = new Handle(null, null, new ZipFile(file));
+                }
+            }
+            catch (IOException e) {
+                openFailed = true;
+                throw e;
+            }
+            return handle;
+        }
+
+        /**
+         * Drop the mapping or close the ZipFile; the file will be opened
+         * again if it is used again.  Readers still holding the old
+         * handle may fail, but only with an IOException.
+         */
+        synchronized void release() {
+            Handle h = handle;
+            handle = null;
+            openFailed = false;
+            if (h != null && h.zip != null) {
+                try {
+                    h.zip.close();
+                }
+                catch (IOException e) {
+                    // ignore
+                }
+            }
+        }
+
+        private Handle mapFile() throws IOException {
+            RandomAccessFile raf = new RandomAccessFile(file, "r");
+            MappedByteBuffer m;
+            try {
+                FileChannel fc = raf.getChannel();
+                if (fc.size() > Integer.MAX_VALUE)
+                    throw new IOException("file too large");
+                m = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
+            }
+            finally {
+                raf.close();
+            }
+            m.order(ByteOrder.LITTLE_ENDIAN);
+
+            int end = findEnd(m);
+            int count = m.getShort(end + 10) & 0xffff;
+            long cdSize = m.getInt(end + 12) & 0xffffffffL;
+            long cdOffset = m.getInt(end + 16) & 0xffffffffL;
+            if (count == 0xffff || cdSize == 0xffffffffL || cdOffset == 0xffffffffL
+                    || cdOffset + cdSize > end)
+                throw new IOException("zip64 or bad central directory");
+
+            Map<String, Entry> e = new HashMap<String, Entry>(count * 2);
+            int pos = (int) cdOffset;
+            for (int i = 0; i < count; i++) {
+                if (pos + CENHDR > end || m.getInt(pos) != CENSIG)
+                    throw new IOException("bad central directory");
+                int method = m.getShort(pos + 10) & 0xffff;
+                long csize = m.getInt(pos + 20) & 0xffffffffL;
+                long size = m.getInt(pos + 24) & 0xffffffffL;
+                int nameLen = m.getShort(pos + 28) & 0xffff;
+                int extraLen = m.getShort(pos + 30) & 0xffff;
+                int commentLen = m.getShort(pos + 32) & 0xffff;
+                long offset = m.getInt(pos + 42) & 0xffffffffL;
+                if (csize >= Integer.MAX_VALUE || size >= Integer.MAX_VALUE
+                        || offset >= cdOffset
+                        || (method != ZipEntry.STORED && method != ZipEntry.DEFLATED))
+                    throw new IOException("unsupported entry");
+                byte[] nameBytes = new byte[nameLen];
+                ByteBuffer b = m.duplicate();
+                b.position(pos + CENHDR);
+                b.get(nameBytes);
+                String name = new String(nameBytes, "UTF-8");
+                if (!e.containsKey(name))
+                    e.put(name, new Entry(method, (int) csize, (int) size, (int) offset));
+                pos += CENHDR + nameLen + extraLen + commentLen;
+            }
+
+            if (packages == null) {
+                packages = packagesOf(e.keySet());
+                writePackages(packages);
+            }
+            return new Handle(m, e, null);
+        }
+
+        private static int findEnd(ByteBuffer m) throws IOException {
+            int limit = m.limit();
+            int min = Math.max(0, limit - ENDHDR - 0xffff);
+            for (int pos = limit - ENDHDR; pos >= min; pos--) {
+                if (m.getInt(pos) == ENDSIG)
+                    return pos;
+            }
+            throw new IOException("no central directory");
+        }
+
+        private Set<String> readPackages() {
+            File f = getIndexFile();
+            if (f != null && f.isFile()) {
+                try {
+                    DataInputStream in = new DataInputStream(
+                        new BufferedInputStream(new FileInputStream(f)));
+                    try {
+                        if (in.readInt() == INDEX_MAGIC
+                                && in.readUTF().equals(file.getPath())
+                                && in.readLong() == lastModified
+                                && in.readLong() == length) {
+                            int n = in.readInt();
+                            Set<String> s = new HashSet<String>(n * 2);
+                            for (int i = 0; i < n; i++)
+                                s.add(in.readUTF());
+                            return s;
+                        }
+                    }
+                    finally {
+                        in.close();
+                    }
+                }
+                catch (IOException e) {
+                    // rebuild the index
+                }
+            }
+
+            try {
+                ZipFile zip = open().zip;
+                if (zip != null) {
+                    List<String> names = new ArrayList<String>();
+                    for (Enumeration<? extends ZipEntry> e = zip.entries(); e.hasMoreElements(); )
+                        names.add(e.nextElement().getName());
+                    packages = packagesOf(names);
+                    writePackages(packages);
+                }
+                return packages;
+            }
+            catch (IOException e) {
+                return null;
+            }
+        }
+
+        private void writePackages(Set<String> pkgs) {
+            File f = getIndexFile();
+            if (f == null)
+                return;
+            try {
+                File dir = f.getParentFile();
+                if (!dir.isDirectory() && !dir.mkdirs())
+                    return;
+                File tmp = File.createTempFile("index", ".tmp", dir);
+                DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(tmp)));
+                try {
+                    out.writeInt(INDEX_MAGIC);
+                    out.writeUTF(file.getPath());
+                    out.writeLong(lastModified);
+                    out.writeLong(length);
+                    out.writeInt(pkgs.size());
+                    for (String p : pkgs)
+                        out.writeUTF(p);
+                }
+                finally {
+                    out.close();
+                }
+                if (!tmp.renameTo(f)) {
+                    f.delete();
+                    if (!tmp.renameTo(f))
+                        tmp.delete();
+                }
+            }
+            catch (IOException e) {
+                // the index is only a cache
+            }
+            catch (SecurityException e) {
+                // the index is only a cache
+            }
+        }
+
+        private File getIndexFile() {
+            if (indexDir == null)
+                return null;
+            return new File(indexDir, file.getName() + "-"
+                            + Integer.toHexString(file.getPath().hashCode()) + ".idx");
+        }
+
+        private static Set<String> packagesOf(Iterable<String> names) {
+            Set<String> s = new HashSet<String>();
+            for (String n : names) {
+                // a directory entry names a package too
+                s.add(packageOf(n.endsWith("/") ? n.substring(0, n.length() - 1) : n));
+                for (int i = n.indexOf('/'); i != -1; i = n.indexOf('/', i + 1))
+                    s.add(n.substring(0, i));
+            }
+            return s;
+        }
+
+        final File file;
+        private final long lastModified;
+        private final long length;
+        private volatile Set<String> packages;
+        private Handle handle;
+        private boolean openFailed;
+
+        private static final int LOCSIG = 0x04034b50;
+        private static final int CENSIG = 0x02014b50;
+        private static final int ENDSIG = 0x06054b50;
+        private static final int LOCHDR = 30;
+        private static final int CENHDR = 46;
+        private static final int ENDHDR = 22;
+        private static final int INDEX_MAGIC = 0x4a544958; // "JTIX"
+    }
+
+    /**
+     * An open jar file: either a mapping and its central directory, or
+     * a ZipFile.
+     */
+    private static class Handle {
+        Handle(MappedByteBuffer map, Map<String, Entry> entries, ZipFile zip) {
+            this.map = map;
+            this.entries = entries;
+            this.zip = zip;
+        }
+
+        final MappedByteBuffer map;
+        final Map<String, Entry> entries;
+        final ZipFile zip;
+    }
+
+    /**
+     * The location and size of an entry in a mapped jar file.
+     */
+    private static class Entry {
+        Entry(int method, int compressedSize, int size, int offset) {
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.offset = offset;
+        }
+
+        final int method;
+        final int compressedSize;
+        final int size;
+        final int offset;
+    }
+
+    private static File getIndexDir() {
+        try {
+            String s = System.getProperty("javatest.pathIndex.dir");
+            if (s != null)
+                return (s.length() == 0 ? null : new File(s));
+            String xdg = System.getenv("XDG_CACHE_HOME");
+            File base = (xdg != null && xdg.length() > 0) ? new File(xdg)
+                    : new File(System.getProperty("user.home"), ".cache");
+            return new File(new File(base, "jtreg"), "pathindex");
+        }
+        catch (SecurityException e) {
+            return null;
+        }
+    }
+
+    private final File[] path;
+    private final Jar[] jars;
+    private final boolean[] isJar;      // false for directories, and missing files
+    private final boolean hasDirs;
+    private final Map<String, int[]> packages = new ConcurrentHashMap<String, int[]>(); // the jars with each package
+
+    private static final File indexDir = getIndexDir();
+}